@@ -0,0 +1,91 @@
+package com.sluv.server.domain.auth.service;
+
+import com.sluv.server.domain.auth.dto.AuthRequestDto;
+import com.sluv.server.domain.auth.dto.AuthResponseDto;
+import com.sluv.server.domain.auth.enums.SnsType;
+import com.sluv.server.domain.user.dto.UserDto;
+import com.sluv.server.domain.user.enums.UserStatus;
+import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.global.jwt.JwtProviderBenchmark;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * 고정된 로컬 RSA 키로 서명한 identityToken의 Apple 로그인 비용
+ * 공개키 조회와 UserRepository는 네트워크, DB 없이 고정 값을 돌려준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppleUserServiceBenchmark {
+    private static final String KID = "benchmark-kid";
+    private static final String CLIENT_ID = "com.sluv.benchmark";
+    private static final String ISS = "https://appleid.apple.com";
+
+    private AppleUserService appleUserService;
+    private AuthRequestDto request;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        JwtParser parser = Jwts.parserBuilder()
+                .setSigningKey(keyPair.getPublic())
+                .build();
+        ApplePublicKeyProvider publicKeyProvider = new ApplePublicKeyProvider(null, null) {
+            @Override
+            public CompletableFuture<JwtParser> getParser(String kid) {
+                return CompletableFuture.completedFuture(KID.equals(kid) ? parser : null);
+            }
+        };
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class, Mockito.withSettings().stubOnly());
+        Mockito.when(userRepository.upsertSocialUser(any(), eq(SnsType.APPLE))).thenReturn(new UserDto(1L, UserStatus.ACTIVE));
+
+        appleUserService = new AppleUserService(
+                userRepository,
+                JwtProviderBenchmark.createJwtProvider(),
+                publicKeyProvider,
+                Runnable::run
+        );
+        ReflectionTestUtils.setField(appleUserService, "clientId", CLIENT_ID);
+        ReflectionTestUtils.setField(appleUserService, "issUrl", ISS);
+
+        request = new AuthRequestDto();
+        request.setSnsType(SnsType.APPLE.name());
+        request.setAccessToken(Jwts.builder()
+                .setHeaderParam("kid", KID)
+                .setIssuer(ISS)
+                .setAudience(CLIENT_ID)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .claim("email", "benchmark@sluv.com")
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact());
+    }
+
+    @Benchmark
+    public AuthResponseDto appleLogin() {
+        return appleUserService.appleLogin(request).join();
+    }
+}
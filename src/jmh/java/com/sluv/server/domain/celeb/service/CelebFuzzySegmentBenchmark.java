@@ -0,0 +1,112 @@
+package com.sluv.server.domain.celeb.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+
+/**
+ * CelebFuzzySegment 검색 비용
+ * 한글 이름은 자주 쓰이는 음절, 영문 이름은 무작위 글자로 만들고
+ * 검색어는 초성, 입력 중인 글자, 영문 prefix, 인접 글자를 바꾼 영문 오타로 만든다.
+ */
+@State(Scope.Benchmark)
+// JOL이 record(CelebFuzzySegment.Entry)의 field offset을 읽으려면 필요 (JDK 17)
+@Fork(jvmArgsAppend = "-Djol.magicFieldOffset=true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CelebFuzzySegmentBenchmark {
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하민지수현서준도윤예은영호정국태형진석";
+    private static final int LIMIT = 20;
+    private static final LongPredicate NONE = id -> false;
+
+    @Param({"100000"})
+    private int celebCount;
+
+    private CelebFuzzySegment segment;
+    private String[] namesKr;
+    private String[] namesEn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        namesKr = new String[celebCount];
+        namesEn = new String[celebCount];
+
+        List<CelebFuzzySegment.Entry> entries = new ArrayList<>(celebCount);
+        for (int i = 0; i < celebCount; i++) {
+            namesKr[i] = randomName(random, SYLLABLES, 2, 4);
+            namesEn[i] = randomName(random, "abcdefghijklmnopqrstuvwxyz", 6, 12);
+            entries.add(new CelebFuzzySegment.Entry(i + 1, null, namesKr[i], namesEn[i], namesKr[i], namesEn[i]));
+        }
+
+        long startedAt = System.nanoTime();
+        segment = CelebFuzzySegment.build(entries);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        long totalSize = GraphLayout.parseInstance(segment).totalSize();
+        System.out.printf("%nCelebFuzzySegment %d celebs : build %d ms, %,d bytes (%d bytes/celeb)%n",
+                celebCount, buildMillis, totalSize, totalSize / celebCount);
+    }
+
+    @Benchmark
+    public void chosung(Blackhole blackhole) {
+        // "ㅂㅌ"
+        blackhole.consume(segment.search(HangulJamo.chosung(randomKr()).substring(0, 2), LIMIT, NONE));
+    }
+
+    @Benchmark
+    public void composingHangul(Blackhole blackhole) {
+        // "방ㅌ"
+        blackhole.consume(segment.search(randomKr().charAt(0) + "ㅌ", LIMIT, NONE));
+    }
+
+    @Benchmark
+    public void latinPrefix(Blackhole blackhole) {
+        blackhole.consume(segment.search(randomEn().substring(0, 3), LIMIT, NONE));
+    }
+
+    @Benchmark
+    public void latinTypo(Blackhole blackhole) {
+        // "jugnkook"
+        char[] name = randomEn().toCharArray();
+        int position = 1 + ThreadLocalRandom.current().nextInt(name.length - 2);
+        char swapped = name[position];
+        name[position] = name[position + 1];
+        name[position + 1] = swapped;
+
+        blackhole.consume(segment.search(new String(name), LIMIT, NONE));
+    }
+
+    private String randomKr() {
+        return namesKr[ThreadLocalRandom.current().nextInt(celebCount)];
+    }
+
+    private String randomEn() {
+        return namesEn[ThreadLocalRandom.current().nextInt(celebCount)];
+    }
+
+    private static String randomName(Random random, String alphabet, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.CelebCategoryNodeDto;
+import com.sluv.server.domain.celeb.dto.CelebNodeDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CelebHierarchy 조회 비용과 메모리 사용량
+ * 셀럽의 절반은 그룹 멤버(그룹당 5명), 나머지는 솔로로 만든다.
+ * setUp에서 JOL로 측정한 snapshot 전체 크기(이름 문자열 포함)를 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CelebHierarchyBenchmark {
+    private static final int MEMBERS_PER_GROUP = 5;
+
+    @Param({"100000"})
+    private int celebCount;
+
+    private CelebHierarchy hierarchy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<CelebCategoryNodeDto> categories = List.of(
+                new CelebCategoryNodeDto(1L, null, "가수"),
+                new CelebCategoryNodeDto(2L, 1L, "솔로"),
+                new CelebCategoryNodeDto(3L, 1L, "그룹")
+        );
+
+        List<CelebNodeDto> celebs = new ArrayList<>(celebCount);
+        long id = 1;
+        while (id <= celebCount / 2) {
+            long groupId = id++;
+            celebs.add(new CelebNodeDto(groupId, null, 3L, "그룹" + groupId, "Group" + groupId));
+            for (int i = 0; i < MEMBERS_PER_GROUP && id <= celebCount / 2; i++, id++) {
+                celebs.add(new CelebNodeDto(id, groupId, 3L, "멤버" + id, "Member" + id));
+            }
+        }
+        while (id <= celebCount) {
+            celebs.add(new CelebNodeDto(id, null, 2L, "솔로" + id, "Solo" + id));
+            id++;
+        }
+
+        hierarchy = CelebHierarchy.build(celebs, categories);
+
+        long totalSize = GraphLayout.parseInstance(hierarchy).totalSize();
+        System.out.printf("%nCelebHierarchy %d celebs : %,d bytes (%d bytes/celeb)%n",
+                celebCount, totalSize, totalSize / celebCount);
+    }
+
+    @Benchmark
+    public void getChildIds(Blackhole blackhole) {
+        blackhole.consume(hierarchy.getChildIds(randomId()));
+    }
+
+    @Benchmark
+    public void celebDto(Blackhole blackhole) {
+        // TempItemService의 CelebDto 한 건에 필요한 조회
+        long celebId = randomId();
+        blackhole.consume(hierarchy.getCategoryName(celebId));
+        blackhole.consume(hierarchy.getParentCategoryName(celebId));
+        blackhole.consume(hierarchy.getParentNameKr(celebId));
+        blackhole.consume(hierarchy.getParentNameEn(celebId));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, celebCount + 1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.sluv.server.domain.item.service;
+
+import com.sluv.server.domain.item.entity.Item;
+import com.sluv.server.domain.item.entity.ItemImg;
+import com.sluv.server.domain.item.entity.ItemLink;
+import com.sluv.server.domain.item.entity.hashtag.Hashtag;
+import com.sluv.server.domain.item.entity.hashtag.ItemHashtag;
+import com.sluv.server.domain.item.repository.hashtag.impl.ItemHashtagRepositoryImpl;
+import com.sluv.server.domain.item.repository.impl.ItemImgRepositoryImpl;
+import com.sluv.server.domain.item.repository.impl.ItemLinkRepositoryImpl;
+import com.sluv.server.global.common.enums.ItemImgOrLinkStatus;
+import com.sluv.server.global.id.SluvIdService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬 MySQL에서 Item 자식 row 등록 지연 시간 (p50, p99는 SampleTime 결과의 p0.50, p0.99)
+ * perRowInsert는 엔티티를 한 건씩 save할 때처럼 row마다 INSERT를 보내고,
+ * batchInsert는 *RepositoryImpl.insertAll로 테이블마다 multi-row INSERT 한 번을 보낸다.
+ * 두 경우 모두 트랜잭션 하나로 실행하고 rollback하므로 DB에 데이터가 남지 않는다.
+ *
+ * ./gradlew jmh -PjmhInclude=ItemChildInsertBenchmark
+ * 접속 정보는 -Dbenchmark.jdbc-url, -Dbenchmark.username, -Dbenchmark.password,
+ * item, hashtag 테이블에 row가 하나 이상 있고 id_node_lease 마이그레이션이 적용되어 있어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemChildInsertBenchmark {
+    private static final String INSERT_ITEM_IMG = """
+            INSERT INTO item_img (item_img_id, item_id, item_img_url, represent_flag, item_img_or_link_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ITEM_LINK = """
+            INSERT INTO item_link (item_link_id, item_id, link_name, item_link_url, item_img_or_link_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ITEM_HASHTAG = """
+            INSERT INTO item_hashtag (item_hashtag_id, item_id, hashtag_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // 등록 화면의 최대 이미지 수, 평균적인 링크, 해시태그 수
+    @Param({"10"})
+    private int imgCount;
+
+    @Param({"5"})
+    private int linkCount;
+
+    @Param({"10"})
+    private int hashtagCount;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private SluvIdService sluvIdService;
+    private ItemImgRepositoryImpl itemImgRepository;
+    private ItemLinkRepositoryImpl itemLinkRepository;
+    private ItemHashtagRepositoryImpl itemHashtagRepository;
+
+    private List<ItemImg> itemImgs;
+    private List<ItemLink> itemLinks;
+    private List<ItemHashtag> itemHashtags;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.jdbc-url", "jdbc:mysql://localhost:3306/sluv"),
+                System.getProperty("benchmark.username", "root"),
+                System.getProperty("benchmark.password", ""),
+                true
+        );
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("rewriteBatchedStatements", "true");
+        dataSource.setConnectionProperties(connectionProperties);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        sluvIdService = new SluvIdService(jdbcTemplate);
+        ReflectionTestUtils.setField(sluvIdService, "leaseSeconds", 3600);
+        ReflectionTestUtils.setField(sluvIdService, "heartbeatMillis", 60_000L);
+        ReflectionTestUtils.invokeMethod(sluvIdService, "init");
+        itemImgRepository = new ItemImgRepositoryImpl(jdbcTemplate, sluvIdService);
+        itemLinkRepository = new ItemLinkRepositoryImpl(jdbcTemplate, sluvIdService);
+        itemHashtagRepository = new ItemHashtagRepositoryImpl(jdbcTemplate, sluvIdService);
+
+        Item item = Item.builder()
+                .id(jdbcTemplate.queryForObject("SELECT MIN(item_id) FROM item", Long.class))
+                .build();
+        Hashtag hashtag = Hashtag.builder()
+                .id(jdbcTemplate.queryForObject("SELECT MIN(hashtag_id) FROM hashtag", Long.class))
+                .build();
+        if (item.getId() == null || hashtag.getId() == null) {
+            throw new IllegalStateException("item, hashtag 테이블에 row가 필요합니다.");
+        }
+
+        itemImgs = IntStream.range(0, imgCount)
+                .mapToObj(i -> ItemImg.builder()
+                        .item(item)
+                        .itemImgUrl("https://sluv-bucket.s3.ap-northeast-2.amazonaws.com/item/benchmark/" + i + ".jpg")
+                        .representFlag(i == 0)
+                        .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
+                        .build())
+                .toList();
+        itemLinks = IntStream.range(0, linkCount)
+                .mapToObj(i -> ItemLink.builder()
+                        .item(item)
+                        .linkName("구매 링크 " + i)
+                        .itemLinkUrl("https://www.musinsa.com/app/goods/" + (1000000 + i))
+                        .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
+                        .build())
+                .toList();
+        itemHashtags = IntStream.range(0, hashtagCount)
+                .mapToObj(i -> ItemHashtag.builder()
+                        .item(item)
+                        .hashtag(hashtag)
+                        .build())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(sluvIdService, "destroy");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void perRowInsert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            itemImgs.forEach(itemImg -> jdbcTemplate.update(INSERT_ITEM_IMG, sluvIdService.nextId(),
+                    itemImg.getItem().getId(), itemImg.getItemImgUrl(), itemImg.getRepresentFlag(),
+                    itemImg.getItemImgOrLinkStatus().name(), now, now));
+            itemLinks.forEach(itemLink -> jdbcTemplate.update(INSERT_ITEM_LINK, sluvIdService.nextId(),
+                    itemLink.getItem().getId(), itemLink.getLinkName(), itemLink.getItemLinkUrl(),
+                    itemLink.getItemImgOrLinkStatus().name(), now, now));
+            itemHashtags.forEach(itemHashtag -> jdbcTemplate.update(INSERT_ITEM_HASHTAG, sluvIdService.nextId(),
+                    itemHashtag.getItem().getId(), itemHashtag.getHashtag().getId(), now, now));
+            status.setRollbackOnly();
+        });
+    }
+
+    @Benchmark
+    public void batchInsert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemImgRepository.insertAll(itemImgs);
+            itemLinkRepository.insertAll(itemLinks);
+            itemHashtagRepository.insertAll(itemHashtags);
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.sluv.server.domain.item.service;
+
+import com.sluv.server.SluvServerApplication;
+import com.sluv.server.domain.item.dto.ItemImgResDto;
+import com.sluv.server.domain.item.dto.ItemLinkResDto;
+import com.sluv.server.domain.item.dto.ItemPostReqDto;
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬 DB에서 ItemService.postItem 한 번의 지연 시간 (p50, p99는 SampleTime 결과의 p0.50, p0.99)
+ * Item INSERT, 자식 테이블 batch INSERT, 참조 확인, PlaceRank, 최근 선택 갱신까지 요청 하나와 같은 경로를 실행한다.
+ * 트랜잭션 하나로 실행하고 rollback하므로 item 관련 테이블에는 데이터가 남지 않는다.
+ *
+ * ./gradlew jmh -PjmhInclude=ItemPostBenchmark
+ * 접속 정보는 -Dbenchmark.jdbc-url, -Dbenchmark.username, -Dbenchmark.password,
+ * 마이그레이션이 적용되어 있고 user, celeb, brand, item_category, hashtag 테이블에 row가 하나 이상 있어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemPostBenchmark {
+    // 등록 화면의 최대 이미지 수, 평균적인 링크, 해시태그 수
+    @Param({"10"})
+    private int imgCount;
+
+    @Param({"5"})
+    private int linkCount;
+
+    @Param({"10"})
+    private int hashtagCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private ItemService itemService;
+    private User user;
+    private ItemPostReqDto reqDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Security 설정이 MVC를 필요로 하므로 servlet context로 띄우고 port는 임의로
+        context = new SpringApplicationBuilder(SluvServerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + System.getProperty("benchmark.jdbc-url", "jdbc:mysql://localhost:3306/sluv"),
+                        "--spring.datasource.username=" + System.getProperty("benchmark.username", "root"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.password", ""),
+                        "--logging.level.org.hibernate.SQL=info"
+                );
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        itemService = context.getBean(ItemService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long userId = jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM `user`", Long.class);
+        Long celebId = jdbcTemplate.queryForObject("SELECT MIN(celeb_id) FROM celeb", Long.class);
+        Long brandId = jdbcTemplate.queryForObject("SELECT MIN(brand_id) FROM brand", Long.class);
+        Long categoryId = jdbcTemplate.queryForObject("SELECT MIN(item_category_id) FROM item_category", Long.class);
+        List<Long> hashtagIds = jdbcTemplate.queryForList(
+                "SELECT hashtag_id FROM hashtag ORDER BY hashtag_id LIMIT ?", Long.class, hashtagCount);
+        if (userId == null || celebId == null || brandId == null || categoryId == null || hashtagIds.isEmpty()) {
+            throw new IllegalStateException("user, celeb, brand, item_category, hashtag 테이블에 row가 필요합니다.");
+        }
+        user = context.getBean(UserRepository.class).findById(userId).orElseThrow();
+
+        reqDto = new ItemPostReqDto();
+        reqDto.setCelebId(celebId);
+        reqDto.setBrandId(brandId);
+        reqDto.setCategoryId(categoryId);
+        reqDto.setItemName("벤치마크 아이템");
+        reqDto.setPrice(150000);
+        reqDto.setWhenDiscovery(LocalDateTime.of(2023, 5, 1, 12, 0));
+        reqDto.setWhereDiscovery("인천공항");
+        reqDto.setAdditionalInfo("출국길 공항 패션");
+        reqDto.setInfoSource("인스타그램");
+        reqDto.setHashTagIdList(hashtagIds);
+        reqDto.setImgList(IntStream.range(0, imgCount)
+                .mapToObj(i -> new ItemImgResDto(
+                        "https://sluv-bucket.s3.ap-northeast-2.amazonaws.com/item/benchmark/" + i + ".jpg", i == 0))
+                .toList());
+        reqDto.setLinkList(IntStream.range(0, linkCount)
+                .mapToObj(i -> new ItemLinkResDto("https://www.musinsa.com/app/goods/" + (1000000 + i), "구매 링크 " + i))
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void postItem() {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.postItem(user, reqDto);
+            status.setRollbackOnly();
+        });
+    }
+}
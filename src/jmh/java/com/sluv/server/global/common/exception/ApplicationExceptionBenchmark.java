@@ -0,0 +1,67 @@
+package com.sluv.server.global.common.exception;
+
+import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
+import com.sluv.server.global.common.response.ErrorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 없는 셀럽 id로 재시도가 몰릴 때의 not-found 경로
+ * (예외 생성 -> 호출 스택을 거슬러 throw -> GlobalExceptionHandler) 처리량
+ * stackTrace = true 는 stack trace를 채우던 이전 동작과 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class ApplicationExceptionBenchmark {
+
+    // 컨트롤러까지의 Spring 필터, 프록시 호출 깊이를 흉내냄
+    @Param({"100"})
+    private int callDepth;
+
+    @Param({"false", "true"})
+    private boolean stackTrace;
+
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @Setup
+    public void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler(new ApplicationExceptionMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        try {
+            return findCeleb(callDepth);
+        } catch (ApplicationException e) {
+            return globalExceptionHandler.applicationException(e);
+        }
+    }
+
+    private ResponseEntity<ErrorResponse> findCeleb(int depth) {
+        if (depth > 0) {
+            return findCeleb(depth - 1);
+        }
+
+        throw stackTrace ? new StackTraceCelebNotFoundException() : new CelebNotFoundException();
+    }
+
+    private static class StackTraceCelebNotFoundException extends ApplicationException {
+        StackTraceCelebNotFoundException() {
+            super(2002, HttpStatus.BAD_REQUEST, "존재하지 않는 셀럽입니다.", true);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sluv.server.global.jwt;
+
+import com.sluv.server.domain.user.dto.UserDto;
+import com.sluv.server.domain.user.enums.UserStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 인증 요청이 지나가는 JwtProvider의 토큰 생성, 검증, Claims 추출 비용
+ * legacy로 시작하는 benchmark는 key, parser를 미리 만들기 전의 구현을 그대로 옮긴 비교 기준이다.
+ * (요청마다 key를 만들고, 필터가 validateToken, getUserId에서 parser를 새로 만들어 서명을 두 번 검증)
+ *
+ * ./gradlew jmh -PjmhInclude=JwtProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+    private static final String SECRET = "sluv-benchmark-secret-key-0123456789-abcdefghijklmnop";
+    private static final long EXPIRATION_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private JwtProvider jwtProvider;
+    private UserDto user;
+    private String token;
+    private byte[] secretBytes;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = createJwtProvider();
+        user = UserDto.builder().id(1L).userStatus(UserStatus.ACTIVE).build();
+        token = jwtProvider.createAccessToken(user);
+        secretBytes = ((String) ReflectionTestUtils.getField(jwtProvider, "secretKey")).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static JwtProvider createJwtProvider() {
+        JwtProvider jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "tokenValidMillisecond", EXPIRATION_MILLIS);
+        jwtProvider.init();
+
+        return jwtProvider;
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getClaims() {
+        return jwtProvider.getClaims(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtProvider.getAuthentication(jwtProvider.getClaims(token));
+    }
+
+    // 필터의 요청당 토큰 비용: 서명을 한 번 검증한 Claims로 user id까지
+    @Benchmark
+    public Long verifyOnce() {
+        return jwtProvider.getUserId(jwtProvider.getClaims(token));
+    }
+
+    @Benchmark
+    public Long legacyVerifyTwice() {
+        Jwts.parserBuilder().setSigningKey(secretBytes).build()
+                .parseClaimsJws(token);
+
+        return Long.valueOf(Jwts.parserBuilder().setSigningKey(secretBytes).build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject());
+    }
+
+    @Benchmark
+    public String legacyCreateAccessToken() {
+        Claims claims = Jwts.claims().setSubject(user.getId().toString());
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + EXPIRATION_MILLIS))
+                .signWith(Keys.hmacShaKeyFor(secretBytes), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
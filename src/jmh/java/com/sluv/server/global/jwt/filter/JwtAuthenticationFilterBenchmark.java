@@ -0,0 +1,116 @@
+package com.sluv.server.global.jwt.filter;
+
+import com.sluv.server.domain.auth.repository.RevokedTokenRepository;
+import com.sluv.server.domain.auth.service.TokenRevocationService;
+import com.sluv.server.domain.user.dto.UserDto;
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.enums.UserStatus;
+import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.domain.user.service.UserCacheService;
+import com.sluv.server.global.jwt.JwtPrincipal;
+import com.sluv.server.global.jwt.JwtProvider;
+import com.sluv.server.global.jwt.JwtProviderBenchmark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+/**
+ * 요청 하나가 JwtAuthenticationFilter를 지나 User를 얻기까지의 비용
+ * UserRepository는 mock이며 (stubOnly) 호출 기록을 남기지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private UserCacheService userCacheService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = JwtProviderBenchmark.createJwtProvider();
+
+        // 폐기된 토큰이 없는 상태, Bloom filter에서 모두 걸러져야 한다
+        RevokedTokenRepository revokedTokenRepository = Mockito.mock(RevokedTokenRepository.class, Mockito.withSettings().stubOnly());
+        Mockito.when(revokedTokenRepository.findRevokedSince(any())).thenReturn(List.of());
+
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(revokedTokenRepository);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 100_000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.invokeMethod(tokenRevocationService, "init");
+
+        filter = new JwtAuthenticationFilter(jwtProvider, new AuthRouteTable(
+                "/app/auth/auto-login",
+                "/app/item/{itemId}/like",
+                "/app/user/celeb"
+        ), tokenRevocationService);
+        token = jwtProvider.createAccessToken(UserDto.builder().id(1L).userStatus(UserStatus.ACTIVE).build());
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class, Mockito.withSettings().stubOnly());
+        Mockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(User.builder().id(1L).userStatus(UserStatus.ACTIVE).build()));
+
+        userCacheService = new UserCacheService(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userCacheService, "maximumSize", 10_000L);
+        ReflectionTestUtils.setField(userCacheService, "expireSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(userCacheService, "init");
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("X-AUTH-TOKEN", token);
+
+        return request;
+    }
+
+    @Benchmark
+    public Object authenticatedRoute() throws Exception {
+        try {
+            filter.doFilter(request("/app/item/1/like"), new MockHttpServletResponse(), NOOP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object authenticatedRouteWithUser() throws Exception {
+        try {
+            filter.doFilter(request("/app/user/celeb"), new MockHttpServletResponse(), NOOP_CHAIN);
+            JwtPrincipal principal = (JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            return userCacheService.getSnapshot(principal.getUserId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object publicRoute() throws Exception {
+        try {
+            // 토큰이 있어도 shouldNotFilter로 파싱을 건너뛰어야 한다
+            filter.doFilter(request("/app/celeb/search"), new MockHttpServletResponse(), NOOP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
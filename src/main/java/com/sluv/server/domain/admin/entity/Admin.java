@@ -1,12 +1,14 @@
 package com.sluv.server.domain.admin.entity;
 
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
@@ -14,7 +16,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "admin")
 public class Admin extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "admin_id")
     private Long id;
 
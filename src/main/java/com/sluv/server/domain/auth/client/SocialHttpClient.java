@@ -0,0 +1,68 @@
+package com.sluv.server.domain.auth.client;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Kakao, Apple, Google 요청이 공유하는 non-blocking HTTP 클라이언트
+ * 커넥션은 HttpClient 내부 풀에서 keep-alive로 재사용된다.
+ */
+@Component
+public class SocialHttpClient {
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    public SocialHttpClient(@Qualifier("socialHttpExecutor") Executor socialHttpExecutor,
+                            @Value("${social.http.connect-timeout-millis:3000}") long connectTimeoutMillis,
+                            @Value("${social.http.read-timeout-millis:5000}") long readTimeoutMillis) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(socialHttpExecutor)
+                .build();
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+    }
+
+    public CompletableFuture<String> getAsync(String url) {
+        return sendAsync(newRequest(url, Map.of()).GET().build());
+    }
+
+    public CompletableFuture<String> postAsync(String url, Map<String, String> headers) {
+        return sendAsync(newRequest(url, headers).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    private HttpRequest.Builder newRequest(String url, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout);
+        headers.forEach(builder::header);
+
+        return builder;
+    }
+
+    private CompletableFuture<String> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    HttpStatusCode statusCode = HttpStatusCode.valueOf(response.statusCode());
+                    // 4xx는 요청(토큰) 문제, 5xx는 Provider 장애로 구분
+                    if (statusCode.is4xxClientError()) {
+                        throw new HttpClientErrorException(statusCode);
+                    }
+                    if (!statusCode.is2xxSuccessful()) {
+                        throw new HttpServerErrorException(statusCode);
+                    }
+                    return response.body();
+                });
+    }
+}
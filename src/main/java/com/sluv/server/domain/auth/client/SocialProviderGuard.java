@@ -0,0 +1,128 @@
+package com.sluv.server.domain.auth.client;
+
+import com.sluv.server.domain.auth.enums.SnsType;
+import com.sluv.server.domain.auth.exception.SocialProviderUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 소셜 Provider 호출을 Provider별로 격리
+ * 동시 호출 수 제한(Bulkhead) -> 서킷 브레이커 -> 시간 제한 순서로 감싸며,
+ * 설정은 application.yml의 resilience4j.*.instances.{kakao|google|apple}을 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SocialProviderGuard {
+    private static final String TRANSITION_COUNTER = "auth.provider.circuit.transition";
+    private static final String REJECTED_COUNTER = "auth.provider.rejected";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Map<SnsType, Guard> guardMap = new EnumMap<>(SnsType.class);
+
+    @PostConstruct
+    protected void init() {
+        for (SnsType snsType : SnsType.values()) {
+            String name = snsType.name().toLowerCase();
+
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+            circuitBreaker.getEventPublisher().onStateTransition(event -> {
+                log.warn("{} CircuitBreaker : {}", name, event.getStateTransition());
+                meterRegistry.counter(TRANSITION_COUNTER,
+                        "provider", name,
+                        "from", event.getStateTransition().getFromState().name(),
+                        "to", event.getStateTransition().getToState().name()
+                ).increment();
+            });
+
+            guardMap.put(snsType, new Guard(
+                    circuitBreaker,
+                    bulkheadRegistry.bulkhead(name),
+                    timeLimiterRegistry.timeLimiter(name)
+            ));
+        }
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        timeoutScheduler.shutdownNow();
+    }
+
+    /**
+     * == Provider 호출을 격리하여 실행 ==
+     *
+     * @param snsType
+     * @param call 외부 호출
+     * @return 호출 결과
+     * @throws SocialProviderUnavailableException 동시 호출 초과, 서킷 OPEN, 시간 초과 시
+     */
+    public <T> CompletableFuture<T> call(SnsType snsType, Supplier<CompletionStage<T>> call) {
+        Guard guard = guardMap.get(snsType);
+        String name = snsType.name().toLowerCase();
+
+        Supplier<CompletionStage<T>> timed = guard.timeLimiter().decorateCompletionStage(timeoutScheduler, call);
+        Supplier<CompletionStage<T>> breaker = CircuitBreaker.decorateCompletionStage(guard.circuitBreaker(), timed);
+        Supplier<CompletionStage<T>> isolated = Bulkhead.decorateCompletionStage(guard.bulkhead(), breaker);
+
+        return isolated.get().toCompletableFuture()
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return result;
+                    }
+
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    String reason = rejectReason(cause);
+                    if (reason != null) {
+                        meterRegistry.counter(REJECTED_COUNTER, "provider", name, "reason", reason).increment();
+                        throw new SocialProviderUnavailableException();
+                    }
+
+                    throw cause instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new CompletionException(cause);
+                });
+    }
+
+    private static String rejectReason(Throwable cause) {
+        if (cause instanceof BulkheadFullException) {
+            return "bulkhead";
+        }
+        if (cause instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        return null;
+    }
+
+    private record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, TimeLimiter timeLimiter) {
+    }
+}
@@ -7,11 +7,13 @@ import com.sluv.server.domain.auth.service.AppleUserService;
 import com.sluv.server.domain.auth.service.AuthService;
 import com.sluv.server.domain.auth.service.GoogleUserService;
 import com.sluv.server.domain.auth.service.KakaoUserService;
+import com.sluv.server.domain.auth.service.TokenRevocationService;
 
 import com.sluv.server.domain.user.dto.UserDto;
 import com.sluv.server.global.common.response.ErrorResponse;
 import com.sluv.server.global.common.response.SuccessDataResponse;
 import com.sluv.server.global.common.response.SuccessResponse;
+import com.sluv.server.global.jwt.JwtPrincipal;
 import com.sluv.server.global.jwt.JwtProvider;
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -24,8 +26,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/app/auth")
 @RequiredArgsConstructor
@@ -35,6 +40,7 @@ public class AuthController {
     private final GoogleUserService googleUserService;
     private final AppleUserService appleUserService;
     private final AuthService authService;
+    private final TokenRevocationService tokenRevocationService;
 
     private final JwtProvider jwtProvider;
 
@@ -51,21 +57,20 @@ public class AuthController {
     })
 
     @PostMapping("/social-login")
-    public ResponseEntity<SuccessDataResponse<AuthResponseDto>> socialLogin(@RequestBody AuthRequestDto request) throws Exception {
-        AuthResponseDto response = null;
-
+    public CompletableFuture<ResponseEntity<SuccessDataResponse<AuthResponseDto>>> socialLogin(@RequestBody AuthRequestDto request) {
         SnsType userSnsType = SnsType.fromString(request.getSnsType());
 
-        switch (userSnsType) {
-            case KAKAO -> response = kakaoUserService.kakaoLogin(request);
-            case GOOGLE -> response = googleUserService.googleLogin(request);
-            case APPLE -> response = appleUserService.appleLogin(request);
-        }
+        // 외부 Provider 응답을 기다리는 동안 servlet 스레드를 반환
+        CompletableFuture<AuthResponseDto> response = switch (userSnsType) {
+            case KAKAO -> kakaoUserService.kakaoLogin(request);
+            case GOOGLE -> googleUserService.googleLogin(request);
+            case APPLE -> appleUserService.appleLogin(request);
+        };
 
-        return ResponseEntity.ok().body(SuccessDataResponse.<AuthResponseDto>builder()
-                                                            .result(response)
+        return response.thenApply(result -> ResponseEntity.ok().body(SuccessDataResponse.<AuthResponseDto>builder()
+                                                            .result(result)
                                                             .build()
-                                                      );
+                                                      ));
     }
     @Operation(
             summary = "*자동 로그인"
@@ -78,6 +83,17 @@ public class AuthController {
         return ResponseEntity.ok().body(new SuccessResponse());
     }
 
+    @Operation(
+            summary = "*로그아웃",
+            description = "현재 토큰을 폐기. 이후 같은 토큰으로의 요청은 4003 에러"
+    )
+    @PostMapping("/logout")
+    public ResponseEntity<SuccessResponse> logout(@AuthenticationPrincipal JwtPrincipal principal){
+        tokenRevocationService.revoke(principal);
+
+        return ResponseEntity.ok().body(new SuccessResponse());
+    }
+
     @PostMapping("/test")
     public ResponseEntity<?> testToken(@RequestBody UserDto dto){
 
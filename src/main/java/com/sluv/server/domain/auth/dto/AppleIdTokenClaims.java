@@ -0,0 +1,47 @@
+package com.sluv.server.domain.auth.dto;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 Apple identityToken의 Claims
+ */
+@Getter
+public class AppleIdTokenClaims {
+    private final String algorithm;
+    private final String issuer;
+    private final String audience;
+    private final Date expiration;
+
+    private final String email;
+    private final String picture;
+    private final String gender;
+    private final String birthdate;
+
+    private AppleIdTokenClaims(String algorithm, Claims claims) {
+        this.algorithm = algorithm;
+        this.issuer = claims.getIssuer();
+        this.audience = claims.getAudience();
+        this.expiration = claims.getExpiration();
+        this.email = claims.get("email", String.class);
+        this.picture = claims.get("picture", String.class);
+        this.gender = claims.get("gender", String.class);
+        this.birthdate = claims.get("birthdate", String.class);
+    }
+
+    public static AppleIdTokenClaims from(Jws<Claims> verifiedToken) {
+        return new AppleIdTokenClaims(verifiedToken.getHeader().getAlgorithm(), verifiedToken.getBody());
+    }
+
+    public SocialUserInfoDto toSocialUserInfoDto() {
+        return SocialUserInfoDto.builder()
+                .email(email)
+                .profileImgUrl(picture)
+                .gender(gender)
+                .ageRange(birthdate)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.sluv.server.domain.auth.entity;
+
+import com.sluv.server.global.id.SluvIdGenerator;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_revoke_key", columnList = "revoke_key"),
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at")
+})
+public class RevokedToken {
+
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
+    @Column(name = "revoked_token_id")
+    private Long id;
+
+    // "jti:{토큰 id}" 또는 "user:{user id}"
+    @NotNull
+    @Size(max = 100)
+    @Column(name = "revoke_key")
+    private String revokeKey;
+
+    // 유저 단위 폐기는 이 시각의 초까지 발급된 토큰에 적용
+    @NotNull
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RevokedToken(Long id, String revokeKey, LocalDateTime revokedAt) {
+        this.id = id;
+        this.revokeKey = revokeKey;
+        this.revokedAt = revokedAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sluv.server.domain.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+import static com.sluv.server.global.common.exception.ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE;
+
+public class SocialProviderUnavailableException extends AuthException {
+    private static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public SocialProviderUnavailableException() {
+        super(SOCIAL_PROVIDER_UNAVAILABLE.getCode(), STATUS, SOCIAL_PROVIDER_UNAVAILABLE.getMessage());
+    }
+}
@@ -0,0 +1,25 @@
+package com.sluv.server.domain.auth.repository;
+
+import com.sluv.server.domain.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    @Query("select r from RevokedToken r where r.revokedAt >= :since")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since);
+
+    boolean existsByRevokeKey(String revokeKey);
+
+    // 한 번에 지우는 양을 제한하여 긴 잠금을 피한다
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM revoked_token WHERE revoked_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteRevokedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
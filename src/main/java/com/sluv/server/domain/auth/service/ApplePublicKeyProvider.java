@@ -0,0 +1,134 @@
+package com.sluv.server.domain.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sluv.server.domain.auth.client.SocialHttpClient;
+import com.sluv.server.domain.auth.client.SocialProviderGuard;
+import com.sluv.server.domain.auth.exception.SocialProviderUnavailableException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.sluv.server.domain.auth.enums.SnsType.APPLE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplePublicKeyProvider {
+    private final SocialHttpClient socialHttpClient;
+    private final SocialProviderGuard socialProviderGuard;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${apple.openKey}")
+    private String appleOpenKeys;
+
+    @Value("${apple.keyRefreshMinIntervalMillis:60000}")
+    private long refreshMinIntervalMillis;
+
+    // kid -> 해당 공개키로 만들어둔 JwtParser
+    private volatile Map<String, JwtParser> parserMap = Map.of();
+    private volatile long lastRefreshedAt = 0L;
+    private CompletableFuture<Void> inFlightRefresh = CompletableFuture.completedFuture(null);
+
+    @PostConstruct
+    protected void init() {
+        refreshQuietly();
+    }
+
+    /**
+     * == kid에 맞는 공개키의 JwtParser 조회 ==
+     * 캐시에 없는 kid라면 (키 교체) 최소 간격을 지켜 Apple에서 다시 받아온다.
+     *
+     * @param kid
+     * @return JwtParser, 없는 kid라면 null
+     * @throws SocialProviderUnavailableException 이 요청이 기다린 갱신이 공개키를 받아오지 못한 경우
+     */
+    public CompletableFuture<JwtParser> getParser(String kid) {
+        JwtParser parser = parserMap.get(kid);
+        if (parser != null) {
+            return CompletableFuture.completedFuture(parser);
+        }
+
+        return refreshIfAllowed().handle((v, e) -> {
+            if (e != null) {
+                throw new SocialProviderUnavailableException();
+            }
+            return parserMap.get(kid);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${apple.keyRefreshMillis:3600000}",
+               initialDelayString = "${apple.keyRefreshMillis:3600000}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    private synchronized CompletableFuture<Void> refreshIfAllowed() {
+        if (System.currentTimeMillis() - lastRefreshedAt < refreshMinIntervalMillis) {
+            // 진행 중인 갱신은 결과를 공유하고, 이미 끝난 갱신(실패 포함)이라면 현재 캐시로 판단해 없는 kid는 null
+            // 실패를 그대로 돌려주면 간격 동안 모든 없는 kid가 Apple 장애로 응답된다
+            return inFlightRefresh.isDone() ? CompletableFuture.completedFuture(null) : inFlightRefresh;
+        }
+
+        return refresh();
+    }
+
+    private void refreshQuietly() {
+        refresh().exceptionally(e -> {
+            log.warn("Apple 공개키 갱신 실패 : {}", e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * == Apple에게 공개키 목록을 요청하여 캐시 교체 ==
+     */
+    private synchronized CompletableFuture<Void> refresh() {
+        lastRefreshedAt = System.currentTimeMillis();
+        inFlightRefresh = socialProviderGuard.call(APPLE, () -> socialHttpClient.getAsync(appleOpenKeys))
+                .thenAccept(this::replaceParserMap);
+
+        return inFlightRefresh;
+    }
+
+    private void replaceParserMap(String responseBody) {
+        Map<String, JwtParser> newParserMap = new HashMap<>();
+        try {
+            for (JsonNode keyNode : objectMapper.readTree(responseBody).get("keys")) {
+                newParserMap.put(keyNode.get("kid").asText(),
+                        Jwts.parserBuilder()
+                                .setSigningKey(toPublicKey(keyNode))
+                                .build()
+                );
+            }
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Apple 공개키 파싱 실패", e);
+        }
+
+        parserMap = Map.copyOf(newParserMap);
+    }
+
+    private static PublicKey toPublicKey(JsonNode keyNode) throws Exception {
+        byte[] nBytes = Base64.getUrlDecoder().decode(keyNode.get("n").asText());
+        byte[] eBytes = Base64.getUrlDecoder().decode(keyNode.get("e").asText());
+
+        RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(new BigInteger(1, nBytes), new BigInteger(1, eBytes));
+        KeyFactory keyFactory = KeyFactory.getInstance(keyNode.get("kty").asText());
+
+        return keyFactory.generatePublic(publicKeySpec);
+    }
+}
@@ -1,33 +1,27 @@
 package com.sluv.server.domain.auth.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sluv.server.domain.auth.dto.AppleIdTokenClaims;
 import com.sluv.server.domain.auth.dto.AuthRequestDto;
 import com.sluv.server.domain.auth.dto.AuthResponseDto;
 import com.sluv.server.domain.auth.dto.SocialUserInfoDto;
 import com.sluv.server.domain.user.dto.UserDto;
-import com.sluv.server.domain.user.entity.User;
-import com.sluv.server.domain.user.exception.NotFoundUserException;
 import com.sluv.server.domain.user.repository.UserRepository;
 import com.sluv.server.global.jwt.JwtProvider;
 
 import com.sluv.server.global.jwt.exception.ExpiredTokenException;
 import com.sluv.server.global.jwt.exception.InvalidateTokenException;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.security.*;
-
-import java.security.spec.RSAPublicKeySpec;
+import java.io.IOException;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.sluv.server.domain.auth.enums.SnsType.APPLE;
 
@@ -38,233 +32,121 @@ import static com.sluv.server.domain.auth.enums.SnsType.APPLE;
 public class AppleUserService {
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final ApplePublicKeyProvider applePublicKeyProvider;
+    private final Executor socialLoginExecutor;
     private final ObjectMapper objectMapper = new ObjectMapper();
     @Value("${apple.clientId}")
     private String clientId;
 
-    @Value("${apple.openKey}")
-    private String appleOpenKeys;
-
     @Value("${apple.iss}")
     private String issUrl;
 
-    public AuthResponseDto appleLogin(AuthRequestDto request) throws Exception {
+    public CompletableFuture<AuthResponseDto> appleLogin(AuthRequestDto request) {
         String identityToken = request.getAccessToken();
 
-        // 1. 검증
-        if(!verifyIdToken(identityToken)){
-            throw new InvalidateTokenException();
-        }
-
-        // 2. UserIngoDto 생성
-        SocialUserInfoDto userInfo = getAppleUserInfo(identityToken);
+        // 1. 서명 검증 및 Claims 추출 (한 번만 파싱)
+        return verifyIdToken(identityToken)
+                .thenApplyAsync(verifiedClaims -> {
+                    // 2. Claims 검증
+                    validateClaims(verifiedClaims);
 
-        // 3. idToken의 정보로 DB 탐색 및 등록
-        User appleUser = registerAppleUserIfNeed(userInfo);
+                    // 3. idToken의 정보로 DB 탐색 및 등록
+                    UserDto appleUser = registerAppleUserIfNeed(verifiedClaims.toSocialUserInfoDto());
 
-        // 4. userToken 생성
-        return AuthResponseDto.builder()
-                .token(createUserToken(appleUser))
-                .build();
+                    // 4. userToken 생성
+                    return AuthResponseDto.builder()
+                            .token(createUserToken(appleUser))
+                            .build();
+                }, socialLoginExecutor);
     }
 
     /**
-     * == identitiyToken이 유효한 토큰인지 확인 ==
+     * == identityToken의 서명을 검증하고 Claims 반환 ==
      *
      * @param identityToken
-     * @return 유효 여부
-     * @throws Exception
+     * @return 검증된 AppleIdTokenClaims
+     * @throws InvalidateTokenException, ExpiredTokenException
      */
-    private boolean verifyIdToken(String identityToken) throws Exception{
-        String[] pieces = identityToken.split("\\.");
-        if (pieces.length != 3) {
-            return false;
-        }
-        String header = new String(Base64.getUrlDecoder().decode(pieces[0]));
-        String payload = new String(Base64.getUrlDecoder().decode(pieces[1]));
-
-
-        JsonNode headerNode = objectMapper.readTree(header);
-        JsonNode payloadNode = objectMapper.readTree(payload);
-
-        String algorithm = headerNode.get("alg").asText();
-
-        String idKid = headerNode.get("kid").asText();
-
-        if (!algorithm.equals("RS256")) {
-            return false;
-        }
-        // 원래 처리해야하는데 왜 우리 토큰엔 없죠...? - JunKer
-//        String nonce = payloadNode.get("nonce").asText();
-//        if (!nonce.equals(this.nonce)) {
-//            return false;
-//        }
-        String iss = payloadNode.get("iss").asText();
-        if (!iss.equals(issUrl)) {
-            return false;
-        }
-
-        String aud = payloadNode.get("aud").asText();
-        if (!aud.equals(this.clientId)) {
-            return false;
-        }
-
-        long exp = payloadNode.get("exp").asLong();
-        if (exp < System.currentTimeMillis() / 1000) {
-            throw new ExpiredTokenException();
-        }
-
-        if(getPublicKeyFromPEM(identityToken, idKid) == null){
-            return false;
-        }
-
-        return true;
-
+    private CompletableFuture<AppleIdTokenClaims> verifyIdToken(String identityToken) {
+        String kid = getKid(identityToken);
+
+        return applePublicKeyProvider.getParser(kid)
+                .thenApply(parser -> {
+                    if (parser == null) {
+                        throw new InvalidateTokenException();
+                    }
+                    try {
+                        return AppleIdTokenClaims.from(parser.parseClaimsJws(identityToken));
+                    } catch (ExpiredJwtException e) {
+                        throw new ExpiredTokenException();
+                    } catch (JwtException | IllegalArgumentException e) {
+                        throw new InvalidateTokenException();
+                    }
+                });
     }
 
     /**
-     * == idToken이 검증된 토큰인지 확인 ==
+     * == 검증된 Claims의 alg, iss, aud 확인 ==
+     * exp는 파싱 단계에서 확인된다.
      *
-     * @param identityToken
-     * @param identityKid
-     * @return
-     * @throws Exception
+     * @param claims
+     * @throws InvalidateTokenException
      */
-    public Claims getPublicKeyFromPEM(String identityToken, String identityKid) throws Exception{
-        JsonNode correctKey = getApplePublicKey(identityKid);
-        String tN = correctKey.get("n").asText();
-        String tE = correctKey.get("e").asText();
-        String kty = correctKey.get("kty").asText();
-
-        byte[] nBytes = Base64.getUrlDecoder().decode(tN);
-        byte[] eBytes = Base64.getUrlDecoder().decode(tE);
-
-        BigInteger n = new BigInteger(1, nBytes);
-        BigInteger e = new BigInteger(1, eBytes);
-
-        RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(n, e);
-        KeyFactory keyFactory = KeyFactory.getInstance(kty);
-        PublicKey publicKey = keyFactory.generatePublic(publicKeySpec);
-
-        JwtParser parser = Jwts.parserBuilder()
-                                .setSigningKey(publicKey)
-                                .build();
-
-        return parser.parseClaimsJws(identityToken).getBody();
+    private void validateClaims(AppleIdTokenClaims claims) {
+        // 원래 nonce도 처리해야하는데 왜 우리 토큰엔 없죠...? - JunKer
+        if (!"RS256".equals(claims.getAlgorithm())
+                || !issUrl.equals(claims.getIssuer())
+                || !clientId.equals(claims.getAudience())
+                || claims.getEmail() == null) {
+            throw new InvalidateTokenException();
+        }
     }
 
     /**
-     * == Apple에게 공개키를 요청 ==
+     * == 공개키 선택을 위해 header의 kid만 추출 ==
      *
-     * @param identityKid
-     * @return 알맞는 공개키의 JsonNode
-     * @throws Exception
+     * @param identityToken
+     * @return kid
+     * @throws InvalidateTokenException
      */
+    private String getKid(String identityToken) {
+        int headerEnd = identityToken.indexOf('.');
+        if (headerEnd <= 0) {
+            throw new InvalidateTokenException();
+        }
 
-    private JsonNode getApplePublicKey(String identityKid) throws Exception {
-        URL url = new URL(appleOpenKeys);
-
-
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.connect();
-
-        JsonNode jsonNode = objectMapper.readTree(connection.getInputStream());
-        JsonNode keysNode = jsonNode.get("keys");
-
-        JsonNode correctKey = null;
-
-        for (JsonNode keyNode : keysNode) {
-            String kid = keyNode.get("kid").asText();
-            if (kid.equals(identityKid)) {
-                correctKey = keyNode;
-                break;
+        try {
+            byte[] header = Base64.getUrlDecoder().decode(identityToken.substring(0, headerEnd));
+            JsonNode kid = objectMapper.readTree(header).get("kid");
+            if (kid == null) {
+                throw new InvalidateTokenException();
             }
+            return kid.asText();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidateTokenException();
         }
-
-        return correctKey;
-
     }
 
     /**
      * == user 정보를 기반으로 user Access Token 생성 ==
      *
-     * @param user
+     * @param user 등록 또는 조회된 user의 id, 상태
      * @return user Access Token
      */
-    private String createUserToken(User user) {
-
-        return jwtProvider.createAccessToken(UserDto.builder().id(user.getId()).build());
-    }
-
-    /**
-     * identityToken의 정보 SocialUserDto로 변환
-     *
-     * @param identityToken
-     * @return SocialUserInfoDto
-     * @throws JsonProcessingException
-     */
-
-    private SocialUserInfoDto getAppleUserInfo(String identityToken) throws JsonProcessingException {
-        String[] pieces = identityToken.split("\\.");
-        String payload = new String(Base64.getUrlDecoder().decode(pieces[1]));
-
-        JsonNode jsonNode = objectMapper.readTree(payload);
-
-        String email = jsonNode.get("email").asText();
-
-        String profileImgUrl;
-        try{
-            profileImgUrl = jsonNode.get("picture").asText();
-        }catch (Exception e){
-            profileImgUrl = null;
-        }
-
-        String gender;
+    private String createUserToken(UserDto user) {
 
-        try{
-            gender = jsonNode.get("gender").asText();
-        }catch (Exception e){
-            gender = null;
-        }
-
-        String ageRange;
-        try{
-            ageRange = jsonNode.get("birthdate").asText();
-        }catch (Exception e){
-            ageRange = null;
-        }
-
-        return SocialUserInfoDto.builder()
-                .email(email)
-                .profileImgUrl(profileImgUrl)
-                .gender(gender)
-                .ageRange(ageRange)
-                .build();
+        return jwtProvider.createAccessToken(user);
     }
 
     /**
      * == identityToken을 기반으로 user 등록 및 조회 ==
      *
      * @param userInfoDto
-     * @return User
+     * @return user id, 상태
      */
 
-    private User registerAppleUserIfNeed(SocialUserInfoDto userInfoDto) {
-        User user = userRepository.findByEmail(userInfoDto.getEmail()).orElse(null);
-
-        if(user == null) {
-            userRepository.save(User.builder()
-                    .email(userInfoDto.getEmail())
-                    .snsType(APPLE)
-                    .profileImgUrl(userInfoDto.getProfileImgUrl())
-                    .ageRange(userInfoDto.getAgeRange())
-                    .gender(userInfoDto.getGender())
-                    .build());
-
-            user = userRepository.findByEmail(userInfoDto.getEmail())
-                    .orElseThrow(NotFoundUserException::new);
-        }
-        return user;
+    private UserDto registerAppleUserIfNeed(SocialUserInfoDto userInfoDto) {
+        // (email, sns_type) unique 키로 한 번에 등록 또는 조회
+        return userRepository.upsertSocialUser(userInfoDto, APPLE);
     }
 }
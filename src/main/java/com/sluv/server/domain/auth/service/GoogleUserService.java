@@ -2,73 +2,93 @@ package com.sluv.server.domain.auth.service;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import com.sluv.server.domain.auth.client.SocialProviderGuard;
 import com.sluv.server.domain.auth.dto.AuthRequestDto;
 import com.sluv.server.domain.auth.dto.AuthResponseDto;
 import com.sluv.server.domain.auth.dto.SocialUserInfoDto;
+import com.sluv.server.domain.auth.exception.SocialProviderUnavailableException;
 import com.sluv.server.domain.user.dto.UserDto;
-import com.sluv.server.domain.user.entity.User;
-import com.sluv.server.domain.user.exception.NotFoundUserException;
 import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.global.config.GoogleIdTokenVerifierConfig;
 import com.sluv.server.global.jwt.JwtProvider;
 import com.sluv.server.global.jwt.exception.InvalidateTokenException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.sluv.server.domain.auth.enums.SnsType.GOOGLE;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GoogleUserService {
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final MeterRegistry meterRegistry;
+    private final Executor socialLoginExecutor;
+    private final SocialProviderGuard socialProviderGuard;
 
-    @Value("${spring.security.oauth2.client.android}")
-    private String CLIENT_ANDROID;
-
-    @Value("${spring.security.oauth2.client.apple}")
-    private String CLIENT_APPLE;
-
-    public AuthResponseDto googleLogin(AuthRequestDto request) {
+    public CompletableFuture<AuthResponseDto> googleLogin(AuthRequestDto request) {
         String idToken = request.getAccessToken();
 
-        // 1. idToken 검증
-        SocialUserInfoDto verifiedIdToken = verifyIdToken(idToken);
-
-        // 2. user 정보로 DB 탐색 및 등록
-        User googleUser = registerGoogleUserIfNeed(verifiedIdToken);
-
-        // 3. userToken 생성
-        return AuthResponseDto.builder()
-                .token(createUserToken(googleUser))
-                .build();
+        // 1. idToken 검증 (인증서 갱신 시 Google 호출이 있으므로 격리)
+        return socialProviderGuard.call(GOOGLE,
+                        () -> CompletableFuture.supplyAsync(() -> verifyIdToken(idToken), socialLoginExecutor))
+                .thenApplyAsync(verifiedIdToken -> {
+                    // 2. user 정보로 DB 탐색 및 등록
+                    UserDto googleUser = registerGoogleUserIfNeed(verifiedIdToken);
+
+                    // 3. userToken 생성
+                    return AuthResponseDto.builder()
+                            .token(createUserToken(googleUser))
+                            .build();
+                }, socialLoginExecutor);
     }
 
     /**
      * == 프론트에서 준 idToken의 유효성 검사
+     * 토큰 자체의 문제만 InvalidateTokenException으로 바꾸고,
+     * 인증서를 받아오지 못한 경우는 서킷 브레이커가 Provider 장애로 기록하도록 그대로 실패시킨다.
      *
      * @param idToken
      * @return SocialUserInfoDto
-     * @exception InvalidateTokenException
+     * @exception InvalidateTokenException, SocialProviderUnavailableException
      */
     private SocialUserInfoDto verifyIdToken(String idToken){
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
-                .setAudience(Arrays.asList(CLIENT_ANDROID, CLIENT_APPLE))
-                .build();
+        meterRegistry.counter(GoogleIdTokenVerifierConfig.VERIFY_COUNTER).increment();
 
+        if (idToken == null) {
+            throw new InvalidateTokenException();
+        }
+
+        GoogleIdToken parsedIdToken;
         try {
-            GoogleIdToken verifiedIdToken = verifier.verify(idToken);
+            parsedIdToken = GoogleIdToken.parse(googleIdTokenVerifier.getJsonFactory(), idToken);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidateTokenException();
+        }
 
-            return convertResponseToSocialUserInfoDto(verifiedIdToken);
-        }catch (Exception e){
+        boolean verified;
+        try {
+            verified = googleIdTokenVerifier.verify(parsedIdToken);
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Google 인증서 조회 실패 : {}", e.getMessage());
+            throw new SocialProviderUnavailableException();
+        }
+
+        if (!verified) {
             throw new InvalidateTokenException();
         }
 
+        return convertResponseToSocialUserInfoDto(parsedIdToken);
     }
 
     /**
@@ -99,36 +119,22 @@ public class GoogleUserService {
      * == Google에서 받은 정보로 DB에서 유저 탐색 ==
      *
      * @param googleUserInfoDto
-     * @return DB에 등록된 user
-     * @throws , BaseException(NOT_FOUND_USER)
+     * @return DB에 등록된 user의 id, 상태
      */
-    private User registerGoogleUserIfNeed(SocialUserInfoDto googleUserInfoDto) {
-        User user = userRepository.findByEmail(googleUserInfoDto.getEmail()).orElse(null);
-
-        if(user == null) {
-            userRepository.save(User.builder()
-                    .email(googleUserInfoDto.getEmail())
-                    .snsType(GOOGLE)
-                    .profileImgUrl(googleUserInfoDto.getProfileImgUrl())
-                    .ageRange(googleUserInfoDto.getAgeRange())
-                    .gender(googleUserInfoDto.getGender())
-                    .build());
-
-            user = userRepository.findByEmail(googleUserInfoDto.getEmail())
-                                            .orElseThrow(NotFoundUserException::new);
-        }
-        return user;
+    private UserDto registerGoogleUserIfNeed(SocialUserInfoDto googleUserInfoDto) {
+        // (email, sns_type) unique 키로 한 번에 등록 또는 조회
+        return userRepository.upsertSocialUser(googleUserInfoDto, GOOGLE);
     }
 
     /**
      * == user 정보를 기반으로 user Access Token 생성 ==
      *
-     * @param user
+     * @param user 등록 또는 조회된 user의 id, 상태
      * @return user Access Token
      */
-    private String createUserToken(User user) {
+    private String createUserToken(UserDto user) {
 
-        return jwtProvider.createAccessToken(UserDto.builder().id(user.getId()).build());
+        return jwtProvider.createAccessToken(user);
     }
 
 }
@@ -3,24 +3,25 @@ package com.sluv.server.domain.auth.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sluv.server.domain.auth.client.SocialHttpClient;
+import com.sluv.server.domain.auth.client.SocialProviderGuard;
 import com.sluv.server.domain.auth.dto.AuthRequestDto;
 import com.sluv.server.domain.auth.dto.AuthResponseDto;
 import com.sluv.server.domain.auth.dto.SocialUserInfoDto;
+import com.sluv.server.domain.auth.exception.SocialProviderUnavailableException;
 import com.sluv.server.domain.user.dto.UserDto;
-import com.sluv.server.domain.user.entity.User;
-import com.sluv.server.domain.user.exception.NotFoundUserException;
 import com.sluv.server.domain.user.repository.UserRepository;
 
 import com.sluv.server.global.jwt.JwtProvider;
 import com.sluv.server.global.jwt.exception.InvalidateTokenException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static com.sluv.server.domain.auth.enums.SnsType.KAKAO;
 
@@ -28,21 +29,30 @@ import static com.sluv.server.domain.auth.enums.SnsType.KAKAO;
 @Service
 @RequiredArgsConstructor
 public class KakaoUserService {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final SocialHttpClient socialHttpClient;
+    private final SocialProviderGuard socialProviderGuard;
+    private final Executor socialLoginExecutor;
+
+    @Value("${kakao.userInfoUrl:https://kapi.kakao.com/v2/user/me}")
+    private String kakaoUserInfoUrl;
 
-    public AuthResponseDto kakaoLogin(AuthRequestDto request) throws JsonProcessingException {
+    public CompletableFuture<AuthResponseDto> kakaoLogin(AuthRequestDto request) {
         String accessToken = request.getAccessToken();
         // 1. accessToken으로 user 정보 요청
-        SocialUserInfoDto userInfo = getKakaoUserInfo(accessToken);
-
-        // 2. user 정보로 DB 탐색 및 등록
-        User kakaoUser = registerKakaoUserIfNeed(userInfo);
-
-        // 3. userToken 생성
-        return AuthResponseDto.builder()
-                .token(createUserToken(kakaoUser))
-                .build();
+        return getKakaoUserInfo(accessToken)
+                .thenApplyAsync(userInfo -> {
+                    // 2. user 정보로 DB 탐색 및 등록
+                    UserDto kakaoUser = registerKakaoUserIfNeed(userInfo);
+
+                    // 3. userToken 생성
+                    return AuthResponseDto.builder()
+                            .token(createUserToken(kakaoUser))
+                            .build();
+                }, socialLoginExecutor);
     }
 
     /**
@@ -50,44 +60,42 @@ public class KakaoUserService {
      *
      * @param accessToken
      * @return 유저 정보
-     * @throws JsonProcessingException, , BaseException(JWT_AUTHENTICATION_FAILED)
+     * @throws InvalidateTokenException, SocialProviderUnavailableException
      */
-    private SocialUserInfoDto getKakaoUserInfo(String accessToken) throws JsonProcessingException {
-        HttpHeaders headers = new HttpHeaders();
-
-        headers.add("Authorization", "Bearer " + accessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+    private CompletableFuture<SocialUserInfoDto> getKakaoUserInfo(String accessToken) {
+        Map<String, String> headers = Map.of(
+                "Authorization", "Bearer " + accessToken,
+                "Content-type", "application/x-www-form-urlencoded;charset=utf-8"
+        );
 
         // HTTP 요청 보내기
-        HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-        try {
-            RestTemplate rt = new RestTemplate();
-            ResponseEntity<String> response = rt.exchange(
-                    "https://kapi.kakao.com/v2/user/me",
-                    HttpMethod.POST,
-                    kakaoUserInfoRequest,
-                    String.class
-            );
-
-            return convertResponseToSocialUserInfoDto(response);
-        }catch (Exception e){
-            throw new InvalidateTokenException();
-        }
+        return socialProviderGuard.call(KAKAO, () -> socialHttpClient.postAsync(kakaoUserInfoUrl, headers))
+                .handle((responseBody, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                        if (cause instanceof SocialProviderUnavailableException unavailableException) {
+                            throw unavailableException;
+                        }
+                        throw new InvalidateTokenException();
+                    }
+                    try {
+                        return convertResponseToSocialUserInfoDto(responseBody);
+                    } catch (Exception exception) {
+                        throw new InvalidateTokenException();
+                    }
+                });
     }
 
     /**
      * == KAKAO API가 준 Response로 SocialUserInfoDto 생성
      *
-     * @param response
+     * @param responseBody
      * @return SocialUserInfoDto
      * @throws JsonProcessingException
      */
-    private static SocialUserInfoDto convertResponseToSocialUserInfoDto(ResponseEntity<String> response) throws JsonProcessingException {
+    private static SocialUserInfoDto convertResponseToSocialUserInfoDto(String responseBody) throws JsonProcessingException {
         // responseBody에 있는 정보를 꺼냄
-        String responseBody = response.getBody();
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
+        JsonNode jsonNode = OBJECT_MAPPER.readTree(responseBody);
 
         String email = jsonNode.get("kakao_account").get("email").asText();
         String profileImgUrl = jsonNode.get("properties")
@@ -119,36 +127,22 @@ public class KakaoUserService {
      * == KAKAO에서 받은 정보로 DB에서 유저 탐색 ==
      *
      * @param UserInfo
-     * @return DB에 등록된 user
-     * @throws , BaseException(NOT_FOUND_USER)
+     * @return DB에 등록된 user의 id, 상태
      */
-    private User registerKakaoUserIfNeed(SocialUserInfoDto UserInfo) {
-        User user = userRepository.findByEmail(UserInfo.getEmail()).orElse(null);
-
-        if(user == null) {
-            userRepository.save(User.builder()
-                    .email(UserInfo.getEmail())
-                    .snsType(KAKAO)
-                    .profileImgUrl(UserInfo.getProfileImgUrl())
-                    .ageRange(UserInfo.getAgeRange())
-                    .gender(UserInfo.getGender())
-                    .build());
-
-            user = userRepository.findByEmail(UserInfo.getEmail())
-                                            .orElseThrow(NotFoundUserException::new);
-        }
-        return user;
+    private UserDto registerKakaoUserIfNeed(SocialUserInfoDto UserInfo) {
+        // (email, sns_type) unique 키로 한 번에 등록 또는 조회
+        return userRepository.upsertSocialUser(UserInfo, KAKAO);
     }
 
     /**
      * == user 정보를 기반으로 user Access Token 생성 ==
      *
-     * @param user
+     * @param user 등록 또는 조회된 user의 id, 상태
      * @return user Access Token
      */
-    private String createUserToken(User user) {
+    private String createUserToken(UserDto user) {
 
-        return jwtProvider.createAccessToken(UserDto.builder().id(user.getId()).build());
+        return jwtProvider.createAccessToken(user);
     }
 
 }
@@ -0,0 +1,233 @@
+package com.sluv.server.domain.auth.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.sluv.server.domain.auth.entity.RevokedToken;
+import com.sluv.server.domain.auth.repository.RevokedTokenRepository;
+import com.sluv.server.global.jwt.JwtPrincipal;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 목록 앞단의 Bloom filter
+ * 폐기되지 않은 토큰은 filter에서 바로 걸러져 DB를 조회하지 않고,
+ * "있을 수도 있음"일 때만 DB로 확인한다.
+ * 유저 단위 폐기는 발급 시각과 비교해야 하므로 filter 대신 유저별 폐기 시각을 메모리에 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+    private static final String TOKEN_KEY_PREFIX = "jti:";
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    // 인스턴스 간 시계 차이, 커밋 지연을 덮기 위해 이만큼 겹쳐서 가져온다
+    @Value("${jwt.revocation.sync-overlap-seconds:60}")
+    private long syncOverlapSeconds;
+
+    // JwtProvider와 같이 millisecond로 사용
+    @Value("${jwt.expiration-seconds}")
+    private long tokenValidMillisecond;
+
+    @Value("${jwt.revocation.prune-batch-size:1000}")
+    private int pruneBatchSize;
+
+    // 토큰 단위 폐기 key("jti:{토큰 id}")
+    private volatile BloomFilter<CharSequence> bloomFilter;
+    // user id(subject) -> 가장 최근 유저 단위 폐기 시각
+    private volatile Map<String, LocalDateTime> userRevokedAtMap = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSyncedAt = EPOCH;
+
+    @PostConstruct
+    protected void init() {
+        rebuild();
+    }
+
+    /**
+     * == 토큰 폐기 여부 확인 ==
+     *
+     * @param claims 검증된 Claims
+     * @return 폐기된 토큰이라면 true
+     */
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenId != null) {
+            String tokenKey = TOKEN_KEY_PREFIX + tokenId;
+            if (bloomFilter.mightContain(tokenKey) && revokedTokenRepository.existsByRevokeKey(tokenKey)) {
+                return true;
+            }
+        }
+
+        LocalDateTime userRevokedAt = userRevokedAtMap.get(claims.getSubject());
+        if (userRevokedAt == null) {
+            return false;
+        }
+
+        Date issuedAt = claims.getIssuedAt();
+        // 발급 시각을 알 수 없으면 유저 단위 폐기 대상으로 본다
+        return issuedAt == null || isIssuedBeforeRevocation(issuedAt.toInstant(), userRevokedAt);
+    }
+
+    /**
+     * == 유저 단위 폐기 시각 이전에 발급된 토큰인지 ==
+     * iat는 초 단위이므로 폐기와 같은 초에 발급된 토큰은 폐기 전후를 구분할 수 없어 폐기된 것으로 본다.
+     * 그 토큰의 유저는 다시 로그인해야 한다.
+     *
+     * @param issuedAt 토큰의 iat
+     * @param revokedAt 유저 단위 폐기 시각
+     * @return iat(초)가 폐기 시각의 초 이하라면 true
+     */
+    static boolean isIssuedBeforeRevocation(Instant issuedAt, LocalDateTime revokedAt) {
+        long revokedSecond = revokedAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+
+        return issuedAt.getEpochSecond() <= revokedSecond;
+    }
+
+    /**
+     * == 로그아웃, 현재 토큰 폐기 ==
+     * jti가 없는 이전 토큰이라면 유저의 모든 토큰을 폐기한다.
+     *
+     * @param principal
+     */
+    public void revoke(JwtPrincipal principal) {
+        if (principal.getTokenId() == null) {
+            revokeUser(principal.getUserId());
+            return;
+        }
+
+        save(TOKEN_KEY_PREFIX + principal.getTokenId());
+    }
+
+    /**
+     * == 지금까지 발급된 유저의 모든 토큰 폐기 ==
+     *
+     * @param userId
+     */
+    public void revokeUser(Long userId) {
+        save(USER_KEY_PREFIX + userId);
+    }
+
+    /**
+     * == 다른 인스턴스에서 폐기된 토큰을 주기적으로 반영 ==
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-millis:30000}",
+               initialDelayString = "${jwt.revocation.sync-millis:30000}")
+    public void syncQuietly() {
+        try {
+            if (bloomFilter.approximateElementCount() > expectedInsertions) {
+                // 오탐률 유지를 위해 더 큰 filter로 다시 만든다
+                rebuild();
+                return;
+            }
+
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<RevokedToken> revokedTokens = revokedTokenRepository.findRevokedSince(
+                    lastSyncedAt.minusSeconds(syncOverlapSeconds)
+            );
+
+            BloomFilter<CharSequence> filter = bloomFilter;
+            Map<String, LocalDateTime> revokedAtMap = userRevokedAtMap;
+            revokedTokens.forEach(revokedToken -> put(filter, revokedAtMap, revokedToken));
+            lastSyncedAt = syncStartedAt;
+        } catch (RuntimeException e) {
+            // 다음 주기에 lastSyncedAt부터 다시 가져온다
+            log.warn("토큰 폐기 목록 동기화 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * == 더 이상 유효한 토큰이 남아있지 않은 폐기 기록 삭제 ==
+     * 폐기 시점 이전에 발급된 토큰은 폐기 시점 + 토큰 유효 기간 안에 모두 만료된다.
+     * 삭제된 key는 filter에 남아있어도 DB 조회 한 번으로 걸러지고, 다음 rebuild에서 빠진다.
+     * 유저별 폐기 시각도 같은 기준으로 지운다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-millis:3600000}",
+               initialDelayString = "${jwt.revocation.prune-millis:3600000}")
+    public void pruneQuietly() {
+        LocalDateTime before = LocalDateTime.now().minus(tokenValidMillisecond, ChronoUnit.MILLIS);
+
+        try {
+            long prunedCount = 0;
+            int deletedCount;
+            do {
+                deletedCount = revokedTokenRepository.deleteRevokedBefore(before, pruneBatchSize);
+                prunedCount += deletedCount;
+            } while (deletedCount == pruneBatchSize);
+
+            if (prunedCount > 0) {
+                log.info("만료된 토큰 폐기 기록 삭제 : {}건", prunedCount);
+            }
+            userRevokedAtMap.values().removeIf(revokedAt -> revokedAt.isBefore(before));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 삭제
+            log.warn("토큰 폐기 기록 삭제 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * == DB의 폐기 목록 전체로 filter 재생성 ==
+     */
+    private synchronized void rebuild() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findRevokedSince(EPOCH);
+
+        BloomFilter<CharSequence> filter = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(expectedInsertions, revokedTokens.size() * 2L),
+                falsePositiveRate
+        );
+        Map<String, LocalDateTime> revokedAtMap = new ConcurrentHashMap<>();
+        revokedTokens.forEach(revokedToken -> put(filter, revokedAtMap, revokedToken));
+
+        expectedInsertions = Math.max(expectedInsertions, revokedTokens.size() * 2L);
+        bloomFilter = filter;
+        userRevokedAtMap = revokedAtMap;
+        lastSyncedAt = syncStartedAt;
+        log.info("토큰 폐기 목록 로드 : {}건", revokedTokens.size());
+    }
+
+    private void save(String revokeKey) {
+        RevokedToken revokedToken = revokedTokenRepository.save(RevokedToken.builder()
+                .revokeKey(revokeKey)
+                .revokedAt(LocalDateTime.now())
+                .build());
+
+        put(bloomFilter, userRevokedAtMap, revokedToken);
+    }
+
+    private static void put(BloomFilter<CharSequence> filter, Map<String, LocalDateTime> revokedAtMap,
+                            RevokedToken revokedToken) {
+        String revokeKey = revokedToken.getRevokeKey();
+        if (revokeKey.startsWith(USER_KEY_PREFIX)) {
+            revokedAtMap.merge(revokeKey.substring(USER_KEY_PREFIX.length()), revokedToken.getRevokedAt(),
+                    (current, added) -> current.isAfter(added) ? current : added);
+            return;
+        }
+
+        filter.put(revokeKey);
+    }
+}
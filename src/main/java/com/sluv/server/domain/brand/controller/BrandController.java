@@ -3,8 +3,10 @@ package com.sluv.server.domain.brand.controller;
 import com.sluv.server.domain.brand.dto.BrandSearchResDto;
 import com.sluv.server.domain.brand.service.BrandService;
 import com.sluv.server.domain.brand.service.RecentSelectBrandService;
+import com.sluv.server.global.common.cursor.CursorPageResDto;
 import com.sluv.server.global.common.response.ErrorResponse;
 import com.sluv.server.global.common.response.SuccessDataResponse;
+import com.sluv.server.global.ranking.RankingWindow;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -24,6 +26,8 @@ public class BrandController {
     private final BrandService brandService;
     private final RecentSelectBrandService recentSelectBrandService;
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
 
     @Operation(
             summary = "브랜드 검색",
@@ -46,9 +50,33 @@ public class BrandController {
                 );
 
     }
+    @Operation(
+            summary = "브랜드 검색 (cursor)",
+            description = "브랜드 검색(Cursor Pagination), 이전 응답의 nextCursor로 다음 페이지 요청"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "1000", description = "요청성공"),
+            @ApiResponse(responseCode = "3001", description = "잘못된 cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "5000", description = "서버내부 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "5001", description = "DB 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search/cursor")
+    public ResponseEntity<SuccessDataResponse<CursorPageResDto<BrandSearchResDto>>> getBrandSearchByCursor(@RequestParam String brandName,
+                                                                                                           @RequestParam(required = false) String cursor,
+                                                                                                           @RequestParam(defaultValue = "20") int size){
+
+        return ResponseEntity.ok()
+                .body(
+                        SuccessDataResponse.<CursorPageResDto<BrandSearchResDto>>builder()
+                                .result(brandService.findAllBrandByCursor(brandName, cursor, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE)))
+                                .build()
+                );
+    }
+
     @Operation(
             summary = "인기 브랜드 검색",
-            description = "인기 브랜드 검색(상위 10개)"
+            description = "인기 브랜드 검색(상위 10개)" +
+                    "\n window : hour, day, week (기본 day)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "1000", description = "요청성공"),
@@ -56,13 +84,13 @@ public class BrandController {
             @ApiResponse(responseCode = "5001", description = "DB 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/top")
-    public ResponseEntity<SuccessDataResponse<List<BrandSearchResDto>>> getTopBrand(){
+    public ResponseEntity<SuccessDataResponse<List<BrandSearchResDto>>> getTopBrand(@RequestParam(required = false) String window){
 
 
         return ResponseEntity.ok()
                 .body(
                         SuccessDataResponse.<List<BrandSearchResDto>>builder()
-                                .result(brandService.findTopBrand())
+                                .result(brandService.findTopBrand(RankingWindow.fromString(window, null)))
                                 .build()
                 );
 
@@ -0,0 +1,7 @@
+package com.sluv.server.domain.brand.dto;
+
+/**
+ * 최근 선택 Brand write-behind의 합칠 기준, recent_select_brand unique 키와 같다
+ */
+public record RecentSelectBrandKey(Long userId, Long brandId, Long newBrandId) {
+}
@@ -4,12 +4,14 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.sluv.server.domain.item.entity.Item;
 import com.sluv.server.domain.item.entity.TempItem;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,10 +19,12 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(BrandSearchIndexListener.class)
 @Table(name = "brand")
 public class Brand extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "brand_id")
     private Long id;
 
@@ -0,0 +1,32 @@
+package com.sluv.server.domain.brand.entity;
+
+import com.sluv.server.domain.brand.service.BrandSearchIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brand가 추가, 수정, 삭제되면 커밋 후 BrandSearchIndex에 반영
+ */
+@Component
+public class BrandSearchIndexListener {
+    private final BrandSearchIndex brandSearchIndex;
+
+    // EntityManagerFactory 생성 중 순환 참조를 피하기 위해 Lazy 주입
+    public BrandSearchIndexListener(@Lazy BrandSearchIndex brandSearchIndex) {
+        this.brandSearchIndex = brandSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void upsert(Brand brand) {
+        brandSearchIndex.upsertAfterCommit(brand);
+    }
+
+    @PostRemove
+    public void remove(Brand brand) {
+        brandSearchIndex.removeAfterCommit(brand.getId());
+    }
+}
@@ -4,12 +4,14 @@ import com.sluv.server.domain.brand.enums.NewBrandStatus;
 import com.sluv.server.domain.item.entity.Item;
 import com.sluv.server.domain.item.enums.ItemStatus;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +22,8 @@ import java.util.List;
 @Table(name = "new_brand")
 public class NewBrand extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "new_brand_id")
     private Long id;
 
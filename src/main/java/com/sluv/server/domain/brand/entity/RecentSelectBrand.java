@@ -2,19 +2,26 @@ package com.sluv.server.domain.brand.entity;
 
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "recent_select_brand")
+// (user_id, brand_key, new_brand_key) unique 키는 생성 컬럼으로 V5 migration에 있음
+@Table(name = "recent_select_brand", indexes = {
+        @Index(name = "idx_recent_select_brand_user_updated_at", columnList = "user_id, updated_at"),
+        @Index(name = "idx_recent_select_brand_updated_at", columnList = "updated_at, brand_id")
+})
 public class RecentSelectBrand extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "recent_select_brand_id")
     private Long id;
 
@@ -1,7 +1,9 @@
 package com.sluv.server.domain.brand.repository.impl;
 
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
 import com.sluv.server.domain.brand.entity.Brand;
 import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.global.common.cursor.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,6 +11,6 @@ import java.util.List;
 
 public interface BrandRepositoryCustom {
     Page<Brand> findByAllBrandKrOrBrandEnStartingWith(String brandName, Pageable pageable);
-    List<Brand> findTop10By();
+    List<BrandSearchResDto> findByAllBrandKrOrBrandEnStartingWithAfter(String brandName, Cursor cursor, int limit);
     Page<Brand> findRecentByUserId(User user, Pageable pageable);
 }
@@ -1,13 +1,18 @@
 package com.sluv.server.domain.brand.repository.impl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
 import com.sluv.server.domain.brand.entity.Brand;
 import com.sluv.server.domain.brand.entity.QRecentSelectBrand;
 import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.global.common.search.SearchPrefix;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 import java.util.List;
 
@@ -16,7 +21,45 @@ import static com.sluv.server.domain.brand.entity.QRecentSelectBrand.recentSelec
 
 @RequiredArgsConstructor
 public class BrandRepositoryImpl implements BrandRepositoryCustom{
+    // 한글, 영문 prefix를 OR로 묶으면 (brand_kr_key, brand_id) 인덱스를 range scan 할 수 없으므로 키마다 따로 읽어 합친다.
+    // 한글 쪽은 인덱스 순서대로 limit건만 읽고, 영문 쪽은 영문 prefix가 일치하는 row만 정렬한다.
+    // prefix는 LIKE 대신 [prefix, prefix의 다음 문자열) 범위로 비교하여 보조 문자도 DB와 관계없이 같게 비교한다.
+    // cursor 조건의 첫 항(brand_kr_key >= ?)은 range의 시작점
+    private static final String SELECT_BRAND_STARTING_WITH_AFTER = """
+            SELECT brand_id, brand_kr, brand_en, brand_img_url, brand_kr_key
+            FROM ((SELECT brand_id, brand_kr, brand_en, brand_img_url, brand_kr_key
+                   FROM brand
+                   WHERE brand_kr_key >= ? AND brand_kr_key < ?
+                     AND brand_kr_key >= ? AND (brand_kr_key > ? OR brand_id > ?)
+                   ORDER BY brand_kr_key, brand_id
+                   LIMIT ?)
+                  UNION
+                  (SELECT brand_id, brand_kr, brand_en, brand_img_url, brand_kr_key
+                   FROM brand
+                   WHERE brand_en_key >= ? AND brand_en_key < ?
+                     AND brand_kr_key >= ? AND (brand_kr_key > ? OR brand_id > ?)
+                   ORDER BY brand_kr_key, brand_id
+                   LIMIT ?)) matched
+            ORDER BY brand_kr_key, brand_id
+            LIMIT ?
+            """;
+    // 검색어가 없다면 전체 브랜드
+    private static final String SELECT_BRAND_AFTER = """
+            SELECT brand_id, brand_kr, brand_en, brand_img_url
+            FROM brand
+            WHERE brand_kr_key >= ? AND (brand_kr_key > ? OR brand_id > ?)
+            ORDER BY brand_kr_key, brand_id
+            LIMIT ?
+            """;
+    private static final RowMapper<BrandSearchResDto> BRAND_SEARCH_RES_DTO_MAPPER = (rs, rowNum) -> BrandSearchResDto.builder()
+            .id(rs.getLong("brand_id"))
+            .brandKr(rs.getString("brand_kr"))
+            .brandEn(rs.getString("brand_en"))
+            .brandImgUrl(rs.getString("brand_img_url"))
+            .build();
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Page<Brand> findByAllBrandKrOrBrandEnStartingWith(String brandName, Pageable pageable){
@@ -33,15 +76,31 @@ public class BrandRepositoryImpl implements BrandRepositoryCustom{
 
     }
 
+    /**
+     * == prefix로 시작하는 브랜드를 cursor 이후부터 (brand_kr_key, brand_id) 순으로 조회 ==
+     * 대소문자를 구분하지 않고 code point 순서로 비교하여 BrandSearchIndex와 결과, 순서가 같다.
+     */
     @Override
-    public List<Brand> findTop10By() {
+    public List<BrandSearchResDto> findByAllBrandKrOrBrandEnStartingWithAfter(String brandName, Cursor cursor, int limit) {
+        String prefix = SearchPrefix.normalize(brandName);
+        // 첫 페이지는 모든 키보다 앞선 위치
+        String sortKey = cursor != null ? cursor.getSortKey() : "";
+        long id = cursor != null ? cursor.getId() : Long.MIN_VALUE;
 
-        return jpaQueryFactory.select(recentSelectBrand.brand)
-                .from(recentSelectBrand)
-                .groupBy(recentSelectBrand.brand)
-                .orderBy(recentSelectBrand.brand.count().desc())
-                .limit(10)
-                .fetch();
+        if (prefix.isEmpty()) {
+            return jdbcTemplate.query(SELECT_BRAND_AFTER, BRAND_SEARCH_RES_DTO_MAPPER, sortKey, sortKey, id, limit);
+        }
+
+        String prefixEnd = SearchPrefix.nextPrefix(prefix);
+        if (prefixEnd == null) {
+            // 가장 큰 code point(noncharacter)로만 된 검색어, 일치하는 이름이 없다고 본다
+            return List.of();
+        }
+
+        return jdbcTemplate.query(SELECT_BRAND_STARTING_WITH_AFTER, BRAND_SEARCH_RES_DTO_MAPPER,
+                prefix, prefixEnd, sortKey, sortKey, id, limit,
+                prefix, prefixEnd, sortKey, sortKey, id, limit,
+                limit);
     }
 
     @Override
@@ -51,8 +110,7 @@ public class BrandRepositoryImpl implements BrandRepositoryCustom{
                 .innerJoin(recentSelectBrand)
                 .on(brand.eq(recentSelectBrand.brand))
                 .where(recentSelectBrand.user.eq(user))
-                .groupBy(brand)
-                .orderBy(recentSelectBrand.createdAt.max().desc())
+                .orderBy(recentSelectBrand.updatedAt.desc(), recentSelectBrand.id.desc())
                 .limit(10)
                 .fetch();
 
@@ -1,10 +1,15 @@
 package com.sluv.server.domain.brand.repository.impl;
 
+import com.sluv.server.domain.brand.dto.RecentSelectBrandKey;
 import com.sluv.server.domain.brand.entity.RecentSelectBrand;
 import com.sluv.server.domain.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface RecentSelectBrandRepositoryCustom {
-    List<RecentSelectBrand> getRecentSelectBrandTop20(User user);
+    List<RecentSelectBrand> getRecentSelectBrandTop(User user, int size);
+
+    void upsertRecentSelectBrands(Map<RecentSelectBrandKey, LocalDateTime> selections, int maxSize);
 }
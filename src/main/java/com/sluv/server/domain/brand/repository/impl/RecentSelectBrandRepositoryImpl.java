@@ -1,25 +1,89 @@
 package com.sluv.server.domain.brand.repository.impl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sluv.server.domain.brand.dto.RecentSelectBrandKey;
 import com.sluv.server.domain.brand.entity.RecentSelectBrand;
 import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.global.id.SluvIdService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.sluv.server.domain.brand.entity.QRecentSelectBrand.recentSelectBrand;
 
 @RequiredArgsConstructor
 public class RecentSelectBrandRepositoryImpl implements RecentSelectBrandRepositoryCustom {
+    // (user_id, brand_key, new_brand_key) unique 키, 다시 고른 브랜드라면 updated_at만 갱신
+    // IGNORE: 그 사이 삭제된 대상(FK 위반)은 건너뛰어 batch 전체가 실패하지 않도록 한다
+    private static final String UPSERT_RECENT_SELECT_BRAND = """
+            INSERT IGNORE INTO recent_select_brand (recent_select_brand_id, user_id, brand_id, new_brand_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE updated_at = GREATEST(updated_at, VALUES(updated_at))
+            """;
+    // 최근 maxSize건 이후의 기록 삭제, 같은 테이블을 참조하므로 derived table로 감싼다
+    private static final String TRIM_RECENT_SELECT_BRAND = """
+            DELETE r FROM recent_select_brand r
+            JOIN (SELECT recent_select_brand_id FROM recent_select_brand
+                  WHERE user_id = ?
+                  ORDER BY updated_at DESC, recent_select_brand_id DESC
+                  LIMIT ?, 18446744073709551615) old
+            ON r.recent_select_brand_id = old.recent_select_brand_id
+            """;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
 
+    /**
+     * == 유저의 최근 선택 브랜드, (user_id, updated_at) 인덱스 range scan ==
+     *
+     * @param user
+     * @param size
+     * @return 최근 선택순 목록
+     */
     @Override
-    public List<RecentSelectBrand> getRecentSelectBrandTop20(User user) {
+    public List<RecentSelectBrand> getRecentSelectBrandTop(User user, int size) {
         return jpaQueryFactory.selectFrom(recentSelectBrand)
                 .where(recentSelectBrand.user.eq(user))
-                .groupBy(recentSelectBrand.brand, recentSelectBrand.newBrand)
-                .limit(20)
-                .orderBy(recentSelectBrand.createdAt.max().desc())
+                .orderBy(recentSelectBrand.updatedAt.desc(), recentSelectBrand.id.desc())
+                .limit(size)
                 .fetch();
     }
+
+    /**
+     * == 최근 선택 브랜드 등록 또는 선택 시각 갱신을 batch로 쓰고 유저마다 maxSize건으로 유지 ==
+     *
+     * @param selections key -> 선택 시각
+     * @param maxSize
+     */
+    @Override
+    public void upsertRecentSelectBrands(Map<RecentSelectBrandKey, LocalDateTime> selections, int maxSize) {
+        List<RecentSelectBrandKey> keys = List.copyOf(selections.keySet());
+        List<Object[]> upsertArgs = keys.stream()
+                .map(key -> {
+                    Timestamp selectedAt = Timestamp.valueOf(selections.get(key));
+                    return new Object[]{sluvIdService.nextId(), key.userId(), key.brandId(), key.newBrandId(), selectedAt, selectedAt};
+                })
+                .toList();
+
+        int[] affectedRows = jdbcTemplate.batchUpdate(UPSERT_RECENT_SELECT_BRAND, upsertArgs);
+
+        // 갱신이라면 2, 새로 추가되었거나 드라이버가 개수를 알려주지 않으면 trim 대상
+        Set<Long> trimUserIds = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (affectedRows[i] != 2) {
+                trimUserIds.add(keys.get(i).userId());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(TRIM_RECENT_SELECT_BRAND, trimUserIds.stream()
+                .map(userId -> new Object[]{userId, maxSize})
+                .toList());
+    }
 }
@@ -0,0 +1,313 @@
+package com.sluv.server.domain.brand.service;
+
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
+import com.sluv.server.global.common.search.SearchPrefix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 브랜드 한글, 영문 이름의 불변 prefix trie
+ * 각 node는 이름이 그 prefix로 시작하는 브랜드를 trie의 정렬 순서로 들고 있어
+ * 조회는 prefix 길이 + page 크기만큼만 걸린다.
+ * 브랜드 추가, 삭제는 그 브랜드 이름 경로의 node만 복사한 새 trie를 만든다.
+ */
+final class BrandPrefixTrie {
+    private static final BrandSearchResDto[] EMPTY = new BrandSearchResDto[0];
+    private static final Node EMPTY_NODE = new Node(new char[0], new Node[0], EMPTY);
+
+    private final Node root;
+    private final Comparator<BrandSearchResDto> order;
+
+    private BrandPrefixTrie(Node root, Comparator<BrandSearchResDto> order) {
+        this.root = root;
+        this.order = order;
+    }
+
+    /**
+     * @param brands 브랜드 목록
+     * @param order 각 node의 브랜드 정렬 순서, 같은 브랜드가 아니라면 0을 반환하지 않아야 한다
+     */
+    static BrandPrefixTrie build(Collection<BrandSearchResDto> brands, Comparator<BrandSearchResDto> order) {
+        List<BrandSearchResDto> sorted = new ArrayList<>(brands);
+        sorted.sort(order);
+
+        NodeBuilder root = new NodeBuilder();
+        for (BrandSearchResDto brand : sorted) {
+            // 빈 검색어는 전체 브랜드
+            root.add(brand);
+
+            for (String normalized : names(brand)) {
+                NodeBuilder node = root;
+                for (int i = 0; i < normalized.length(); i++) {
+                    node = node.children.computeIfAbsent(normalized.charAt(i), c -> new NodeBuilder());
+                    node.add(brand);
+                }
+            }
+        }
+
+        return new BrandPrefixTrie(root.build(), order);
+    }
+
+    static String normalize(String name) {
+        return SearchPrefix.normalize(name);
+    }
+
+    /**
+     * == 브랜드를 추가한 새 trie ==
+     *
+     * @param brand 이 trie에 없는 브랜드
+     */
+    BrandPrefixTrie with(BrandSearchResDto brand) {
+        return new BrandPrefixTrie(root.with(brand, names(brand), 0, order), order);
+    }
+
+    /**
+     * == 브랜드를 삭제한 새 trie ==
+     *
+     * @param brand 추가할 때와 같은 이름, 정렬 키를 가진 브랜드
+     */
+    BrandPrefixTrie without(BrandSearchResDto brand) {
+        Node removed = root.without(brand, names(brand), 0, order);
+
+        return new BrandPrefixTrie(removed != null ? removed : EMPTY_NODE, order);
+    }
+
+    int size() {
+        return root.brands.length;
+    }
+
+    /**
+     * == prefix로 시작하는 브랜드를 정렬 순서대로 조회 ==
+     *
+     * @param prefix 정규화된 prefix
+     * @return 정렬 순서의 브랜드, 없다면 빈 목록
+     */
+    List<BrandSearchResDto> search(String prefix, int offset, int limit) {
+        Node node = find(prefix);
+        if (node == null || offset >= node.brands.length) {
+            return List.of();
+        }
+
+        return slice(node.brands, offset, limit);
+    }
+
+    /**
+     * == prefix로 시작하고 정렬 순서가 after보다 뒤인 브랜드 조회 (keyset) ==
+     * offset과 달리 깊은 페이지도 이진 탐색 한 번이면 된다.
+     *
+     * @param prefix 정규화된 prefix
+     * @param after 마지막으로 받은 브랜드의 정렬 키, 첫 페이지라면 null
+     * @return 정렬 순서의 브랜드, 없다면 빈 목록
+     */
+    List<BrandSearchResDto> searchAfter(String prefix, BrandSearchResDto after, int limit) {
+        Node node = find(prefix);
+        if (node == null) {
+            return List.of();
+        }
+
+        int from = 0;
+        if (after != null) {
+            // after의 브랜드가 삭제되었더라도 그 다음 위치부터
+            from = Arrays.binarySearch(node.brands, after, order);
+            from = from >= 0 ? from + 1 : -from - 1;
+        }
+
+        return slice(node.brands, from, limit);
+    }
+
+    private static List<BrandSearchResDto> slice(BrandSearchResDto[] brands, int from, int limit) {
+        return Arrays.asList(Arrays.copyOfRange(brands, from, (int) Math.min((long) from + limit, brands.length)));
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+
+        return node;
+    }
+
+    private static String[] names(BrandSearchResDto brand) {
+        List<String> names = new ArrayList<>(2);
+        for (String name : new String[]{brand.getBrandKr(), brand.getBrandEn()}) {
+            if (name != null) {
+                names.add(normalize(name));
+            }
+        }
+
+        return names.toArray(new String[0]);
+    }
+
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final BrandSearchResDto[] brands;
+
+        private Node(char[] keys, Node[] children, BrandSearchResDto[] brands) {
+            this.keys = keys;
+            this.children = children;
+            this.brands = brands;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node with(BrandSearchResDto brand, String[] names, int depth, Comparator<BrandSearchResDto> order) {
+            int position = Arrays.binarySearch(brands, brand, order);
+            BrandSearchResDto[] newBrands;
+            if (position >= 0) {
+                newBrands = brands.clone();
+                newBrands[position] = brand;
+            } else {
+                position = -position - 1;
+                newBrands = new BrandSearchResDto[brands.length + 1];
+                System.arraycopy(brands, 0, newBrands, 0, position);
+                newBrands[position] = brand;
+                System.arraycopy(brands, position, newBrands, position + 1, brands.length - position);
+            }
+
+            char[] newKeys = keys;
+            Node[] newChildren = children;
+            for (char key : nextKeys(names, depth)) {
+                int index = Arrays.binarySearch(newKeys, key);
+                Node child = index >= 0 ? newChildren[index] : EMPTY_NODE;
+                Node newChild = child.with(brand, namesWith(names, depth, key), depth + 1, order);
+
+                if (index >= 0) {
+                    newChildren = newChildren == children ? children.clone() : newChildren;
+                    newChildren[index] = newChild;
+                } else {
+                    index = -index - 1;
+                    newKeys = insert(newKeys, index, key);
+                    newChildren = insert(newChildren, index, newChild);
+                }
+            }
+
+            return new Node(newKeys, newChildren, newBrands);
+        }
+
+        /**
+         * @return 브랜드를 뺀 node, 남은 브랜드가 없다면 null
+         */
+        private Node without(BrandSearchResDto brand, String[] names, int depth, Comparator<BrandSearchResDto> order) {
+            int position = Arrays.binarySearch(brands, brand, order);
+            if (position < 0) {
+                return this;
+            }
+            if (brands.length == 1) {
+                return null;
+            }
+
+            BrandSearchResDto[] newBrands = new BrandSearchResDto[brands.length - 1];
+            System.arraycopy(brands, 0, newBrands, 0, position);
+            System.arraycopy(brands, position + 1, newBrands, position, newBrands.length - position);
+
+            char[] newKeys = keys;
+            Node[] newChildren = children;
+            for (char key : nextKeys(names, depth)) {
+                int index = Arrays.binarySearch(newKeys, key);
+                if (index < 0) {
+                    continue;
+                }
+
+                Node newChild = newChildren[index].without(brand, namesWith(names, depth, key), depth + 1, order);
+                if (newChild != null) {
+                    newChildren = newChildren == children ? children.clone() : newChildren;
+                    newChildren[index] = newChild;
+                } else {
+                    newKeys = remove(newKeys, index);
+                    newChildren = remove(newChildren, index);
+                }
+            }
+
+            return new Node(newKeys, newChildren, newBrands);
+        }
+
+        // depth 위치의 서로 다른 글자, 한글, 영문 이름이 같은 prefix를 공유하면 한 번만 내려간다
+        private static char[] nextKeys(String[] names, int depth) {
+            StringBuilder keys = new StringBuilder(names.length);
+            for (String name : names) {
+                if (name.length() > depth && keys.indexOf(String.valueOf(name.charAt(depth))) < 0) {
+                    keys.append(name.charAt(depth));
+                }
+            }
+
+            return keys.toString().toCharArray();
+        }
+
+        private static String[] namesWith(String[] names, int depth, char key) {
+            return Arrays.stream(names)
+                    .filter(name -> name.length() > depth && name.charAt(depth) == key)
+                    .toArray(String[]::new);
+        }
+
+        private static char[] insert(char[] keys, int index, char key) {
+            char[] inserted = new char[keys.length + 1];
+            System.arraycopy(keys, 0, inserted, 0, index);
+            inserted[index] = key;
+            System.arraycopy(keys, index, inserted, index + 1, keys.length - index);
+
+            return inserted;
+        }
+
+        private static Node[] insert(Node[] nodes, int index, Node node) {
+            Node[] inserted = new Node[nodes.length + 1];
+            System.arraycopy(nodes, 0, inserted, 0, index);
+            inserted[index] = node;
+            System.arraycopy(nodes, index, inserted, index + 1, nodes.length - index);
+
+            return inserted;
+        }
+
+        private static char[] remove(char[] keys, int index) {
+            char[] removed = new char[keys.length - 1];
+            System.arraycopy(keys, 0, removed, 0, index);
+            System.arraycopy(keys, index + 1, removed, index, removed.length - index);
+
+            return removed;
+        }
+
+        private static Node[] remove(Node[] nodes, int index) {
+            Node[] removed = new Node[nodes.length - 1];
+            System.arraycopy(nodes, 0, removed, 0, index);
+            System.arraycopy(nodes, index + 1, removed, index, removed.length - index);
+
+            return removed;
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<BrandSearchResDto> brands = new ArrayList<>();
+
+        private void add(BrandSearchResDto brand) {
+            // 한글, 영문 이름이 같은 prefix를 공유하면 한 번만 담는다
+            if (brands.isEmpty() || brands.get(brands.size() - 1) != brand) {
+                brands.add(brand);
+            }
+        }
+
+        private Node build() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+
+            int i = 0;
+            for (var entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                i++;
+            }
+
+            return new Node(keys, nodes, brands.toArray(EMPTY));
+        }
+    }
+}
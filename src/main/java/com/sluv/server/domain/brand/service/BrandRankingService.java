@@ -0,0 +1,48 @@
+package com.sluv.server.domain.brand.service;
+
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
+import com.sluv.server.domain.brand.entity.Brand;
+import com.sluv.server.domain.brand.repository.BrandRepository;
+import com.sluv.server.global.ranking.PopularityRankingService;
+import com.sluv.server.global.ranking.RankingTarget;
+import com.sluv.server.global.ranking.SelectCountRepository;
+import com.sluv.server.global.ranking.SelectCountWriteBuffer;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 브랜드 선택 기록 기반 인기 브랜드 순위
+ */
+@Service
+public class BrandRankingService extends PopularityRankingService<BrandSearchResDto> {
+    private final BrandRepository brandRepository;
+
+    public BrandRankingService(BrandRepository brandRepository,
+                               SelectCountRepository selectCountRepository,
+                               SelectCountWriteBuffer selectCountWriteBuffer) {
+        super(RankingTarget.BRAND, selectCountRepository, selectCountWriteBuffer);
+        this.brandRepository = brandRepository;
+    }
+
+    @Override
+    protected List<BrandSearchResDto> loadInOrder(List<Long> ids) {
+        Map<Long, Brand> brandMap = brandRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Brand::getId, Function.identity()));
+
+        return ids.stream()
+                .map(brandMap::get)
+                .filter(Objects::nonNull)
+                .map(brand -> BrandSearchResDto.builder()
+                        .id(brand.getId())
+                        .brandKr(brand.getBrandKr())
+                        .brandEn(brand.getBrandEn())
+                        .brandImgUrl(brand.getBrandImgUrl())
+                        .build()
+                ).toList();
+    }
+}
@@ -0,0 +1,303 @@
+package com.sluv.server.domain.brand.service;
+
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
+import com.sluv.server.domain.brand.entity.Brand;
+import com.sluv.server.domain.brand.repository.BrandRepository;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.global.ranking.RankingWindow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 브랜드 자동완성용 in-memory 인덱스
+ * 시작 시 전체 브랜드를 읽어 BrandRankingService의 인기순 prefix trie를 만들고,
+ * 브랜드 변경은 BrandSearchIndexListener로 커밋 후 바뀐 브랜드만, 인기 순위는 주기적인 rerank로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandSearchIndex {
+    // utf8mb4_0900_bin과 같은 code point 순서, String.compareTo(UTF-16 단위)는 보조 문자에서 순서가 다르다
+    private static final Comparator<String> CODE_POINT_ORDER = BrandSearchIndex::compareCodePoints;
+
+    /**
+     * cursor 조회의 (sortKey, id) 정렬
+     * DB의 (brand_kr_key, brand_id) 인덱스 순서와 같아 인덱스와 DB 중 어느 쪽에서 받은 cursor로도 이어서 조회할 수 있다.
+     */
+    public static final Comparator<BrandSearchResDto> KEYSET_ORDER =
+            Comparator.comparing(BrandSearchIndex::sortKey, Comparator.nullsLast(CODE_POINT_ORDER))
+                    .thenComparing(BrandSearchResDto::getId);
+
+    private static final RankingWindow POPULARITY_WINDOW = RankingWindow.WEEK;
+
+    private final BrandRepository brandRepository;
+    private final BrandRankingService brandRankingService;
+
+    @Value("${brand.index.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Long, BrandSearchResDto> brands = new ConcurrentHashMap<>();
+
+    // 조회 중에는 교체되지 않는 trie (인기순, 이름순)
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    protected void init() {
+        if (enabled) {
+            reloadQuietly();
+        }
+    }
+
+    /**
+     * == prefix로 시작하는 브랜드를 인기순으로 조회 ==
+     *
+     * @param brandName 검색어
+     * @param offset
+     * @param limit
+     * @return 인기순 브랜드 목록, 인덱스가 준비되지 않았다면 null
+     */
+    public List<BrandSearchResDto> search(String brandName, long offset, int limit) {
+        Snapshot current = snapshot;
+        if (current == null || offset > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        return current.popularTrie.search(BrandPrefixTrie.normalize(brandName), (int) offset, limit);
+    }
+
+    /**
+     * == prefix로 시작하는 브랜드를 cursor 이후부터 (sortKey, id) 순으로 조회 ==
+     *
+     * @param brandName 검색어
+     * @param cursor 마지막으로 받은 브랜드의 (sortKey, id), 첫 페이지라면 null
+     * @param limit
+     * @return 이름순 브랜드 목록, 인덱스가 준비되지 않았다면 null
+     */
+    public List<BrandSearchResDto> searchAfter(String brandName, Cursor cursor, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+
+        BrandSearchResDto after = null;
+        if (cursor != null) {
+            after = BrandSearchResDto.builder()
+                    .id(cursor.getId())
+                    .brandKr(cursor.getSortKey())
+                    .build();
+        }
+
+        return current.namedTrie.searchAfter(BrandPrefixTrie.normalize(brandName), after, limit);
+    }
+
+    /**
+     * == 인덱스에 있는 브랜드인지 확인, DB를 조회하지 않음 ==
+     *
+     * @param brandId
+     * @return 인덱스에 있다면 true, 인덱스가 준비되지 않았거나 아직 반영되지 않은 브랜드라면 false
+     */
+    public boolean contains(Long brandId) {
+        return snapshot != null && brands.containsKey(brandId);
+    }
+
+    /**
+     * == 브랜드 추가, 수정을 커밋 후 반영 ==
+     * 트랜잭션 밖이라면 바로 반영한다.
+     *
+     * @param brand
+     */
+    public void upsertAfterCommit(Brand brand) {
+        applyAfterCommit(brand.getId(), toDto(brand));
+    }
+
+    /**
+     * == 브랜드 삭제를 커밋 후 반영 ==
+     * 트랜잭션 밖이라면 바로 반영한다.
+     *
+     * @param brandId
+     */
+    public void removeAfterCommit(Long brandId) {
+        applyAfterCommit(brandId, null);
+    }
+
+    private void applyAfterCommit(Long brandId, BrandSearchResDto brand) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(brandId, brand);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, BrandSearchResDto> pending = (Map<Long, BrandSearchResDto>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, BrandSearchResDto> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changes.forEach(BrandSearchIndex.this::apply);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BrandSearchIndex.this);
+                }
+            });
+            pending = changes;
+        }
+
+        // 한 트랜잭션에서 같은 브랜드가 여러 번 바뀌면 마지막 상태만 반영, 삭제는 null
+        pending.put(brandId, brand);
+    }
+
+    /**
+     * == 바뀐 브랜드 하나만 trie에 반영 ==
+     * 전체를 다시 만들지 않고 그 브랜드 이름 경로의 node만 교체한다.
+     *
+     * @param brandId
+     * @param brand 삭제라면 null
+     */
+    private synchronized void apply(Long brandId, BrandSearchResDto brand) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 로드 전에는 다음 reload에서 함께 읽는다
+            return;
+        }
+
+        BrandSearchResDto previous = brand != null ? brands.put(brandId, brand) : brands.remove(brandId);
+
+        BrandPrefixTrie popularTrie = current.popularTrie;
+        BrandPrefixTrie namedTrie = current.namedTrie;
+        if (previous != null) {
+            popularTrie = popularTrie.without(previous);
+            namedTrie = namedTrie.without(previous);
+        }
+        if (brand != null) {
+            // 새 브랜드의 점수만 읽고, 기존 브랜드의 순서는 다음 rerank까지 유지
+            current.scores.computeIfAbsent(brandId, id -> brandRankingService.getScore(POPULARITY_WINDOW, id));
+            popularTrie = popularTrie.with(brand);
+            namedTrie = namedTrie.with(brand);
+        }
+
+        snapshot = new Snapshot(popularTrie, namedTrie, current.scores);
+    }
+
+    /**
+     * == 바뀐 인기 순위로 trie 재생성 ==
+     */
+    @Scheduled(fixedDelayString = "${brand.index.rerank-millis:60000}",
+               initialDelayString = "${brand.index.rerank-millis:60000}")
+    public void rerank() {
+        if (snapshot != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * == 다른 인스턴스, DB에서 직접 바뀐 브랜드를 주기적으로 다시 읽음 ==
+     */
+    @Scheduled(fixedDelayString = "${brand.index.reload-millis:600000}",
+               initialDelayString = "${brand.index.reload-millis:600000}")
+    public void reloadQuietly() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 인덱스가 없으면 BrandService가 DB로 조회
+            log.warn("브랜드 검색 인덱스 로드 실패 : {}", e.getMessage());
+        }
+    }
+
+    private synchronized void reload() {
+        Map<Long, BrandSearchResDto> loadedBrands = new ConcurrentHashMap<>();
+        brandRepository.findAll().forEach(brand -> loadedBrands.put(brand.getId(), toDto(brand)));
+
+        brands.clear();
+        brands.putAll(loadedBrands);
+
+        rebuild();
+        log.info("브랜드 검색 인덱스 로드 : {}건", brands.size());
+    }
+
+    private synchronized void rebuild() {
+        List<BrandSearchResDto> all = List.copyOf(brands.values());
+
+        // 정렬 중, 이후 추가, 삭제 중에 점수가 바뀌지 않도록 먼저 고정
+        Map<Long, Double> scores = new ConcurrentHashMap<>(all.size() * 2);
+        for (BrandSearchResDto brand : all) {
+            scores.put(brand.getId(), brandRankingService.getScore(POPULARITY_WINDOW, brand.getId()));
+        }
+        Comparator<BrandSearchResDto> popularOrder =
+                Comparator.<BrandSearchResDto>comparingDouble(brand -> scores.get(brand.getId())).reversed()
+                        .thenComparing(KEYSET_ORDER);
+
+        snapshot = new Snapshot(
+                BrandPrefixTrie.build(all, popularOrder),
+                BrandPrefixTrie.build(all, KEYSET_ORDER),
+                scores
+        );
+    }
+
+    /**
+     * == cursor 정렬 키, DB의 brand_kr_key(LOWER(brand_kr))와 같은 값 ==
+     *
+     * @param brand
+     * @return 소문자로 정규화한 한글 이름
+     */
+    public static String sortKey(BrandSearchResDto brand) {
+        return brand.getBrandKr() != null ? BrandPrefixTrie.normalize(brand.getBrandKr()) : null;
+    }
+
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int codePointA = a.codePointAt(i);
+            int codePointB = b.codePointAt(j);
+            if (codePointA != codePointB) {
+                return Integer.compare(codePointA, codePointB);
+            }
+            i += Character.charCount(codePointA);
+            j += Character.charCount(codePointB);
+        }
+
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    private static BrandSearchResDto toDto(Brand brand) {
+        // 응답 간에 공유되는 객체이므로 수정하지 않는다
+        return BrandSearchResDto.builder()
+                .id(brand.getId())
+                .brandKr(brand.getBrandKr())
+                .brandEn(brand.getBrandEn())
+                .brandImgUrl(brand.getBrandImgUrl())
+                .build();
+    }
+
+    private static final class Snapshot {
+        private final BrandPrefixTrie popularTrie;
+        private final BrandPrefixTrie namedTrie;
+        // popularTrie 정렬에 쓰인 점수, 추가되는 브랜드만 채운다
+        private final Map<Long, Double> scores;
+
+        private Snapshot(BrandPrefixTrie popularTrie, BrandPrefixTrie namedTrie, Map<Long, Double> scores) {
+            this.popularTrie = popularTrie;
+            this.namedTrie = namedTrie;
+            this.scores = scores;
+        }
+    }
+}
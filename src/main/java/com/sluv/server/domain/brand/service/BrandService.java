@@ -7,7 +7,12 @@ import com.sluv.server.domain.brand.repository.BrandRepository;
 import com.sluv.server.domain.brand.repository.RecentSelectBrandRepository;
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.global.common.cursor.CursorPageResDto;
+import com.sluv.server.global.common.exception.InvalidCursorException;
+import com.sluv.server.global.ranking.RankingWindow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -20,9 +25,26 @@ public class BrandService {
     private final BrandRepository brandRepository;
     private final RecentSelectBrandRepository recentSelectBrandRepository;
     private final UserRepository userRepository;
+    private final BrandSearchIndex brandSearchIndex;
+    private final BrandRankingService brandRankingService;
 
+    @Value("${recent-select.max-size:20}")
+    private int recentSelectSize;
 
+
+    /**
+     * == 브랜드 자동완성 ==
+     * in-memory 인덱스에서 인기순으로 조회하고, 인덱스가 준비되지 않았을 때만 DB를 조회한다.
+     *
+     * @param brandName 검색어 prefix
+     * @param pageable
+     * @return 브랜드 목록
+     */
     public List<BrandSearchResDto> findAllBrand(String brandName, Pageable pageable){
+        List<BrandSearchResDto> indexed = brandSearchIndex.search(brandName, pageable.getOffset(), pageable.getPageSize());
+        if (indexed != null) {
+            return indexed;
+        }
 
         return brandRepository.findByAllBrandKrOrBrandEnStartingWith(brandName, pageable).stream()
                                                                     .map(data -> BrandSearchResDto.builder()
@@ -34,20 +56,51 @@ public class BrandService {
                                                                     ).collect(Collectors.toList());
     }
 
-    public List<BrandSearchResDto> findTopBrand() {
-        return brandRepository.findTop10By().stream()
-                                            .map(data -> BrandSearchResDto.builder()
-                                                                            .id(data.getId())
-                                                                            .brandKr(data.getBrandKr())
-                                                                            .brandEn(data.getBrandEn())
-                                                                            .brandImgUrl(data.getBrandImgUrl())
-                                                                            .build()
-                                            ).collect(Collectors.toList());
+    /**
+     * == 브랜드 자동완성 (cursor) ==
+     * (소문자 brandKr, id) keyset으로 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     *
+     * @param brandName 검색어 prefix
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 null
+     * @param size
+     * @return 브랜드 목록과 다음 cursor
+     * @throws InvalidCursorException
+     */
+    public CursorPageResDto<BrandSearchResDto> findAllBrandByCursor(String brandName, String cursor, int size){
+        Cursor after = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<BrandSearchResDto> content = brandSearchIndex.searchAfter(brandName, after, size + 1);
+        if (content == null) {
+            content = brandRepository.findByAllBrandKrOrBrandEnStartingWithAfter(brandName, after, size + 1);
+        }
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        BrandSearchResDto last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPageResDto.<BrandSearchResDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? Cursor.of(BrandSearchIndex.sortKey(last), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * == 인기 브랜드 조회, 발행된 순위 snapshot을 그대로 반환 ==
+     *
+     * @param window 집계 구간
+     * @return 인기 브랜드 목록
+     */
+    public List<BrandSearchResDto> findTopBrand(RankingWindow window) {
+        return brandRankingService.getTop(window);
     }
 
     public List<RecentSelectBrandResDto> findRecentSelectBrand(User user) {
 
-        List<RecentSelectBrand> recentSelectBrandList = recentSelectBrandRepository.getRecentSelectBrandTop20(user);
+        List<RecentSelectBrand> recentSelectBrandList = recentSelectBrandRepository.getRecentSelectBrandTop(user, recentSelectSize);
 
         return recentSelectBrandList.stream().map(recentSelectBrand -> {
             Long brandId;
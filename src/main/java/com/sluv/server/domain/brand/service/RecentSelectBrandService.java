@@ -1,9 +1,9 @@
 package com.sluv.server.domain.brand.service;
 
+import com.sluv.server.domain.brand.dto.RecentSelectBrandKey;
 import com.sluv.server.domain.brand.dto.RecentSelectBrandReqDto;
 import com.sluv.server.domain.brand.entity.Brand;
 import com.sluv.server.domain.brand.entity.NewBrand;
-import com.sluv.server.domain.brand.entity.RecentSelectBrand;
 import com.sluv.server.domain.brand.exception.BrandNotFoundException;
 import com.sluv.server.domain.brand.exception.NewBrandNotFoundException;
 import com.sluv.server.domain.brand.repository.BrandRepository;
@@ -14,12 +14,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class RecentSelectBrandService {
     private final BrandRepository brandRepository;
     private final NewBrandRepository newBrandRepository;
     private final RecentSelectBrandRepository recentSelectBrandRepository;
+    private final BrandRankingService brandRankingService;
+    private final RecentSelectBrandWriteBuffer recentSelectBrandWriteBuffer;
 
     public void postRecentSelectBrand(User user, RecentSelectBrandReqDto dto){
         Brand brand = dto.getBrandId() != null
@@ -32,17 +36,39 @@ public class RecentSelectBrandService {
                 .orElseThrow(NewBrandNotFoundException::new)
                 : null;
 
-        recentSelectBrandRepository.save(
-                RecentSelectBrand.builder()
-                        .brand(brand)
-                        .newBrand(newBrand)
-                        .user(user)
-                        .build()
+        saveRecentSelectBrand(user, brand, newBrand);
+    }
+
+    /**
+     * == 최근 선택 브랜드 등록, 이미 있다면 선택 시각만 갱신 ==
+     * 요청 중에는 buffer에만 넣고 DB에는 모아서 쓴다. 유저마다 recent-select.max-size건까지만 유지한다.
+     *
+     * @param user
+     * @param brand null 가능
+     * @param newBrand null 가능
+     */
+    public void saveRecentSelectBrand(User user, Brand brand, NewBrand newBrand) {
+        if (brand == null && newBrand == null) {
+            return;
+        }
+
+        recentSelectBrandWriteBuffer.offer(
+                new RecentSelectBrandKey(
+                        user.getId(),
+                        brand != null ? brand.getId() : null,
+                        newBrand != null ? newBrand.getId() : null
+                ),
+                LocalDateTime.now()
         );
+
+        if (brand != null) {
+            brandRankingService.record(brand.getId());
+        }
     }
 
     @Transactional
     public void deleteAllRecentSelectBrand(User user) {
+        recentSelectBrandWriteBuffer.discard(key -> key.userId().equals(user.getId()));
         recentSelectBrandRepository.deleteAllByUserId(user.getId());
     }
 }
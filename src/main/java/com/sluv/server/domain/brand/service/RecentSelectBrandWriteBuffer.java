@@ -0,0 +1,32 @@
+package com.sluv.server.domain.brand.service;
+
+import com.sluv.server.domain.brand.dto.RecentSelectBrandKey;
+import com.sluv.server.domain.brand.repository.RecentSelectBrandRepository;
+import com.sluv.server.global.writebehind.WriteBehindBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 최근 선택 브랜드 write-behind, 같은 유저가 같은 브랜드를 여러 번 골라도 마지막 선택 시각 한 건만 쓴다.
+ */
+@Component
+public class RecentSelectBrandWriteBuffer extends WriteBehindBuffer<RecentSelectBrandKey, LocalDateTime> {
+    private final RecentSelectBrandRepository recentSelectBrandRepository;
+
+    @Value("${recent-select.max-size:20}")
+    private int maxSize;
+
+    public RecentSelectBrandWriteBuffer(RecentSelectBrandRepository recentSelectBrandRepository, MeterRegistry meterRegistry) {
+        super(meterRegistry);
+        this.recentSelectBrandRepository = recentSelectBrandRepository;
+    }
+
+    @Override
+    protected void write(Map<RecentSelectBrandKey, LocalDateTime> batch) {
+        recentSelectBrandRepository.upsertRecentSelectBrands(batch, maxSize);
+    }
+}
@@ -2,8 +2,10 @@ package com.sluv.server.domain.celeb.controller;
 
 import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
 import com.sluv.server.domain.celeb.service.CelebService;
+import com.sluv.server.global.common.cursor.CursorPageResDto;
 import com.sluv.server.global.common.response.ErrorResponse;
 import com.sluv.server.global.common.response.SuccessDataResponse;
+import com.sluv.server.global.ranking.RankingWindow;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -22,9 +24,12 @@ import java.util.List;
 public class CelebController {
     private final CelebService celebService;
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     @Operation(
             summary = "Celeb 검색",
-            description = "입력한 이름으로 Celeb을 검색"
+            description = "입력한 이름으로 Celeb을 검색" +
+                    "\n 일치하는 Celeb이 없다면 첫 페이지는 초성(ㅂㅌ), 입력 중인 글자, 영문 오타를 허용하여 검색"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "1000", description = "요청성공"),
@@ -42,9 +47,33 @@ public class CelebController {
         );
     }
 
+    @Operation(
+            summary = "Celeb 검색 (cursor)",
+            description = "입력한 이름으로 Celeb을 검색(Cursor Pagination), 이전 응답의 nextCursor로 다음 페이지 요청" +
+                    "\n 일치하는 Celeb이 없다면 초성(ㅂㅌ), 입력 중인 글자, 영문 오타를 허용한 결과를 다음 페이지 없이 반환"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "1000", description = "요청성공"),
+            @ApiResponse(responseCode = "3001", description = "잘못된 cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "5000", description = "서버내부 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "5001", description = "DB 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search/cursor")
+    public ResponseEntity<SuccessDataResponse<CursorPageResDto<CelebSearchResDto>>> searchCelebByNameAndCursor(@RequestParam String celebName,
+                                                                                                            @RequestParam(required = false) String cursor,
+                                                                                                            @RequestParam(defaultValue = "20") int size){
+
+        return ResponseEntity.ok().body(
+                SuccessDataResponse.<CursorPageResDto<CelebSearchResDto>>builder()
+                        .result(celebService.searchCelebByCursor(celebName, cursor, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE)))
+                        .build()
+        );
+    }
+
     @Operation(
             summary = "인기 셀럽 조회",
-            description = "조회가 많이된 Celeb 상위 10개 조회"
+            description = "조회가 많이된 Celeb 상위 10개 조회" +
+                    "\n window : hour, day, week (기본 day)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "1000", description = "요청성공"),
@@ -52,11 +81,11 @@ public class CelebController {
             @ApiResponse(responseCode = "5001", description = "DB 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/top")
-    public ResponseEntity<SuccessDataResponse<List<CelebSearchResDto>>> searchTop10Celeb(){
+    public ResponseEntity<SuccessDataResponse<List<CelebSearchResDto>>> searchTop10Celeb(@RequestParam(required = false) String window){
 
         return ResponseEntity.ok().body(
                 SuccessDataResponse.<List<CelebSearchResDto>>builder()
-                        .result(celebService.getTop10Celeb())
+                        .result(celebService.getTop10Celeb(RankingWindow.fromString(window, null)))
                         .build()
         );
     }
@@ -0,0 +1,7 @@
+package com.sluv.server.domain.celeb.dto;
+
+/**
+ * CelebHierarchy를 만들기 위한 CelebCategory 한 건
+ */
+public record CelebCategoryNodeDto(Long id, Long parentId, String name) {
+}
@@ -0,0 +1,7 @@
+package com.sluv.server.domain.celeb.dto;
+
+/**
+ * CelebHierarchy를 만들기 위한 Celeb 한 건, 연관 엔티티 없이 id만 담는다
+ */
+public record CelebNodeDto(Long id, Long parentId, Long celebCategoryId, String celebNameKr, String celebNameEn) {
+}
@@ -0,0 +1,14 @@
+package com.sluv.server.domain.celeb.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class InterestedCelebPutReqDto {
+    @Schema(description = "새 관심 Celeb id 목록, 먼저 고른 순서")
+    private List<Long> celebIdList;
+}
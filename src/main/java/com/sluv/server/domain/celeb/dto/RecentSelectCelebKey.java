@@ -0,0 +1,7 @@
+package com.sluv.server.domain.celeb.dto;
+
+/**
+ * 최근 선택 Celeb write-behind의 합칠 기준, recent_select_celeb unique 키와 같다
+ */
+public record RecentSelectCelebKey(Long userId, Long celebId, Long newCelebId) {
+}
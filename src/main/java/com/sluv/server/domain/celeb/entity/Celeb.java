@@ -3,12 +3,15 @@ package com.sluv.server.domain.celeb.entity;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.sluv.server.domain.celeb.enums.CelebStatus;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,18 +20,21 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @JsonPropertyOrder({"id", "parent", "celebCategory", "celebNameKr", "celebNameEn", "celebStatus", "created_at", "updated_at"})
+@EntityListeners({CelebSearchListener.class, CelebHierarchyListener.class})
 @Table(name = "celeb")
 public class Celeb extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "celeb_id")
     private Long id;
 
-    @ManyToOne
+    // 계층 탐색은 CelebHierarchyCache에서 하므로 연관 엔티티는 필요할 때만 로드
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Celeb parent;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "celeb_category_id")
     @NotNull
     private CelebCategory celebCategory;
@@ -45,6 +51,8 @@ public class Celeb extends BaseEntity {
     @Column(length = 45, columnDefinition = "varchar(45) default 'ACTIVE'")
     private CelebStatus celebStatus;
 
+    // 여러 그룹의 멤버를 탐색할 때 그룹마다 SELECT 하지 않고 IN 쿼리 한 번으로 로드
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "parent")
     private List<Celeb> subCelebList = new ArrayList<>();
 
@@ -2,12 +2,14 @@ package com.sluv.server.domain.celeb.entity;
 
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.util.List;
 
@@ -15,14 +17,16 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @JsonPropertyOrder({"id", "parent", "name", "created_at", "updated_at"})
+@EntityListeners(CelebHierarchyListener.class)
 @Table(name = "celeb_category")
 public class CelebCategory extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "celeb_category_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private CelebCategory parent;
 
@@ -0,0 +1,28 @@
+package com.sluv.server.domain.celeb.entity;
+
+import com.sluv.server.domain.celeb.service.CelebHierarchyCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Celeb, CelebCategory가 추가, 수정, 삭제되면 CelebHierarchyCache에 반영
+ */
+@Component
+public class CelebHierarchyListener {
+    private final CelebHierarchyCache celebHierarchyCache;
+
+    // EntityManagerFactory 생성 중 순환 참조를 피하기 위해 Lazy 주입
+    public CelebHierarchyListener(@Lazy CelebHierarchyCache celebHierarchyCache) {
+        this.celebHierarchyCache = celebHierarchyCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void reload(Object entity) {
+        celebHierarchyCache.reloadAfterCommit();
+    }
+}
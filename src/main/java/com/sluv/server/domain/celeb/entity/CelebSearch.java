@@ -0,0 +1,44 @@
+package com.sluv.server.domain.celeb.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 셀럽 검색용 projection, 검색 결과로 나올 수 있는 셀럽(솔로, 그룹 멤버)마다 한 row
+ * 그룹 자체는 row가 없고 멤버 row의 group_name으로 검색된다.
+ * 검색은 이름 변형마다 한 row인 celeb_search_key의 prefix range로 찾는다.
+ * CelebSearchRepository.refresh로만 쓰이므로 JPA에서는 읽기 전용이다.
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor
+@Table(name = "celeb_search", indexes = {
+        @Index(name = "idx_celeb_search_display_name_kr_id", columnList = "display_name_kr, celeb_id"),
+        @Index(name = "idx_celeb_search_parent_id", columnList = "parent_id")
+})
+public class CelebSearch {
+
+    @Id
+    @Column(name = "celeb_id")
+    private Long id;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 멤버라면 "그룹명 멤버명", 솔로라면 이름
+    @Column(name = "display_name_kr")
+    private String displayNameKr;
+
+    private String displayNameEn;
+
+    private String groupNameKr;
+
+    private String groupNameEn;
+
+    private String memberNameKr;
+
+    private String memberNameEn;
+}
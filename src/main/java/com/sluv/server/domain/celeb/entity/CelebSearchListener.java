@@ -0,0 +1,28 @@
+package com.sluv.server.domain.celeb.entity;
+
+import com.sluv.server.domain.celeb.service.CelebSearchService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Celeb이 추가, 수정, 삭제되면 celeb_search projection에 반영
+ */
+@Component
+public class CelebSearchListener {
+    private final CelebSearchService celebSearchService;
+
+    // EntityManagerFactory 생성 중 순환 참조를 피하기 위해 Lazy 주입
+    public CelebSearchListener(@Lazy CelebSearchService celebSearchService) {
+        this.celebSearchService = celebSearchService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void refresh(Celeb celeb) {
+        celebSearchService.refreshAfterCommit(celeb);
+    }
+}
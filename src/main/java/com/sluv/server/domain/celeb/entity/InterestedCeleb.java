@@ -2,19 +2,25 @@ package com.sluv.server.domain.celeb.entity;
 
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "interested_celeb")
+@EntityListeners(InterestedCelebCacheEvictListener.class)
+@Table(name = "interested_celeb", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_interested_celeb_user_celeb", columnNames = {"user_id", "celeb_id"})
+})
 public class InterestedCeleb extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "interested_celeb_id")
     private Long id;
 
@@ -0,0 +1,28 @@
+package com.sluv.server.domain.celeb.entity;
+
+import com.sluv.server.domain.celeb.service.InterestedCelebService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA로 InterestedCeleb이 변경되면 커밋 후 InterestedCelebService의 캐시를 무효화
+ */
+@Component
+public class InterestedCelebCacheEvictListener {
+    private final InterestedCelebService interestedCelebService;
+
+    // EntityManagerFactory 생성 중 순환 참조를 피하기 위해 Lazy 주입
+    public InterestedCelebCacheEvictListener(@Lazy InterestedCelebService interestedCelebService) {
+        this.interestedCelebService = interestedCelebService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(InterestedCeleb interestedCeleb) {
+        interestedCelebService.evictAfterCommit(interestedCeleb.getUser().getId());
+    }
+}
@@ -2,19 +2,26 @@ package com.sluv.server.domain.celeb.entity;
 
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "recent_select_celeb")
+// (user_id, celeb_key, new_celeb_key) unique 키는 생성 컬럼으로 V5 migration에 있음
+@Table(name = "recent_select_celeb", indexes = {
+        @Index(name = "idx_recent_select_celeb_user_updated_at", columnList = "user_id, updated_at"),
+        @Index(name = "idx_recent_select_celeb_updated_at", columnList = "updated_at, celeb_id")
+})
 public class RecentSelectCeleb extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "recent_select_celeb_id")
     private Long id;
 
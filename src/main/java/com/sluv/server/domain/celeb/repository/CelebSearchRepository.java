@@ -0,0 +1,8 @@
+package com.sluv.server.domain.celeb.repository;
+
+import com.sluv.server.domain.celeb.entity.CelebSearch;
+import com.sluv.server.domain.celeb.repository.Impl.CelebSearchRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CelebSearchRepository extends JpaRepository<CelebSearch, Long>, CelebSearchRepositoryCustom {
+}
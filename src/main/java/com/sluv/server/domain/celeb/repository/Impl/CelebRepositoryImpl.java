@@ -1,90 +1,57 @@
 package com.sluv.server.domain.celeb.repository.Impl;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sluv.server.domain.celeb.dto.CelebCategoryNodeDto;
+import com.sluv.server.domain.celeb.dto.CelebNodeDto;
 import com.sluv.server.domain.celeb.entity.Celeb;
 import com.sluv.server.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.sluv.server.domain.celeb.entity.QRecentSelectCeleb.recentSelectCeleb;
 import static com.sluv.server.domain.celeb.entity.QCeleb.celeb;
-import static com.sluv.server.domain.celeb.entity.QInterestedCeleb.interestedCeleb;
+import static com.sluv.server.domain.celeb.entity.QCelebCategory.celebCategory;
 
 @RequiredArgsConstructor
 public class CelebRepositoryImpl implements CelebRepositoryCustom{
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    @Override
-    public List<Celeb> findInterestedCeleb(User _user) {
-
-        return jpaQueryFactory.select(interestedCeleb.celeb)
-                .from(interestedCeleb)
-                .where(interestedCeleb.user.eq(_user))
-                .orderBy(interestedCeleb.createdAt.desc())
-                .fetch();
-    }
-
-    @Override
-    public Page<Celeb> searchCeleb(String celebName, Pageable pageable) {
-        List<Celeb> plusContent = new ArrayList<>();
-        if(celebName.split(" ").length != 1){
-
-            int lastSpace = celebName.lastIndexOf(" ");
-
-            String teamName = celebName.substring(0, lastSpace);
-            String memberName = celebName.substring(lastSpace+1);
-
-            plusContent = jpaQueryFactory
-                    .selectFrom(celeb)
-                    .where(celeb.parent.celebNameKr.like(teamName+"%").and(celeb.celebNameKr.like(memberName+"%"))
-                            .or(celeb.parent.celebNameEn.like(teamName+"%").and(celeb.celebNameEn.like(memberName+"%")))
-                    ).offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-        }
-
-        List<Celeb> content = jpaQueryFactory
-                .selectFrom(celeb)
-                .where(celeb.celebNameKr.like(celebName+"%")
-                        .or(celeb.celebNameEn.like(celebName+"%"))
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()-plusContent.size())
-                .fetch();
-
-        content.addAll(plusContent);
-
-
-        return new PageImpl<>(content);
-    }
-
     @Override
     public List<Celeb> findRecentCeleb(User _user) {
         return jpaQueryFactory.select(celeb)
                 .from(recentSelectCeleb)
                 .innerJoin(celeb).on(recentSelectCeleb.celeb.eq(celeb))
                 .where(recentSelectCeleb.user.eq(_user))
-                .groupBy(recentSelectCeleb.celeb)
-                .orderBy(recentSelectCeleb.createdAt.max().desc())
+                .orderBy(recentSelectCeleb.updatedAt.desc(), recentSelectCeleb.id.desc())
                 .limit(20)
                 .fetch();
 
     }
 
     @Override
-    public List<Celeb> findTop10Celeb() {
+    public List<CelebNodeDto> findAllCelebNodes() {
+        return jpaQueryFactory.select(Projections.constructor(CelebNodeDto.class,
+                        celeb.id,
+                        celeb.parent.id,
+                        celeb.celebCategory.id,
+                        celeb.celebNameKr,
+                        celeb.celebNameEn
+                ))
+                .from(celeb)
+                .fetch();
+    }
 
-        return jpaQueryFactory.select(celeb)
-                .from(recentSelectCeleb)
-                .groupBy(recentSelectCeleb.celeb)
-                .orderBy(recentSelectCeleb.celeb.count().desc())
-                .limit(10)
+    @Override
+    public List<CelebCategoryNodeDto> findAllCelebCategoryNodes() {
+        return jpaQueryFactory.select(Projections.constructor(CelebCategoryNodeDto.class,
+                        celebCategory.id,
+                        celebCategory.parent.id,
+                        celebCategory.name
+                ))
+                .from(celebCategory)
                 .fetch();
     }
 }
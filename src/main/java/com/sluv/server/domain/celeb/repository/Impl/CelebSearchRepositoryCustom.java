@@ -0,0 +1,18 @@
+package com.sluv.server.domain.celeb.repository.Impl;
+
+import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
+import com.sluv.server.domain.celeb.entity.CelebSearch;
+import com.sluv.server.global.common.cursor.Cursor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface CelebSearchRepositoryCustom {
+    List<CelebSearchResDto> search(String celebName, Pageable pageable);
+    List<CelebSearchResDto> searchAfter(String celebName, Cursor cursor, int limit);
+    Set<Long> refresh(Collection<Long> celebIds);
+    List<Long> findStaleIds();
+    List<CelebSearch> findFamily(Collection<Long> celebIds);
+}
@@ -0,0 +1,220 @@
+package com.sluv.server.domain.celeb.repository.Impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
+import com.sluv.server.domain.celeb.entity.CelebSearch;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.global.common.search.SearchPrefix;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.sluv.server.domain.celeb.entity.QCelebSearch.celebSearch;
+
+@RequiredArgsConstructor
+public class CelebSearchRepositoryImpl implements CelebSearchRepositoryCustom {
+    // 검색 키의 prefix range 한 번으로 찾은 셀럽,
+    // 또는 "그룹 멤버"를 공백으로 나눠 멤버 prefix의 키 range에서 그룹 이름도 prefix로 시작하는 셀럽 ("방탄 정" -> 방탄소년단 정국)
+    // 한 셀럽의 여러 키가 일치해도 IN(semi-join)이므로 한 번만 나온다.
+    // 빈 검색어라면 범위의 끝(:prefixEnd)이 없고, 공백이 없다면 :memberPrefix가 없다.
+    private static final String MATCHING_CELEB = """
+            (s.celeb_id IN (SELECT k.celeb_id FROM celeb_search_key k
+                            WHERE k.search_key >= :prefix AND (:prefixEnd IS NULL OR k.search_key < :prefixEnd))
+             OR s.celeb_id IN (SELECT k.celeb_id FROM celeb_search_key k
+                               JOIN celeb_search g ON g.celeb_id = k.celeb_id
+                               WHERE :memberPrefix IS NOT NULL
+                                 AND k.search_key >= :memberPrefix AND (:memberPrefixEnd IS NULL OR k.search_key < :memberPrefixEnd)
+                                 AND ((LOWER(g.group_name_kr) LIKE :groupLike AND LOWER(g.member_name_kr) LIKE :memberLike)
+                                   OR (LOWER(g.group_name_en) LIKE :groupLike AND LOWER(g.member_name_en) LIKE :memberLike))))
+            """;
+    // (display_name_kr, celeb_id) 순으로 조회
+    private static final String SEARCH = """
+            SELECT s.celeb_id, s.display_name_kr, s.display_name_en
+            FROM celeb_search s
+            WHERE %s
+            ORDER BY s.display_name_kr, s.celeb_id
+            LIMIT :offset, :limit
+            """.formatted(MATCHING_CELEB);
+    // (display_name_kr, celeb_id) 인덱스에서 cursor 위치부터 읽음
+    private static final String SEARCH_AFTER = """
+            SELECT s.celeb_id, s.display_name_kr, s.display_name_en
+            FROM celeb_search s
+            WHERE %s
+              AND s.display_name_kr >= :sortKey AND (s.display_name_kr > :sortKey OR s.celeb_id > :id)
+            ORDER BY s.display_name_kr, s.celeb_id
+            LIMIT :limit
+            """.formatted(MATCHING_CELEB);
+    private static final String SELECT_OLD_PARENT_IDS = """
+            SELECT parent_id FROM celeb_search
+            WHERE celeb_id IN (:ids) AND parent_id IS NOT NULL
+            """;
+    // celeb_search row를 지우기 전에 그 row의 검색 키부터 지운다
+    private static final String DELETE_FAMILY_KEYS = """
+            DELETE FROM celeb_search_key
+            WHERE celeb_id IN (:ids)
+               OR celeb_id IN (SELECT celeb_id FROM celeb_search WHERE parent_id IN (:ids))
+            """;
+    private static final String DELETE_FAMILY = """
+            DELETE FROM celeb_search
+            WHERE celeb_id IN (:ids) OR parent_id IN (:ids)
+            """;
+    // 멤버가 있는 그룹은 row를 만들지 않고 멤버 row의 group_name으로 검색된다
+    // 같은 셀럽을 동시에 갱신해 먼저 들어간 row가 있다면 덮어쓴다
+    private static final String INSERT_FAMILY = """
+            INSERT INTO celeb_search (celeb_id, parent_id, display_name_kr, display_name_en,
+                                      group_name_kr, group_name_en, member_name_kr, member_name_en)
+            SELECT c.celeb_id, c.parent_id,
+                   CASE WHEN p.celeb_id IS NULL THEN c.celeb_name_kr ELSE CONCAT(p.celeb_name_kr, ' ', c.celeb_name_kr) END,
+                   CASE WHEN p.celeb_id IS NULL THEN c.celeb_name_en ELSE CONCAT(p.celeb_name_en, ' ', c.celeb_name_en) END,
+                   p.celeb_name_kr, p.celeb_name_en, c.celeb_name_kr, c.celeb_name_en
+            FROM celeb c
+            LEFT JOIN celeb p ON p.celeb_id = c.parent_id
+            WHERE (c.celeb_id IN (:ids) OR c.parent_id IN (:ids))
+              AND NOT EXISTS (SELECT 1 FROM celeb m WHERE m.parent_id = c.celeb_id)
+            ON DUPLICATE KEY UPDATE parent_id = VALUES(parent_id),
+                                    display_name_kr = VALUES(display_name_kr), display_name_en = VALUES(display_name_en),
+                                    group_name_kr = VALUES(group_name_kr), group_name_en = VALUES(group_name_en),
+                                    member_name_kr = VALUES(member_name_kr), member_name_en = VALUES(member_name_en)
+            """;
+    // 이름 변형(멤버, 그룹, "그룹 멤버")마다 소문자 키 한 row, 솔로의 표시 이름은 멤버 이름과 같아 UNION으로 합쳐진다
+    private static final String INSERT_FAMILY_KEYS = """
+            INSERT INTO celeb_search_key (search_key, celeb_id)
+            SELECT LOWER(member_name_kr), celeb_id FROM celeb_search WHERE celeb_id IN (:ids) OR parent_id IN (:ids)
+            UNION SELECT LOWER(member_name_en), celeb_id FROM celeb_search WHERE celeb_id IN (:ids) OR parent_id IN (:ids)
+            UNION SELECT LOWER(group_name_kr), celeb_id FROM celeb_search WHERE group_name_kr IS NOT NULL AND (celeb_id IN (:ids) OR parent_id IN (:ids))
+            UNION SELECT LOWER(group_name_en), celeb_id FROM celeb_search WHERE group_name_en IS NOT NULL AND (celeb_id IN (:ids) OR parent_id IN (:ids))
+            UNION SELECT LOWER(display_name_kr), celeb_id FROM celeb_search WHERE celeb_id IN (:ids) OR parent_id IN (:ids)
+            UNION SELECT LOWER(display_name_en), celeb_id FROM celeb_search WHERE celeb_id IN (:ids) OR parent_id IN (:ids)
+            ON DUPLICATE KEY UPDATE celeb_id = VALUES(celeb_id)
+            """;
+    // celeb 테이블과 다른 projection row: 빠졌거나, 부모나 이름이 바뀌었거나, 더 이상 검색 대상(솔로, 멤버)이 아닌 셀럽
+    // 이름은 대소문자 변경도 찾도록 binary로 비교한다
+    private static final String SELECT_STALE_IDS = """
+            SELECT c.celeb_id
+            FROM celeb c
+            LEFT JOIN celeb p ON p.celeb_id = c.parent_id
+            LEFT JOIN celeb_search s ON s.celeb_id = c.celeb_id
+            WHERE NOT EXISTS (SELECT 1 FROM celeb m WHERE m.parent_id = c.celeb_id)
+              AND (s.celeb_id IS NULL
+                   OR NOT (s.parent_id <=> c.parent_id)
+                   OR CAST(s.member_name_kr AS BINARY) <> CAST(c.celeb_name_kr AS BINARY)
+                   OR CAST(s.member_name_en AS BINARY) <> CAST(c.celeb_name_en AS BINARY)
+                   OR NOT (CAST(s.group_name_kr AS BINARY) <=> CAST(p.celeb_name_kr AS BINARY))
+                   OR NOT (CAST(s.group_name_en AS BINARY) <=> CAST(p.celeb_name_en AS BINARY)))
+            UNION
+            SELECT s.celeb_id
+            FROM celeb_search s
+            WHERE NOT EXISTS (SELECT 1 FROM celeb c WHERE c.celeb_id = s.celeb_id)
+               OR EXISTS (SELECT 1 FROM celeb m WHERE m.parent_id = s.celeb_id)
+            """;
+    private static final RowMapper<CelebSearchResDto> CELEB_SEARCH_RES_DTO_MAPPER = (rs, rowNum) -> CelebSearchResDto.builder()
+            .id(rs.getLong("celeb_id"))
+            .celebNameKr(rs.getString("display_name_kr"))
+            .celebNameEn(rs.getString("display_name_en"))
+            .build();
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 멤버, 그룹 이름이나 "그룹명 멤버명"이 검색어로 시작하는 셀럽 (대소문자 무관)
+     * "그룹명 멤버명"은 그룹명과 멤버명 각각의 prefix로도 찾는다.
+     */
+    @Override
+    public List<CelebSearchResDto> search(String celebName, Pageable pageable) {
+        MapSqlParameterSource params = prefixParams(celebName)
+                .addValue("offset", pageable.getOffset())
+                .addValue("limit", pageable.getPageSize());
+
+        return namedParameterJdbcTemplate.query(SEARCH, params, CELEB_SEARCH_RES_DTO_MAPPER);
+    }
+
+    @Override
+    public List<CelebSearchResDto> searchAfter(String celebName, Cursor cursor, int limit) {
+        MapSqlParameterSource params = prefixParams(celebName)
+                // 첫 페이지는 모든 키보다 앞선 위치
+                .addValue("sortKey", cursor != null ? cursor.getSortKey() : "")
+                .addValue("id", cursor != null ? cursor.getId() : Long.MIN_VALUE)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(SEARCH_AFTER, params, CELEB_SEARCH_RES_DTO_MAPPER);
+    }
+
+    /**
+     * == 셀럽과 그 그룹, 멤버의 projection row를 celeb 테이블 기준으로 다시 만듦 ==
+     * 그룹이 바뀐 경우 이전 그룹도 솔로로 돌아갈 수 있으므로 함께 갱신한다.
+     * 같은 셀럽을 동시에 갱신해도 INSERT가 upsert이므로 중복 키로 실패하지 않는다.
+     *
+     * @param celebIds 변경된 셀럽과 그 부모 id
+     * @return 갱신된 셀럽 id, 이 id이거나 부모가 이 id인 row가 다시 만들어졌다
+     */
+    @Override
+    public Set<Long> refresh(Collection<Long> celebIds) {
+        Set<Long> ids = new HashSet<>(celebIds);
+        ids.addAll(namedParameterJdbcTemplate.queryForList(SELECT_OLD_PARENT_IDS, Map.of("ids", ids), Long.class));
+
+        Map<String, Object> params = Map.of("ids", ids);
+        namedParameterJdbcTemplate.update(DELETE_FAMILY_KEYS, params);
+        namedParameterJdbcTemplate.update(DELETE_FAMILY, params);
+        namedParameterJdbcTemplate.update(INSERT_FAMILY, params);
+        namedParameterJdbcTemplate.update(INSERT_FAMILY_KEYS, params);
+
+        return ids;
+    }
+
+    /**
+     * == celeb 테이블과 달라진 projection row의 셀럽 id ==
+     * refresh를 거치지 않은 Celeb 변경(다른 경로의 INSERT, 실패한 갱신)을 찾는다.
+     *
+     * @return refresh에 넘길 셀럽 id
+     */
+    @Override
+    public List<Long> findStaleIds() {
+        return namedParameterJdbcTemplate.getJdbcTemplate().queryForList(SELECT_STALE_IDS, Long.class);
+    }
+
+    /**
+     * == 셀럽과 그 멤버의 projection row 조회 ==
+     *
+     * @param celebIds refresh가 반환한 id
+     */
+    @Override
+    public List<CelebSearch> findFamily(Collection<Long> celebIds) {
+        return jpaQueryFactory.selectFrom(celebSearch)
+                .where(celebSearch.id.in(celebIds).or(celebSearch.parentId.in(celebIds)))
+                .fetch();
+    }
+
+    private static MapSqlParameterSource prefixParams(String celebName) {
+        String prefix = SearchPrefix.normalize(celebName);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("prefix", prefix)
+                .addValue("prefixEnd", SearchPrefix.nextPrefix(prefix));
+
+        // 마지막 공백 앞은 그룹 이름, 뒤는 멤버 이름의 prefix
+        int lastSpace = prefix.lastIndexOf(' ');
+        String groupPrefix = lastSpace > 0 ? prefix.substring(0, lastSpace) : "";
+        String memberPrefix = lastSpace > 0 ? prefix.substring(lastSpace + 1) : "";
+        if (groupPrefix.isBlank() || memberPrefix.isEmpty()) {
+            return params
+                    .addValue("memberPrefix", null)
+                    .addValue("memberPrefixEnd", null)
+                    .addValue("groupLike", null)
+                    .addValue("memberLike", null);
+        }
+
+        return params
+                .addValue("memberPrefix", memberPrefix)
+                .addValue("memberPrefixEnd", SearchPrefix.nextPrefix(memberPrefix))
+                .addValue("groupLike", SearchPrefix.likePattern(groupPrefix))
+                .addValue("memberLike", SearchPrefix.likePattern(memberPrefix));
+    }
+}
@@ -0,0 +1,9 @@
+package com.sluv.server.domain.celeb.repository.Impl;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface InterestedCelebRepositoryCustom {
+    long[] findInterestedCelebIds(Long userId);
+    void replaceInterestedCelebs(Long userId, Collection<Long> deleteCelebIds, List<Long> insertCelebIds);
+}
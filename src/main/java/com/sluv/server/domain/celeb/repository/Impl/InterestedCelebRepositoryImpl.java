@@ -0,0 +1,74 @@
+package com.sluv.server.domain.celeb.repository.Impl;
+
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class InterestedCelebRepositoryImpl implements InterestedCelebRepositoryCustom {
+    // (user_id, celeb_id) unique 인덱스 range scan
+    private static final String SELECT_INTERESTED_CELEB_IDS = """
+            SELECT celeb_id FROM interested_celeb
+            WHERE user_id = ?
+            ORDER BY created_at DESC, interested_celeb_id DESC
+            """;
+    private static final String DELETE_INTERESTED_CELEBS = """
+            DELETE FROM interested_celeb
+            WHERE user_id = :userId AND celeb_id IN (:celebIds)
+            """;
+    // IGNORE: 동시에 같은 셀럽을 등록한 요청이 있어도 unique 키 위반으로 실패하지 않는다
+    private static final String INSERT_INTERESTED_CELEB = """
+            INSERT IGNORE INTO interested_celeb (interested_celeb_id, user_id, celeb_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == 유저의 관심 셀럽 id, 최근 등록순 ==
+     *
+     * @param userId
+     * @return 관심 셀럽 id, 없다면 빈 배열
+     */
+    @Override
+    public long[] findInterestedCelebIds(Long userId) {
+        return jdbcTemplate.queryForList(SELECT_INTERESTED_CELEB_IDS, Long.class, userId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    /**
+     * == 관심 셀럽 삭제 한 번, 추가는 batch 한 번으로 반영 ==
+     * 추가는 목록 순서대로 같은 등록 시각과 증가하는 id를 쓰므로 조회 시 id 역순, 즉 목록의 마지막 셀럽이 먼저 나온다.
+     *
+     * @param userId
+     * @param deleteCelebIds 관심 목록에서 뺄 셀럽 id
+     * @param insertCelebIds 관심 목록에 더할 셀럽 id
+     */
+    @Override
+    public void replaceInterestedCelebs(Long userId, Collection<Long> deleteCelebIds, List<Long> insertCelebIds) {
+        if (!deleteCelebIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(DELETE_INTERESTED_CELEBS, Map.of(
+                    "userId", userId,
+                    "celebIds", deleteCelebIds
+            ));
+        }
+
+        if (!insertCelebIds.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_INTERESTED_CELEB, insertCelebIds.stream()
+                    .map(celebId -> new Object[]{sluvIdService.nextId(), userId, celebId, now, now})
+                    .toList()
+            );
+        }
+    }
+}
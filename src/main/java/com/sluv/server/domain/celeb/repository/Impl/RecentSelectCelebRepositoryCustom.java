@@ -1,11 +1,16 @@
 package com.sluv.server.domain.celeb.repository.Impl;
 
+import com.sluv.server.domain.celeb.dto.RecentSelectCelebKey;
 import com.sluv.server.domain.celeb.entity.RecentSelectCeleb;
 import com.sluv.server.domain.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface RecentSelectCelebRepositoryCustom {
 
-    List<RecentSelectCeleb> getRecentSelectCelebTop20(User user);
+    List<RecentSelectCeleb> getRecentSelectCelebTop(User user, int size);
+
+    void upsertRecentSelectCelebs(Map<RecentSelectCelebKey, LocalDateTime> selections, int maxSize);
 }
@@ -0,0 +1,8 @@
+package com.sluv.server.domain.celeb.repository;
+
+import com.sluv.server.domain.celeb.entity.InterestedCeleb;
+import com.sluv.server.domain.celeb.repository.Impl.InterestedCelebRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InterestedCelebRepository extends JpaRepository<InterestedCeleb, Long>, InterestedCelebRepositoryCustom {
+}
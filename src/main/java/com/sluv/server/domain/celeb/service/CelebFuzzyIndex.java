@@ -0,0 +1,148 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
+import com.sluv.server.domain.celeb.entity.CelebSearch;
+import com.sluv.server.domain.celeb.repository.CelebSearchRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 셀럽 초성, 오타 검색 in-memory index
+ * 전체를 한 번 만든 base segment 위에 변경된 셀럽만 담은 작은 delta segment를 겹쳐 조회한다.
+ * 변경은 delta만 다시 만들고, delta가 커지면 base로 합친다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CelebFuzzyIndex {
+    private final CelebSearchRepository celebSearchRepository;
+
+    @Value("${celeb.fuzzy.compact-threshold:1000}")
+    private int compactThreshold;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * @param overridden delta에 있거나 삭제되어 base에서는 무시할 셀럽 id
+     */
+    private record Snapshot(CelebFuzzySegment base, CelebFuzzySegment delta,
+                            Map<Long, CelebFuzzySegment.Entry> pending, Set<Long> overridden) {
+        private static final Snapshot EMPTY = new Snapshot(CelebFuzzySegment.EMPTY, CelebFuzzySegment.EMPTY, Map.of(), Set.of());
+    }
+
+    @PostConstruct
+    protected void init() {
+        reloadQuietly();
+    }
+
+    /**
+     * == 초성, 자모 prefix, 영문 오타를 허용한 셀럽 검색 ==
+     *
+     * @param celebName 검색어
+     * @param limit 최대 결과 수
+     * @return 일치도 순 검색 결과
+     */
+    public List<CelebSearchResDto> search(String celebName, int limit) {
+        Snapshot current = snapshot;
+
+        List<CelebFuzzySegment.Hit> hits = new ArrayList<>(current.base().search(celebName, limit, current.overridden()::contains));
+        hits.addAll(current.delta().search(celebName, limit, id -> false));
+        hits.sort(CelebFuzzySegment.Hit.ORDER);
+
+        Set<Long> found = new HashSet<>();
+        List<CelebSearchResDto> result = new ArrayList<>(limit);
+        for (CelebFuzzySegment.Hit hit : hits) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (found.add(hit.entry().id())) {
+                result.add(CelebSearchResDto.builder()
+                        .id(hit.entry().id())
+                        .celebNameKr(hit.entry().displayNameKr())
+                        .celebNameEn(hit.entry().displayNameEn())
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * == celeb_search에서 다시 만든 셀럽과 그 멤버 반영 ==
+     *
+     * @param celebIds CelebSearchRepository.refresh가 반환한 id
+     * @param rows 그 id이거나 부모가 그 id인 projection row
+     */
+    public synchronized void replaceFamily(Collection<Long> celebIds, List<CelebSearch> rows) {
+        Snapshot current = snapshot;
+
+        Map<Long, CelebFuzzySegment.Entry> pending = new HashMap<>(current.pending());
+        Set<Long> overridden = new HashSet<>(current.overridden());
+        pending.values().removeIf(entry -> inFamily(entry, celebIds));
+        for (CelebFuzzySegment.Entry entry : current.base().entries()) {
+            if (inFamily(entry, celebIds)) {
+                overridden.add(entry.id());
+            }
+        }
+        for (CelebSearch row : rows) {
+            pending.put(row.getId(), toEntry(row));
+            overridden.add(row.getId());
+        }
+
+        if (overridden.size() > compactThreshold) {
+            snapshot = compact(current.base(), pending, overridden);
+            return;
+        }
+        snapshot = new Snapshot(current.base(), CelebFuzzySegment.build(pending.values()), pending, overridden);
+    }
+
+    /**
+     * == celeb_search 전체로 index를 다시 만듦 ==
+     * 다른 인스턴스의 변경도 주기적으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${celeb.fuzzy.reload-millis:600000}",
+               initialDelayString = "${celeb.fuzzy.reload-millis:600000}")
+    public synchronized void reloadQuietly() {
+        try {
+            List<CelebFuzzySegment.Entry> entries = celebSearchRepository.findAll().stream()
+                    .map(CelebFuzzyIndex::toEntry)
+                    .toList();
+            snapshot = new Snapshot(CelebFuzzySegment.build(entries), CelebFuzzySegment.EMPTY, Map.of(), Set.of());
+        } catch (RuntimeException e) {
+            log.warn("셀럽 검색 index 로드 실패 : {}", e.getMessage());
+        }
+    }
+
+    private static Snapshot compact(CelebFuzzySegment base, Map<Long, CelebFuzzySegment.Entry> pending, Set<Long> overridden) {
+        List<CelebFuzzySegment.Entry> entries = new ArrayList<>(base.size() + pending.size());
+        for (CelebFuzzySegment.Entry entry : base.entries()) {
+            if (!overridden.contains(entry.id())) {
+                entries.add(entry);
+            }
+        }
+        entries.addAll(pending.values());
+
+        return new Snapshot(CelebFuzzySegment.build(entries), CelebFuzzySegment.EMPTY, Map.of(), Set.of());
+    }
+
+    private static boolean inFamily(CelebFuzzySegment.Entry entry, Collection<Long> celebIds) {
+        return celebIds.contains(entry.id()) || (entry.parentId() != null && celebIds.contains(entry.parentId()));
+    }
+
+    private static CelebFuzzySegment.Entry toEntry(CelebSearch row) {
+        return new CelebFuzzySegment.Entry(row.getId(), row.getParentId(),
+                row.getDisplayNameKr(), row.getDisplayNameEn(),
+                row.getMemberNameKr(), row.getMemberNameEn());
+    }
+}
@@ -0,0 +1,372 @@
+package com.sluv.server.domain.celeb.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * 셀럽 이름 오타, 초성 검색용 불변 index
+ * 한글은 자모로 분해한 이름과 초성을 정렬된 배열에 두고 이진 탐색으로 prefix를 찾는다.
+ * 영문은 trigram으로 후보를 좁힌 뒤 prefix 편집 거리로 오타를 허용한다.
+ */
+final class CelebFuzzySegment {
+    // 긴 이름은 앞부분만 trigram으로 색인, 검색어가 이보다 길면 앞부분으로 후보를 찾는다
+    private static final int MAX_INDEXED_LENGTH = 24;
+    private static final char PAD = '\u0001';
+    private static final int[] NO_POSTING = new int[0];
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> NO_POSTING);
+
+    static final CelebFuzzySegment EMPTY = build(List.of());
+
+    private final Entry[] entries;
+    private final String[] jamoKeys;
+    private final int[] jamoEntries;
+    private final String[] chosungKeys;
+    private final int[] chosungEntries;
+    private final String[] latinKeys;
+    private final int[] latinEntries;
+    private final Map<Long, int[]> latinTrigrams;
+
+    private CelebFuzzySegment(Entry[] entries, KeyTable jamo, KeyTable chosung, KeyTable latin,
+                              Map<Long, int[]> latinTrigrams) {
+        this.entries = entries;
+        this.jamoKeys = jamo.keys;
+        this.jamoEntries = jamo.entries;
+        this.chosungKeys = chosung.keys;
+        this.chosungEntries = chosung.entries;
+        this.latinKeys = latin.keys;
+        this.latinEntries = latin.entries;
+        this.latinTrigrams = latinTrigrams;
+    }
+
+    /**
+     * 검색 결과로 나올 수 있는 셀럽 한 명 (celeb_search 한 row)
+     *
+     * @param parentId 그룹 멤버라면 그룹 id, 솔로라면 null
+     */
+    record Entry(long id, Long parentId, String displayNameKr, String displayNameEn,
+                 String memberNameKr, String memberNameEn) {
+    }
+
+    /**
+     * @param score 0이면 prefix 일치, 그 외엔 편집 거리
+     * @param key 일치한 정규화 이름, 같은 score 안에서 정렬 기준
+     */
+    record Hit(int score, String key, Entry entry) {
+        static final Comparator<Hit> ORDER = Comparator.comparingInt(Hit::score)
+                .thenComparing(Hit::key)
+                .thenComparingLong(hit -> hit.entry().id());
+    }
+
+    static CelebFuzzySegment build(Collection<Entry> source) {
+        Entry[] entries = source.toArray(new Entry[0]);
+
+        KeyTable.Builder jamo = new KeyTable.Builder();
+        KeyTable.Builder chosung = new KeyTable.Builder();
+        KeyTable.Builder latin = new KeyTable.Builder();
+        for (int i = 0; i < entries.length; i++) {
+            for (String name : new String[]{entries[i].memberNameKr(), entries[i].displayNameKr()}) {
+                if (name != null) {
+                    jamo.add(HangulJamo.decompose(name), i);
+                    chosung.add(HangulJamo.chosung(name), i);
+                }
+            }
+            for (String name : new String[]{entries[i].memberNameEn(), entries[i].displayNameEn()}) {
+                if (name != null) {
+                    latin.add(HangulJamo.normalizeLatin(name), i);
+                }
+            }
+        }
+
+        KeyTable latinTable = latin.build();
+        return new CelebFuzzySegment(entries, jamo.build(), chosung.build(), latinTable, indexTrigrams(latinTable.keys));
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    Entry[] entries() {
+        return entries;
+    }
+
+    /**
+     * == 검색어로 셀럽 검색 ==
+     * 초성만 입력했다면 초성 prefix, 한글이 섞였다면 자모 prefix,
+     * 그 외엔 영문 prefix에 더해 결과가 모자라면 오타를 허용한 영문 검색을 한다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @param excluded true인 셀럽 id는 결과에서 제외
+     * @return score 순 결과, 같은 셀럽이 여러 번 나올 수 있음
+     */
+    List<Hit> search(String query, int limit, LongPredicate excluded) {
+        List<Hit> hits = new ArrayList<>();
+
+        if (HangulJamo.isChosungOnly(query)) {
+            collectPrefix(chosungKeys, chosungEntries, HangulJamo.chosung(query), limit, excluded, hits);
+            return hits;
+        }
+        if (HangulJamo.containsHangul(query)) {
+            collectPrefix(jamoKeys, jamoEntries, HangulJamo.decompose(query), limit, excluded, hits);
+            return hits;
+        }
+
+        String latinQuery = HangulJamo.normalizeLatin(query);
+        if (latinQuery.isEmpty()) {
+            return hits;
+        }
+        collectPrefix(latinKeys, latinEntries, latinQuery, limit, excluded, hits);
+        if (hits.size() < limit) {
+            collectFuzzy(latinQuery, maxDistance(latinQuery.length()), limit, excluded, hits);
+        }
+        return hits;
+    }
+
+    /**
+     * 허용 거리가 길이에 비해 크면 trigram이 후보를 거의 거르지 못하므로
+     * 공유해야 하는 trigram이 2개 이상이 되도록 맞춘다.
+     *
+     * @return 5글자 이하는 prefix만, 9글자까지 1, 그 이상 2
+     */
+    static int maxDistance(int length) {
+        if (length <= 5) {
+            return 0;
+        }
+        return length <= 9 ? 1 : 2;
+    }
+
+    private void collectPrefix(String[] keys, int[] keyEntries, String prefix, int limit,
+                               LongPredicate excluded, List<Hit> hits) {
+        int from = Arrays.binarySearch(keys, prefix);
+        from = from >= 0 ? from : -from - 1;
+
+        int found = 0;
+        for (int i = from; i < keys.length && found < limit && keys[i].startsWith(prefix); i++) {
+            Entry entry = entries[keyEntries[i]];
+            if (!excluded.test(entry.id())) {
+                hits.add(new Hit(0, keys[i], entry));
+                found++;
+            }
+        }
+    }
+
+    /**
+     * 편집 한 번(인접 글자 바꿈 포함)으로 깨지는 trigram은 최대 4개이므로
+     * 검색어 trigram 중 (개수 - 4 * maxDistance)개 이상 공유하는 이름만 편집 거리를 계산한다.
+     */
+    private void collectFuzzy(String query, int maxDistance, int limit, LongPredicate excluded, List<Hit> hits) {
+        if (maxDistance == 0) {
+            return;
+        }
+
+        long[] queryTrigrams = trigrams(query);
+        int threshold = Math.max(1, queryTrigrams.length - 4 * maxDistance);
+
+        int[] counts = COUNTS.get();
+        if (counts.length < latinKeys.length) {
+            counts = new int[latinKeys.length];
+            COUNTS.set(counts);
+        }
+
+        int[] touched = new int[16];
+        int touchedSize = 0;
+        for (long trigram : queryTrigrams) {
+            for (int key : latinTrigrams.getOrDefault(trigram, NO_POSTING)) {
+                if (counts[key]++ == 0) {
+                    if (touchedSize == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedSize * 2);
+                    }
+                    touched[touchedSize++] = key;
+                }
+            }
+        }
+
+        List<Hit> fuzzyHits = new ArrayList<>();
+        int[][] rows = new int[3][query.length() + maxDistance + 1];
+        for (int i = 0; i < touchedSize; i++) {
+            int key = touched[i];
+            boolean candidate = counts[key] >= threshold;
+            counts[key] = 0;
+
+            // prefix 일치는 이미 담았다
+            if (!candidate || latinKeys[key].startsWith(query)) {
+                continue;
+            }
+            Entry entry = entries[latinEntries[key]];
+            if (excluded.test(entry.id())) {
+                continue;
+            }
+            int distance = prefixDistance(query, latinKeys[key], maxDistance, rows);
+            if (distance <= maxDistance) {
+                fuzzyHits.add(new Hit(distance, latinKeys[key], entry));
+            }
+        }
+
+        fuzzyHits.sort(Hit.ORDER);
+        hits.addAll(fuzzyHits.subList(0, Math.min(fuzzyHits.size(), limit)));
+    }
+
+    /**
+     * == query와 key의 앞부분 사이 최소 편집 거리 (인접 글자 바꿈 포함) ==
+     * 입력 중인 검색어도 오타를 허용하기 위해 key 전체가 아닌 앞부분과 비교한다.
+     *
+     * @return maxDistance를 넘으면 maxDistance + 1
+     */
+    static int prefixDistance(String query, String key, int maxDistance) {
+        return prefixDistance(query, key, maxDistance, new int[3][query.length() + maxDistance + 1]);
+    }
+
+    /**
+     * 대각선에서 maxDistance 이상 떨어진 칸은 계산하지 않는다.
+     *
+     * @param rows 길이 query.length() + maxDistance + 1 이상인 배열 3개, 호출마다 재사용
+     */
+    private static int prefixDistance(String query, String key, int maxDistance, int[][] rows) {
+        int outOfRange = maxDistance + 1;
+        int columns = Math.min(key.length(), query.length() + maxDistance);
+        int[] beforePrevious = rows[0];
+        int[] previous = rows[1];
+        int[] current = rows[2];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = Math.min(j, outOfRange);
+        }
+
+        for (int i = 1; i <= query.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(columns, i + maxDistance);
+            current[0] = Math.min(i, outOfRange);
+            current[from - 1] = from == 1 ? current[0] : outOfRange;
+
+            int rowMin = current[from - 1];
+            for (int j = from; j <= to; j++) {
+                int cost = query.charAt(i - 1) == key.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && query.charAt(i - 1) == key.charAt(j - 2) && query.charAt(i - 2) == key.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = Math.min(distance, outOfRange);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < columns) {
+                current[to + 1] = outOfRange;
+            }
+            if (rowMin > maxDistance) {
+                return outOfRange;
+            }
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        int distance = outOfRange;
+        for (int j = Math.max(0, query.length() - maxDistance); j <= columns; j++) {
+            distance = Math.min(distance, previous[j]);
+        }
+        return distance;
+    }
+
+    private static Map<Long, int[]> indexTrigrams(String[] keys) {
+        Map<Long, Posting> postings = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            for (long trigram : trigrams(keys[i])) {
+                postings.computeIfAbsent(trigram, t -> new Posting()).add(i);
+            }
+        }
+
+        Map<Long, int[]> index = new HashMap<>(postings.size() * 2);
+        postings.forEach((trigram, posting) -> index.put(trigram, Arrays.copyOf(posting.keys, posting.size)));
+        return index;
+    }
+
+    /**
+     * @return 앞에 PAD 두 글자를 붙인 문자열의 중복 없는 trigram, 문자 3개를 long 하나로 묶음
+     */
+    private static long[] trigrams(String text) {
+        int length = Math.min(text.length(), MAX_INDEXED_LENGTH);
+        long[] trigrams = new long[length];
+        char first = PAD;
+        char second = PAD;
+        for (int i = 0; i < length; i++) {
+            char third = text.charAt(i);
+            trigrams[i] = ((long) first << 32) | ((long) second << 16) | third;
+            first = second;
+            second = third;
+        }
+
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (distinct == 0 || trigrams[distinct - 1] != trigrams[i]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * trigram을 가진 key index, 오름차순
+     */
+    private static final class Posting {
+        private int[] keys = new int[4];
+        private int size;
+
+        private void add(int key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = key;
+        }
+    }
+
+    /**
+     * 정렬된 key와 그 key를 가진 entry index
+     */
+    private static final class KeyTable {
+        private final String[] keys;
+        private final int[] entries;
+
+        private KeyTable(String[] keys, int[] entries) {
+            this.keys = keys;
+            this.entries = entries;
+        }
+
+        private static final class Builder {
+            private final List<String> keys = new ArrayList<>();
+            private final List<Integer> entries = new ArrayList<>();
+
+            private void add(String key, int entry) {
+                // 솔로는 멤버 이름과 표시 이름이 같다
+                int last = entries.size() - 1;
+                if (key.isEmpty() || (last >= 0 && entries.get(last) == entry && keys.get(last).equals(key))) {
+                    return;
+                }
+                keys.add(key);
+                entries.add(entry);
+            }
+
+            private KeyTable build() {
+                Integer[] order = new Integer[keys.size()];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, Comparator.comparing(keys::get));
+
+                String[] sortedKeys = new String[order.length];
+                int[] sortedEntries = new int[order.length];
+                for (int i = 0; i < order.length; i++) {
+                    sortedKeys[i] = keys.get(order[i]);
+                    sortedEntries[i] = entries.get(order[i]);
+                }
+                return new KeyTable(sortedKeys, sortedEntries);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.CelebCategoryNodeDto;
+import com.sluv.server.domain.celeb.dto.CelebNodeDto;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Celeb 그룹, 멤버와 CelebCategory 계층의 불변 snapshot
+ * id는 정렬된 long[]에서 이진 탐색으로 찾고, 나머지는 같은 index의 배열에 담는다.
+ * 멤버 목록은 CSR 형태(childOffsets, children)라 Celeb마다 List를 만들지 않는다.
+ */
+public final class CelebHierarchy {
+    private static final int NONE = -1;
+    private static final long[] EMPTY_IDS = new long[0];
+
+    static final CelebHierarchy EMPTY = build(List.of(), List.of());
+
+    // celeb
+    private final long[] celebIds;
+    private final int[] parents;
+    private final int[] categories;
+    private final String[] namesKr;
+    private final String[] namesEn;
+    private final int[] childOffsets;
+    private final int[] children;
+
+    // celeb category
+    private final long[] categoryIds;
+    private final int[] categoryParents;
+    private final String[] categoryNames;
+
+    private CelebHierarchy(long[] celebIds, int[] parents, int[] categories, String[] namesKr, String[] namesEn,
+                           int[] childOffsets, int[] children,
+                           long[] categoryIds, int[] categoryParents, String[] categoryNames) {
+        this.celebIds = celebIds;
+        this.parents = parents;
+        this.categories = categories;
+        this.namesKr = namesKr;
+        this.namesEn = namesEn;
+        this.childOffsets = childOffsets;
+        this.children = children;
+        this.categoryIds = categoryIds;
+        this.categoryParents = categoryParents;
+        this.categoryNames = categoryNames;
+    }
+
+    static CelebHierarchy build(List<CelebNodeDto> celebList, List<CelebCategoryNodeDto> categoryList) {
+        // category
+        List<CelebCategoryNodeDto> sortedCategories = categoryList.stream()
+                .sorted(Comparator.comparing(CelebCategoryNodeDto::id))
+                .toList();
+        long[] categoryIds = sortedCategories.stream().mapToLong(CelebCategoryNodeDto::id).toArray();
+        int[] categoryParents = new int[categoryIds.length];
+        String[] categoryNames = new String[categoryIds.length];
+        for (int i = 0; i < categoryIds.length; i++) {
+            CelebCategoryNodeDto category = sortedCategories.get(i);
+            categoryParents[i] = indexOfNullable(categoryIds, category.parentId());
+            categoryNames[i] = category.name();
+        }
+
+        // celeb
+        List<CelebNodeDto> sortedCelebs = celebList.stream()
+                .sorted(Comparator.comparing(CelebNodeDto::id))
+                .toList();
+        int size = sortedCelebs.size();
+        long[] celebIds = sortedCelebs.stream().mapToLong(CelebNodeDto::id).toArray();
+        int[] parents = new int[size];
+        int[] categories = new int[size];
+        String[] namesKr = new String[size];
+        String[] namesEn = new String[size];
+        int[] childOffsets = new int[size + 1];
+
+        for (int i = 0; i < size; i++) {
+            CelebNodeDto celeb = sortedCelebs.get(i);
+            parents[i] = indexOfNullable(celebIds, celeb.parentId());
+            categories[i] = indexOfNullable(categoryIds, celeb.celebCategoryId());
+            namesKr[i] = celeb.celebNameKr();
+            namesEn[i] = celeb.celebNameEn();
+            if (parents[i] != NONE) {
+                childOffsets[parents[i] + 1]++;
+            }
+        }
+
+        // 부모별 멤버 수의 누적합이 곧 멤버 구간의 시작 위치
+        for (int i = 0; i < size; i++) {
+            childOffsets[i + 1] += childOffsets[i];
+        }
+        int[] children = new int[childOffsets[size]];
+        int[] cursor = Arrays.copyOf(childOffsets, size);
+        for (int i = 0; i < size; i++) {
+            if (parents[i] != NONE) {
+                children[cursor[parents[i]]++] = i;
+            }
+        }
+
+        return new CelebHierarchy(celebIds, parents, categories, namesKr, namesEn, childOffsets, children,
+                categoryIds, categoryParents, categoryNames);
+    }
+
+    public int size() {
+        return celebIds.length;
+    }
+
+    public boolean contains(long celebId) {
+        return indexOf(celebIds, celebId) != NONE;
+    }
+
+    /**
+     * @return 한글 이름, 없는 Celeb이라면 null
+     */
+    public String getNameKr(long celebId) {
+        int index = indexOf(celebIds, celebId);
+        return index != NONE ? namesKr[index] : null;
+    }
+
+    /**
+     * @return 영어 이름, 없는 Celeb이라면 null
+     */
+    public String getNameEn(long celebId) {
+        int index = indexOf(celebIds, celebId);
+        return index != NONE ? namesEn[index] : null;
+    }
+
+    /**
+     * @return 그룹 id, 솔로이거나 없는 Celeb이라면 null
+     */
+    public Long getParentId(long celebId) {
+        int parent = parentOf(celebId);
+        return parent != NONE ? celebIds[parent] : null;
+    }
+
+    /**
+     * @return 그룹 한글 이름, 솔로이거나 없는 Celeb이라면 null
+     */
+    public String getParentNameKr(long celebId) {
+        int parent = parentOf(celebId);
+        return parent != NONE ? namesKr[parent] : null;
+    }
+
+    /**
+     * @return 그룹 영어 이름, 솔로이거나 없는 Celeb이라면 null
+     */
+    public String getParentNameEn(long celebId) {
+        int parent = parentOf(celebId);
+        return parent != NONE ? namesEn[parent] : null;
+    }
+
+    /**
+     * @return 멤버 id (id 오름차순), 없다면 빈 배열
+     */
+    public long[] getChildIds(long celebId) {
+        int index = indexOf(celebIds, celebId);
+        if (index == NONE || childOffsets[index] == childOffsets[index + 1]) {
+            return EMPTY_IDS;
+        }
+
+        long[] childIds = new long[childOffsets[index + 1] - childOffsets[index]];
+        for (int i = 0; i < childIds.length; i++) {
+            childIds[i] = celebIds[children[childOffsets[index] + i]];
+        }
+        return childIds;
+    }
+
+    /**
+     * @return Celeb의 CelebCategory 이름, 없다면 null
+     */
+    public String getCategoryName(long celebId) {
+        int category = categoryOf(celebId);
+        return category != NONE ? categoryNames[category] : null;
+    }
+
+    /**
+     * @return Celeb의 CelebCategory 상위 카테고리 이름, 없다면 null
+     */
+    public String getParentCategoryName(long celebId) {
+        int category = categoryOf(celebId);
+        if (category == NONE || categoryParents[category] == NONE) {
+            return null;
+        }
+        return categoryNames[categoryParents[category]];
+    }
+
+    private int parentOf(long celebId) {
+        int index = indexOf(celebIds, celebId);
+        return index != NONE ? parents[index] : NONE;
+    }
+
+    private int categoryOf(long celebId) {
+        int index = indexOf(celebIds, celebId);
+        return index != NONE ? categories[index] : NONE;
+    }
+
+    private static int indexOf(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index : NONE;
+    }
+
+    private static int indexOfNullable(long[] ids, Long id) {
+        return id != null ? indexOf(ids, id) : NONE;
+    }
+}
@@ -0,0 +1,82 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.repository.CelebRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Celeb, CelebCategory 계층 in-memory 캐시
+ * 그룹, 멤버, 카테고리 탐색은 엔티티 연관관계 대신 이 snapshot에서 조회하여 추가 SELECT가 없다.
+ * 변경되면 커밋 후 전체를 다시 읽어 snapshot을 통째로 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CelebHierarchyCache {
+    private final CelebRepository celebRepository;
+
+    private volatile CelebHierarchy hierarchy = CelebHierarchy.EMPTY;
+
+    @PostConstruct
+    protected void init() {
+        reloadQuietly();
+    }
+
+    /**
+     * @return 현재 snapshot, 로드 전이라면 빈 snapshot
+     */
+    public CelebHierarchy get() {
+        return hierarchy;
+    }
+
+    /**
+     * == Celeb, CelebCategory 변경을 커밋 후 반영 ==
+     * 트랜잭션 밖이라면 바로 반영한다.
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadQuietly();
+            return;
+        }
+
+        // 한 트랜잭션에서 여러 건이 바뀌어도 한 번만 다시 읽는다
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reloadQuietly();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CelebHierarchyCache.this);
+            }
+        });
+    }
+
+    /**
+     * == DB에서 계층 전체를 다시 읽어 교체 ==
+     * 다른 인스턴스의 변경도 주기적으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${celeb.hierarchy.reload-millis:600000}",
+               initialDelayString = "${celeb.hierarchy.reload-millis:600000}")
+    public synchronized void reloadQuietly() {
+        try {
+            hierarchy = CelebHierarchy.build(
+                    celebRepository.findAllCelebNodes(),
+                    celebRepository.findAllCelebCategoryNodes()
+            );
+        } catch (RuntimeException e) {
+            log.warn("셀럽 계층 로드 실패 : {}", e.getMessage());
+        }
+    }
+}
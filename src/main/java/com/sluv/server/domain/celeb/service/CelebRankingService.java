@@ -0,0 +1,49 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
+import com.sluv.server.global.ranking.PopularityRankingService;
+import com.sluv.server.global.ranking.RankingTarget;
+import com.sluv.server.global.ranking.SelectCountRepository;
+import com.sluv.server.global.ranking.SelectCountWriteBuffer;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 셀럽 선택 기록 기반 인기 셀럽 순위
+ */
+@Service
+public class CelebRankingService extends PopularityRankingService<CelebSearchResDto> {
+    private final CelebHierarchyCache celebHierarchyCache;
+
+    public CelebRankingService(CelebHierarchyCache celebHierarchyCache,
+                               SelectCountRepository selectCountRepository,
+                               SelectCountWriteBuffer selectCountWriteBuffer) {
+        super(RankingTarget.CELEB, selectCountRepository, selectCountWriteBuffer);
+        this.celebHierarchyCache = celebHierarchyCache;
+    }
+
+    @Override
+    protected List<CelebSearchResDto> loadInOrder(List<Long> ids) {
+        CelebHierarchy hierarchy = celebHierarchyCache.get();
+
+        return ids.stream()
+                .filter(hierarchy::contains)
+                .map(id -> {
+                            String celebNameKr = hierarchy.getNameKr(id);
+                            String celebNameEn = hierarchy.getNameEn(id);
+
+                            if (hierarchy.getParentId(id) != null){
+                                celebNameKr = hierarchy.getParentNameKr(id) + " " + celebNameKr;
+                                celebNameEn = hierarchy.getParentNameEn(id) + " " + celebNameEn;
+                            }
+
+                            return CelebSearchResDto.builder()
+                                    .id(id)
+                                    .celebNameKr(celebNameKr)
+                                    .celebNameEn(celebNameEn)
+                                    .build();
+                        }
+                ).toList();
+    }
+}
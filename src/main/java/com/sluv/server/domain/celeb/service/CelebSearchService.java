@@ -0,0 +1,107 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
+import com.sluv.server.domain.celeb.entity.Celeb;
+import com.sluv.server.domain.celeb.entity.CelebSearch;
+import com.sluv.server.domain.celeb.repository.CelebSearchRepository;
+import com.sluv.server.global.common.cursor.Cursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * celeb_search projection 조회와 동기화
+ * 검색은 인덱스 한 번으로 응답 DTO를 바로 만들고, Celeb 변경은 커밋 후 projection과 CelebFuzzyIndex에 반영한다.
+ * 놓친 변경은 주기적으로 celeb 테이블과 비교해 다시 만든다.
+ */
+@Slf4j
+@Service
+public class CelebSearchService {
+    private final CelebSearchRepository celebSearchRepository;
+    private final CelebFuzzyIndex celebFuzzyIndex;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public CelebSearchService(CelebSearchRepository celebSearchRepository, CelebFuzzyIndex celebFuzzyIndex,
+                              PlatformTransactionManager transactionManager) {
+        this.celebSearchRepository = celebSearchRepository;
+        this.celebFuzzyIndex = celebFuzzyIndex;
+        // afterCommit 시점에는 기존 트랜잭션이 끝났으므로 새 트랜잭션으로 쓴다
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<CelebSearchResDto> search(String celebName, Pageable pageable) {
+        return celebSearchRepository.search(celebName, pageable);
+    }
+
+    public List<CelebSearchResDto> searchAfter(String celebName, Cursor cursor, int limit) {
+        return celebSearchRepository.searchAfter(celebName, cursor, limit);
+    }
+
+    /**
+     * == Celeb 변경을 커밋 후 projection에 반영 ==
+     * 트랜잭션 밖이라면 바로 반영한다.
+     *
+     * @param celeb 추가, 수정, 삭제된 Celeb
+     */
+    public void refreshAfterCommit(Celeb celeb) {
+        Set<Long> celebIds = new HashSet<>();
+        celebIds.add(celeb.getId());
+        if (celeb.getParent() != null) {
+            celebIds.add(celeb.getParent().getId());
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshQuietly(celebIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshQuietly(celebIds);
+            }
+        });
+    }
+
+    /**
+     * == celeb 테이블과 달라진 projection row를 다시 만듦 ==
+     * listener를 거치지 않은 Celeb 변경이나 실패한 갱신을 주기적으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${celeb.search.reconcile-millis:600000}",
+               initialDelayString = "${celeb.search.reconcile-millis:600000}")
+    public void reconcileQuietly() {
+        try {
+            List<Long> staleIds = celebSearchRepository.findStaleIds();
+            if (staleIds.isEmpty()) {
+                return;
+            }
+
+            log.info("셀럽 검색 projection 재구성 : {}건", staleIds.size());
+            refreshQuietly(staleIds);
+        } catch (RuntimeException e) {
+            log.warn("셀럽 검색 projection 재구성 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void refreshQuietly(Collection<Long> celebIds) {
+        try {
+            Set<Long> refreshedIds = requiresNewTransaction.execute(status -> celebSearchRepository.refresh(celebIds));
+            List<CelebSearch> rows = celebSearchRepository.findFamily(refreshedIds);
+            celebFuzzyIndex.replaceFamily(refreshedIds, rows);
+        } catch (RuntimeException e) {
+            log.warn("셀럽 검색 projection 갱신 실패 {} : {}", celebIds, e.getMessage());
+        }
+    }
+}
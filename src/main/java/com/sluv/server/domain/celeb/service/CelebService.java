@@ -2,79 +2,100 @@ package com.sluv.server.domain.celeb.service;
 
 import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
 import com.sluv.server.domain.celeb.dto.RecentSelectCelebResDto;
-import com.sluv.server.domain.celeb.entity.Celeb;
 import com.sluv.server.domain.celeb.entity.RecentSelectCeleb;
-import com.sluv.server.domain.celeb.repository.CelebRepository;
 import com.sluv.server.domain.celeb.repository.RecentSelectCelebRepository;
 import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.global.common.cursor.CursorPageResDto;
+import com.sluv.server.global.common.exception.InvalidCursorException;
+import com.sluv.server.global.ranking.RankingWindow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CelebService {
 
-    private final CelebRepository celebRepository;
     private final RecentSelectCelebRepository recentSearchCelebRepository;
+    private final CelebRankingService celebRankingService;
+    private final CelebSearchService celebSearchService;
+    private final CelebFuzzyIndex celebFuzzyIndex;
 
+    @Value("${recent-select.max-size:20}")
+    private int recentSelectSize;
+
+    /**
+     * == Celeb 검색 ==
+     * celeb_search projection에서 표시 이름까지 만들어진 row를 바로 반환한다.
+     * 초성만 입력했거나 일치하는 셀럽이 없다면 첫 페이지는 CelebFuzzyIndex로 찾는다.
+     *
+     * @param celebName 검색어
+     * @param pageable
+     * @return 솔로, 그룹 멤버 단위의 검색 결과
+     */
     public List<CelebSearchResDto> searchCeleb(String celebName, Pageable pageable) {
+        boolean firstPage = pageable.getOffset() == 0;
+        if (firstPage && HangulJamo.isChosungOnly(celebName)) {
+            return celebFuzzyIndex.search(celebName, pageable.getPageSize());
+        }
+
+        List<CelebSearchResDto> result = celebSearchService.search(celebName, pageable);
+        if (firstPage && result.isEmpty()) {
+            return celebFuzzyIndex.search(celebName, pageable.getPageSize());
+        }
+        return result;
+    }
 
-        return celebRepository.searchCeleb(celebName, pageable).stream()
-                .collect(Collectors.partitioningBy(c -> c.getParent() == null))
-                .entrySet().stream()
-                .flatMap(entry -> {
-                    if (entry.getKey()) {
-                        // 검색어가 parent Celeb 일 때
-                        return entry.getValue().stream()
-                                .collect(Collectors.partitioningBy(c -> c.getSubCelebList() == null || c.getSubCelebList().size() == 0))
-                                .entrySet().stream()
-                                .flatMap(parentEntry -> {
-                                    // Celeb이 솔로일 경우
-                                    if(parentEntry.getKey()){
-                                        return parentEntry.getValue().stream()
-                                                        .map(data -> CelebSearchResDto.builder()
-                                                                .id(data.getId())
-                                                                .celebNameKr(data.getCelebNameKr())
-                                                                .celebNameEn(data.getCelebNameEn())
-                                                                .build()
-                                                        );
-
-                                    }else{
-                                        // Celeb이 그룹명일 경우
-                                        return parentEntry.getValue().stream()
-                                                .flatMap(parent -> parent.getSubCelebList().stream()
-                                                        .map(child -> CelebSearchResDto.builder()
-                                                                .id(child.getId())
-                                                                .celebNameKr(parent.getCelebNameKr() + " " + child.getCelebNameKr())
-                                                                .celebNameEn(parent.getCelebNameEn() + " " + child.getCelebNameEn())
-                                                                .build()
-                                                        )
-                                                );
-                                    }
-                                });
-
-                    } else {
-                        // 검색어가 child Celeb 일 때
-                        return entry.getValue().stream()
-                                .map(child ->
-                                        CelebSearchResDto.builder()
-                                                .id(child.getId())
-                                                .celebNameKr(child.getParent().getCelebNameKr() + " " + child.getCelebNameKr())
-                                                .celebNameEn(child.getParent().getCelebNameEn() + " " + child.getCelebNameEn())
-                                                .build()
-                                );
-                    }
-
-                }).toList();
+    /**
+     * == Celeb 검색 (cursor) ==
+     * (표시 이름, id) keyset으로 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     * 첫 페이지에 일치하는 셀럽이 없다면 CelebFuzzyIndex 결과를 다음 페이지 없이 반환한다.
+     *
+     * @param celebName 검색어
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지라면 null
+     * @param size 조회할 결과 수
+     * @return 검색 결과와 다음 cursor
+     * @throws InvalidCursorException
+     */
+    public CursorPageResDto<CelebSearchResDto> searchCelebByCursor(String celebName, String cursor, int size) {
+        Cursor decodedCursor = Cursor.decode(cursor);
+        if (decodedCursor == null && HangulJamo.isChosungOnly(celebName)) {
+            return fuzzySearchPage(celebName, size);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<CelebSearchResDto> content = celebSearchService.searchAfter(celebName, decodedCursor, size + 1);
+        if (decodedCursor == null && content.isEmpty()) {
+            return fuzzySearchPage(celebName, size);
+        }
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        CelebSearchResDto last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPageResDto.<CelebSearchResDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? Cursor.of(last.getCelebNameKr(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
+    private CursorPageResDto<CelebSearchResDto> fuzzySearchPage(String celebName, int size) {
+        return CursorPageResDto.<CelebSearchResDto>builder()
+                .content(celebFuzzyIndex.search(celebName, size))
+                .nextCursor(null)
+                .hasNext(false)
+                .build();
     }
 
     public List<RecentSelectCelebResDto> getUserRecentSelectCeleb(User user){
-        List<RecentSelectCeleb> recentSelectCelebList = recentSearchCelebRepository.getRecentSelectCelebTop20(user);
+        List<RecentSelectCeleb> recentSelectCelebList = recentSearchCelebRepository.getRecentSelectCelebTop(user, recentSelectSize);
 
         return recentSelectCelebList.stream().map(recentSelectCeleb -> {
             Long celebId;
@@ -97,32 +118,13 @@ public class CelebService {
 
     }
 
-    public List<CelebSearchResDto> getTop10Celeb(){
-        return  changeCelebSearchResDto(celebRepository.findTop10Celeb());
-    }
-
     /**
-     * Celeb 리스트를 CelebSearchResDto 리스트로 변경
+     * == 인기 셀럽 조회, 발행된 순위 snapshot을 그대로 반환 ==
+     *
+     * @param window 집계 구간
+     * @return 인기 셀럽 목록
      */
-    private List<CelebSearchResDto> changeCelebSearchResDto(List<Celeb> celebList){
-        return celebList.stream()
-                .map(celeb -> {
-                            String celebNameKr = celeb.getCelebNameKr();
-                            String celebNameEn = celeb.getCelebNameEn();
-
-                            if (celeb.getParent() != null){
-                                celebNameKr = celeb.getParent().getCelebNameKr() + " " + celeb.getCelebNameKr();
-                                celebNameEn = celeb.getParent().getCelebNameEn() + " " + celeb.getCelebNameEn();
-                            }
-
-
-                            return CelebSearchResDto.builder()
-                                    .id(celeb.getId())
-                                    .celebNameKr(celebNameKr)
-                                    .celebNameEn(celebNameEn)
-                                    .build();
-                        }
-
-                ).toList();
+    public List<CelebSearchResDto> getTop10Celeb(RankingWindow window){
+        return celebRankingService.getTop(window);
     }
 }
@@ -0,0 +1,135 @@
+package com.sluv.server.domain.celeb.service;
+
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해
+ * 겹모음, 겹받침까지 기본 자모로 풀어 입력 중인 글자("방ㅌ", "앙" -> "아이유")도 prefix로 비교할 수 있게 한다.
+ */
+final class HangulJamo {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_CONSONANT_END = 'ㅎ';
+    private static final char COMPAT_JAMO_END = 'ㅣ';
+
+    private static final char[] CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 호환 자모(ㄱ ~ ㅣ)를 기본 자모로, 겹자모만 두 글자
+    private static final String[] COMPAT_JAMO = new String[COMPAT_JAMO_END - COMPAT_JAMO_BEGIN + 1];
+
+    static {
+        for (char c = COMPAT_JAMO_BEGIN; c <= COMPAT_JAMO_END; c++) {
+            COMPAT_JAMO[c - COMPAT_JAMO_BEGIN] = String.valueOf(c);
+        }
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            COMPAT_JAMO[compound[0].charAt(0) - COMPAT_JAMO_BEGIN] = compound[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * == 공백을 지우고 소문자로, 한글은 기본 자모로 분해 ==
+     *
+     * @return "방탄 정국" -> "ㅂㅏㅇㅌㅏㄴㅈㅓㅇㄱㅜㄱ"
+     */
+    static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHOSUNG[index / 588])
+                        .append(JUNGSUNG[(index % 588) / 28])
+                        .append(JONGSUNG[index % 28]);
+            } else if (isCompatJamo(c)) {
+                builder.append(COMPAT_JAMO[c - COMPAT_JAMO_BEGIN]);
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * == 공백을 지우고 음절을 초성으로 ==
+     *
+     * @return "방탄 정국" -> "ㅂㅌㅈㄱ"
+     */
+    static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                builder.append(CHOSUNG[(c - SYLLABLE_BEGIN) / 588]);
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * == 영문 비교용, 소문자 글자와 숫자만 남김 ==
+     *
+     * @return "Jung Kook" -> "jungkook"
+     */
+    static String normalizeLatin(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    static boolean containsHangul(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i)) || isCompatJamo(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 공백 외에 한글 자음만 있다면 true ("ㅂㅌ")
+     */
+    static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_CONSONANT_END) {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isCompatJamo(char c) {
+        return c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END;
+    }
+}
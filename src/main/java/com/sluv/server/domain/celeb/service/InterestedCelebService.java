@@ -0,0 +1,144 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
+import com.sluv.server.domain.celeb.repository.CelebRepository;
+import com.sluv.server.domain.celeb.repository.InterestedCelebRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유저별 관심 셀럽 id 캐시와 목록 교체
+ * 처음 조회할 때 DB에서 읽어 InterestedCelebSet으로 보관하고, 변경되면 커밋 후 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class InterestedCelebService {
+    private static final String CACHE_NAME = "interestedCeleb";
+
+    private final InterestedCelebRepository interestedCelebRepository;
+    private final CelebRepository celebRepository;
+    private final CelebHierarchyCache celebHierarchyCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interested-celeb.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    // 다른 인스턴스에서 바뀐 목록은 이 시간 안에 반영된다
+    @Value("${interested-celeb.cache.expire-seconds:300}")
+    private long expireSeconds;
+
+    private Cache<Long, InterestedCelebSet> interestedCelebCache;
+
+    @PostConstruct
+    protected void init() {
+        interestedCelebCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, interestedCelebCache, CACHE_NAME);
+    }
+
+    /**
+     * == 유저의 관심 셀럽 id, 캐시에 없을 때만 DB 조회 ==
+     *
+     * @param userId
+     * @return 최근 등록순 관심 셀럽 id
+     */
+    public InterestedCelebSet getInterestedCelebSet(Long userId) {
+        return interestedCelebCache.get(userId,
+                id -> InterestedCelebSet.of(interestedCelebRepository.findInterestedCelebIds(id))
+        );
+    }
+
+    /**
+     * == 피드 필터링 등에서 셀럽이 유저의 관심 셀럽인지 확인 ==
+     *
+     * @param userId
+     * @param celebId
+     * @return 관심 셀럽이라면 true
+     */
+    public boolean isInterested(Long userId, long celebId) {
+        return getInterestedCelebSet(userId).contains(celebId);
+    }
+
+    /**
+     * == 관심 셀럽 목록을 통째로 교체 ==
+     * 현재 목록과 비교하여 빠진 셀럽 삭제, 새 셀럽 추가만 반영하고 유지되는 셀럽은 건드리지 않는다.
+     *
+     * @param userId
+     * @param celebIds 새 관심 셀럽 목록, 비어 있다면 모두 삭제
+     * @throws CelebNotFoundException
+     */
+    @Transactional
+    public void replaceInterestedCelebs(Long userId, List<Long> celebIds) {
+        Set<Long> nextIds = new LinkedHashSet<>(celebIds != null ? celebIds : List.of());
+        validateCelebs(nextIds);
+
+        long[] currentIds = interestedCelebRepository.findInterestedCelebIds(userId);
+        Set<Long> deleteIds = new LinkedHashSet<>();
+        for (long currentId : currentIds) {
+            if (!nextIds.remove(currentId)) {
+                deleteIds.add(currentId);
+            }
+        }
+
+        if (!deleteIds.isEmpty() || !nextIds.isEmpty()) {
+            interestedCelebRepository.replaceInterestedCelebs(userId, deleteIds, new ArrayList<>(nextIds));
+        }
+        evictAfterCommit(userId);
+    }
+
+    /**
+     * @throws CelebNotFoundException 존재하지 않는 셀럽이 있다면
+     */
+    private void validateCelebs(Set<Long> celebIds) {
+        CelebHierarchy hierarchy = celebHierarchyCache.get();
+        List<Long> uncachedIds = celebIds.stream()
+                .filter(celebId -> celebId == null || !hierarchy.contains(celebId))
+                .toList();
+        if (uncachedIds.isEmpty()) {
+            return;
+        }
+
+        // 계층 캐시에 아직 반영되지 않은 셀럽만 DB에서 확인
+        if (uncachedIds.contains(null) || celebRepository.findAllById(uncachedIds).size() != uncachedIds.size()) {
+            throw new CelebNotFoundException();
+        }
+    }
+
+    /**
+     * == 커밋 후 캐시 무효화, 트랜잭션 밖이라면 바로 무효화 ==
+     *
+     * @param userId
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            interestedCelebCache.invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                interestedCelebCache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.sluv.server.domain.celeb.service;
+
+import java.util.Arrays;
+
+/**
+ * 유저 한 명의 관심 셀럽 id 불변 집합
+ * 응답 순서(최근 등록순)와 포함 여부 확인용 정렬 배열을 long[]로 들고 있어 셀럽 한 명당 16 byte다.
+ */
+public final class InterestedCelebSet {
+    static final InterestedCelebSet EMPTY = new InterestedCelebSet(new long[0]);
+
+    private final long[] orderedIds;
+    private final long[] sortedIds;
+
+    private InterestedCelebSet(long[] orderedIds) {
+        this.orderedIds = orderedIds;
+        this.sortedIds = orderedIds.clone();
+        Arrays.sort(this.sortedIds);
+    }
+
+    /**
+     * @param orderedIds 최근 등록순 셀럽 id, 그대로 보관하므로 호출한 쪽에서 수정하지 않아야 한다
+     */
+    static InterestedCelebSet of(long[] orderedIds) {
+        return orderedIds.length == 0 ? EMPTY : new InterestedCelebSet(orderedIds);
+    }
+
+    public boolean contains(long celebId) {
+        return Arrays.binarySearch(sortedIds, celebId) >= 0;
+    }
+
+    public int size() {
+        return orderedIds.length;
+    }
+
+    /**
+     * @return 최근 등록순 index의 셀럽 id
+     */
+    public long get(int index) {
+        return orderedIds[index];
+    }
+
+    /**
+     * @return 최근 등록순 셀럽 id 복사본
+     */
+    public long[] toArray() {
+        return orderedIds.clone();
+    }
+}
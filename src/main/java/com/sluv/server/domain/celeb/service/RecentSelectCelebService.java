@@ -1,9 +1,9 @@
 package com.sluv.server.domain.celeb.service;
 
+import com.sluv.server.domain.celeb.dto.RecentSelectCelebKey;
 import com.sluv.server.domain.celeb.dto.RecentSelectCelebReqDto;
 import com.sluv.server.domain.celeb.entity.Celeb;
 import com.sluv.server.domain.celeb.entity.NewCeleb;
-import com.sluv.server.domain.celeb.entity.RecentSelectCeleb;
 import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
 import com.sluv.server.domain.celeb.exception.NewCelebNotFoundException;
 import com.sluv.server.domain.celeb.repository.CelebRepository;
@@ -14,12 +14,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class RecentSelectCelebService {
     private final CelebRepository celebRepository;
     private final NewCelebRepository newCelebRepository;
     private final RecentSelectCelebRepository recentSelectCelebRepository;
+    private final CelebRankingService celebRankingService;
+    private final RecentSelectCelebWriteBuffer recentSelectCelebWriteBuffer;
 
     public void postRecentSelectCeleb(User user, RecentSelectCelebReqDto dto){
         Celeb celeb = dto.getCelebId() != null
@@ -32,17 +36,39 @@ public class RecentSelectCelebService {
                 .orElseThrow(NewCelebNotFoundException::new)
                 : null;
 
-        recentSelectCelebRepository.save(
-                RecentSelectCeleb.builder()
-                        .celeb(celeb)
-                        .newCeleb(newCeleb)
-                        .user(user)
-                        .build()
+        saveRecentSelectCeleb(user, celeb, newCeleb);
+    }
+
+    /**
+     * == 최근 선택 셀럽 등록, 이미 있다면 선택 시각만 갱신 ==
+     * 요청 중에는 buffer에만 넣고 DB에는 모아서 쓴다. 유저마다 recent-select.max-size건까지만 유지한다.
+     *
+     * @param user
+     * @param celeb null 가능
+     * @param newCeleb null 가능
+     */
+    public void saveRecentSelectCeleb(User user, Celeb celeb, NewCeleb newCeleb) {
+        if (celeb == null && newCeleb == null) {
+            return;
+        }
+
+        recentSelectCelebWriteBuffer.offer(
+                new RecentSelectCelebKey(
+                        user.getId(),
+                        celeb != null ? celeb.getId() : null,
+                        newCeleb != null ? newCeleb.getId() : null
+                ),
+                LocalDateTime.now()
         );
+
+        if (celeb != null) {
+            celebRankingService.record(celeb.getId());
+        }
     }
 
     @Transactional
     public void deleteAllRecentSelectCeleb(User user) {
+        recentSelectCelebWriteBuffer.discard(key -> key.userId().equals(user.getId()));
         recentSelectCelebRepository.deleteAllByUserId(user.getId());
     }
 }
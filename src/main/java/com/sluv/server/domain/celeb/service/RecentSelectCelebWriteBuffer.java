@@ -0,0 +1,32 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.RecentSelectCelebKey;
+import com.sluv.server.domain.celeb.repository.RecentSelectCelebRepository;
+import com.sluv.server.global.writebehind.WriteBehindBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 최근 선택 셀럽 write-behind, 같은 유저가 같은 셀럽를 여러 번 골라도 마지막 선택 시각 한 건만 쓴다.
+ */
+@Component
+public class RecentSelectCelebWriteBuffer extends WriteBehindBuffer<RecentSelectCelebKey, LocalDateTime> {
+    private final RecentSelectCelebRepository recentSelectCelebRepository;
+
+    @Value("${recent-select.max-size:20}")
+    private int maxSize;
+
+    public RecentSelectCelebWriteBuffer(RecentSelectCelebRepository recentSelectCelebRepository, MeterRegistry meterRegistry) {
+        super(meterRegistry);
+        this.recentSelectCelebRepository = recentSelectCelebRepository;
+    }
+
+    @Override
+    protected void write(Map<RecentSelectCelebKey, LocalDateTime> batch) {
+        recentSelectCelebRepository.upsertRecentSelectCelebs(batch, maxSize);
+    }
+}
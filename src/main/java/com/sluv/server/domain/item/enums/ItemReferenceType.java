@@ -0,0 +1,21 @@
+package com.sluv.server.domain.item.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Item, TempItem이 참조하는 테이블과 id 컬럼
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ItemReferenceType {
+    CELEB("celeb", "celeb_id"),
+    NEW_CELEB("new_celeb", "new_celeb_id"),
+    BRAND("brand", "brand_id"),
+    NEW_BRAND("new_brand", "new_brand_id"),
+    ITEM_CATEGORY("item_category", "item_category_id"),
+    HASHTAG("hashtag", "hashtag_id");
+
+    private final String tableName;
+    private final String idColumn;
+}
@@ -1,7 +1,8 @@
 package com.sluv.server.domain.item.repository;
 
 import com.sluv.server.domain.item.entity.ItemImg;
+import com.sluv.server.domain.item.repository.impl.ItemImgRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ItemImgRepository extends JpaRepository<ItemImg, Long> {
+public interface ItemImgRepository extends JpaRepository<ItemImg, Long>, ItemImgRepositoryCustom {
 }
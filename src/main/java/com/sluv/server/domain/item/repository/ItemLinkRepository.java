@@ -1,7 +1,8 @@
 package com.sluv.server.domain.item.repository;
 
 import com.sluv.server.domain.item.entity.ItemLink;
+import com.sluv.server.domain.item.repository.impl.ItemLinkRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ItemLinkRepository extends JpaRepository<ItemLink, Long> {
+public interface ItemLinkRepository extends JpaRepository<ItemLink, Long>, ItemLinkRepositoryCustom {
 }
@@ -2,12 +2,19 @@ package com.sluv.server.domain.item.repository;
 
 import com.sluv.server.domain.item.entity.TempItem;
 import com.sluv.server.domain.item.entity.TempItemLink;
+import com.sluv.server.domain.item.repository.impl.TempItemLinkRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface TempItemLinkRepository extends JpaRepository<TempItemLink, Long> {
+public interface TempItemLinkRepository extends JpaRepository<TempItemLink, Long>, TempItemLinkRepositoryCustom {
     List<TempItemLink> findAllByTempItem(TempItem tempItem);
 
-    void deleteAllByTempItemId(Long id);
+    // 한 건씩 조회 후 삭제하지 않고 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("delete from TempItemLink t where t.tempItem.id = :id")
+    void deleteAllByTempItemId(@Param("id") Long id);
 }
@@ -1,7 +1,8 @@
 package com.sluv.server.domain.item.repository.hashtag;
 
 import com.sluv.server.domain.item.entity.hashtag.ItemHashtag;
+import com.sluv.server.domain.item.repository.hashtag.impl.ItemHashtagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ItemHashtagRepository extends JpaRepository<ItemHashtag, Long> {
+public interface ItemHashtagRepository extends JpaRepository<ItemHashtag, Long>, ItemHashtagRepositoryCustom {
 }
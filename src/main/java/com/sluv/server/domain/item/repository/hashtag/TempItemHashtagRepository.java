@@ -2,12 +2,19 @@ package com.sluv.server.domain.item.repository.hashtag;
 
 import com.sluv.server.domain.item.entity.TempItem;
 import com.sluv.server.domain.item.entity.hashtag.TempItemHashtag;
+import com.sluv.server.domain.item.repository.hashtag.impl.TempItemHashtagRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface TempItemHashtagRepository extends JpaRepository<TempItemHashtag, Long> {
+public interface TempItemHashtagRepository extends JpaRepository<TempItemHashtag, Long>, TempItemHashtagRepositoryCustom {
     List<TempItemHashtag> findAllByTempItem(TempItem tempItem);
 
-    void deleteAllByTempItemId(Long id);
+    // 한 건씩 조회 후 삭제하지 않고 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("delete from TempItemHashtag t where t.tempItem.id = :id")
+    void deleteAllByTempItemId(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package com.sluv.server.domain.item.repository.hashtag.impl;
+
+import com.sluv.server.domain.item.entity.hashtag.ItemHashtag;
+
+import java.util.List;
+
+public interface ItemHashtagRepositoryCustom {
+    void insertAll(List<ItemHashtag> itemHashtags);
+}
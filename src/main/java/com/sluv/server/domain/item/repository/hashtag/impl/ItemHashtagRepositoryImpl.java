@@ -0,0 +1,47 @@
+package com.sluv.server.domain.item.repository.hashtag.impl;
+
+import com.sluv.server.domain.item.entity.hashtag.ItemHashtag;
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ItemHashtagRepositoryImpl implements ItemHashtagRepositoryCustom {
+    // rewriteBatchedStatements로 multi-row INSERT 한 번에 전송된다
+    private static final String INSERT_ITEM_HASHTAG = """
+            INSERT INTO item_hashtag (item_hashtag_id, item_id, hashtag_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == Item 해시태그 목록을 batch INSERT 한 번으로 등록 ==
+     * id는 SluvIdService에서 발급하며 itemHashtags의 id는 채워지지 않는다.
+     *
+     * @param itemHashtags 저장된 부모를 참조하는 ItemHashtag 목록
+     */
+    @Override
+    public void insertAll(List<ItemHashtag> itemHashtags) {
+        if (itemHashtags.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ITEM_HASHTAG, itemHashtags.stream()
+                .map(itemHashtag -> new Object[]{
+                        sluvIdService.nextId(),
+                        itemHashtag.getItem().getId(),
+                        itemHashtag.getHashtag().getId(),
+                        now,
+                        now
+                })
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.sluv.server.domain.item.repository.hashtag.impl;
+
+import com.sluv.server.domain.item.entity.hashtag.TempItemHashtag;
+
+import java.util.List;
+
+public interface TempItemHashtagRepositoryCustom {
+    void insertAll(List<TempItemHashtag> tempItemHashtags);
+}
@@ -0,0 +1,47 @@
+package com.sluv.server.domain.item.repository.hashtag.impl;
+
+import com.sluv.server.domain.item.entity.hashtag.TempItemHashtag;
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TempItemHashtagRepositoryImpl implements TempItemHashtagRepositoryCustom {
+    // rewriteBatchedStatements로 multi-row INSERT 한 번에 전송된다
+    private static final String INSERT_TEMP_ITEM_HASHTAG = """
+            INSERT INTO temp_item_hashtag (temp_item_hashtag_id, temp_item_id, hashtag_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == TempItem 해시태그 목록을 batch INSERT 한 번으로 등록 ==
+     * id는 SluvIdService에서 발급하며 tempItemHashtags의 id는 채워지지 않는다.
+     *
+     * @param tempItemHashtags 저장된 부모를 참조하는 TempItemHashtag 목록
+     */
+    @Override
+    public void insertAll(List<TempItemHashtag> tempItemHashtags) {
+        if (tempItemHashtags.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TEMP_ITEM_HASHTAG, tempItemHashtags.stream()
+                .map(tempItemHashtag -> new Object[]{
+                        sluvIdService.nextId(),
+                        tempItemHashtag.getTempItem().getId(),
+                        tempItemHashtag.getHashtag() != null ? tempItemHashtag.getHashtag().getId() : null,
+                        now,
+                        now
+                })
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.ItemImg;
+
+import java.util.List;
+
+public interface ItemImgRepositoryCustom {
+    void insertAll(List<ItemImg> itemImgs);
+}
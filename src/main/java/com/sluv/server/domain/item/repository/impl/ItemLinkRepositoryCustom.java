@@ -0,0 +1,9 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.ItemLink;
+
+import java.util.List;
+
+public interface ItemLinkRepositoryCustom {
+    void insertAll(List<ItemLink> itemLinks);
+}
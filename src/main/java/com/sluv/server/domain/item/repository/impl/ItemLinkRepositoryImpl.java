@@ -0,0 +1,54 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.ItemLink;
+import com.sluv.server.global.common.enums.ItemImgOrLinkStatus;
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ItemLinkRepositoryImpl implements ItemLinkRepositoryCustom {
+    // rewriteBatchedStatements로 multi-row INSERT 한 번에 전송된다
+    private static final String INSERT_ITEM_LINK = """
+            INSERT INTO item_link (item_link_id, item_id, link_name, item_link_url, item_img_or_link_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == Item 링크 목록을 batch INSERT 한 번으로 등록 ==
+     * id는 SluvIdService에서 발급하며 itemLinks의 id는 채워지지 않는다.
+     *
+     * @param itemLinks 저장된 부모를 참조하는 ItemLink 목록
+     */
+    @Override
+    public void insertAll(List<ItemLink> itemLinks) {
+        if (itemLinks.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ITEM_LINK, itemLinks.stream()
+                .map(itemLink -> new Object[]{
+                        sluvIdService.nextId(),
+                        itemLink.getItem().getId(),
+                        itemLink.getLinkName(),
+                        itemLink.getItemLinkUrl(),
+                        status(itemLink.getItemImgOrLinkStatus()),
+                        now,
+                        now
+                })
+                .toList()
+        );
+    }
+
+    private static String status(ItemImgOrLinkStatus status) {
+        return (status != null ? status : ItemImgOrLinkStatus.ACTIVE).name();
+    }
+}
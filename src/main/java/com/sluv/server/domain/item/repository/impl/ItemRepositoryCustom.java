@@ -0,0 +1,11 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.enums.ItemReferenceType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface ItemRepositoryCustom {
+    Map<ItemReferenceType, Set<Long>> findExistingReferenceIds(Map<ItemReferenceType, ? extends Collection<Long>> idsByType);
+}
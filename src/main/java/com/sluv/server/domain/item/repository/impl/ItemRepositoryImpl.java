@@ -0,0 +1,54 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.enums.ItemReferenceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+    // 테이블, 컬럼 이름은 ItemReferenceType의 상수만 들어간다
+    private static final String SELECT_EXISTING_REFERENCE_IDS = """
+            SELECT '%1$s' AS reference_type, %3$s AS id FROM %2$s WHERE %3$s IN (:%1$s)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * == 참조 테이블별 id 존재 여부를 PK IN 조회의 UNION ALL 한 번으로 확인 ==
+     *
+     * @param idsByType 참조 종류 -> 확인할 id, 빈 목록은 조회하지 않음
+     * @return 참조 종류 -> 존재하는 id
+     */
+    @Override
+    public Map<ItemReferenceType, Set<Long>> findExistingReferenceIds(Map<ItemReferenceType, ? extends Collection<Long>> idsByType) {
+        Map<ItemReferenceType, Set<Long>> existingIds = new EnumMap<>(ItemReferenceType.class);
+
+        StringJoiner sql = new StringJoiner("UNION ALL\n");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        idsByType.forEach((type, ids) -> {
+            if (!ids.isEmpty()) {
+                sql.add(SELECT_EXISTING_REFERENCE_IDS.formatted(type.name(), type.getTableName(), type.getIdColumn()));
+                params.addValue(type.name(), ids);
+            }
+        });
+
+        if (sql.length() == 0) {
+            return existingIds;
+        }
+
+        namedParameterJdbcTemplate.query(sql.toString(), params, rs -> {
+            existingIds.computeIfAbsent(ItemReferenceType.valueOf(rs.getString("reference_type")), type -> new HashSet<>())
+                    .add(rs.getLong("id"));
+        });
+
+        return existingIds;
+    }
+}
@@ -0,0 +1,9 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.TempItemImg;
+
+import java.util.List;
+
+public interface TempItemImgRepositoryCustom {
+    void insertAll(List<TempItemImg> tempItemImgs);
+}
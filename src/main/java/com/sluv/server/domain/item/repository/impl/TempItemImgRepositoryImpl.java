@@ -0,0 +1,54 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.TempItemImg;
+import com.sluv.server.global.common.enums.ItemImgOrLinkStatus;
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TempItemImgRepositoryImpl implements TempItemImgRepositoryCustom {
+    // rewriteBatchedStatements로 multi-row INSERT 한 번에 전송된다
+    private static final String INSERT_TEMP_ITEM_IMG = """
+            INSERT INTO temp_item_img (temp_item_img_id, temp_item_id, temp_item_img_url, represent_flag, item_img_or_link_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == TempItem 이미지 목록을 batch INSERT 한 번으로 등록 ==
+     * id는 SluvIdService에서 발급하며 tempItemImgs의 id는 채워지지 않는다.
+     *
+     * @param tempItemImgs 저장된 부모를 참조하는 TempItemImg 목록
+     */
+    @Override
+    public void insertAll(List<TempItemImg> tempItemImgs) {
+        if (tempItemImgs.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TEMP_ITEM_IMG, tempItemImgs.stream()
+                .map(tempItemImg -> new Object[]{
+                        sluvIdService.nextId(),
+                        tempItemImg.getTempItem().getId(),
+                        tempItemImg.getTempItemImgUrl(),
+                        tempItemImg.getRepresentFlag(),
+                        status(tempItemImg.getItemImgOrLinkStatus()),
+                        now,
+                        now
+                })
+                .toList()
+        );
+    }
+
+    private static String status(ItemImgOrLinkStatus status) {
+        return (status != null ? status : ItemImgOrLinkStatus.ACTIVE).name();
+    }
+}
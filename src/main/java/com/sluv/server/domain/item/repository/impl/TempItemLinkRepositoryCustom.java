@@ -0,0 +1,9 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.TempItemLink;
+
+import java.util.List;
+
+public interface TempItemLinkRepositoryCustom {
+    void insertAll(List<TempItemLink> tempItemLinks);
+}
@@ -0,0 +1,54 @@
+package com.sluv.server.domain.item.repository.impl;
+
+import com.sluv.server.domain.item.entity.TempItemLink;
+import com.sluv.server.global.common.enums.ItemImgOrLinkStatus;
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TempItemLinkRepositoryImpl implements TempItemLinkRepositoryCustom {
+    // rewriteBatchedStatements로 multi-row INSERT 한 번에 전송된다
+    private static final String INSERT_TEMP_ITEM_LINK = """
+            INSERT INTO temp_item_link (temp_item_link_id, temp_item_id, link_name, temp_item_link_url, item_img_or_link_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == TempItem 링크 목록을 batch INSERT 한 번으로 등록 ==
+     * id는 SluvIdService에서 발급하며 tempItemLinks의 id는 채워지지 않는다.
+     *
+     * @param tempItemLinks 저장된 부모를 참조하는 TempItemLink 목록
+     */
+    @Override
+    public void insertAll(List<TempItemLink> tempItemLinks) {
+        if (tempItemLinks.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TEMP_ITEM_LINK, tempItemLinks.stream()
+                .map(tempItemLink -> new Object[]{
+                        sluvIdService.nextId(),
+                        tempItemLink.getTempItem().getId(),
+                        tempItemLink.getLinkName(),
+                        tempItemLink.getTempItemLinkUrl(),
+                        status(tempItemLink.getItemImgOrLinkStatus()),
+                        now,
+                        now
+                })
+                .toList()
+        );
+    }
+
+    private static String status(ItemImgOrLinkStatus status) {
+        return (status != null ? status : ItemImgOrLinkStatus.ACTIVE).name();
+    }
+}
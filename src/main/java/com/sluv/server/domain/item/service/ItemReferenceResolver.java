@@ -0,0 +1,154 @@
+package com.sluv.server.domain.item.service;
+
+import com.sluv.server.domain.brand.entity.Brand;
+import com.sluv.server.domain.brand.entity.NewBrand;
+import com.sluv.server.domain.brand.exception.BrandNotFoundException;
+import com.sluv.server.domain.brand.exception.NewBrandNotFoundException;
+import com.sluv.server.domain.brand.repository.BrandRepository;
+import com.sluv.server.domain.brand.repository.NewBrandRepository;
+import com.sluv.server.domain.brand.service.BrandSearchIndex;
+import com.sluv.server.domain.celeb.entity.Celeb;
+import com.sluv.server.domain.celeb.entity.NewCeleb;
+import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
+import com.sluv.server.domain.celeb.exception.NewCelebNotFoundException;
+import com.sluv.server.domain.celeb.repository.CelebRepository;
+import com.sluv.server.domain.celeb.repository.NewCelebRepository;
+import com.sluv.server.domain.celeb.service.CelebHierarchyCache;
+import com.sluv.server.domain.item.dto.ItemPostReqDto;
+import com.sluv.server.domain.item.dto.TempItemPostReqDto;
+import com.sluv.server.domain.item.entity.ItemCategory;
+import com.sluv.server.domain.item.entity.hashtag.Hashtag;
+import com.sluv.server.domain.item.enums.ItemReferenceType;
+import com.sluv.server.domain.item.exception.ItemCategoryNotFoundException;
+import com.sluv.server.domain.item.exception.hashtag.HashtagNotFoundException;
+import com.sluv.server.domain.item.repository.ItemCategoryRepository;
+import com.sluv.server.domain.item.repository.ItemRepository;
+import com.sluv.server.domain.item.repository.hashtag.HashtagRepository;
+import com.sluv.server.global.common.exception.ApplicationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.sluv.server.domain.item.enums.ItemReferenceType.*;
+
+/**
+ * Item, TempItem 등록 요청이 참조하는 엔티티를 한 번에 확인하고 참조(proxy)로 반환
+ * Celeb, Brand는 CelebHierarchyCache, BrandSearchIndex snapshot에 있다면 DB를 조회하지 않고,
+ * 나머지는 종류별 PK IN 조회를 UNION ALL로 묶어 요청당 최대 한 번만 조회한다.
+ * snapshot 반영 전에 삭제된 Celeb, Brand는 여기서 걸러지지 않고 INSERT 시 FK 위반으로 실패한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemReferenceResolver {
+    private final ItemRepository itemRepository;
+    private final CelebRepository celebRepository;
+    private final NewCelebRepository newCelebRepository;
+    private final BrandRepository brandRepository;
+    private final NewBrandRepository newBrandRepository;
+    private final ItemCategoryRepository itemCategoryRepository;
+    private final HashtagRepository hashtagRepository;
+
+    private final CelebHierarchyCache celebHierarchyCache;
+    private final BrandSearchIndex brandSearchIndex;
+
+    public ItemReferences resolve(ItemPostReqDto reqDto) {
+        return resolve(reqDto.getCelebId(), reqDto.getNewCelebId(), reqDto.getBrandId(), reqDto.getNewBrandId(),
+                reqDto.getCategoryId(), reqDto.getHashTagIdList());
+    }
+
+    public ItemReferences resolve(TempItemPostReqDto reqDto) {
+        return resolve(reqDto.getCelebId(), reqDto.getNewCelebId(), reqDto.getBrandId(), reqDto.getNewBrandId(),
+                reqDto.getCategoryId(), reqDto.getHashTagIdList());
+    }
+
+    /**
+     * == 참조 id 존재 여부를 한 번에 확인하고 참조로 변환 ==
+     *
+     * @param celebId
+     * @param newCelebId
+     * @param brandId
+     * @param newBrandId
+     * @param categoryId
+     * @param hashtagIds 요청 순서 그대로 Hashtag 참조로 변환
+     * @return null인 id는 null, hashtagIds가 null이라면 빈 목록
+     * @throws CelebNotFoundException, NewCelebNotFoundException, BrandNotFoundException,
+     *         NewBrandNotFoundException, ItemCategoryNotFoundException, HashtagNotFoundException
+     */
+    public ItemReferences resolve(Long celebId, Long newCelebId, Long brandId, Long newBrandId,
+                                  Long categoryId, List<Long> hashtagIds) {
+        Map<ItemReferenceType, Set<Long>> uncheckedIds = new EnumMap<>(ItemReferenceType.class);
+        if (celebId != null && !celebHierarchyCache.get().contains(celebId)) {
+            uncheckedIds.put(CELEB, Set.of(celebId));
+        }
+        if (brandId != null && !brandSearchIndex.contains(brandId)) {
+            uncheckedIds.put(BRAND, Set.of(brandId));
+        }
+        if (newCelebId != null) {
+            uncheckedIds.put(NEW_CELEB, Set.of(newCelebId));
+        }
+        if (newBrandId != null) {
+            uncheckedIds.put(NEW_BRAND, Set.of(newBrandId));
+        }
+        if (categoryId != null) {
+            uncheckedIds.put(ITEM_CATEGORY, Set.of(categoryId));
+        }
+        if (hashtagIds != null && !hashtagIds.isEmpty()) {
+            // null id는 존재할 수 없고, 불변 Set의 contains(null)은 NPE를 던지므로 조회 전에 거른다
+            if (hashtagIds.stream().anyMatch(Objects::isNull)) {
+                throw new HashtagNotFoundException();
+            }
+            uncheckedIds.put(HASHTAG, new HashSet<>(hashtagIds));
+        }
+
+        Map<ItemReferenceType, Set<Long>> existingIds = uncheckedIds.isEmpty()
+                ? Map.of()
+                : itemRepository.findExistingReferenceIds(uncheckedIds);
+
+        validate(CELEB, uncheckedIds, existingIds, CelebNotFoundException::new);
+        validate(BRAND, uncheckedIds, existingIds, BrandNotFoundException::new);
+        validate(NEW_CELEB, uncheckedIds, existingIds, NewCelebNotFoundException::new);
+        validate(NEW_BRAND, uncheckedIds, existingIds, NewBrandNotFoundException::new);
+        validate(ITEM_CATEGORY, uncheckedIds, existingIds, ItemCategoryNotFoundException::new);
+        validate(HASHTAG, uncheckedIds, existingIds, HashtagNotFoundException::new);
+
+        // 존재가 확인된 id이므로 SELECT 없이 참조만 만든다
+        return new ItemReferences(
+                celebId != null ? celebRepository.getReferenceById(celebId) : null,
+                newCelebId != null ? newCelebRepository.getReferenceById(newCelebId) : null,
+                brandId != null ? brandRepository.getReferenceById(brandId) : null,
+                newBrandId != null ? newBrandRepository.getReferenceById(newBrandId) : null,
+                categoryId != null ? itemCategoryRepository.getReferenceById(categoryId) : null,
+                hashtagIds != null
+                        ? hashtagIds.stream().map(hashtagRepository::getReferenceById).toList()
+                        : List.of()
+        );
+    }
+
+    private static void validate(ItemReferenceType type,
+                                 Map<ItemReferenceType, Set<Long>> uncheckedIds,
+                                 Map<ItemReferenceType, Set<Long>> existingIds,
+                                 Supplier<? extends ApplicationException> exception) {
+        Set<Long> ids = uncheckedIds.get(type);
+        if (ids != null && !existingIds.getOrDefault(type, Set.of()).containsAll(ids)) {
+            throw exception.get();
+        }
+    }
+
+    /**
+     * Item, TempItem 등록 요청의 참조, 모두 존재가 확인된 엔티티의 참조
+     */
+    public record ItemReferences(Celeb celeb,
+                                 NewCeleb newCeleb,
+                                 Brand brand,
+                                 NewBrand newBrand,
+                                 ItemCategory category,
+                                 List<Hashtag> hashtags) {
+    }
+}
@@ -1,34 +1,19 @@
 package com.sluv.server.domain.item.service;
 
-import com.sluv.server.domain.brand.entity.Brand;
-import com.sluv.server.domain.brand.entity.NewBrand;
-import com.sluv.server.domain.brand.entity.RecentSelectBrand;
-import com.sluv.server.domain.brand.exception.BrandNotFoundException;
-import com.sluv.server.domain.brand.exception.NewBrandNotFoundException;
-import com.sluv.server.domain.brand.repository.BrandRepository;
-import com.sluv.server.domain.brand.repository.NewBrandRepository;
-import com.sluv.server.domain.brand.repository.RecentSelectBrandRepository;
-import com.sluv.server.domain.celeb.entity.Celeb;
-import com.sluv.server.domain.celeb.entity.NewCeleb;
-import com.sluv.server.domain.celeb.entity.RecentSelectCeleb;
-import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
-import com.sluv.server.domain.celeb.exception.NewCelebNotFoundException;
-import com.sluv.server.domain.celeb.repository.CelebRepository;
-import com.sluv.server.domain.celeb.repository.NewCelebRepository;
-import com.sluv.server.domain.celeb.repository.RecentSelectCelebRepository;
+import com.sluv.server.domain.brand.service.RecentSelectBrandService;
+import com.sluv.server.domain.celeb.service.RecentSelectCelebService;
 import com.sluv.server.domain.item.dto.ItemPostReqDto;
 import com.sluv.server.domain.item.entity.*;
 import com.sluv.server.domain.item.entity.hashtag.ItemHashtag;
 import com.sluv.server.domain.item.enums.ItemStatus;
-import com.sluv.server.domain.item.exception.ItemCategoryNotFoundException;
-import com.sluv.server.domain.item.exception.hashtag.HashtagNotFoundException;
 import com.sluv.server.domain.item.repository.*;
-import com.sluv.server.domain.item.repository.hashtag.HashtagRepository;
 import com.sluv.server.domain.item.repository.hashtag.ItemHashtagRepository;
+import com.sluv.server.domain.item.service.ItemReferenceResolver.ItemReferences;
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.global.common.enums.ItemImgOrLinkStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -37,54 +22,26 @@ public class ItemService {
     private final ItemImgRepository itemImgRepository;
     private final ItemLinkRepository itemLinkRepository;
     private final ItemHashtagRepository itemHashtagRepository;
-    private final HashtagRepository hashtagRepository;
-    private final CelebRepository celebRepository;
-    private final ItemCategoryRepository itemCategoryRepository;
-    private final BrandRepository brandRepository;
-
-    private final NewBrandRepository newBrandRepository;
-    private final NewCelebRepository newCelebRepository;
+    private final ItemReferenceResolver itemReferenceResolver;
 
     private final PlaceRankRepository placeRankRepository;
-    private final RecentSelectCelebRepository recentSearchCelebRepository;
-    private final RecentSelectBrandRepository recentSelectBrandRepository;
+    private final RecentSelectCelebService recentSelectCelebService;
+    private final RecentSelectBrandService recentSelectBrandService;
 
+    @Transactional
     public void postItem(User user, ItemPostReqDto reqDto) {
-        Celeb celeb = null;
-        if(reqDto.getCelebId() != null){
-            celeb = celebRepository.findById(reqDto.getCelebId())
-                    .orElseThrow(CelebNotFoundException::new);
-        }
-
-        Brand brand = null;
-        if(reqDto.getBrandId() != null){
-            brand = brandRepository.findById(reqDto.getBrandId())
-                    .orElseThrow(BrandNotFoundException::new);
-        }
-
-        NewCeleb newCeleb = null;
-        if(reqDto.getNewCelebId() != null){
-            newCeleb = newCelebRepository.findById(reqDto.getNewCelebId())
-                    .orElseThrow(NewCelebNotFoundException::new);
-        }
-
-        NewBrand newBrand = null;
-        if(reqDto.getNewCelebId() != null){
-            newBrand = newBrandRepository.findById(reqDto.getNewBrandId())
-                    .orElseThrow(NewBrandNotFoundException::new);
-        }
-
-        ItemCategory itemCategory = itemCategoryRepository.findById(reqDto.getCategoryId())
-                .orElseThrow(ItemCategoryNotFoundException::new);
-
+        // 셀럽, 브랜드, 카테고리, 해시태그를 한 번에 확인
+        ItemReferences references = itemReferenceResolver.resolve(reqDto);
 
-        Item newItem = itemRepository.save(Item.builder()
+        // id를 미리 발급하므로 save만으로는 INSERT가 commit 때까지 미뤄진다
+        // 자식 row를 JDBC로 바로 INSERT하기 전에 부모 row를 먼저 보내야 FK를 만족한다
+        Item newItem = itemRepository.saveAndFlush(Item.builder()
                 .user(user)
-                .celeb(celeb)
-                .category(itemCategory)
-                .brand(brand)
-                .newBrand(newBrand)
-                .newCeleb(newCeleb)
+                .celeb(references.celeb())
+                .category(references.category())
+                .brand(references.brand())
+                .newBrand(references.newBrand())
+                .newCeleb(references.newCeleb())
                 .name(reqDto.getItemName())
                 .whenDiscovery(reqDto.getWhenDiscovery())
                 .whereDiscovery(reqDto.getWhereDiscovery())
@@ -95,8 +52,8 @@ public class ItemService {
                 .build()
         );
 
-        // ItemImg 테이블에 추가
-        reqDto.getImgList().stream()
+        // ItemImg 테이블에 추가, 자식 테이블마다 batch INSERT 한 번
+        itemImgRepository.insertAll(reqDto.getImgList().stream()
                         .map(itemImg->
                             ItemImg.builder()
                                     .item(newItem)
@@ -104,13 +61,13 @@ public class ItemService {
                                     .representFlag(itemImg.getRepresentFlag())
                                     .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
                                     .build()
-                        ).forEach(itemImgRepository::save);
+                        ).toList());
 
 
 
         // ItemLink 테이블에 추가
         if(reqDto.getLinkList() != null) {
-            reqDto.getLinkList().stream()
+            itemLinkRepository.insertAll(reqDto.getLinkList().stream()
                     .map(itemLink ->
                             ItemLink.builder()
                                     .item(newItem)
@@ -119,24 +76,19 @@ public class ItemService {
                                     .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
                                     .build()
 
-                    ).forEach(itemLinkRepository::save);
+                    ).toList());
         }
 
 
         // ItemHashtag 테이블에 추가
-        if(reqDto.getHashTagIdList() != null) {
-            reqDto.getHashTagIdList().stream().map(hashTag ->
-
-                    ItemHashtag.builder()
-                            .item(newItem)
-                            .hashtag(
-                                    hashtagRepository.findById(hashTag)
-                                            .orElseThrow(HashtagNotFoundException::new)
-                            )
-                            .build()
-
-            ).forEach(itemHashtagRepository::save);
-        }
+        itemHashtagRepository.insertAll(references.hashtags().stream().map(hashtag ->
+
+                ItemHashtag.builder()
+                        .item(newItem)
+                        .hashtag(hashtag)
+                        .build()
+
+        ).toList());
 
         // PlaceRank 테이블에 추가
         if(reqDto.getWhereDiscovery() != null) {
@@ -146,20 +98,9 @@ public class ItemService {
             );
         }
 
-        // Recent Search Celeb 테이블에 추가
-        recentSearchCelebRepository.save(RecentSelectCeleb.builder()
-                .user(user)
-                .celeb(celeb)
-                .newCeleb(newCeleb)
-                .build()
-        );
-
-        recentSelectBrandRepository.save(RecentSelectBrand.builder()
-                .user(user)
-                .brand(brand)
-                .newBrand(newBrand)
-                .build()
-        );
+        // 최근 선택 셀럽, 브랜드 갱신
+        recentSelectCelebService.saveRecentSelectCeleb(user, references.celeb(), references.newCeleb());
+        recentSelectBrandService.saveRecentSelectBrand(user, references.brand(), references.newBrand());
 
     }
 }
@@ -1,33 +1,21 @@
 package com.sluv.server.domain.item.service;
 
-import com.sluv.server.domain.brand.entity.Brand;
-import com.sluv.server.domain.brand.entity.NewBrand;
-import com.sluv.server.domain.brand.entity.RecentSelectBrand;
-import com.sluv.server.domain.brand.exception.BrandNotFoundException;
-import com.sluv.server.domain.brand.exception.NewBrandNotFoundException;
-import com.sluv.server.domain.brand.repository.BrandRepository;
-import com.sluv.server.domain.brand.repository.NewBrandRepository;
-import com.sluv.server.domain.brand.repository.RecentSelectBrandRepository;
+import com.sluv.server.domain.brand.service.RecentSelectBrandService;
 import com.sluv.server.domain.celeb.dto.CelebDto;
 import com.sluv.server.domain.celeb.entity.Celeb;
-import com.sluv.server.domain.celeb.entity.NewCeleb;
-import com.sluv.server.domain.celeb.entity.RecentSelectCeleb;
-import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
-import com.sluv.server.domain.celeb.exception.NewCelebNotFoundException;
-import com.sluv.server.domain.celeb.repository.CelebRepository;
-import com.sluv.server.domain.celeb.repository.NewCelebRepository;
-import com.sluv.server.domain.celeb.repository.RecentSelectCelebRepository;
+import com.sluv.server.domain.celeb.entity.CelebCategory;
+import com.sluv.server.domain.celeb.service.CelebHierarchy;
+import com.sluv.server.domain.celeb.service.CelebHierarchyCache;
+import com.sluv.server.domain.celeb.service.RecentSelectCelebService;
 import com.sluv.server.domain.item.dto.*;
 import com.sluv.server.domain.item.entity.*;
 import com.sluv.server.domain.item.entity.hashtag.Hashtag;
 import com.sluv.server.domain.item.entity.hashtag.TempItemHashtag;
 import com.sluv.server.domain.item.enums.ItemStatus;
-import com.sluv.server.domain.item.exception.ItemCategoryNotFoundException;
 import com.sluv.server.domain.item.exception.TempItemNotFoundException;
-import com.sluv.server.domain.item.exception.hashtag.HashtagNotFoundException;
 import com.sluv.server.domain.item.repository.*;
-import com.sluv.server.domain.item.repository.hashtag.HashtagRepository;
 import com.sluv.server.domain.item.repository.hashtag.TempItemHashtagRepository;
+import com.sluv.server.domain.item.service.ItemReferenceResolver.ItemReferences;
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.global.common.enums.ItemImgOrLinkStatus;
 import lombok.RequiredArgsConstructor;
@@ -47,42 +35,26 @@ public class TempItemService {
     private final TempItemImgRepository tempItemImgRepository;
     private final TempItemHashtagRepository tempItemHashtagRepository;
 
-    private final HashtagRepository hashtagRepository;
-    private final CelebRepository celebRepository;
-    private final ItemCategoryRepository itemCategoryRepository;
-    private final BrandRepository brandRepository;
-    private final NewBrandRepository newBrandRepository;
-    private final NewCelebRepository newCelebRepository;
-    private final RecentSelectCelebRepository recentSearchCelebRepository;
-    private final RecentSelectBrandRepository recentSelectBrandRepository;
+    private final ItemReferenceResolver itemReferenceResolver;
+    private final RecentSelectCelebService recentSelectCelebService;
+    private final RecentSelectBrandService recentSelectBrandService;
+    private final CelebHierarchyCache celebHierarchyCache;
 
 
+    @Transactional
     public void postTempItem(User user, TempItemPostReqDto reqDto) {
-        Celeb celeb = reqDto.getCelebId() != null ? celebRepository.findById(reqDto.getCelebId())
-                .orElseThrow(CelebNotFoundException::new)
-                : null;
-        Brand brand = reqDto.getBrandId() != null ? brandRepository.findById(reqDto.getBrandId())
-                .orElseThrow(BrandNotFoundException::new)
-                : null;
-        NewCeleb newCeleb = reqDto.getNewCelebId() != null ? newCelebRepository.findById(reqDto.getNewCelebId())
-                .orElseThrow(NewCelebNotFoundException::new)
-                : null;
-
-        NewBrand newBrand = reqDto.getNewBrandId() != null ? newBrandRepository.findById(reqDto.getNewBrandId())
-                .orElseThrow(NewBrandNotFoundException::new)
-                : null;
-        ItemCategory itemCategory = reqDto.getCategoryId() != null ? itemCategoryRepository.findById(reqDto.getCategoryId())
-                .orElseThrow(ItemCategoryNotFoundException::new)
-                : null;
-
-        TempItem tempitem = tempItemRepository.save(TempItem
+        // 셀럽, 브랜드, 카테고리, 해시태그를 한 번에 확인
+        ItemReferences references = itemReferenceResolver.resolve(reqDto);
+
+        // 자식 row를 JDBC로 바로 INSERT하기 전에 부모 row를 먼저 보내야 FK를 만족한다
+        TempItem tempitem = tempItemRepository.saveAndFlush(TempItem
                 .builder()
                 .user(user)
-                .celeb(celeb)
-                .newCeleb(newCeleb)
-                .category(itemCategory)
-                .brand(brand)
-                .newBrand(newBrand)
+                .celeb(references.celeb())
+                .newCeleb(references.newCeleb())
+                .category(references.category())
+                .brand(references.brand())
+                .newBrand(references.newBrand())
                 .name(reqDto.getItemName())
                 .whenDiscovery(reqDto.getWhenDiscovery())
                 .whereDiscovery(reqDto.getWhereDiscovery())
@@ -96,7 +68,7 @@ public class TempItemService {
         // ItemImg 테이블에 추가
         if(reqDto.getImgList() != null) {
 
-            reqDto.getImgList().stream()
+            tempItemImgRepository.insertAll(reqDto.getImgList().stream()
                             .map(tempItemImg ->
                                 TempItemImg.builder()
                                         .tempItem(tempitem)
@@ -104,13 +76,13 @@ public class TempItemService {
                                         .representFlag(tempItemImg.getRepresentFlag())
                                         .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
                                         .build()
-                            ).forEach(tempItemImgRepository::save);
+                            ).toList());
 
         }
 
         // ItemLink 테이블에 추가
         if(reqDto.getLinkList() != null) {
-            reqDto.getLinkList().stream()
+            tempItemLinkRepository.insertAll(reqDto.getLinkList().stream()
                             .map(tempItemLink ->
                                     TempItemLink.builder()
                                             .tempItem(tempitem)
@@ -119,43 +91,27 @@ public class TempItemService {
                                             .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
                                             .build()
 
-                            ).forEach(tempItemLinkRepository::save);
+                            ).toList());
         }
 
         // ItemHashtag 테이블에 추가
-        if(reqDto.getHashTagIdList() != null) {
-            reqDto.getHashTagIdList().stream().map(hashTag ->
-
-                    TempItemHashtag.builder()
-                            .tempItem(tempitem)
-                            .hashtag(
-                                    hashtagRepository.findById(hashTag)
-                                            .orElseThrow(HashtagNotFoundException::new)
-                            )
-                            .build()
+        tempItemHashtagRepository.insertAll(references.hashtags().stream().map(hashtag ->
 
-            ).forEach(tempItemHashtagRepository::save);
-        }
+                TempItemHashtag.builder()
+                        .tempItem(tempitem)
+                        .hashtag(hashtag)
+                        .build()
 
-        // Recent Search Celeb 테이블에 추가
-        recentSearchCelebRepository.save(RecentSelectCeleb.builder()
-                .user(user)
-                .celeb(celeb)
-                .newCeleb(newCeleb)
-                .build()
-        );
+        ).toList());
 
-        recentSelectBrandRepository.save(RecentSelectBrand.builder()
-                .user(user)
-                .brand(brand)
-                .newBrand(newBrand)
-                .build()
-        );
+        // 최근 선택 셀럽, 브랜드 갱신
+        recentSelectCelebService.saveRecentSelectCeleb(user, references.celeb(), references.newCeleb());
+        recentSelectBrandService.saveRecentSelectBrand(user, references.brand(), references.newBrand());
 
     }
 
     public List<TempItemResDto> getTempItemList(User user, Pageable pageable){
-
+        CelebHierarchy celebHierarchy = celebHierarchyCache.get();
 
         return tempItemRepository.getTempItemList(user, pageable).stream().map(tempItem -> {
 
@@ -176,17 +132,7 @@ public class TempItemService {
                             .build()
                     ).collect(Collectors.toList());
 
-                CelebDto celebDto = tempItem.getCeleb() != null ?
-                        CelebDto.builder()
-                        .id(tempItem.getId())
-                        .celebNameKr(tempItem.getCeleb().getCelebNameKr())
-                        .celebNameEn(tempItem.getCeleb().getCelebNameEn())
-                        .categoryChild(tempItem.getCeleb().getCelebCategory().getName())
-                        .categoryParent(tempItem.getCeleb().getCelebCategory().getParent().getName())
-                        .parentCelebNameKr(tempItem.getCeleb().getParent() != null ? tempItem.getCeleb().getParent().getCelebNameKr() : null)
-                        .parentCelebNameEn(tempItem.getCeleb().getParent() != null ? tempItem.getCeleb().getParent().getCelebNameEn() : null)
-                        .build()
-                        : null;
+                CelebDto celebDto = tempItem.getCeleb() != null ? toCelebDto(tempItem, celebHierarchy) : null;
 
                 ItemCategoryDto itemCategoryDto = tempItem.getCategory() != null ?
                         ItemCategoryDto.builder()
@@ -218,22 +164,52 @@ public class TempItemService {
         ).collect(Collectors.toList());
     }
 
+    /**
+     * == 임시저장 아이템의 Celeb, 그룹과 카테고리는 CelebHierarchyCache에서 조회 ==
+     * 캐시에 아직 반영되지 않은 Celeb은 연관 엔티티에서 읽는다.
+     *
+     * @param tempItem Celeb이 있는 임시저장 아이템
+     * @param hierarchy
+     * @return CelebDto
+     */
+    private CelebDto toCelebDto(TempItem tempItem, CelebHierarchy hierarchy) {
+        Celeb celeb = tempItem.getCeleb();
+        CelebDto.CelebDtoBuilder builder = CelebDto.builder()
+                .id(tempItem.getId())
+                .celebNameKr(celeb.getCelebNameKr())
+                .celebNameEn(celeb.getCelebNameEn());
+
+        if (hierarchy.contains(celeb.getId())) {
+            return builder
+                    .categoryChild(hierarchy.getCategoryName(celeb.getId()))
+                    .categoryParent(hierarchy.getParentCategoryName(celeb.getId()))
+                    .parentCelebNameKr(hierarchy.getParentNameKr(celeb.getId()))
+                    .parentCelebNameEn(hierarchy.getParentNameEn(celeb.getId()))
+                    .build();
+        }
+
+        CelebCategory category = celeb.getCelebCategory();
+        Celeb parent = celeb.getParent();
+        return builder
+                .categoryChild(category != null ? category.getName() : null)
+                .categoryParent(category != null && category.getParent() != null ? category.getParent().getName() : null)
+                .parentCelebNameKr(parent != null ? parent.getCelebNameKr() : null)
+                .parentCelebNameEn(parent != null ? parent.getCelebNameEn() : null)
+                .build();
+    }
+
     @Transactional
     public void putTempItem(User user, Long tempItemId, TempItemPostReqDto dto){
 
         TempItem tempItem = tempItemRepository.findById(tempItemId).orElseThrow(TempItemNotFoundException::new);
-        Celeb celeb = dto.getCelebId() != null ? celebRepository.findById(dto.getCelebId()).orElseThrow(CelebNotFoundException::new) : null;
-        ItemCategory itemCategory = dto.getCategoryId() != null ? itemCategoryRepository.findById(dto.getCategoryId()).orElseThrow(ItemCategoryNotFoundException::new) : null;
-        Brand brand = dto.getBrandId() != null ?brandRepository.findById(dto.getBrandId()).orElseThrow(BrandNotFoundException::new) : null;
-        NewCeleb newCeleb = dto.getNewCelebId() != null ?newCelebRepository.findById(dto.getNewCelebId()).orElseThrow(NewCelebNotFoundException::new) : null;
-        NewBrand newBrand = dto.getNewBrandId() != null ?newBrandRepository.findById(dto.getNewBrandId()).orElseThrow(NewBrandNotFoundException::new) : null;
+        ItemReferences references = itemReferenceResolver.resolve(dto);
 
         // temp Item 변경.
-        tempItem.setCeleb(celeb);
-        tempItem.setNewCeleb(newCeleb);
-        tempItem.setCategory(itemCategory);
-        tempItem.setBrand(brand);
-        tempItem.setNewBrand(newBrand);
+        tempItem.setCeleb(references.celeb());
+        tempItem.setNewCeleb(references.newCeleb());
+        tempItem.setCategory(references.category());
+        tempItem.setBrand(references.brand());
+        tempItem.setNewBrand(references.newBrand());
         tempItem.setName(dto.getItemName());
         tempItem.setWhenDiscovery(dto.getWhenDiscovery());
         tempItem.setWhereDiscovery(dto.getWhereDiscovery());
@@ -268,50 +244,37 @@ public class TempItemService {
         // tempItemImg 모두 삭제 후 변경
         tempItemImgRepository.deleteAllByTempItemId(tempItem.getId());
         if(dto.getImgList() != null) {
-            dto.getImgList().stream().map(img -> TempItemImg.builder()
+            tempItemImgRepository.insertAll(dto.getImgList().stream().map(img -> TempItemImg.builder()
                     .tempItem(tempItem)
                     .tempItemImgUrl(img.getImgUrl())
                     .representFlag(img.getRepresentFlag())
                     .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
-                    .build()).forEach(tempItemImgRepository::save);
+                    .build()).toList());
         }
 
         // tempItemLink 모두 삭제 후 변경
         tempItemLinkRepository.deleteAllByTempItemId(tempItem.getId());
         if(dto.getLinkList() != null) {
-            dto.getLinkList().stream().map(link -> TempItemLink.builder()
+            tempItemLinkRepository.insertAll(dto.getLinkList().stream().map(link -> TempItemLink.builder()
                     .tempItem(tempItem)
                     .tempItemLinkUrl(link.getItemLinkUrl())
                     .linkName(link.getLinkName())
                     .itemImgOrLinkStatus(ItemImgOrLinkStatus.ACTIVE)
-                    .build()).forEach(tempItemLinkRepository::save);
+                    .build()).toList());
         }
 
         // tempItemHashtag 모두 삭제 후 변경
         tempItemHashtagRepository.deleteAllByTempItemId(tempItem.getId());
-        if(dto.getHashTagIdList() != null) {
-            dto.getHashTagIdList().stream().map(hashtag -> TempItemHashtag.builder()
-                    .tempItem(tempItem)
-                    .hashtag(hashtagRepository.findById(hashtag).orElseThrow(HashtagNotFoundException::new))
-                    .build()).forEach(tempItemHashtagRepository::save);
-        }
+        tempItemHashtagRepository.insertAll(references.hashtags().stream().map(hashtag -> TempItemHashtag.builder()
+                .tempItem(tempItem)
+                .hashtag(hashtag)
+                .build()).toList());
 
         tempItemRepository.save(tempItem);
 
-        // Recent Search Celeb 테이블에 추가
-        recentSearchCelebRepository.save(RecentSelectCeleb.builder()
-                .user(user)
-                .celeb(celeb)
-                .newCeleb(newCeleb)
-                .build()
-        );
-
-        recentSelectBrandRepository.save(RecentSelectBrand.builder()
-                .user(user)
-                .brand(brand)
-                .newBrand(newBrand)
-                .build()
-        );
+        // 최근 선택 셀럽, 브랜드 갱신
+        recentSelectCelebService.saveRecentSelectCeleb(user, references.celeb(), references.newCeleb());
+        recentSelectBrandService.saveRecentSelectBrand(user, references.brand(), references.newBrand());
 
     }
 
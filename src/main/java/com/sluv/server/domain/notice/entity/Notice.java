@@ -3,12 +3,14 @@ package com.sluv.server.domain.notice.entity;
 import com.sluv.server.domain.notice.enums.NoticeStatus;
 import com.sluv.server.domain.notice.enums.NoticeType;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
@@ -16,7 +18,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "notice")
 public class Notice extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "notice_id")
     private Long id;
 
@@ -2,10 +2,12 @@ package com.sluv.server.domain.user.controller;
 
 
 import com.sluv.server.domain.celeb.dto.InterestedCelebParentResDto;
+import com.sluv.server.domain.celeb.dto.InterestedCelebPutReqDto;
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.domain.user.service.UserService;
 import com.sluv.server.global.common.response.ErrorResponse;
 import com.sluv.server.global.common.response.SuccessDataResponse;
+import com.sluv.server.global.common.response.SuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -42,5 +46,25 @@ public class UserController {
                                                             .build());
     }
 
+    @Operation(
+            summary = "*유저의 관심 샐럽 교체",
+            description = "유저의 관심 Celeb 목록을 요청한 목록으로 교체" +
+                    "\n 기존 목록과 비교하여 빠진 Celeb은 삭제, 새 Celeb만 추가"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "1000", description = "요청성공"),
+            @ApiResponse(responseCode = "2002", description = "존재하지 않는 셀럽", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "5000", description = "서버내부 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "5001", description = "DB 에러", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/celeb")
+    public ResponseEntity<SuccessResponse> putInterestedCeleb(@AuthenticationPrincipal User user, @RequestBody InterestedCelebPutReqDto dto){
+        userService.putInterestedCeleb(user, dto);
+
+        return ResponseEntity.ok().body(
+                new SuccessResponse()
+        );
+    }
+
 
 }
@@ -1,5 +1,6 @@
 package com.sluv.server.domain.user.dto;
 
+import com.sluv.server.domain.user.enums.UserStatus;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,9 +9,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class UserDto {
     private Long id;
+    private UserStatus userStatus;
 
     @Builder
-    public UserDto(Long id) {
+    public UserDto(Long id, UserStatus userStatus) {
         this.id = id;
+        this.userStatus = userStatus;
     }
 }
@@ -0,0 +1,14 @@
+package com.sluv.server.domain.user.dto;
+
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.enums.UserStatus;
+
+/**
+ * UserCacheService에 담는 User의 불변 snapshot, 요청 간에 공유해도 바뀌지 않는다
+ */
+public record UserSnapshot(Long id, UserStatus userStatus) {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getId(), user.getUserStatus());
+    }
+}
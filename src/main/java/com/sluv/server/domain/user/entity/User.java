@@ -5,6 +5,7 @@ package com.sluv.server.domain.user.entity;
 import com.sluv.server.domain.auth.enums.SnsType;
 import com.sluv.server.domain.user.enums.UserStatus;
 import com.sluv.server.global.common.entity.BaseEntity;
+import com.sluv.server.global.id.SluvIdGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -12,6 +13,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.GenericGenerator;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,10 +25,14 @@ import java.util.Collection;
 @Getter
 @NoArgsConstructor
 @DynamicInsert
-@Table(name = "user")
+@EntityListeners(UserCacheEvictListener.class)
+@Table(name = "user", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_email_sns_type", columnNames = {"email", "sns_type"})
+})
 public class User extends BaseEntity implements UserDetails {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = SluvIdGenerator.NAME)
+    @GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
     @Column(name = "user_id")
     private Long id;
     @NotNull
@@ -37,6 +43,8 @@ public class User extends BaseEntity implements UserDetails {
     @NotNull
     @Enumerated(EnumType.STRING)
 //    @Size(max = 45) 추후 변경 필요
+    // uniqueConstraints의 columnNames와 같은 이름으로 지정해야 제약 조건을 만들 수 있다
+    @Column(name = "sns_type")
     private SnsType snsType;
     @Column(columnDefinition = "TEXT")
     private String profileImgUrl;
@@ -0,0 +1,26 @@
+package com.sluv.server.domain.user.entity;
+
+import com.sluv.server.domain.user.service.UserCacheService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * User의 프로필, 상태가 변경되면 UserCacheService의 캐시를 무효화
+ */
+@Component
+public class UserCacheEvictListener {
+    private final UserCacheService userCacheService;
+
+    // EntityManagerFactory 생성 중 순환 참조를 피하기 위해 Lazy 주입
+    public UserCacheEvictListener(@Lazy UserCacheService userCacheService) {
+        this.userCacheService = userCacheService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        userCacheService.evict(user.getId());
+    }
+}
@@ -1,11 +1,19 @@
 package com.sluv.server.domain.user.repository;
 
 import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.repository.impl.UserRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("select u.id from User u where u.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
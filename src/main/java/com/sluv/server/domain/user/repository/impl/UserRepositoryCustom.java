@@ -0,0 +1,9 @@
+package com.sluv.server.domain.user.repository.impl;
+
+import com.sluv.server.domain.auth.dto.SocialUserInfoDto;
+import com.sluv.server.domain.auth.enums.SnsType;
+import com.sluv.server.domain.user.dto.UserDto;
+
+public interface UserRepositoryCustom {
+    UserDto upsertSocialUser(SocialUserInfoDto userInfo, SnsType snsType);
+}
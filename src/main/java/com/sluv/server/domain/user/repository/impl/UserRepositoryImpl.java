@@ -0,0 +1,81 @@
+package com.sluv.server.domain.user.repository.impl;
+
+import com.sluv.server.domain.auth.dto.SocialUserInfoDto;
+import com.sluv.server.domain.auth.enums.SnsType;
+import com.sluv.server.domain.user.dto.UserDto;
+import com.sluv.server.domain.user.enums.UserStatus;
+import com.sluv.server.global.id.SluvIdService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static com.sluv.server.domain.user.enums.UserStatus.PENDING_PROFILE;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    // 새 유저라면 LAST_INSERT_ID(?)로 발급한 id를, 이미 있는 유저라면 LAST_INSERT_ID(user_id)로 기존 id를
+    // generated key로 돌려받는다.
+    private static final String UPSERT_SOCIAL_USER = """
+            INSERT INTO `user` (user_id, email, sns_type, profile_img_url, age_range, gender, user_status,
+                                created_at, updated_at)
+            VALUES (LAST_INSERT_ID(?), ?, ?, ?, ?, ?, ?, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE user_id = LAST_INSERT_ID(user_id)
+            """;
+    private static final String SELECT_USER = "SELECT user_id, user_status FROM `user` WHERE email = ? AND sns_type = ?";
+    private static final String SELECT_USER_STATUS = "SELECT user_status FROM `user` WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SluvIdService sluvIdService;
+
+    /**
+     * == (email, sns_type) 기준으로 유저를 등록하거나 기존 유저의 id, 상태 조회 ==
+     * 새 유저는 한 번에 끝나고, 기존 유저는 토큰에 넣을 상태를 PK로 한 번 더 조회한다.
+     *
+     * @param userInfo
+     * @param snsType
+     * @return user id, user status
+     */
+    @Override
+    public UserDto upsertSocialUser(SocialUserInfoDto userInfo, SnsType snsType) {
+        long newUserId = sluvIdService.nextId();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_SOCIAL_USER, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, newUserId);
+            ps.setString(2, userInfo.getEmail());
+            ps.setString(3, snsType.name());
+            ps.setString(4, userInfo.getProfileImgUrl());
+            ps.setString(5, userInfo.getAgeRange());
+            ps.setString(6, userInfo.getGender());
+            ps.setString(7, PENDING_PROFILE.name());
+            return ps;
+        }, keyHolder);
+
+        // 드라이버가 affected rows만큼 key를 만들 수 있으므로 첫 번째 key만 사용
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.isEmpty()) {
+            return jdbcTemplate.queryForObject(SELECT_USER, (rs, rowNum) -> new UserDto(
+                    rs.getLong("user_id"), toUserStatus(rs.getString("user_status"))
+            ), userInfo.getEmail(), snsType.name());
+        }
+
+        long userId = ((Number) keyList.get(0).values().iterator().next()).longValue();
+        if (userId == newUserId) {
+            return new UserDto(userId, PENDING_PROFILE);
+        }
+
+        String userStatus = jdbcTemplate.queryForObject(SELECT_USER_STATUS, String.class, userId);
+        return new UserDto(userId, toUserStatus(userStatus));
+    }
+
+    private static UserStatus toUserStatus(String userStatus) {
+        return userStatus != null ? UserStatus.valueOf(userStatus) : null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sluv.server.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sluv.server.domain.user.dto.UserSnapshot;
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.exception.NotFoundUserException;
+import com.sluv.server.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인증된 요청의 User 조회 캐시
+ * 요청 간에 공유하므로 엔티티가 아닌 불변 UserSnapshot을 담고, 엔티티가 필요하면 id로 reference를 만든다.
+ * 이 인스턴스의 변경은 UserCacheEvictListener가 바로 무효화하고,
+ * 다른 인스턴스의 변경은 updated_at으로 주기적으로 찾아 무효화한다.
+ * updated_at이 바뀌지 않는 변경(DB 직접 수정, 삭제)은 expire-seconds 후에 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCacheService {
+    private static final String CACHE_NAME = "user";
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${user.cache.expire-seconds:300}")
+    private long expireSeconds;
+
+    // 인스턴스 간 시계 차이, 커밋 지연을 덮기 위해 이만큼 겹쳐서 가져온다
+    @Value("${user.cache.sync-overlap-seconds:60}")
+    private long syncOverlapSeconds;
+
+    private Cache<Long, UserSnapshot> userCache;
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.now();
+
+    @PostConstruct
+    protected void init() {
+        userCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 로 요청당 DB 조회 여부 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, CACHE_NAME);
+    }
+
+    /**
+     * == id로 User snapshot 조회, 캐시에 없을 때만 DB 조회 ==
+     *
+     * @param userId
+     * @return UserSnapshot
+     * @throws NotFoundUserException
+     */
+    public UserSnapshot getSnapshot(Long userId) {
+        return userCache.get(userId, id -> userRepository.findById(id)
+                .map(UserSnapshot::of)
+                .orElseThrow(NotFoundUserException::new)
+        );
+    }
+
+    /**
+     * == 존재하는 User의 엔티티 reference ==
+     * 연관 관계 저장처럼 id만 쓰면 DB를 조회하지 않고, 필드를 읽을 때 요청의 영속성 컨텍스트에서 로드된다.
+     *
+     * @param userId
+     * @return User reference, 요청마다 새로 만든다
+     * @throws NotFoundUserException
+     */
+    public User getUserReference(Long userId) {
+        getSnapshot(userId);
+
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * == User의 프로필, 상태 변경 시 캐시 무효화 ==
+     *
+     * @param userId
+     */
+    public void evict(Long userId) {
+        userCache.invalidate(userId);
+    }
+
+    /**
+     * == 다른 인스턴스에서 변경된 User를 주기적으로 무효화 ==
+     */
+    @Scheduled(fixedDelayString = "${user.cache.sync-millis:30000}",
+               initialDelayString = "${user.cache.sync-millis:30000}")
+    public void syncQuietly() {
+        try {
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<Long> updatedUserIds = userRepository.findIdsUpdatedSince(
+                    lastSyncedAt.minusSeconds(syncOverlapSeconds)
+            );
+
+            userCache.invalidateAll(updatedUserIds);
+            lastSyncedAt = syncStartedAt;
+        } catch (RuntimeException e) {
+            // 다음 주기에 같은 구간부터 다시 가져온다
+            log.warn("User 캐시 동기화 실패 : {}", e.getMessage());
+        }
+    }
+}
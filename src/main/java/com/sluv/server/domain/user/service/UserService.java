@@ -4,6 +4,12 @@ import com.sluv.server.domain.celeb.entity.Celeb;
 import com.sluv.server.domain.celeb.repository.CelebRepository;
 import com.sluv.server.domain.celeb.dto.InterestedCelebParentResDto;
 import com.sluv.server.domain.celeb.dto.InterestedCelebChildResDto;
+import com.sluv.server.domain.celeb.dto.InterestedCelebPutReqDto;
+import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
+import com.sluv.server.domain.celeb.service.CelebHierarchy;
+import com.sluv.server.domain.celeb.service.CelebHierarchyCache;
+import com.sluv.server.domain.celeb.service.InterestedCelebService;
+import com.sluv.server.domain.celeb.service.InterestedCelebSet;
 import com.sluv.server.domain.user.entity.User;
 import com.sluv.server.domain.user.dto.UserDto;
 import com.sluv.server.domain.user.repository.UserRepository;
@@ -12,7 +18,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -20,6 +31,8 @@ import java.util.List;
 public class UserService {
     private final UserRepository userRepository;
     private final CelebRepository celebRepository;
+    private final CelebHierarchyCache celebHierarchyCache;
+    private final InterestedCelebService interestedCelebService;
     private final JwtProvider jwtProvider;
 
     public UserDto getUserIdByToken(HttpServletRequest request) {
@@ -31,30 +44,80 @@ public class UserService {
 
     /**
      * == user의 관심 Celeb 검색
+     * 관심 Celeb id는 InterestedCelebService 캐시, 이름과 멤버 목록은 CelebHierarchyCache에서 조회한다.
      * @param user
      */
     public List<InterestedCelebParentResDto> getInterestedCeleb(User user) {
-        List<Celeb> interestedCelebs = celebRepository.findInterestedCeleb(user);
-
-        return interestedCelebs.stream()
-                .map(celeb -> {
-                    List<InterestedCelebChildResDto> subDtoList = null;
-                    if(!celeb.getSubCelebList().isEmpty()){
-                         subDtoList = celeb.getSubCelebList().stream()
-                                .map(subCeleb -> InterestedCelebChildResDto.builder()
-                                .id(subCeleb.getId())
-                                .celebNameKr(subCeleb.getCelebNameKr())
-                                .build()
-                                ).toList();
-                    }
-
-                    return InterestedCelebParentResDto.builder()
-                            .id(celeb.getId())
-                            .celebNameKr(celeb.getCelebNameKr())
-                            .subCelebList(subDtoList)
-                            .build();
+        InterestedCelebSet interestedCelebs = interestedCelebService.getInterestedCelebSet(user.getId());
+        CelebHierarchy hierarchy = celebHierarchyCache.get();
+
+        // 캐시에 아직 반영되지 않은 Celeb만 DB에서 조회, 멤버는 @BatchSize로 여러 Celeb을 한 번에 조회
+        List<Long> uncachedIds = Arrays.stream(interestedCelebs.toArray())
+                .filter(celebId -> !hierarchy.contains(celebId))
+                .boxed()
+                .toList();
+        Map<Long, Celeb> uncachedCelebs = uncachedIds.isEmpty()
+                ? Map.of()
+                : celebRepository.findAllById(uncachedIds).stream()
+                        .collect(Collectors.toMap(Celeb::getId, Function.identity()));
+
+        List<InterestedCelebParentResDto> result = new ArrayList<>(interestedCelebs.size());
+        for (int i = 0; i < interestedCelebs.size(); i++) {
+            long celebId = interestedCelebs.get(i);
+            if (hierarchy.contains(celebId)) {
+                result.add(InterestedCelebParentResDto.builder()
+                        .id(celebId)
+                        .celebNameKr(hierarchy.getNameKr(celebId))
+                        .subCelebList(getSubCelebList(hierarchy, celebId))
+                        .build());
+            } else if (uncachedCelebs.containsKey(celebId)) {
+                result.add(getInterestedCelebParentResDto(uncachedCelebs.get(celebId)));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * == user의 관심 Celeb 목록 교체 ==
+     *
+     * @param user
+     * @param dto 새 관심 Celeb 목록
+     * @throws CelebNotFoundException
+     */
+    public void putInterestedCeleb(User user, InterestedCelebPutReqDto dto) {
+        interestedCelebService.replaceInterestedCelebs(user.getId(), dto.getCelebIdList());
+    }
+
+    private List<InterestedCelebChildResDto> getSubCelebList(CelebHierarchy hierarchy, long celebId) {
+        long[] childIds = hierarchy.getChildIds(celebId);
+        if (childIds.length == 0) {
+            return null;
+        }
+
+        return Arrays.stream(childIds)
+                .mapToObj(childId -> InterestedCelebChildResDto.builder()
+                        .id(childId)
+                        .celebNameKr(hierarchy.getNameKr(childId))
+                        .build()
+                ).toList();
+    }
 
-                }).toList();
+    private InterestedCelebParentResDto getInterestedCelebParentResDto(Celeb celeb) {
+        List<InterestedCelebChildResDto> subDtoList = null;
+        if (!celeb.getSubCelebList().isEmpty()) {
+            subDtoList = celeb.getSubCelebList().stream()
+                    .map(subCeleb -> InterestedCelebChildResDto.builder()
+                            .id(subCeleb.getId())
+                            .celebNameKr(subCeleb.getCelebNameKr())
+                            .build()
+                    ).toList();
+        }
 
+        return InterestedCelebParentResDto.builder()
+                .id(celeb.getId())
+                .celebNameKr(celeb.getCelebNameKr())
+                .subCelebList(subDtoList)
+                .build();
     }
 }
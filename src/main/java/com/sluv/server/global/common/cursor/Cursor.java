@@ -0,0 +1,57 @@
+package com.sluv.server.global.common.cursor;
+
+import com.sluv.server.global.common.exception.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset pagination의 (정렬 키, id) 위치
+ * 클라이언트에는 의미를 알 수 없는 문자열로만 전달한다.
+ */
+@Getter
+public class Cursor {
+    private static final char SEPARATOR = ':';
+
+    private final String sortKey;
+    private final Long id;
+
+    private Cursor(String sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static Cursor of(String sortKey, Long id) {
+        return new Cursor(sortKey, id);
+    }
+
+    /**
+     * == 요청의 cursor 문자열 해석 ==
+     *
+     * @param encoded
+     * @return Cursor, 첫 페이지라면 null
+     * @throws InvalidCursorException
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            // sortKey에 구분자가 있을 수 있으므로 id를 앞에 둔다
+            int separator = decoded.indexOf(SEPARATOR);
+
+            return new Cursor(decoded.substring(separator + 1), Long.valueOf(decoded.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = String.valueOf(id) + SEPARATOR + sortKey;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.sluv.server.global.common.cursor;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@JsonPropertyOrder({"content", "nextCursor", "hasNext"})
+public class CursorPageResDto<T> {
+    private List<T> content;
+    @Schema(description = "다음 페이지 요청 시 cursor로 전달, 마지막 페이지라면 null")
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Builder
+    public CursorPageResDto(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
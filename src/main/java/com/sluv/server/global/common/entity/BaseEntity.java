@@ -21,5 +21,6 @@ public class BaseEntity {
 
     @JsonIgnore
     @LastModifiedDate
+    @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 }
\ No newline at end of file
@@ -3,14 +3,25 @@ package com.sluv.server.global.common.exception;
 import lombok.Getter;import org.springframework.http.HttpStatus;
 
 
+/**
+ * 예상 가능한 도메인 에러, 기본적으로 stack trace를 채우지 않는다.
+ * 디버깅이 필요하면 -Dsluv.exception.stack-trace=true 로 전체를 켜거나
+ * captureStackTrace = true 생성자로 개별 예외만 켤 수 있다.
+ */
 @Getter
 public abstract class ApplicationException extends RuntimeException{
 
+    private static final boolean CAPTURE_STACK_TRACE = Boolean.getBoolean("sluv.exception.stack-trace");
+
     private final int errorCode;
     private final HttpStatus httpStatus;
 
     protected ApplicationException(int errorCode, HttpStatus httpStatus, String message){
-        super(message);
+        this(errorCode, httpStatus, message, CAPTURE_STACK_TRACE);
+    }
+
+    protected ApplicationException(int errorCode, HttpStatus httpStatus, String message, boolean captureStackTrace){
+        super(message, null, false, captureStackTrace);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
     }
@@ -0,0 +1,33 @@
+package com.sluv.server.global.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에러 코드별 발생 횟수
+ * 예상 가능한 4xx는 요청마다 로그를 남기지 않고 app.exception{code, exception, status}로만 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationExceptionMetrics {
+    private static final String METRIC_NAME = "app.exception";
+
+    private final MeterRegistry meterRegistry;
+
+    // 에러 코드 수만큼만 생성되므로 요청마다 Meter.Id를 만들지 않도록 보관
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    public void increment(ApplicationException exception) {
+        counters.computeIfAbsent(exception.getClass(), type -> Counter.builder(METRIC_NAME)
+                .tag("code", String.valueOf(exception.getErrorCode()))
+                .tag("exception", type.getSimpleName())
+                .tag("status", String.valueOf(exception.getHttpStatus().value()))
+                .register(meterRegistry)
+        ).increment();
+    }
+}
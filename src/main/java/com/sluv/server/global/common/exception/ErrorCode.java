@@ -5,8 +5,10 @@ import lombok.Getter;
 public enum ErrorCode {
 
     INVALID_ARGUMENT(3000, "Validation을 만족하지 못합니다."),
+    INVALID_CURSOR(3001, "잘못된 cursor입니다."),
     INTERNAL_SERVER_ERROR(5000, "내부 서버 에러입니다."),
-    DB_ACCESS_ERROR(5001, "DB 에러입니다.");
+    DB_ACCESS_ERROR(5001, "DB 에러입니다."),
+    SOCIAL_PROVIDER_UNAVAILABLE(5002, "소셜 로그인 제공자가 응답하지 않습니다.");
 
     private final int code;
     private final String message;
@@ -1,6 +1,7 @@
 package com.sluv.server.global.common.exception;
 
 import com.sluv.server.global.common.response.ErrorResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -16,11 +17,14 @@ import static com.sluv.server.global.common.exception.ErrorCode.INTERNAL_SERVER_
 
 @RestControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
     private static final String LOG_FORMAT = "Error: {}, Class : {}, Message : {}";
     private static final String LOG_CODE_FORMAT = "Error: {}, Class : {}, Code : {}, Message : {}";
 
+    private final ApplicationExceptionMetrics applicationExceptionMetrics;
+
     /**
      * == Application Exception ==
      *
@@ -29,13 +33,26 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ApplicationException.class)
     public ResponseEntity<ErrorResponse> applicationException(ApplicationException exception){
-        log.error(
-                LOG_CODE_FORMAT,
-                "ApplicationException",
-                exception.getClass().getSimpleName(),
-                exception.getErrorCode(),
-                exception.getMessage()
-        );
+        applicationExceptionMetrics.increment(exception);
+
+        // 예상 가능한 4xx는 app.exception 카운터로만 확인
+        if (exception.getHttpStatus().is5xxServerError()) {
+            log.error(
+                    LOG_CODE_FORMAT,
+                    "ApplicationException",
+                    exception.getClass().getSimpleName(),
+                    exception.getErrorCode(),
+                    exception.getMessage()
+            );
+        } else if (log.isDebugEnabled()) {
+            log.debug(
+                    LOG_CODE_FORMAT,
+                    "ApplicationException",
+                    exception.getClass().getSimpleName(),
+                    exception.getErrorCode(),
+                    exception.getMessage()
+            );
+        }
 
         return ResponseEntity
                 .status(exception.getHttpStatus())
@@ -0,0 +1,13 @@
+package com.sluv.server.global.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+import static com.sluv.server.global.common.exception.ErrorCode.INVALID_CURSOR;
+
+public class InvalidCursorException extends ApplicationException {
+    private static final HttpStatus STATUS = HttpStatus.BAD_REQUEST;
+
+    public InvalidCursorException() {
+        super(INVALID_CURSOR.getCode(), STATUS, INVALID_CURSOR.getMessage());
+    }
+}
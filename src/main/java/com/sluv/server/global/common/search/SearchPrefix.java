@@ -0,0 +1,64 @@
+package com.sluv.server.global.common.search;
+
+import java.util.Locale;
+
+/**
+ * prefix 검색의 정규화와 범위
+ * DB의 검색 키는 같은 정규화(소문자)를 utf8mb4_0900_bin(code point 순서)으로 저장하므로,
+ * prefix로 시작하는 키는 [prefix, nextPrefix(prefix)) 범위 하나로 찾을 수 있다.
+ */
+public final class SearchPrefix {
+
+    private SearchPrefix() {
+    }
+
+    /**
+     * == 검색 키 정규화, DB의 LOWER()와 같은 소문자 ==
+     *
+     * @param text
+     * @return 소문자로 바꾼 문자열
+     */
+    public static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * == prefix로 시작하는 모든 문자열보다 큰 가장 작은 문자열 ==
+     * 마지막 code point를 하나 올리고, 이미 가장 큰 code point라면 버리고 그 앞을 올린다.
+     *
+     * @param prefix
+     * @return code point 순서의 다음 prefix, 올릴 수 있는 글자가 없다면(빈 문자열 포함) null
+     */
+    public static String nextPrefix(String prefix) {
+        int end = prefix.length();
+        while (end > 0) {
+            int last = prefix.codePointBefore(end);
+            int start = end - Character.charCount(last);
+            if (last < Character.MAX_CODE_POINT) {
+                int next = last + 1;
+                // surrogate 영역은 문자가 아니므로 건너뜀
+                if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+                    next = Character.MAX_SURROGATE + 1;
+                }
+
+                return prefix.substring(0, start) + Character.toString(next);
+            }
+            end = start;
+        }
+
+        return null;
+    }
+
+    /**
+     * == prefix로 시작하는 문자열을 찾는 LIKE 패턴 ==
+     * LIKE의 기본 escape 문자(\)로 prefix 안의 %, _를 글자로 취급한다.
+     *
+     * @param prefix
+     * @return escape한 prefix + %
+     */
+    public static String likePattern(String prefix) {
+        return prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
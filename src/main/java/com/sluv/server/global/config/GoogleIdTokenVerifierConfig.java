@@ -0,0 +1,74 @@
+package com.sluv.server.global.config;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+@Configuration
+public class GoogleIdTokenVerifierConfig {
+    public static final String VERIFY_COUNTER = "auth.google.verify";
+    private static final String CERTS_REFRESH_COUNTER = "auth.google.certs.refresh";
+    private static final String CERTS_HIT_RATIO_GAUGE = "auth.google.certs.hit.ratio";
+
+    @Value("${spring.security.oauth2.client.android}")
+    private String CLIENT_ANDROID;
+
+    @Value("${spring.security.oauth2.client.apple}")
+    private String CLIENT_APPLE;
+
+    @Value("${google.certsUrl:https://www.googleapis.com/oauth2/v1/certs}")
+    private String certsUrl;
+
+    /**
+     * == 모든 Google 로그인이 공유하는 idToken 검증기 ==
+     * 공개 인증서는 Cache-Control max-age 동안 GooglePublicKeysManager에 캐싱된다.
+     */
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(MeterRegistry meterRegistry) {
+        Counter verifyCounter = meterRegistry.counter(VERIFY_COUNTER);
+        Counter refreshCounter = meterRegistry.counter(CERTS_REFRESH_COUNTER);
+
+        Gauge.builder(CERTS_HIT_RATIO_GAUGE, () -> {
+                    double verifyCount = verifyCounter.count();
+                    return verifyCount == 0 ? 0 : Math.max(0, 1 - refreshCounter.count() / verifyCount);
+                })
+                .register(meterRegistry);
+
+        GooglePublicKeysManager.Builder keysManagerBuilder =
+                new GooglePublicKeysManager.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
+                        .setPublicCertsEncodedUrl(certsUrl);
+
+        return new GoogleIdTokenVerifier.Builder(new MeteredGooglePublicKeysManager(keysManagerBuilder, refreshCounter))
+                .setAudience(Arrays.asList(CLIENT_ANDROID, CLIENT_APPLE))
+                .build();
+    }
+
+    /**
+     * 인증서를 새로 받아올 때(캐시 miss)만 refresh()가 호출되므로 그 횟수를 센다.
+     */
+    private static class MeteredGooglePublicKeysManager extends GooglePublicKeysManager {
+        private final Counter refreshCounter;
+
+        MeteredGooglePublicKeysManager(Builder builder, Counter refreshCounter) {
+            super(builder);
+            this.refreshCounter = refreshCounter;
+        }
+
+        @Override
+        public GooglePublicKeysManager refresh() throws GeneralSecurityException, IOException {
+            refreshCounter.increment();
+            return super.refresh();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sluv.server.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class SocialLoginConfig {
+
+    @Value("${social.executor.pool-size:8}")
+    private int poolSize;
+
+    @Value("${social.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${social.http.executor-pool-size:4}")
+    private int httpPoolSize;
+
+    /**
+     * == 소셜 로그인 전용 Executor ==
+     * 외부 응답 처리와 유저 등록을 Tomcat 워커가 아닌 이 풀에서 수행한다.
+     * 큐까지 가득 차면 거절하지 않고 이전 단계를 완료한 스레드에서 실행한다.
+     * (거절 시 CompletableFuture가 완료되지 않아 요청이 async timeout까지 대기)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor socialLoginExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("social-login-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * == SocialHttpClient 전용 Executor ==
+     * HttpClient의 응답 수신, 완료 처리만 수행하며 socialLoginExecutor와 분리하여
+     * 유저 등록이 밀려도 응답 수신이 막히지 않도록 한다. 작업이 짧으므로 큐는 제한하지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor socialHttpExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(httpPoolSize);
+        executor.setMaxPoolSize(httpPoolSize);
+        executor.setThreadNamePrefix("social-http-");
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -27,13 +27,16 @@ public class SwaggerConfig {
                         "\n- 2000: 존재하지 않는 유저" +
                         "\n- == 3000 == -> Validation 관련" +
                         "\n- 3000: InValidate" +
+                        "\n- 3001: 잘못된 cursor" +
                         "\n- == 4000 == -> Token 관련" +
                         "\n- 4000: 토큰 없음" +
                         "\n- 4001: 유효하지 않는 토큰" +
                         "\n- 4002: 만료된 토큰" +
+                        "\n- 4003: 폐기된 토큰" +
                         "\n- == 5000 == -> 서버 내부 에러" +
                         "\n- 5000: 서버 내부 에러" +
-                        "\n- 5001: DB 에러");
+                        "\n- 5001: DB 에러" +
+                        "\n- 5002: 소셜 로그인 제공자 응답 없음");
 
 
         // SecuritySecheme명
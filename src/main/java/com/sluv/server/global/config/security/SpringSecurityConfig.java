@@ -1,5 +1,8 @@
 package com.sluv.server.global.config.security;
 
+import com.sluv.server.domain.auth.service.TokenRevocationService;
+import com.sluv.server.global.common.exception.ApplicationExceptionMetrics;
+import com.sluv.server.global.jwt.filter.AuthRouteTable;
 import com.sluv.server.global.jwt.filter.ExceptionHandlerFilter;
 import com.sluv.server.global.jwt.filter.JwtAuthenticationFilter;
 import com.sluv.server.global.jwt.JwtProvider;
@@ -22,12 +25,14 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SpringSecurityConfig {
 
     private final JwtProvider jwtProvider;
-    private final ExceptionHandlerFilter exceptionHandlerFilter = new ExceptionHandlerFilter();
+    private final TokenRevocationService tokenRevocationService;
+    private final ApplicationExceptionMetrics applicationExceptionMetrics;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     private static final String[] AUTH_URL = {
             // auth
             "/app/auth/auto-login",
+            "/app/auth/logout",
 
             // brand
             "/app/brand/recent",
@@ -45,6 +50,8 @@ public class SpringSecurityConfig {
 
     };
 
+    private static final AuthRouteTable AUTH_ROUTE_TABLE = new AuthRouteTable(AUTH_URL);
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
         http
@@ -69,8 +76,8 @@ public class SpringSecurityConfig {
                 )
                 .exceptionHandling().authenticationEntryPoint(customAuthenticationEntryPoint)
                 .and()
-                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(exceptionHandlerFilter, JwtAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, AUTH_ROUTE_TABLE, tokenRevocationService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new ExceptionHandlerFilter(applicationExceptionMetrics), JwtAuthenticationFilter.class);
 
 
 
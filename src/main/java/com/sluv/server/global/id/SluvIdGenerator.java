@@ -0,0 +1,23 @@
+package com.sluv.server.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * 엔티티 id를 SluvIdService에서 발급받는 Hibernate id 생성기
+ * IDENTITY와 달리 INSERT 전에 id를 알 수 있어 Hibernate가 INSERT를 batch로 묶을 수 있다.
+ *
+ * <pre>
+ * &#64;Id &#64;GeneratedValue(generator = SluvIdGenerator.NAME)
+ * &#64;GenericGenerator(name = SluvIdGenerator.NAME, strategy = SluvIdGenerator.STRATEGY)
+ * </pre>
+ */
+public class SluvIdGenerator implements IdentifierGenerator {
+    public static final String NAME = "sluv-id";
+    public static final String STRATEGY = "com.sluv.server.global.id.SluvIdGenerator";
+
+    @Override
+    public Long generate(SharedSessionContractImplementor session, Object object) {
+        return SluvIdService.getInstance().nextId();
+    }
+}
@@ -0,0 +1,129 @@
+package com.sluv.server.global.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스마다 id_node_lease에서 node id를 하나 빌려 TimeSortedIdGenerator로 id를 발급
+ * lease는 heartbeat로 연장하고, 연장하지 못한 채 만료되면 다른 인스턴스가 같은 node id를 쓰지 않도록 발급을 멈춘다.
+ * 초기화 중에 id_node_lease를 읽으므로 Flyway migration 이후에 생성한다.
+ * heartbeat는 다른 @Scheduled 작업이 공용 scheduler 스레드를 오래 잡아도 밀리지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Service
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+public class SluvIdService {
+    // 가장 오래전에 만료된 node부터 빌려서 재시작 직후 같은 node id를 다시 쓰지 않는다
+    private static final String CLAIM_NODE = """
+            UPDATE id_node_lease
+            SET owner = ?, expires_at = NOW(3) + INTERVAL ? SECOND
+            WHERE expires_at < NOW(3) AND node_id <= ?
+            ORDER BY expires_at, node_id
+            LIMIT 1
+            """;
+    private static final String SELECT_CLAIMED_NODE = "SELECT node_id FROM id_node_lease WHERE owner = ?";
+    private static final String RENEW_NODE = """
+            UPDATE id_node_lease
+            SET expires_at = NOW(3) + INTERVAL ? SECOND
+            WHERE node_id = ? AND owner = ?
+            """;
+
+    // Hibernate가 생성하는 SluvIdGenerator에서 참조
+    private static volatile SluvIdService instance;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 재시작하면 새 lease를 받도록 인스턴스마다 다른 값
+    private final String owner = UUID.randomUUID().toString();
+
+    // lease가 끊기면 모든 INSERT가 실패하므로 heartbeat만 실행하는 스레드
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sluv-id-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${id-generator.lease-seconds:60}")
+    private int leaseSeconds;
+
+    @Value("${id-generator.heartbeat-millis:10000}")
+    private long heartbeatMillis;
+
+    private volatile TimeSortedIdGenerator generator;
+
+    @PostConstruct
+    protected void init() {
+        claim();
+        instance = this;
+        heartbeatScheduler.scheduleWithFixedDelay(this::renewQuietly, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    static SluvIdService getInstance() {
+        SluvIdService service = instance;
+        if (service == null) {
+            throw new IllegalStateException("SluvIdService가 아직 초기화되지 않았습니다.");
+        }
+
+        return service;
+    }
+
+    /**
+     * == 다음 id 발급 ==
+     *
+     * @return 시각순으로 정렬되는 id
+     * @throws IllegalStateException node id lease가 만료되었을 때
+     */
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    /**
+     * == node id lease 연장 ==
+     * 그 사이 다른 인스턴스가 node id를 가져갔다면 새 node id를 빌린다.
+     */
+    public synchronized void renewQuietly() {
+        try {
+            // DB의 만료 시각은 요청 시작 이후로 잡히므로 요청 시작 기준으로 계산하면 실제 만료보다 앞선다
+            long requestedAt = System.currentTimeMillis();
+            TimeSortedIdGenerator current = generator;
+            if (jdbcTemplate.update(RENEW_NODE, leaseSeconds, current.getNodeId(), owner) == 1) {
+                current.extendUntil(requestedAt + leaseSeconds * 1000L);
+                return;
+            }
+
+            log.warn("id node {}의 lease를 잃어 새 node id를 빌립니다.", current.getNodeId());
+            claim();
+        } catch (RuntimeException e) {
+            // lease가 남아 있는 동안은 기존 node id로 계속 발급
+            log.warn("id node lease 연장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private synchronized void claim() {
+        long requestedAt = System.currentTimeMillis();
+        if (jdbcTemplate.update(CLAIM_NODE, owner, leaseSeconds, TimeSortedIdGenerator.MAX_NODE_ID) != 1) {
+            throw new IllegalStateException("빌릴 수 있는 id node가 없습니다.");
+        }
+
+        int nodeId = jdbcTemplate.queryForObject(SELECT_CLAIMED_NODE, Integer.class, owner);
+        generator = new TimeSortedIdGenerator(nodeId, requestedAt + leaseSeconds * 1000L);
+        log.info("id node lease : {}", nodeId);
+    }
+}
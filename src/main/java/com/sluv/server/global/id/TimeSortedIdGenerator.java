@@ -0,0 +1,75 @@
+package com.sluv.server.global.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발급 시각순으로 정렬되는 long id
+ * [0 (11bit)][EPOCH 이후 ms (41bit)][node id (6bit)][sequence (6bit)]
+ * JavaScript number로도 정확히 표현되도록 2^53 미만으로 맞춘다.
+ * node id가 인스턴스마다 다르므로 인스턴스끼리 조율하지 않아도 겹치지 않는다.
+ *
+ * (시각, sequence)를 long 하나에 담아 CAS로만 갱신하므로 lock이 없다.
+ * 같은 ms에 sequence를 다 쓰거나 시계가 뒤로 가도 기다리지 않고 마지막 시각에 이어서 발급한다.
+ */
+public final class TimeSortedIdGenerator {
+    // 2023-01-01T00:00:00Z, 41bit로 2092년까지
+    public static final long EPOCH_MILLIS = 1672531200000L;
+
+    private static final int NODE_BITS = 6;
+    private static final int SEQUENCE_BITS = 6;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private final long nodeBits;
+    private final int nodeId;
+    private final AtomicLong state = new AtomicLong();
+
+    // node id를 다른 인스턴스가 가져갈 수 있는 시각, 이후로는 발급하지 않는다
+    private volatile long validUntilMillis;
+
+    public TimeSortedIdGenerator(int nodeId, long validUntilMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다 : " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.validUntilMillis = validUntilMillis;
+    }
+
+    /**
+     * == 다음 id 발급 ==
+     *
+     * @return 이 인스턴스에서 이전에 발급한 id보다 큰 id
+     * @throws IllegalStateException node id lease가 만료되었을 때
+     */
+    public long nextId() {
+        long now = System.currentTimeMillis();
+        if (now >= validUntilMillis) {
+            throw new IllegalStateException("id node " + nodeId + "의 lease가 만료되었습니다.");
+        }
+
+        long elapsed = now - EPOCH_MILLIS;
+        while (true) {
+            long prev = state.get();
+            // sequence가 넘치면 prev + 1이 다음 ms로 올라간다
+            long next = elapsed > prev >>> SEQUENCE_BITS ? elapsed << SEQUENCE_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * == lease 연장 ==
+     *
+     * @param validUntilMillis 연장된 lease가 만료되는 시각
+     */
+    public void extendUntil(long validUntilMillis) {
+        this.validUntilMillis = validUntilMillis;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+}
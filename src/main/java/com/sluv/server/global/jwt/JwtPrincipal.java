@@ -0,0 +1,25 @@
+package com.sluv.server.global.jwt;
+
+import com.sluv.server.domain.user.enums.UserStatus;
+import lombok.Getter;
+
+/**
+ * JWT Claims만으로 만든 가벼운 principal.
+ * User 엔티티는 컨트롤러가 @AuthenticationPrincipal User를 요구할 때만 조회한다.
+ */
+@Getter
+public class JwtPrincipal {
+    private final Long userId;
+
+    // 토큰 발급 시점의 상태, 이전에 발급된 토큰이라면 null
+    private final UserStatus userStatus;
+
+    // 토큰 폐기에 사용하는 jti, 이전에 발급된 토큰이라면 null
+    private final String tokenId;
+
+    public JwtPrincipal(Long userId, UserStatus userStatus, String tokenId) {
+        this.userId = userId;
+        this.userStatus = userStatus;
+        this.tokenId = tokenId;
+    }
+}
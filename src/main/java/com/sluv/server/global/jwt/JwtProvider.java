@@ -2,8 +2,7 @@ package com.sluv.server.global.jwt;
 
 
 import com.sluv.server.domain.user.dto.UserDto;
-import com.sluv.server.domain.user.exception.NotFoundUserException;
-import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.domain.user.enums.UserStatus;
 import com.sluv.server.global.jwt.exception.ExpiredTokenException;
 import com.sluv.server.global.jwt.exception.InvalidateTokenException;
 import io.jsonwebtoken.*;
@@ -16,7 +15,6 @@ import org.springframework.beans.factory.annotation.Value;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
@@ -24,14 +22,16 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.UUID;
 
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtProvider {
-    private final UserRepository userRepository;
+    private static final String STATUS_CLAIM = "status";
 
     @Value("${jwt.secret}")
     private String secretKey = "secretKey";
@@ -39,19 +39,38 @@ public class JwtProvider {
     @Value("${jwt.expiration-seconds}")
     private Long tokenValidMillisecond = 0L;
 
+    private Key signingKey;
+    private JwtParser jwtParser;
+
     @PostConstruct
     protected void init(){
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
-    }
-    private Key getSigninKey(String secretKey) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public Authentication getAuthentication(String token){
-        UserDetails user = userRepository.findById(Long.valueOf(this.getUserId(token).toString())).orElseThrow(NotFoundUserException::new);
+        return getAuthentication(jwtParser.parseClaimsJws(token).getBody());
+    }
 
-        return new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
+    /**
+     * === 검증된 Claims로 Authentication 생성 ===
+     * DB 조회 없이 Claims만으로 JwtPrincipal을 만든다.
+     *
+     * @param claims
+     * @return Authentication
+     */
+    public Authentication getAuthentication(Claims claims){
+        String status = claims.get(STATUS_CLAIM, String.class);
+        JwtPrincipal principal = new JwtPrincipal(
+                getUserId(claims),
+                status != null ? UserStatus.valueOf(status) : null,
+                claims.getId()
+        );
+
+        return new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList());
     }
 
     /**
@@ -64,13 +83,17 @@ public class JwtProvider {
         Long id = user.getId();
 
         Claims claims = Jwts.claims().setSubject(id.toString());
+        if (user.getUserStatus() != null) {
+            claims.put(STATUS_CLAIM, user.getUserStatus().name());
+        }
         Date now = new Date();
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + tokenValidMillisecond))
-                .signWith(getSigninKey(secretKey), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -81,13 +104,17 @@ public class JwtProvider {
      * @return user's id
      */
     public Long getUserId(String token){
-        String info = Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes()).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return getUserId(jwtParser.parseClaimsJws(token).getBody());
+    }
 
-        return Long.valueOf(info);
+    /**
+     * === 검증된 Claims에서 user id 추출 ===
+     *
+     * @param claims
+     * @return user's id
+     */
+    public Long getUserId(Claims claims){
+        return Long.valueOf(claims.getSubject());
     }
 
     /**
@@ -110,10 +137,19 @@ public class JwtProvider {
      * @throws ExpiredTokenException
      */
     public boolean validateToken(String token){
+        return getClaims(token) != null;
+    }
+
+    /**
+     * === token을 한 번만 파싱 및 검증하여 Claims 반환 ===
+     *
+     * @param token
+     * @return 검증된 Claims, 지원하지 않는 토큰이라면 null
+     * @throws InvalidateTokenException, ExpiredTokenException
+     */
+    public Claims getClaims(String token){
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey.getBytes()).build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException e) {
             // 잘못된 토큰
             throw new InvalidateTokenException();
@@ -126,6 +162,6 @@ public class JwtProvider {
             //나머지 예외
         }
 
-        return false;
+        return null;
     }
 }
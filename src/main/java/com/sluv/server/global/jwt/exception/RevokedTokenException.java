@@ -0,0 +1,14 @@
+package com.sluv.server.global.jwt.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class RevokedTokenException extends TokenException {
+
+    private static final int ERROR_CODE = 4003;
+    private static final String MESSAGE = "폐기된 토큰입니다.";
+    private static final HttpStatus STATUS = HttpStatus.UNAUTHORIZED;
+
+    public RevokedTokenException() {
+        super(ERROR_CODE, STATUS, MESSAGE);
+    }
+}
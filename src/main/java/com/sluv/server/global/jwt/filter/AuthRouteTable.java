@@ -0,0 +1,98 @@
+package com.sluv.server.global.jwt.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증이 필요한 URL 패턴을 미리 컴파일한 라우트 테이블
+ * 고정 경로는 HashSet, {변수}가 있는 경로는 segment 수별로 묶어 요청마다 상수 시간에 판단한다.
+ */
+public class AuthRouteTable {
+    private final Set<String> exactPaths = new HashSet<>();
+    private final Map<Integer, List<String[]>> templatesBySegmentCount = new HashMap<>();
+
+    public AuthRouteTable(String... patterns) {
+        for (String pattern : patterns) {
+            String path = normalize(pattern);
+
+            if (!path.contains("{")) {
+                exactPaths.add(path);
+                continue;
+            }
+
+            String[] segments = split(path);
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].startsWith("{") && segments[i].endsWith("}")) {
+                    // 변수 segment는 null로 두고 어떤 값이든 매칭
+                    segments[i] = null;
+                }
+            }
+            templatesBySegmentCount.computeIfAbsent(segments.length, k -> new ArrayList<>()).add(segments);
+        }
+    }
+
+    /**
+     * == 요청 경로가 principal을 필요로 하는지 확인 ==
+     *
+     * @param requestPath context path를 제외한 요청 경로
+     * @return 인증 필요 여부
+     */
+    public boolean requiresAuthentication(String requestPath) {
+        String path = normalize(requestPath);
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (templatesBySegmentCount.isEmpty()) {
+            return false;
+        }
+
+        List<String[]> templates = templatesBySegmentCount.get(countSegments(path));
+        if (templates == null) {
+            return false;
+        }
+
+        String[] segments = split(path);
+        for (String[] template : templates) {
+            if (matches(template, segments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String[] template, String[] segments) {
+        for (int i = 0; i < template.length; i++) {
+            // 변수 segment도 빈 값("//")과는 매칭하지 않는다
+            if (template[i] == null ? segments[i].isEmpty() : !template[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] split(String path) {
+        // 빈 segment도 남겨 countSegments와 길이를 맞춘다
+        return path.split("/", -1);
+    }
+
+    private static int countSegments(String path) {
+        int count = 1;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '/') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String normalize(String path) {
+        if (path.length() > 1 && path.endsWith("/")) {
+            return path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+}
@@ -3,12 +3,14 @@ package com.sluv.server.global.jwt.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sluv.server.global.common.exception.ApplicationExceptionMetrics;
 import com.sluv.server.global.common.response.ErrorResponse;
 import com.sluv.server.global.jwt.exception.TokenException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,7 +18,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class ExceptionHandlerFilter extends OncePerRequestFilter {
+    private final ApplicationExceptionMetrics applicationExceptionMetrics;
     ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -25,6 +29,7 @@ public class ExceptionHandlerFilter extends OncePerRequestFilter {
         try {
             filterChain.doFilter(request, response);
         } catch (TokenException e) {
+            applicationExceptionMetrics.increment(e);
             setErrorResponse(response, e.getMessage(), e.getErrorCode(), e.getHttpStatus());
         }
 //        } catch (MemberNotFoundException e) {
@@ -33,7 +38,7 @@ public class ExceptionHandlerFilter extends OncePerRequestFilter {
     }
 
     private void setErrorResponse(HttpServletResponse response, String message, int errorCode, HttpStatus status) throws IOException {
-        log.error("Code : {}, Message : {}", errorCode, message);
+        log.debug("Code : {}, Message : {}", errorCode, message);
         String errorResponse = objectMapper.writeValueAsString(
                 ErrorResponse.builder()
                                 .code(errorCode)
@@ -1,6 +1,9 @@
 package com.sluv.server.global.jwt.filter;
 
+import com.sluv.server.domain.auth.service.TokenRevocationService;
 import com.sluv.server.global.jwt.JwtProvider;
+import com.sluv.server.global.jwt.exception.RevokedTokenException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,13 +18,32 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
+    private final AuthRouteTable authRouteTable;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 인증이 필요 없는 경로라면 토큰이 있어도 파싱하지 않음
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        return !authRouteTable.requiresAuthentication(path);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = jwtProvider.resolveToken(request);
 
-        if (token != null && jwtProvider.validateToken(token)) {
-            Authentication authentication = jwtProvider.getAuthentication(token);
+        Claims claims = token != null ? jwtProvider.getClaims(token) : null;
+
+        if (claims != null) {
+            // 폐기되지 않은 토큰은 Bloom filter에서 걸러져 DB를 조회하지 않음
+            if (tokenRevocationService.isRevoked(claims)) {
+                throw new RevokedTokenException();
+            }
+
+            Authentication authentication = jwtProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
@@ -0,0 +1,49 @@
+package com.sluv.server.global.jwt.resolver;
+
+import com.sluv.server.domain.user.dto.UserSnapshot;
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.service.UserCacheService;
+import com.sluv.server.global.jwt.JwtPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @AuthenticationPrincipal User, UserSnapshot 파라미터를 JwtPrincipal의 id로 UserCacheService에서 찾아 주입
+ * User는 캐시된 엔티티를 공유하지 않도록 요청마다 새 reference를 주입한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+    private final UserCacheService userCacheService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AuthenticationPrincipal.class)
+                && (User.class.isAssignableFrom(parameter.getParameterType())
+                    || UserSnapshot.class.isAssignableFrom(parameter.getParameterType()));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal principal)) {
+            return null;
+        }
+
+        if (UserSnapshot.class.isAssignableFrom(parameter.getParameterType())) {
+            return userCacheService.getSnapshot(principal.getUserId());
+        }
+
+        return userCacheService.getUserReference(principal.getUserId());
+    }
+}
@@ -0,0 +1,156 @@
+package com.sluv.server.global.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 구간별 지수 감쇠 인기 점수
+ * forward decay 방식으로 선택 시점에 exp((t - landmark) / window) 를 더하므로
+ * 타이머 없이 선택 한 번에 O(1)이고, 같은 landmark의 점수끼리는 그대로 비교할 수 있다.
+ */
+public class PopularityRanking {
+    // exp 값이 너무 커지기 전에 landmark를 옮긴다
+    private static final double MAX_EXPONENT = 100.0;
+
+    // RankingWindow.ordinal() -> 점수, 초기화와 landmark 이동 시 통째로 교체
+    private final AtomicReferenceArray<Scores> scoresByWindow = new AtomicReferenceArray<>(RankingWindow.values().length);
+
+    public PopularityRanking(long nowMillis) {
+        for (RankingWindow window : RankingWindow.values()) {
+            scoresByWindow.set(window.ordinal(), new Scores(window, nowMillis));
+        }
+    }
+
+    /**
+     * == 선택 1회 반영 ==
+     *
+     * @param id
+     * @param nowMillis
+     */
+    public void record(Long id, long nowMillis) {
+        for (int i = 0; i < scoresByWindow.length(); i++) {
+            scoresByWindow.get(i).record(id, nowMillis);
+        }
+    }
+
+    /**
+     * == DB 집계로 점수 초기화 ==
+     * nowMillis를 landmark로 하므로 선택마다 exp((t - nowMillis) / window)를 더한 값이 record한 점수와 같다.
+     *
+     * @param window
+     * @param scores id -> nowMillis 기준으로 감쇠한 선택 점수
+     * @param nowMillis
+     */
+    public void reset(RankingWindow window, Map<Long, Double> scores, long nowMillis) {
+        Scores reset = new Scores(window, nowMillis);
+        scores.forEach(reset::add);
+
+        scoresByWindow.set(window.ordinal(), reset);
+    }
+
+    /**
+     * == 현재 시각 기준 점수, 다른 id와 비교용 ==
+     *
+     * @param window
+     * @param id
+     * @return 점수, 선택된 적이 없다면 0
+     */
+    public double score(RankingWindow window, Long id) {
+        return scoresByWindow.get(window.ordinal()).score(id);
+    }
+
+    /**
+     * == 점수 상위 n개 id ==
+     *
+     * @param window
+     * @param n
+     * @param nowMillis
+     * @return 점수 내림차순 id 목록
+     */
+    public List<Long> top(RankingWindow window, int n, long nowMillis) {
+        Scores scores = rebaseIfNeeded(window, nowMillis);
+
+        // 점수가 가장 낮은 항목이 head인 크기 n의 heap
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(n + 1, Map.Entry.comparingByValue());
+        scores.values.forEach((id, adder) -> {
+            heap.offer(Map.entry(id, adder.sum()));
+            if (heap.size() > n) {
+                heap.poll();
+            }
+        });
+
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+
+        return ids;
+    }
+
+    private Scores rebaseIfNeeded(RankingWindow window, long nowMillis) {
+        Scores scores = scoresByWindow.get(window.ordinal());
+        if (scores.exponent(nowMillis) < MAX_EXPONENT) {
+            return scores;
+        }
+
+        // 교체 중에 들어온 선택 몇 건은 버려질 수 있다
+        Scores rebased = scores.rebase(nowMillis);
+        scoresByWindow.compareAndSet(window.ordinal(), scores, rebased);
+
+        return scoresByWindow.get(window.ordinal());
+    }
+
+    private static final class Scores {
+        private final double windowMillis;
+        private final long landmarkMillis;
+        private final Map<Long, DoubleAdder> values = new ConcurrentHashMap<>();
+
+        private Scores(RankingWindow window, long landmarkMillis) {
+            this(window.getDuration().toMillis(), landmarkMillis);
+        }
+
+        private Scores(double windowMillis, long landmarkMillis) {
+            this.windowMillis = windowMillis;
+            this.landmarkMillis = landmarkMillis;
+        }
+
+        private double exponent(long nowMillis) {
+            return (nowMillis - landmarkMillis) / windowMillis;
+        }
+
+        private void record(Long id, long nowMillis) {
+            add(id, Math.exp(exponent(nowMillis)));
+        }
+
+        private void add(Long id, double weight) {
+            values.computeIfAbsent(id, key -> new DoubleAdder()).add(weight);
+        }
+
+        private double score(Long id) {
+            DoubleAdder adder = values.get(id);
+
+            return adder != null ? adder.sum() : 0.0;
+        }
+
+        private Scores rebase(long nowMillis) {
+            Scores rebased = new Scores(windowMillis, nowMillis);
+            double factor = Math.exp(-exponent(nowMillis));
+            values.forEach((id, adder) -> {
+                double value = adder.sum() * factor;
+                // 사실상 0이 된 항목은 버린다
+                if (value > 1e-6) {
+                    rebased.add(id, value);
+                }
+            });
+
+            return rebased;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.sluv.server.global.ranking;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선택 기록으로 인기 순위를 유지하고 구간별 top-N을 주기적으로 발행
+ * /top 요청은 발행된 불변 snapshot만 읽으므로 선택 기록이 늘어나도 요청당 비용이 같다.
+ * 선택은 모두 popularity_select_count에도 세어, 재집계가 메모리 점수와 같은 선택 횟수로 맞춘다.
+ *
+ * @param <T> 응답 DTO
+ */
+@Slf4j
+public abstract class PopularityRankingService<T> {
+    private static final int DECAY_HORIZON = 10;
+
+    private final PopularityRanking ranking = new PopularityRanking(System.currentTimeMillis());
+    private final RankingTarget target;
+    private final SelectCountRepository selectCountRepository;
+    private final SelectCountWriteBuffer selectCountWriteBuffer;
+
+    @Value("${ranking.top-size:10}")
+    private int topSize;
+
+    @Value("${ranking.default-window:DAY}")
+    private RankingWindow defaultWindow;
+
+    private volatile Map<RankingWindow, List<Long>> publishedIds = Map.of();
+    private volatile Map<RankingWindow, List<T>> published = Map.of();
+
+    protected PopularityRankingService(RankingTarget target,
+                                       SelectCountRepository selectCountRepository,
+                                       SelectCountWriteBuffer selectCountWriteBuffer) {
+        this.target = target;
+        this.selectCountRepository = selectCountRepository;
+        this.selectCountWriteBuffer = selectCountWriteBuffer;
+    }
+
+    @PostConstruct
+    protected void init() {
+        reseedQuietly();
+    }
+
+    /**
+     * == 선택 1회 반영 ==
+     *
+     * @param id
+     */
+    public void record(Long id) {
+        ranking.record(id, System.currentTimeMillis());
+        selectCountWriteBuffer.count(target, id, LocalDateTime.now());
+    }
+
+    /**
+     * == 발행된 인기 top-N 조회, DB를 조회하지 않음 ==
+     *
+     * @param window null이라면 ranking.default-window
+     * @return 인기순 목록
+     */
+    public List<T> getTop(RankingWindow window) {
+        return published.getOrDefault(window != null ? window : defaultWindow, List.of());
+    }
+
+    /**
+     * == 현재 점수, 다른 id와 순위를 비교하는 용도 ==
+     *
+     * @param window
+     * @param id
+     * @return 점수
+     */
+    public double getScore(RankingWindow window, Long id) {
+        return ranking.score(window, id);
+    }
+
+    /**
+     * == 구간별 top-N snapshot 발행 ==
+     * 순위가 바뀐 구간만 DTO를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${ranking.publish-millis:10000}",
+               initialDelayString = "${ranking.publish-millis:10000}")
+    public synchronized void publish() {
+        long now = System.currentTimeMillis();
+
+        Map<RankingWindow, List<Long>> nextIds = new EnumMap<>(RankingWindow.class);
+        Map<RankingWindow, List<T>> next = new EnumMap<>(RankingWindow.class);
+        for (RankingWindow window : RankingWindow.values()) {
+            List<Long> ids = ranking.top(window, topSize, now);
+            nextIds.put(window, ids);
+
+            List<T> previous = published.get(window);
+            next.put(window, previous != null && ids.equals(publishedIds.get(window))
+                    ? previous
+                    : List.copyOf(loadInOrder(ids))
+            );
+        }
+
+        publishedIds = nextIds;
+        published = next;
+    }
+
+    /**
+     * == 구간별 선택 횟수를 DB에서 다시 집계 ==
+     * 인스턴스마다 받은 선택만 세고 있으므로 주기적으로 전체 기록과 맞춘다.
+     * 이 인스턴스가 아직 쓰지 않은 선택을 먼저 쓰고, 가장 긴 구간보다 오래된 bucket은 지운다.
+     * record와 같은 점수가 되도록 bucket마다 중간 시각 기준으로 감쇠한 값을 더한다.
+     */
+    @Scheduled(fixedDelayString = "${ranking.reseed-millis:3600000}",
+               initialDelayString = "${ranking.reseed-millis:3600000}")
+    public synchronized void reseedQuietly() {
+        try {
+            selectCountWriteBuffer.flushQuietly();
+
+            long now = System.currentTimeMillis();
+            LocalDateTime nowDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+            LocalDateTime retainedSince = nowDateTime.minus(RankingWindow.WEEK.getDuration());
+            selectCountRepository.deleteSelectCountsBefore(retainedSince);
+            for (RankingWindow window : RankingWindow.values()) {
+                // 구간의 DECAY_HORIZON배보다 오래된 선택은 점수가 사실상 0
+                LocalDateTime since = nowDateTime.minus(window.getDuration().multipliedBy(DECAY_HORIZON));
+                ranking.reset(window,
+                        selectCountRepository.sumDecayedSelectCountsSince(target,
+                                since.isAfter(retainedSince) ? since : retainedSince,
+                                nowDateTime,
+                                window.getDuration(),
+                                selectCountWriteBuffer.getBucketDuration()),
+                        now);
+            }
+
+            publish();
+        } catch (RuntimeException e) {
+            log.warn("{} 인기 순위 집계 실패 : {}", getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    /**
+     * @param ids 인기순 id
+     * @return ids 순서를 유지한 DTO 목록, 삭제된 id는 제외
+     */
+    protected abstract List<T> loadInOrder(List<Long> ids);
+}
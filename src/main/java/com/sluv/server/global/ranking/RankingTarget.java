@@ -0,0 +1,9 @@
+package com.sluv.server.global.ranking;
+
+/**
+ * 인기 순위 대상, popularity_select_count.target_type
+ */
+public enum RankingTarget {
+    CELEB,
+    BRAND
+}
@@ -0,0 +1,43 @@
+package com.sluv.server.global.ranking;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 인기 순위 집계 구간
+ * 각 구간의 길이를 감쇠 시간 상수로 사용하여, 구간보다 오래된 선택일수록 점수가 작아진다.
+ */
+public enum RankingWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration duration;
+
+    RankingWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * == 요청 파라미터를 RankingWindow로 변환 ==
+     *
+     * @param text hour, day, week (대소문자 무관)
+     * @param defaultWindow text가 없거나 잘못된 경우
+     * @return RankingWindow
+     */
+    public static RankingWindow fromString(String text, RankingWindow defaultWindow) {
+        if (text == null) {
+            return defaultWindow;
+        }
+
+        try {
+            return RankingWindow.valueOf(text.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return defaultWindow;
+        }
+    }
+}
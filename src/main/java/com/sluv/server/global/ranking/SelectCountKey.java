@@ -0,0 +1,9 @@
+package com.sluv.server.global.ranking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선택 횟수 write-behind의 합칠 기준, popularity_select_count primary key와 같다
+ */
+public record SelectCountKey(RankingTarget target, Long targetId, LocalDateTime bucketStart) {
+}
@@ -0,0 +1,89 @@
+package com.sluv.server.global.ranking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 순위 재집계용 선택 횟수, 대상마다 bucket_start 단위로 선택 횟수를 누적한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class SelectCountRepository {
+    // 인스턴스마다 따로 flush 하므로 같은 bucket이라면 횟수를 더한다
+    private static final String ADD_SELECT_COUNT = """
+            INSERT INTO popularity_select_count (target_type, target_id, bucket_start, select_count)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE select_count = select_count + VALUES(select_count)
+            """;
+    // bucket 중간 시각 기준 exp((t - now) / window), 진행 중인 bucket의 중간 시각이 now보다 늦다면 1
+    private static final String SUM_DECAYED_SELECT_COUNT_SINCE = """
+            SELECT target_id,
+                   SUM(select_count * EXP(LEAST(TIMESTAMPDIFF(SECOND, ?, bucket_start) + ?, 0) / ?)) AS score
+            FROM popularity_select_count
+            WHERE target_type = ? AND bucket_start >= ?
+            GROUP BY target_id
+            """;
+    private static final String DELETE_SELECT_COUNT_BEFORE = "DELETE FROM popularity_select_count WHERE bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * == bucket별 선택 횟수를 batch로 누적 ==
+     *
+     * @param counts key -> 더할 횟수
+     */
+    public void addSelectCounts(Map<SelectCountKey, Long> counts) {
+        List<Object[]> args = counts.entrySet().stream()
+                .map(entry -> new Object[]{
+                        entry.getKey().target().name(),
+                        entry.getKey().targetId(),
+                        Timestamp.valueOf(entry.getKey().bucketStart()),
+                        entry.getValue()
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(ADD_SELECT_COUNT, args);
+    }
+
+    /**
+     * == since 이후 bucket의 선택 횟수를 now 기준으로 감쇠해 합산 ==
+     * bucket 안의 선택은 모두 bucket 중간 시각에 선택했다고 본다.
+     *
+     * @param target
+     * @param since
+     * @param now 감쇠 기준 시각, 이 시각의 선택이 1
+     * @param window 감쇠 시간 상수
+     * @param bucket bucket 길이
+     * @return id -> 감쇠한 선택 점수
+     */
+    public Map<Long, Double> sumDecayedSelectCountsSince(RankingTarget target, LocalDateTime since, LocalDateTime now,
+                                                         Duration window, Duration bucket) {
+        Map<Long, Double> scores = new HashMap<>();
+        jdbcTemplate.query(SUM_DECAYED_SELECT_COUNT_SINCE,
+                rs -> {
+                    scores.put(rs.getLong("target_id"), rs.getDouble("score"));
+                },
+                Timestamp.valueOf(now), bucket.toSeconds() / 2.0, (double) window.toSeconds(),
+                target.name(), Timestamp.valueOf(since));
+
+        return scores;
+    }
+
+    /**
+     * == 가장 긴 구간보다 오래된 bucket 삭제 ==
+     *
+     * @param before
+     * @return 삭제한 row 수
+     */
+    public int deleteSelectCountsBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_SELECT_COUNT_BEFORE, Timestamp.valueOf(before));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sluv.server.global.ranking;
+
+import com.sluv.server.global.writebehind.WriteBehindBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * 선택 횟수 write-behind, 같은 대상의 같은 bucket 선택은 횟수를 더해 한 row로 쓴다.
+ */
+@Component
+public class SelectCountWriteBuffer extends WriteBehindBuffer<SelectCountKey, Long> {
+    private final SelectCountRepository selectCountRepository;
+
+    @Value("${ranking.bucket-minutes:5}")
+    private int bucketMinutes;
+
+    public SelectCountWriteBuffer(SelectCountRepository selectCountRepository, MeterRegistry meterRegistry) {
+        super(meterRegistry);
+        this.selectCountRepository = selectCountRepository;
+    }
+
+    /**
+     * == 선택 1회 ==
+     *
+     * @param target
+     * @param targetId
+     * @param selectedAt
+     */
+    public void count(RankingTarget target, Long targetId, LocalDateTime selectedAt) {
+        offer(new SelectCountKey(target, targetId, bucketStart(selectedAt)), 1L);
+    }
+
+    public Duration getBucketDuration() {
+        return Duration.ofMinutes(bucketMinutes);
+    }
+
+    LocalDateTime bucketStart(LocalDateTime selectedAt) {
+        LocalDateTime minute = selectedAt.truncatedTo(ChronoUnit.MINUTES);
+
+        return minute.minusMinutes(minute.getMinute() % bucketMinutes);
+    }
+
+    @Override
+    protected Long merge(Long previous, Long value) {
+        return previous + value;
+    }
+
+    @Override
+    protected void write(Map<SelectCountKey, Long> batch) {
+        selectCountRepository.addSelectCounts(batch);
+    }
+}
@@ -0,0 +1,199 @@
+package com.sluv.server.global.writebehind;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 요청 경로 밖에서 모아 쓰는 write-behind buffer
+ * 같은 key는 merge로 값 하나로 합쳐지고(기본은 마지막 값), 주기적으로 또는 flush-size만큼 쌓이면 한 번에 쓴다.
+ * capacity를 넘으면 요청 스레드가 직접 flush 하여(backpressure) 메모리가 무한히 늘지 않는다.
+ * flush가 실패해도 요청은 실패시키지 않고, 떼어낸 요청을 되돌려 다음 flush에서 다시 쓴다.
+ *
+ * @param <K> 합칠 기준 key
+ * @param <V> 쓸 값, 같은 key라면 merge 결과가 남는다
+ */
+@Slf4j
+public abstract class WriteBehindBuffer<K, V> {
+    private static final String METRIC_PREFIX = "app.writebehind";
+
+    @Value("${write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${write-behind.flush-size:500}")
+    private int flushSize;
+
+    // offer는 read lock으로 동시에, flush는 write lock으로 pending을 통째로 교체
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flushExecutor;
+
+    private final Timer flushTimer;
+    private final Counter backpressureCounter;
+    private final Counter flushFailureCounter;
+
+    private volatile Map<K, V> pending = new ConcurrentHashMap<>();
+
+    protected WriteBehindBuffer(MeterRegistry meterRegistry) {
+        String buffer = getClass().getSimpleName();
+
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, buffer + "-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder(METRIC_PREFIX + ".depth", this, WriteBehindBuffer::size)
+                .tag("buffer", buffer)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .tag("buffer", buffer)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.backpressureCounter = Counter.builder(METRIC_PREFIX + ".backpressure")
+                .tag("buffer", buffer)
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder(METRIC_PREFIX + ".flush.failure")
+                .tag("buffer", buffer)
+                .register(meterRegistry);
+    }
+
+    /**
+     * == 쓰기 요청, 같은 key가 쌓여 있다면 merge한 값으로 교체 ==
+     *
+     * @param key
+     * @param value
+     */
+    public void offer(K key, V value) {
+        if (size() >= capacity) {
+            // 가득 찼다면 비울 때까지 요청 스레드가 기다린다, 실패해도 요청은 그대로 쌓는다
+            backpressureCounter.increment();
+            flushQuietly();
+        }
+
+        swapLock.readLock().lock();
+        try {
+            pending.merge(key, value, this::merge);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+
+        if (size() >= flushSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    flushScheduled.set(false);
+                    flushQuietly();
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중이라면 drain이 비운다
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * == 아직 쓰지 않은 요청 중 조건에 맞는 것을 버림 ==
+     * 전체 삭제처럼 쌓인 쓰기가 나중에 다시 살아나면 안 되는 경우에 사용
+     *
+     * @param condition
+     */
+    public void discard(Predicate<K> condition) {
+        // 진행 중인 flush가 끝난 뒤에 지워야 이후의 삭제보다 늦게 써지지 않는다
+        synchronized (flushLock) {
+            swapLock.readLock().lock();
+            try {
+                pending.keySet().removeIf(condition);
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${write-behind.flush-millis:1000}",
+               initialDelayString = "${write-behind.flush-millis:1000}")
+    public void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("{} flush 실패 : {}", getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    /**
+     * == 종료 시 남은 요청을 모두 씀 ==
+     */
+    @PreDestroy
+    public void drain() {
+        flushExecutor.shutdown();
+        flushQuietly();
+    }
+
+    /**
+     * == 쌓인 요청을 떼어내 한 번에 씀 ==
+     * 실패하면 떼어낸 값을 그 사이 들어온 값보다 앞선 값으로 merge해 되돌리고 다음 flush에서 다시 쓴다.
+     */
+    private void flush() {
+        synchronized (flushLock) {
+            Map<K, V> batch;
+            swapLock.writeLock().lock();
+            try {
+                batch = pending;
+                if (batch.isEmpty()) {
+                    return;
+                }
+                pending = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            try {
+                flushTimer.record(() -> write(batch));
+            } catch (RuntimeException e) {
+                swapLock.readLock().lock();
+                try {
+                    batch.forEach((key, value) -> pending.merge(key, value, (newer, restored) -> merge(restored, newer)));
+                } finally {
+                    swapLock.readLock().unlock();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * == 같은 key에 쌓인 값과 새 값을 합침, 기본은 새 값 ==
+     *
+     * @param previous 먼저 들어온 값
+     * @param value    나중에 들어온 값
+     * @return 쌓아 둘 값
+     */
+    protected V merge(V previous, V value) {
+        return value;
+    }
+
+    /**
+     * @param batch key -> merge한 값, 비어 있지 않음
+     */
+    protected abstract void write(Map<K, V> batch);
+}
@@ -0,0 +1,11 @@
+-- 브랜드 검색, cursor 정렬용 정규화 키 (BrandPrefixTrie.normalize와 같은 소문자 이름)
+-- utf8mb4_0900_bin(code point 순서, NO PAD)으로 비교하여 in-memory 인덱스의 cursor 순서와 같고,
+-- prefix 검색이 각 키 인덱스의 range scan이 된다.
+ALTER TABLE brand
+    ADD COLUMN brand_kr_key VARCHAR(300) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin
+        GENERATED ALWAYS AS (LOWER(brand_kr)) STORED,
+    ADD COLUMN brand_en_key VARCHAR(300) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin
+        GENERATED ALWAYS AS (LOWER(brand_en)) STORED;
+
+CREATE INDEX idx_brand_brand_kr_key_id ON brand (brand_kr_key, brand_id);
+CREATE INDEX idx_brand_brand_en_key ON brand (brand_en_key);
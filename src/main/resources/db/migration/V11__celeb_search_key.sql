@@ -0,0 +1,23 @@
+-- 셀럽 검색 키, celeb_search row의 이름 변형(멤버, 그룹, "그룹 멤버"의 한글, 영문)마다 소문자로 정규화한 한 row
+-- 검색은 (search_key, celeb_id)의 prefix range 한 번으로 일치하는 셀럽을 찾고 celeb_search에서 표시 이름을 읽는다.
+CREATE TABLE celeb_search_key (
+    search_key VARCHAR(511) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin NOT NULL,
+    celeb_id   BIGINT       NOT NULL,
+    PRIMARY KEY (search_key, celeb_id),
+    INDEX idx_celeb_search_key_celeb_id (celeb_id)
+);
+
+-- 솔로의 표시 이름은 멤버 이름과 같으므로 UNION으로 한 row만 남는다
+INSERT INTO celeb_search_key (search_key, celeb_id)
+SELECT LOWER(member_name_kr), celeb_id FROM celeb_search
+UNION SELECT LOWER(member_name_en), celeb_id FROM celeb_search
+UNION SELECT LOWER(group_name_kr), celeb_id FROM celeb_search WHERE group_name_kr IS NOT NULL
+UNION SELECT LOWER(group_name_en), celeb_id FROM celeb_search WHERE group_name_en IS NOT NULL
+UNION SELECT LOWER(display_name_kr), celeb_id FROM celeb_search
+UNION SELECT LOWER(display_name_en), celeb_id FROM celeb_search;
+
+-- 이름별 LIKE 검색용 인덱스는 검색 키로 대체
+DROP INDEX idx_celeb_search_member_name_kr ON celeb_search;
+DROP INDEX idx_celeb_search_member_name_en ON celeb_search;
+DROP INDEX idx_celeb_search_group_name_kr ON celeb_search;
+DROP INDEX idx_celeb_search_group_name_en ON celeb_search;
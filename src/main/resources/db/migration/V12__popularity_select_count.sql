@@ -0,0 +1,26 @@
+-- 인기 순위 재집계용 선택 횟수, 대상마다 bucket(ranking.bucket-minutes) 단위로 모든 선택을 센다
+-- recent_select_*는 유저, 대상마다 한 row만 남기므로(V5) 같은 유저의 반복 선택을 셀 수 없다.
+CREATE TABLE popularity_select_count (
+    target_type  VARCHAR(20) NOT NULL,
+    target_id    BIGINT      NOT NULL,
+    bucket_start DATETIME    NOT NULL,
+    select_count BIGINT      NOT NULL,
+    PRIMARY KEY (target_type, bucket_start, target_id)
+);
+
+-- 배포 직후 순위가 비지 않도록 최근 1주의 recent_select를 한 번씩 센 값으로 시작한다
+INSERT INTO popularity_select_count (target_type, target_id, bucket_start, select_count)
+SELECT 'CELEB', celeb_id,
+       DATE_FORMAT(updated_at, '%Y-%m-%d %H:%i:00') - INTERVAL MINUTE(updated_at) % 5 MINUTE AS bucket,
+       COUNT(*)
+FROM recent_select_celeb
+WHERE celeb_id IS NOT NULL AND updated_at >= NOW() - INTERVAL 7 DAY
+GROUP BY celeb_id, bucket;
+
+INSERT INTO popularity_select_count (target_type, target_id, bucket_start, select_count)
+SELECT 'BRAND', brand_id,
+       DATE_FORMAT(updated_at, '%Y-%m-%d %H:%i:00') - INTERVAL MINUTE(updated_at) % 5 MINUTE AS bucket,
+       COUNT(*)
+FROM recent_select_brand
+WHERE brand_id IS NOT NULL AND updated_at >= NOW() - INTERVAL 7 DAY
+GROUP BY brand_id, bucket;
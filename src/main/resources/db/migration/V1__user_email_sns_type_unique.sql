@@ -0,0 +1,62 @@
+-- 소셜 로그인 upsert를 위한 (email, sns_type) unique 인덱스
+-- 적용 전 중복 row가 있다면 가장 먼저 가입한 row만 남긴다.
+-- 중복 row를 참조하는 데이터는 남길 row로 옮긴 뒤 삭제한다.
+CREATE TEMPORARY TABLE user_dedup (
+    duplicate_id BIGINT NOT NULL,
+    kept_id      BIGINT NOT NULL,
+    PRIMARY KEY (duplicate_id)
+);
+
+INSERT INTO user_dedup (duplicate_id, kept_id)
+SELECT u1.user_id, MIN(u2.user_id)
+FROM `user` u1
+    JOIN `user` u2
+      ON u1.email = u2.email
+     AND u1.sns_type = u2.sns_type
+     AND u1.user_id > u2.user_id
+GROUP BY u1.user_id;
+
+-- unique 키와 충돌하는 row(같은 대상에 대한 좋아요 등)는 옮기지 않고 아래에서 삭제
+UPDATE IGNORE item i JOIN user_dedup d ON i.user_id = d.duplicate_id SET i.user_id = d.kept_id;
+UPDATE IGNORE temp_item t JOIN user_dedup d ON t.user_id = d.duplicate_id SET t.user_id = d.kept_id;
+UPDATE IGNORE item_like l JOIN user_dedup d ON l.user_id = d.duplicate_id SET l.user_id = d.kept_id;
+UPDATE IGNORE item_report r JOIN user_dedup d ON r.reporter_id = d.duplicate_id SET r.reporter_id = d.kept_id;
+UPDATE IGNORE item_edit_req r JOIN user_dedup d ON r.requester_id = d.duplicate_id SET r.requester_id = d.kept_id;
+UPDATE IGNORE recent_item r JOIN user_dedup d ON r.user_id = d.duplicate_id SET r.user_id = d.kept_id;
+UPDATE IGNORE closet c JOIN user_dedup d ON c.user_id = d.duplicate_id SET c.user_id = d.kept_id;
+UPDATE IGNORE question q JOIN user_dedup d ON q.user_id = d.duplicate_id SET q.user_id = d.kept_id;
+UPDATE IGNORE question_like l JOIN user_dedup d ON l.user_id = d.duplicate_id SET l.user_id = d.kept_id;
+UPDATE IGNORE question_report r JOIN user_dedup d ON r.reporter_id = d.duplicate_id SET r.reporter_id = d.kept_id;
+UPDATE IGNORE comment c JOIN user_dedup d ON c.user_id = d.duplicate_id SET c.user_id = d.kept_id;
+UPDATE IGNORE comment_like l JOIN user_dedup d ON l.user_id = d.duplicate_id SET l.user_id = d.kept_id;
+UPDATE IGNORE comment_report r JOIN user_dedup d ON r.user_id = d.duplicate_id SET r.user_id = d.kept_id;
+UPDATE IGNORE recent_search r JOIN user_dedup d ON r.user_id = d.duplicate_id SET r.user_id = d.kept_id;
+UPDATE IGNORE recent_select_brand r JOIN user_dedup d ON r.user_id = d.duplicate_id SET r.user_id = d.kept_id;
+UPDATE IGNORE recent_select_celeb r JOIN user_dedup d ON r.user_id = d.duplicate_id SET r.user_id = d.kept_id;
+UPDATE IGNORE interested_celeb i JOIN user_dedup d ON i.user_id = d.duplicate_id SET i.user_id = d.kept_id;
+UPDATE IGNORE follow f JOIN user_dedup d ON f.follower_id = d.duplicate_id SET f.follower_id = d.kept_id;
+UPDATE IGNORE follow f JOIN user_dedup d ON f.followee_id = d.duplicate_id SET f.followee_id = d.kept_id;
+UPDATE IGNORE user_report r JOIN user_dedup d ON r.reporter_id = d.duplicate_id SET r.reporter_id = d.kept_id;
+UPDATE IGNORE user_report r JOIN user_dedup d ON r.reported_id = d.duplicate_id SET r.reported_id = d.kept_id;
+UPDATE IGNORE user_report_stack r JOIN user_dedup d ON r.reported_id = d.duplicate_id SET r.reported_id = d.kept_id;
+
+-- 합쳐진 두 계정 사이의 팔로우는 자기 자신 팔로우가 되므로 삭제
+DELETE FROM follow WHERE follower_id = followee_id;
+
+-- unique 키 충돌로 옮기지 못한 row 삭제 (남길 row에 같은 데이터가 이미 있음)
+DELETE l FROM item_like l JOIN user_dedup d ON l.user_id = d.duplicate_id;
+DELETE l FROM question_like l JOIN user_dedup d ON l.user_id = d.duplicate_id;
+DELETE l FROM comment_like l JOIN user_dedup d ON l.user_id = d.duplicate_id;
+DELETE r FROM recent_item r JOIN user_dedup d ON r.user_id = d.duplicate_id;
+DELETE r FROM recent_search r JOIN user_dedup d ON r.user_id = d.duplicate_id;
+DELETE r FROM recent_select_brand r JOIN user_dedup d ON r.user_id = d.duplicate_id;
+DELETE r FROM recent_select_celeb r JOIN user_dedup d ON r.user_id = d.duplicate_id;
+DELETE i FROM interested_celeb i JOIN user_dedup d ON i.user_id = d.duplicate_id;
+DELETE f FROM follow f JOIN user_dedup d ON f.follower_id = d.duplicate_id OR f.followee_id = d.duplicate_id;
+
+DELETE u FROM `user` u JOIN user_dedup d ON u.user_id = d.duplicate_id;
+
+DROP TEMPORARY TABLE user_dedup;
+
+ALTER TABLE `user`
+    ADD CONSTRAINT uk_user_email_sns_type UNIQUE (email, sns_type);
@@ -0,0 +1,9 @@
+-- 토큰 폐기 목록 (로그아웃, 강제 로그아웃, 유저 상태 변경)
+CREATE TABLE revoked_token (
+    revoked_token_id BIGINT       NOT NULL AUTO_INCREMENT,
+    revoke_key       VARCHAR(100) NOT NULL,
+    revoked_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (revoked_token_id),
+    INDEX idx_revoked_token_revoke_key (revoke_key),
+    INDEX idx_revoked_token_revoked_at (revoked_at)
+);
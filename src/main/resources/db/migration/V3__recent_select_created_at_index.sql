@@ -0,0 +1,3 @@
+-- 인기 순위 재집계 (구간 내 GROUP BY) 시 전체 테이블을 읽지 않도록 created_at 인덱스 추가
+CREATE INDEX idx_recent_select_brand_created_at ON recent_select_brand (created_at, brand_id);
+CREATE INDEX idx_recent_select_celeb_created_at ON recent_select_celeb (created_at, celeb_id);
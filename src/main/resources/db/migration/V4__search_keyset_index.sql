@@ -0,0 +1,5 @@
+-- 브랜드, 셀럽 검색 cursor pagination의 (정렬 키, id) keyset 인덱스
+CREATE INDEX idx_brand_brand_kr_id ON brand (brand_kr, brand_id);
+CREATE INDEX idx_brand_brand_en ON brand (brand_en);
+CREATE INDEX idx_celeb_celeb_name_kr_id ON celeb (celeb_name_kr, celeb_id);
+CREATE INDEX idx_celeb_celeb_name_en ON celeb (celeb_name_en);
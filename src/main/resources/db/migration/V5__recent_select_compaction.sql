@@ -0,0 +1,80 @@
+-- 최근 선택 브랜드, 셀럽을 (유저, 대상)마다 한 row로 유지하고 유저당 최근 20건만 남긴다.
+-- brand_id, new_brand_id 중 하나는 NULL이고 NULL은 unique 비교에서 빠지므로 0으로 바꾼 생성 컬럼으로 키를 만든다.
+
+-- 1. recent_select_brand
+ALTER TABLE recent_select_brand
+    ADD COLUMN brand_key BIGINT AS (COALESCE(brand_id, 0)) STORED,
+    ADD COLUMN new_brand_key BIGINT AS (COALESCE(new_brand_id, 0)) STORED;
+
+-- 1-1. (유저, 대상)마다 마지막 row만 남기고 처음 선택 시각, 마지막 선택 시각을 옮긴다
+CREATE TEMPORARY TABLE tmp_recent_select_brand_keep AS
+SELECT MAX(recent_select_brand_id) AS keep_id,
+       MIN(created_at) AS first_selected_at,
+       MAX(created_at) AS last_selected_at
+  FROM recent_select_brand
+ GROUP BY user_id, brand_key, new_brand_key;
+
+UPDATE recent_select_brand r
+  JOIN tmp_recent_select_brand_keep k ON r.recent_select_brand_id = k.keep_id
+   SET r.created_at = k.first_selected_at,
+       r.updated_at = k.last_selected_at;
+
+DELETE r FROM recent_select_brand r
+  LEFT JOIN tmp_recent_select_brand_keep k ON r.recent_select_brand_id = k.keep_id
+ WHERE k.keep_id IS NULL;
+
+DROP TEMPORARY TABLE tmp_recent_select_brand_keep;
+
+-- 1-2. 유저당 최근 20건만 남긴다
+DELETE r FROM recent_select_brand r
+  JOIN (SELECT recent_select_brand_id,
+               ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY updated_at DESC, recent_select_brand_id DESC) AS recent_rank
+          FROM recent_select_brand) ranked
+    ON r.recent_select_brand_id = ranked.recent_select_brand_id
+ WHERE ranked.recent_rank > 20;
+
+-- 1-3. upsert 키, 최근 선택 조회, 인기 순위 재집계 인덱스
+ALTER TABLE recent_select_brand
+    ADD CONSTRAINT uk_recent_select_brand_user_target UNIQUE (user_id, brand_key, new_brand_key),
+    ADD INDEX idx_recent_select_brand_user_updated_at (user_id, updated_at),
+    ADD INDEX idx_recent_select_brand_updated_at (updated_at, brand_id),
+    DROP INDEX idx_recent_select_brand_created_at;
+
+-- 2. recent_select_celeb
+ALTER TABLE recent_select_celeb
+    ADD COLUMN celeb_key BIGINT AS (COALESCE(celeb_id, 0)) STORED,
+    ADD COLUMN new_celeb_key BIGINT AS (COALESCE(new_celeb_id, 0)) STORED;
+
+-- 2-1. (유저, 대상)마다 마지막 row만 남기고 처음 선택 시각, 마지막 선택 시각을 옮긴다
+CREATE TEMPORARY TABLE tmp_recent_select_celeb_keep AS
+SELECT MAX(recent_select_celeb_id) AS keep_id,
+       MIN(created_at) AS first_selected_at,
+       MAX(created_at) AS last_selected_at
+  FROM recent_select_celeb
+ GROUP BY user_id, celeb_key, new_celeb_key;
+
+UPDATE recent_select_celeb r
+  JOIN tmp_recent_select_celeb_keep k ON r.recent_select_celeb_id = k.keep_id
+   SET r.created_at = k.first_selected_at,
+       r.updated_at = k.last_selected_at;
+
+DELETE r FROM recent_select_celeb r
+  LEFT JOIN tmp_recent_select_celeb_keep k ON r.recent_select_celeb_id = k.keep_id
+ WHERE k.keep_id IS NULL;
+
+DROP TEMPORARY TABLE tmp_recent_select_celeb_keep;
+
+-- 2-2. 유저당 최근 20건만 남긴다
+DELETE r FROM recent_select_celeb r
+  JOIN (SELECT recent_select_celeb_id,
+               ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY updated_at DESC, recent_select_celeb_id DESC) AS recent_rank
+          FROM recent_select_celeb) ranked
+    ON r.recent_select_celeb_id = ranked.recent_select_celeb_id
+ WHERE ranked.recent_rank > 20;
+
+-- 2-3. upsert 키, 최근 선택 조회, 인기 순위 재집계 인덱스
+ALTER TABLE recent_select_celeb
+    ADD CONSTRAINT uk_recent_select_celeb_user_target UNIQUE (user_id, celeb_key, new_celeb_key),
+    ADD INDEX idx_recent_select_celeb_user_updated_at (user_id, updated_at),
+    ADD INDEX idx_recent_select_celeb_updated_at (updated_at, celeb_id),
+    DROP INDEX idx_recent_select_celeb_created_at;
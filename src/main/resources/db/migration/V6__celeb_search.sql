@@ -0,0 +1,30 @@
+-- 셀럽 검색 projection, 검색 결과가 될 수 있는 셀럽(솔로, 그룹 멤버)마다 한 row
+-- 멤버가 있는 그룹은 row가 없고 멤버 row의 group_name으로 검색된다.
+CREATE TABLE celeb_search (
+    celeb_id        BIGINT       NOT NULL,
+    parent_id       BIGINT,
+    display_name_kr VARCHAR(511) NOT NULL,
+    display_name_en VARCHAR(511) NOT NULL,
+    group_name_kr   VARCHAR(255),
+    group_name_en   VARCHAR(255),
+    member_name_kr  VARCHAR(255) NOT NULL,
+    member_name_en  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (celeb_id),
+    INDEX idx_celeb_search_display_name_kr_id (display_name_kr, celeb_id),
+    INDEX idx_celeb_search_member_name_kr (member_name_kr),
+    INDEX idx_celeb_search_member_name_en (member_name_en),
+    INDEX idx_celeb_search_group_name_kr (group_name_kr),
+    INDEX idx_celeb_search_group_name_en (group_name_en),
+    INDEX idx_celeb_search_parent_id (parent_id)
+);
+
+-- 기존 셀럽으로 채움, 이후에는 Celeb 변경 시 애플리케이션이 갱신한다
+INSERT INTO celeb_search (celeb_id, parent_id, display_name_kr, display_name_en,
+                          group_name_kr, group_name_en, member_name_kr, member_name_en)
+SELECT c.celeb_id, c.parent_id,
+       CASE WHEN p.celeb_id IS NULL THEN c.celeb_name_kr ELSE CONCAT(p.celeb_name_kr, ' ', c.celeb_name_kr) END,
+       CASE WHEN p.celeb_id IS NULL THEN c.celeb_name_en ELSE CONCAT(p.celeb_name_en, ' ', c.celeb_name_en) END,
+       p.celeb_name_kr, p.celeb_name_en, c.celeb_name_kr, c.celeb_name_en
+  FROM celeb c
+  LEFT JOIN celeb p ON p.celeb_id = c.parent_id
+ WHERE NOT EXISTS (SELECT 1 FROM celeb m WHERE m.parent_id = c.celeb_id);
@@ -0,0 +1,16 @@
+-- 관심 셀럽을 (유저, 셀럽)마다 한 row로 유지한다.
+-- 관심 셀럽 목록을 통째로 교체할 때 INSERT IGNORE로 중복 등록을 막기 위한 unique 키
+
+-- 1. (유저, 셀럽)마다 처음 등록한 row만 남긴다
+DELETE i FROM interested_celeb i
+  JOIN (SELECT user_id, celeb_id, MIN(interested_celeb_id) AS keep_id
+          FROM interested_celeb
+         GROUP BY user_id, celeb_id
+        HAVING COUNT(*) > 1) d
+    ON i.user_id = d.user_id
+   AND i.celeb_id = d.celeb_id
+   AND i.interested_celeb_id <> d.keep_id;
+
+-- 2. unique 키, 유저의 관심 셀럽 조회도 이 인덱스로 읽는다
+ALTER TABLE interested_celeb
+    ADD CONSTRAINT uk_interested_celeb_user_celeb UNIQUE (user_id, celeb_id);
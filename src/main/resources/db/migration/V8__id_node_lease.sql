@@ -0,0 +1,25 @@
+-- 애플리케이션에서 발급하는 시각순 id(TimeSortedIdGenerator)의 node id 임대 목록
+-- 인스턴스는 만료된 node id 하나를 빌려 heartbeat로 연장한다.
+--
+-- 기존 테이블은 그대로 둔다.
+-- 새 id는 (2023-01-01 이후 ms << 12)부터 시작해 기존 AUTO_INCREMENT id보다 항상 크므로
+-- 기존 row와 겹치지 않고 id 순서도 등록 순서와 맞는다.
+-- 애플리케이션의 모든 INSERT가 id를 직접 넣으므로 AUTO_INCREMENT 속성은 더 이상 쓰이지 않는다.
+-- id 없이 직접 INSERT하면 새 id 바로 다음 값을 받아 이후 발급될 id와 겹칠 수 있으니 수동 INSERT에도 id를 넣는다.
+CREATE TABLE id_node_lease (
+    node_id    SMALLINT    NOT NULL,
+    owner      VARCHAR(36) NULL,
+    expires_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (node_id)
+);
+
+-- node id 0 ~ 63 (TimeSortedIdGenerator.MAX_NODE_ID), 처음에는 모두 만료 상태
+INSERT INTO id_node_lease (node_id, expires_at)
+WITH RECURSIVE digit (n) AS (
+    SELECT 0
+    UNION ALL
+    SELECT n + 1 FROM digit WHERE n < 7
+)
+SELECT hi.n * 8 + lo.n, '1970-01-01 00:00:00'
+  FROM digit hi
+ CROSS JOIN digit lo;
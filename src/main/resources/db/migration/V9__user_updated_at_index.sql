@@ -0,0 +1,2 @@
+-- 다른 인스턴스에서 변경된 User를 캐시에서 무효화하기 위한 updated_at 조회용 인덱스
+CREATE INDEX idx_user_updated_at ON user (updated_at);
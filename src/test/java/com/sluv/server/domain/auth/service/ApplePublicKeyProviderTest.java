@@ -0,0 +1,200 @@
+package com.sluv.server.domain.auth.service;
+
+import com.sluv.server.domain.auth.client.SocialHttpClient;
+import com.sluv.server.domain.auth.client.SocialProviderGuard;
+import com.sluv.server.domain.auth.exception.SocialProviderUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.sluv.server.domain.auth.enums.SnsType.APPLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 JWKS stub 서버로 ApplePublicKeyProvider의 kid 캐시 hit, miss, 키 교체를 확인
+ */
+class ApplePublicKeyProviderTest {
+    private static final KeyPair KEY_1 = newKeyPair();
+    private static final KeyPair KEY_2 = newKeyPair();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String jwks;
+
+    private ApplePublicKeyProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwks = toJwks("kid-1", KEY_1);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/auth/keys", exchange -> {
+            fetchCount.incrementAndGet();
+            byte[] body = jwks.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        executor = Executors.newFixedThreadPool(2);
+        SocialHttpClient socialHttpClient = new SocialHttpClient(executor, 1000, 1000);
+
+        // 격리 정책은 SocialProviderGuard의 몫이므로 호출을 그대로 통과시킨다
+        SocialProviderGuard socialProviderGuard = mock(SocialProviderGuard.class);
+        when(socialProviderGuard.call(eq(APPLE), any())).thenAnswer(invocation -> {
+            Supplier<CompletionStage<String>> call = invocation.getArgument(1);
+            return call.get().toCompletableFuture();
+        });
+
+        provider = new ApplePublicKeyProvider(socialHttpClient, socialProviderGuard);
+        ReflectionTestUtils.setField(provider, "appleOpenKeys",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/auth/keys");
+        ReflectionTestUtils.setField(provider, "refreshMinIntervalMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("캐시된 kid는 Apple에 다시 요청하지 않는다")
+    void hit() {
+        provider.init();
+        JwtParser first = provider.getParser("kid-1").join();
+        JwtParser second = provider.getParser("kid-1").join();
+
+        assertThat(first).isNotNull().isSameAs(second);
+        assertThat(first.parseClaimsJws(sign("kid-1", KEY_1)).getBody().getSubject()).isEqualTo("user");
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("없는 kid는 최소 갱신 간격 안에서는 다시 요청하지 않고 null")
+    void miss() {
+        provider.init();
+        provider.getParser("kid-1").join();
+
+        assertThat(provider.getParser("unknown").join()).isNull();
+        assertThat(provider.getParser("unknown").join()).isNull();
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("키가 교체되면 새 kid 요청에서 한 번 다시 받아오고 이전 kid는 사라진다")
+    void rotation() {
+        provider.init();
+        provider.getParser("kid-1").join();
+
+        jwks = toJwks("kid-2", KEY_2);
+        ReflectionTestUtils.setField(provider, "refreshMinIntervalMillis", 0L);
+
+        JwtParser rotated = provider.getParser("kid-2").join();
+
+        assertThat(rotated).isNotNull();
+        assertThat(rotated.parseClaimsJws(sign("kid-2", KEY_2)).getBody().getSubject()).isEqualTo("user");
+        assertThat(fetchCount).hasValue(2);
+
+        ReflectionTestUtils.setField(provider, "refreshMinIntervalMillis", 60_000L);
+        assertThat(provider.getParser("kid-1").join()).isNull();
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("공개키를 받아오지 못하면 SocialProviderUnavailableException")
+    void unavailable() {
+        status = 500;
+        provider.init();
+
+        ReflectionTestUtils.setField(provider, "refreshMinIntervalMillis", 0L);
+        CompletableFuture<JwtParser> parser = provider.getParser("kid-1");
+
+        assertThatThrownBy(parser::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(SocialProviderUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("실패한 갱신 뒤 최소 갱신 간격 안의 없는 kid는 다시 요청하지 않고 null")
+    void missAfterFailedRefresh() {
+        status = 500;
+        provider.init();
+
+        ReflectionTestUtils.setField(provider, "refreshMinIntervalMillis", 0L);
+        assertThatThrownBy(provider.getParser("kid-1")::join)
+                .hasCauseInstanceOf(SocialProviderUnavailableException.class);
+        int fetched = fetchCount.get();
+
+        ReflectionTestUtils.setField(provider, "refreshMinIntervalMillis", 60_000L);
+        assertThat(provider.getParser("unknown").join()).isNull();
+        assertThat(provider.getParser("kid-1").join()).isNull();
+        assertThat(fetchCount).hasValue(fetched);
+    }
+
+    private static String sign(String kid, KeyPair keyPair) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("user")
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private static String toJwks(String kid, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return """
+                {"keys":[{"kty":"RSA","kid":"%s","use":"sig","alg":"RS256","n":"%s","e":"%s"}]}
+                """.formatted(kid, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            bytes = unsigned;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static KeyPair newKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
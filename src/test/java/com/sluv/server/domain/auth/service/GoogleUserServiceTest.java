@@ -0,0 +1,147 @@
+package com.sluv.server.domain.auth.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.sluv.server.domain.auth.client.SocialProviderGuard;
+import com.sluv.server.domain.auth.dto.AuthRequestDto;
+import com.sluv.server.domain.auth.exception.SocialProviderUnavailableException;
+import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.global.jwt.JwtProvider;
+import com.sluv.server.global.jwt.exception.InvalidateTokenException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Google 인증서 조회 실패는 서킷 브레이커에 기록되고, 잘못된 토큰은 기록되지 않는지 확인
+ */
+class GoogleUserServiceTest {
+    // application.yml의 resilience4j.circuitbreaker.configs.default
+    private static final int MINIMUM_NUMBER_OF_CALLS = 10;
+
+    private static final String CLIENT_ID = "sluv-android";
+
+    private final AtomicInteger certsRequestCount = new AtomicInteger();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(20)
+            .minimumNumberOfCalls(MINIMUM_NUMBER_OF_CALLS)
+            .failureRateThreshold(50)
+            .ignoreExceptions(HttpClientErrorException.class, InvalidateTokenException.class)
+            .build());
+
+    private SocialProviderGuard socialProviderGuard;
+    private GoogleUserService googleUserService;
+
+    @BeforeEach
+    void setUp() {
+        // Google 인증서 서버에 연결할 수 없는 상황
+        MockHttpTransport transport = new MockHttpTransport() {
+            @Override
+            public LowLevelHttpRequest buildRequest(String method, String url) throws IOException {
+                certsRequestCount.incrementAndGet();
+                throw new IOException("connect timed out");
+            }
+        };
+        GoogleIdTokenVerifier googleIdTokenVerifier = new GoogleIdTokenVerifier.Builder(transport, GsonFactory.getDefaultInstance())
+                .setAudience(List.of(CLIENT_ID))
+                .build();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        socialProviderGuard = new SocialProviderGuard(circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(), meterRegistry);
+        ReflectionTestUtils.invokeMethod(socialProviderGuard, "init");
+
+        googleUserService = new GoogleUserService(mock(UserRepository.class), mock(JwtProvider.class),
+                googleIdTokenVerifier, meterRegistry, Runnable::run, socialProviderGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(socialProviderGuard, "destroy");
+    }
+
+    @Test
+    @DisplayName("인증서를 받아오지 못하면 서킷이 열리고 이후 요청은 Google을 호출하지 않는다")
+    void certsIoFailureOpensCircuit() {
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            assertThat(failureOf(googleUserService.googleLogin(request(idToken(CLIENT_ID)))))
+                    .isInstanceOf(SocialProviderUnavailableException.class);
+        }
+
+        assertThat(googleCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(failureOf(googleUserService.googleLogin(request(idToken(CLIENT_ID)))))
+                .isInstanceOf(SocialProviderUnavailableException.class);
+        assertThat(certsRequestCount).hasValue(MINIMUM_NUMBER_OF_CALLS);
+    }
+
+    @Test
+    @DisplayName("audience가 다르거나 형식이 잘못된 토큰은 InvalidateTokenException이고 서킷에 기록되지 않는다")
+    void invalidTokenDoesNotOpenCircuit() {
+        for (int i = 0; i < MINIMUM_NUMBER_OF_CALLS; i++) {
+            assertThat(failureOf(googleUserService.googleLogin(request(idToken("other-client")))))
+                    .isInstanceOf(InvalidateTokenException.class);
+            assertThat(failureOf(googleUserService.googleLogin(request("not-a-jwt"))))
+                    .isInstanceOf(InvalidateTokenException.class);
+            assertThat(failureOf(googleUserService.googleLogin(request(null))))
+                    .isInstanceOf(InvalidateTokenException.class);
+        }
+
+        assertThat(googleCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(googleCircuitBreaker().getMetrics().getNumberOfFailedCalls()).isZero();
+        // claim 확인에서 걸러져 인증서를 조회하지 않는다
+        assertThat(certsRequestCount).hasValue(0);
+    }
+
+    private CircuitBreaker googleCircuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker("google");
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        Throwable thrown = catchThrowable(() -> future.get(5, TimeUnit.SECONDS));
+
+        assertThat(thrown).isInstanceOf(ExecutionException.class);
+        return thrown.getCause();
+    }
+
+    private static AuthRequestDto request(String idToken) {
+        AuthRequestDto request = new AuthRequestDto();
+        request.setAccessToken(idToken);
+        return request;
+    }
+
+    private static String idToken(String audience) {
+        long now = System.currentTimeMillis() / 1000;
+        String payload = """
+                {"iss":"https://accounts.google.com","aud":"%s","iat":%d,"exp":%d,"email":"sluv@gmail.com"}
+                """.formatted(audience, now, now + 3600);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"RS256\",\"kid\":\"google-key\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+    }
+}
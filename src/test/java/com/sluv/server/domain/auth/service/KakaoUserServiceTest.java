@@ -0,0 +1,164 @@
+package com.sluv.server.domain.auth.service;
+
+import com.sluv.server.domain.auth.client.SocialHttpClient;
+import com.sluv.server.domain.auth.client.SocialProviderGuard;
+import com.sluv.server.domain.auth.dto.AuthRequestDto;
+import com.sluv.server.domain.auth.dto.AuthResponseDto;
+import com.sluv.server.domain.user.dto.UserDto;
+import com.sluv.server.domain.user.enums.UserStatus;
+import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.global.config.SocialLoginConfig;
+import com.sluv.server.global.jwt.JwtProvider;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.sluv.server.domain.auth.enums.SnsType.KAKAO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 응답이 느린 Kakao stub 서버로 소셜 로그인이 전용 풀을 점유하지 않고,
+ * 풀이 가득 차도 요청이 멈추지 않는지 확인
+ */
+class KakaoUserServiceTest {
+    private static final long PROVIDER_LATENCY_MILLIS = 300;
+    private static final String USER_INFO = """
+            {"kakao_account":{"email":"sluv@kakao.com"},"properties":{"profile_image":"https://img"}}
+            """;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ThreadPoolTaskExecutor socialHttpExecutor;
+    private ThreadPoolTaskExecutor socialLoginExecutor;
+    private final AtomicInteger upsertCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/user/me", exchange -> {
+            try {
+                Thread.sleep(PROVIDER_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = USER_INFO.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // stub 서버 자체가 병목이 되지 않도록 요청마다 스레드 할당
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        socialHttpExecutor.shutdown();
+        socialLoginExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Provider 응답을 기다리는 동안 로그인 풀 스레드를 점유하지 않는다")
+    void slowProviderDoesNotHoldLoginThreads() throws Exception {
+        KakaoUserService kakaoUserService = newKakaoUserService(2, 200, 0);
+        int logins = 40;
+
+        long startedAt = System.nanoTime();
+        List<AuthResponseDto> responses = loginConcurrently(kakaoUserService, logins);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(responses).hasSize(logins).allSatisfy(response -> assertThat(response.getToken()).isEqualTo("token"));
+        assertThat(upsertCount).hasValue(logins);
+        // 스레드당 한 요청씩 기다렸다면 40 * 300ms / 2 = 6초
+        assertThat(elapsedMillis).isLessThan(PROVIDER_LATENCY_MILLIS * logins / 4);
+    }
+
+    @Test
+    @DisplayName("로그인 풀과 큐가 가득 차도 거절되어 멈추지 않고 모두 완료된다")
+    void saturatedLoginPoolStillCompletes() throws Exception {
+        KakaoUserService kakaoUserService = newKakaoUserService(1, 1, 50);
+        int logins = 20;
+
+        List<AuthResponseDto> responses = loginConcurrently(kakaoUserService, logins);
+
+        assertThat(responses).hasSize(logins);
+        assertThat(upsertCount).hasValue(logins);
+    }
+
+    private List<AuthResponseDto> loginConcurrently(KakaoUserService kakaoUserService, int logins) throws Exception {
+        AuthRequestDto request = new AuthRequestDto();
+        request.setAccessToken("kakao-access-token");
+
+        List<CompletableFuture<AuthResponseDto>> futures = new ArrayList<>(logins);
+        for (int i = 0; i < logins; i++) {
+            futures.add(kakaoUserService.kakaoLogin(request));
+        }
+
+        List<AuthResponseDto> responses = new ArrayList<>(logins);
+        for (CompletableFuture<AuthResponseDto> future : futures) {
+            // 완료되지 않은 future가 있다면 MVC async timeout 대신 여기서 실패
+            responses.add(future.get(10, TimeUnit.SECONDS));
+        }
+
+        return responses;
+    }
+
+    private KakaoUserService newKakaoUserService(int poolSize, int queueCapacity, long upsertMillis) {
+        SocialLoginConfig socialLoginConfig = new SocialLoginConfig();
+        ReflectionTestUtils.setField(socialLoginConfig, "poolSize", poolSize);
+        ReflectionTestUtils.setField(socialLoginConfig, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(socialLoginConfig, "httpPoolSize", 2);
+        socialLoginExecutor = socialLoginConfig.socialLoginExecutor();
+        socialHttpExecutor = socialLoginConfig.socialHttpExecutor();
+
+        SocialHttpClient socialHttpClient = new SocialHttpClient(socialHttpExecutor, 1000, 5000);
+
+        SocialProviderGuard socialProviderGuard = mock(SocialProviderGuard.class);
+        when(socialProviderGuard.call(eq(KAKAO), any())).thenAnswer(invocation -> {
+            Supplier<CompletionStage<String>> call = invocation.getArgument(1);
+            return call.get().toCompletableFuture();
+        });
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.upsertSocialUser(any(), eq(KAKAO))).thenAnswer(invocation -> {
+            // 블로킹 DB 호출 흉내
+            Thread.sleep(upsertMillis);
+            return new UserDto((long) upsertCount.incrementAndGet(), UserStatus.ACTIVE);
+        });
+
+        JwtProvider jwtProvider = mock(JwtProvider.class);
+        when(jwtProvider.createAccessToken(any())).thenReturn("token");
+
+        KakaoUserService kakaoUserService = new KakaoUserService(userRepository, jwtProvider,
+                socialHttpClient, socialProviderGuard, socialLoginExecutor);
+        ReflectionTestUtils.setField(kakaoUserService, "kakaoUserInfoUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/user/me");
+
+        return kakaoUserService;
+    }
+}
@@ -0,0 +1,162 @@
+package com.sluv.server.domain.auth.service;
+
+import com.sluv.server.domain.auth.entity.RevokedToken;
+import com.sluv.server.domain.auth.repository.RevokedTokenRepository;
+import com.sluv.server.global.jwt.JwtPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+    private static final LocalDateTime REVOKED_AT = LocalDateTime.of(2023, 5, 1, 12, 0, 0, 500_000_000);
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        when(revokedTokenRepository.findRevokedSince(any())).thenReturn(List.of());
+        when(revokedTokenRepository.save(any())).then(returnsFirstArg());
+
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(tokenRevocationService, "syncOverlapSeconds", 60L);
+        ReflectionTestUtils.setField(tokenRevocationService, "tokenValidMillisecond", 3_600_000L);
+        ReflectionTestUtils.setField(tokenRevocationService, "pruneBatchSize", 1000);
+        ReflectionTestUtils.invokeMethod(tokenRevocationService, "init");
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 Bloom filter에서 걸러져 DB를 조회하지 않는다")
+    void notRevokedTokenSkipsStore() {
+        for (int i = 0; i < 100; i++) {
+            tokenRevocationService.revoke(new JwtPrincipal(1L, null, UUID.randomUUID().toString()));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tokenRevocationService.isRevoked(claims(UUID.randomUUID().toString(), 2L, new Date()))).isFalse();
+        }
+
+        // 오탐률 0.001, 1000번 중 오탐으로 DB를 조회하는 경우는 거의 없다
+        verify(revokedTokenRepository, atMost(5)).existsByRevokeKey(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 DB로 확인하여 폐기되고, 같은 유저의 다른 토큰은 유효하다")
+    void revokeToken() {
+        when(revokedTokenRepository.existsByRevokeKey("jti:logged-out")).thenReturn(true);
+
+        tokenRevocationService.revoke(new JwtPrincipal(1L, null, "logged-out"));
+
+        assertThat(tokenRevocationService.isRevoked(claims("logged-out", 1L, new Date()))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims("other", 1L, new Date()))).isFalse();
+        verify(revokedTokenRepository, never()).existsByRevokeKey("user:1");
+    }
+
+    @Test
+    @DisplayName("유저 단위 폐기는 메모리의 폐기 시각과 발급 시각을 비교하고 DB를 조회하지 않는다")
+    void revokeUserWithoutStore() {
+        tokenRevocationService.revokeUser(1L);
+        Date before = Date.from(Instant.now().minusSeconds(5));
+        Date after = Date.from(Instant.now().plusSeconds(5));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(tokenRevocationService.isRevoked(claims(null, 1L, before))).isTrue();
+            assertThat(tokenRevocationService.isRevoked(claims(null, 1L, after))).isFalse();
+            assertThat(tokenRevocationService.isRevoked(claims(null, 1L, null))).isTrue();
+            assertThat(tokenRevocationService.isRevoked(claims(null, 2L, before))).isFalse();
+        }
+
+        verify(revokedTokenRepository, never()).existsByRevokeKey(anyString());
+    }
+
+    @Test
+    @DisplayName("iat(초)가 폐기 시각의 초 이하라면 폐기, 같은 초에 발급된 토큰도 폐기")
+    void issuedBeforeRevocation() {
+        Instant revokedSecond = REVOKED_AT.withNano(0).atZone(ZoneId.systemDefault()).toInstant();
+
+        assertThat(TokenRevocationService.isIssuedBeforeRevocation(revokedSecond.minusSeconds(1), REVOKED_AT)).isTrue();
+        // 폐기(0.5초) 전후 어느 쪽이든 iat는 같은 초
+        assertThat(TokenRevocationService.isIssuedBeforeRevocation(revokedSecond, REVOKED_AT)).isTrue();
+        assertThat(TokenRevocationService.isIssuedBeforeRevocation(revokedSecond.plusSeconds(1), REVOKED_AT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 폐기를 동기화하고, 유저별로는 가장 최근 폐기 시각을 쓴다")
+    void syncFromOtherInstances() {
+        Instant revokedSecond = REVOKED_AT.withNano(0).atZone(ZoneId.systemDefault()).toInstant();
+        when(revokedTokenRepository.findRevokedSince(any())).thenReturn(List.of(
+                revokedToken("user:1", REVOKED_AT),
+                revokedToken("user:1", REVOKED_AT.minusHours(1)),
+                revokedToken("jti:other-instance", REVOKED_AT)
+        ));
+        when(revokedTokenRepository.existsByRevokeKey("jti:other-instance")).thenReturn(true);
+
+        tokenRevocationService.syncQuietly();
+
+        assertThat(tokenRevocationService.isRevoked(claims(null, 1L, Date.from(revokedSecond)))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(null, 1L, Date.from(revokedSecond.plusSeconds(1))))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(claims("other-instance", 2L, new Date()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("동기화에 실패해도 예외를 던지지 않고 기존 목록을 유지한다")
+    void syncFailure() {
+        tokenRevocationService.revokeUser(1L);
+        when(revokedTokenRepository.findRevokedSince(any())).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThatNoException().isThrownBy(tokenRevocationService::syncQuietly);
+        assertThat(tokenRevocationService.isRevoked(claims(null, 1L, Date.from(Instant.now().minusSeconds(5))))).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 유효 기간이 지난 유저 단위 폐기는 정리한다")
+    void pruneUserRevocations() {
+        when(revokedTokenRepository.findRevokedSince(any())).thenReturn(List.of(
+                revokedToken("user:1", LocalDateTime.now().minusHours(2)),
+                revokedToken("user:2", LocalDateTime.now())
+        ));
+        tokenRevocationService.syncQuietly();
+
+        tokenRevocationService.pruneQuietly();
+
+        Date longAgo = Date.from(Instant.now().minusSeconds(3 * 3600));
+        assertThat(tokenRevocationService.isRevoked(claims(null, 1L, longAgo))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(claims(null, 2L, longAgo))).isTrue();
+    }
+
+    private static Claims claims(String tokenId, Long userId, Date issuedAt) {
+        Claims claims = Jwts.claims().setSubject(String.valueOf(userId)).setIssuedAt(issuedAt);
+        claims.setId(tokenId);
+        return claims;
+    }
+
+    private static RevokedToken revokedToken(String revokeKey, LocalDateTime revokedAt) {
+        return RevokedToken.builder()
+                .revokeKey(revokeKey)
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
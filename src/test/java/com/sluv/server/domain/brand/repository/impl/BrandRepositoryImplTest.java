@@ -0,0 +1,121 @@
+package com.sluv.server.domain.brand.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
+import com.sluv.server.domain.brand.service.BrandSearchIndex;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.support.MySqlTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * DB의 cursor 조회가 BrandSearchIndex와 같은 결과를 같은 순서로 돌려주는지 확인
+ */
+class BrandRepositoryImplTest {
+    // 대소문자, 한글과 영문, 보조 문자(UTF-16 순서와 code point 순서가 다름), 끝 공백, LIKE 특수 문자
+    private static final List<BrandSearchResDto> BRANDS = List.of(
+            brand(1L, "나이키", "Nike"),
+            brand(2L, "나이키", "NIKE LAB"),
+            brand(3L, "Nike Kids", "nike kids"),
+            brand(4L, "nike", "Nike Golf"),
+            brand(5L, "ｎike", "Fullwidth"),
+            brand(6L, "n😀", "Emoji"),
+            brand(7L, "nＡ", "Fullwidth A"),
+            brand(8L, "nike ", "Trailing"),
+            brand(9L, "n%ke", "Percent"),
+            brand(10L, "아디다스", "adidas"),
+            brand(11L, "N_ke", "Underscore")
+    );
+
+    private static BrandRepositoryImpl brandRepository;
+
+    @BeforeAll
+    static void createTable() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(MySqlTestDatabase.dataSource());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS brand");
+        // Brand 엔티티의 컬럼과 V4, V10의 키, 인덱스
+        jdbcTemplate.execute("""
+                CREATE TABLE brand (
+                    brand_id      BIGINT       NOT NULL,
+                    brand_kr      VARCHAR(300) NOT NULL,
+                    brand_en      VARCHAR(300) NOT NULL,
+                    brand_img_url TEXT,
+                    brand_kr_key  VARCHAR(300) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin
+                        GENERATED ALWAYS AS (LOWER(brand_kr)) STORED,
+                    brand_en_key  VARCHAR(300) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin
+                        GENERATED ALWAYS AS (LOWER(brand_en)) STORED,
+                    PRIMARY KEY (brand_id),
+                    INDEX idx_brand_brand_kr_key_id (brand_kr_key, brand_id),
+                    INDEX idx_brand_brand_en_key (brand_en_key)
+                ) DEFAULT CHARSET = utf8mb4
+                """);
+        for (BrandSearchResDto brand : BRANDS) {
+            jdbcTemplate.update("INSERT INTO brand (brand_id, brand_kr, brand_en) VALUES (?, ?, ?)",
+                    brand.getId(), brand.getBrandKr(), brand.getBrandEn());
+        }
+
+        brandRepository = new BrandRepositoryImpl(mock(JPAQueryFactory.class), jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("페이지를 나누어 읽어도 BrandSearchIndex와 같은 순서로 모든 브랜드를 한 번씩 읽는다")
+    void pagesInIndexOrder() {
+        for (String brandName : new String[]{"", "n", "N", "nike", "나", "n%", "n_"}) {
+            for (int pageSize = 1; pageSize <= 3; pageSize++) {
+                assertThat(readAll(brandName, pageSize)).as("%s, page %d", brandName, pageSize)
+                        .containsExactlyElementsOf(expected(brandName));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("LIKE 특수 문자도 문자 그대로 비교한다")
+    void likeWildcardsAreLiteral() {
+        assertThat(readAll("n%", 10)).containsExactly(9L);
+        assertThat(readAll("n_", 10)).containsExactly(11L);
+    }
+
+    private static List<Long> readAll(String brandName, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        Cursor cursor = null;
+        while (true) {
+            List<BrandSearchResDto> page = brandRepository.findByAllBrandKrOrBrandEnStartingWithAfter(brandName, cursor, pageSize);
+            page.forEach(brand -> ids.add(brand.getId()));
+            if (page.size() < pageSize) {
+                return ids;
+            }
+
+            BrandSearchResDto last = page.get(page.size() - 1);
+            // 클라이언트가 되돌려 보내는 cursor와 같게 encode, decode를 거친다
+            cursor = Cursor.decode(Cursor.of(BrandSearchIndex.sortKey(last), last.getId()).encode());
+        }
+    }
+
+    private static List<Long> expected(String brandName) {
+        String prefix = brandName.toLowerCase(Locale.ROOT);
+
+        return BRANDS.stream()
+                .filter(brand -> brand.getBrandKr().toLowerCase(Locale.ROOT).startsWith(prefix)
+                        || brand.getBrandEn().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .sorted(BrandSearchIndex.KEYSET_ORDER)
+                .map(BrandSearchResDto::getId)
+                .toList();
+    }
+
+    private static BrandSearchResDto brand(Long id, String brandKr, String brandEn) {
+        return BrandSearchResDto.builder()
+                .id(id)
+                .brandKr(brandKr)
+                .brandEn(brandEn)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.sluv.server.domain.brand.service;
+
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추가, 삭제, 재추가를 무작위로 반복해도 trie 조회가 정렬된 목록을 prefix로 거른 결과와 같은지 확인
+ */
+class BrandPrefixTrieTest {
+    // 대소문자, 한글, 보조 문자가 섞여 prefix를 많이 공유하는 이름
+    private static final String[] SYLLABLES = {"a", "A", "b", "ab", "나", "나이", "😀", " "};
+
+    @Test
+    @DisplayName("이름순 trie는 추가, 삭제, 재추가 후에도 offset, keyset 조회가 정렬된 목록의 prefix 필터와 같다")
+    void namedOrderMatchesSortedList() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            runDifferential(random, BrandSearchIndex.KEYSET_ORDER, true);
+        }
+    }
+
+    @Test
+    @DisplayName("인기순 trie는 추가, 삭제, 재추가 후에도 offset 조회가 정렬된 목록의 prefix 필터와 같다")
+    void popularOrderMatchesSortedList() {
+        Random random = new Random(11);
+        for (int round = 0; round < 20; round++) {
+            // 같은 점수가 많도록 몇 가지 값만 쓴다
+            Map<Long, Double> scores = new HashMap<>();
+            Comparator<BrandSearchResDto> popularOrder =
+                    Comparator.<BrandSearchResDto>comparingDouble(brand ->
+                                    scores.computeIfAbsent(brand.getId(), id -> (double) random.nextInt(4))).reversed()
+                            .thenComparing(BrandSearchIndex.KEYSET_ORDER);
+
+            runDifferential(random, popularOrder, false);
+        }
+    }
+
+    @Test
+    @DisplayName("추가, 삭제는 새 trie를 만들고 이전 trie의 조회 결과는 바뀌지 않는다")
+    void previousVersionIsUnchanged() {
+        BrandSearchResDto nike = brand(1L, "나이키", "Nike");
+        BrandSearchResDto nikeLab = brand(2L, "나이키랩", "Nike Lab");
+        BrandPrefixTrie before = BrandPrefixTrie.build(List.of(nike), BrandSearchIndex.KEYSET_ORDER);
+
+        BrandPrefixTrie added = before.with(nikeLab);
+        BrandPrefixTrie removed = added.without(nike);
+
+        assertThat(before.search("nike", 0, 10)).containsExactly(nike);
+        assertThat(added.search("nike", 0, 10)).containsExactly(nike, nikeLab);
+        assertThat(removed.search("nike", 0, 10)).containsExactly(nikeLab);
+        assertThat(removed.without(nikeLab).size()).isZero();
+    }
+
+    private static void runDifferential(Random random, Comparator<BrandSearchResDto> order, boolean keyset) {
+        Map<Long, BrandSearchResDto> current = new HashMap<>();
+        long nextId = 1;
+        for (int i = 0; i < 30; i++) {
+            BrandSearchResDto brand = randomBrand(random, nextId++);
+            current.put(brand.getId(), brand);
+        }
+        BrandPrefixTrie trie = BrandPrefixTrie.build(current.values(), order);
+        assertMatches(trie, current, order, keyset, random);
+
+        List<BrandSearchResDto> removedBrands = new ArrayList<>();
+        for (int step = 0; step < 200; step++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || current.isEmpty()) {
+                BrandSearchResDto brand = randomBrand(random, nextId++);
+                current.put(brand.getId(), brand);
+                trie = trie.with(brand);
+            } else if (operation == 1) {
+                BrandSearchResDto brand = pick(random, List.copyOf(current.values()));
+                current.remove(brand.getId());
+                removedBrands.add(brand);
+                trie = trie.without(brand);
+            } else if (!removedBrands.isEmpty()) {
+                // 삭제했던 브랜드를 같은 이름으로 다시 추가
+                BrandSearchResDto brand = removedBrands.remove(random.nextInt(removedBrands.size()));
+                current.put(brand.getId(), brand);
+                trie = trie.with(brand);
+            }
+
+            assertThat(trie.size()).isEqualTo(current.size());
+            assertMatches(trie, current, order, keyset, random);
+        }
+    }
+
+    private static void assertMatches(BrandPrefixTrie trie, Map<Long, BrandSearchResDto> current,
+                                      Comparator<BrandSearchResDto> order, boolean keyset, Random random) {
+        List<BrandSearchResDto> sorted = new ArrayList<>(current.values());
+        sorted.sort(order);
+
+        for (String prefix : prefixes(sorted, random)) {
+            List<BrandSearchResDto> expected = sorted.stream()
+                    .filter(brand -> matches(brand, prefix))
+                    .toList();
+
+            int limit = 1 + random.nextInt(5);
+            int offset = random.nextInt(expected.size() + 2);
+            assertThat(trie.search(prefix, offset, limit)).as("prefix=%s, offset=%d", prefix, offset)
+                    .containsExactlyElementsOf(expected.subList(Math.min(offset, expected.size()),
+                            Math.min(offset + limit, expected.size())));
+
+            if (keyset) {
+                assertThat(readAll(trie, prefix, limit)).as("prefix=%s, limit=%d", prefix, limit)
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    private static List<BrandSearchResDto> readAll(BrandPrefixTrie trie, String prefix, int limit) {
+        List<BrandSearchResDto> all = new ArrayList<>();
+        BrandSearchResDto after = null;
+        while (true) {
+            List<BrandSearchResDto> page = trie.searchAfter(prefix, after, limit);
+            all.addAll(page);
+            if (page.size() < limit) {
+                return all;
+            }
+
+            // BrandSearchIndex가 cursor로 만드는 것과 같이 id와 정렬 키만 가진 브랜드
+            BrandSearchResDto last = page.get(page.size() - 1);
+            after = BrandSearchResDto.builder()
+                    .id(last.getId())
+                    .brandKr(BrandSearchIndex.sortKey(last))
+                    .build();
+        }
+    }
+
+    private static List<String> prefixes(List<BrandSearchResDto> brands, Random random) {
+        List<String> prefixes = new ArrayList<>(List.of("", "a", "나", "z"));
+        for (int i = 0; i < 5 && !brands.isEmpty(); i++) {
+            BrandSearchResDto brand = pick(random, brands);
+            String name = random.nextBoolean() || brand.getBrandEn() == null ? brand.getBrandKr() : brand.getBrandEn();
+            String normalized = BrandPrefixTrie.normalize(name);
+            prefixes.add(normalized.substring(0, random.nextInt(normalized.length() + 1)));
+        }
+
+        return prefixes;
+    }
+
+    private static boolean matches(BrandSearchResDto brand, String prefix) {
+        return BrandPrefixTrie.normalize(brand.getBrandKr()).startsWith(prefix)
+                || brand.getBrandEn() != null && BrandPrefixTrie.normalize(brand.getBrandEn()).startsWith(prefix);
+    }
+
+    private static BrandSearchResDto randomBrand(Random random, long id) {
+        return brand(id, randomName(random), random.nextInt(5) == 0 ? null : randomName(random));
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+
+        return name.toString();
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static BrandSearchResDto brand(Long id, String brandKr, String brandEn) {
+        return BrandSearchResDto.builder()
+                .id(id)
+                .brandKr(brandKr)
+                .brandEn(brandEn)
+                .build();
+    }
+}
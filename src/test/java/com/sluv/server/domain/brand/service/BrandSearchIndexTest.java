@@ -0,0 +1,175 @@
+package com.sluv.server.domain.brand.service;
+
+import com.sluv.server.domain.brand.dto.BrandSearchResDto;
+import com.sluv.server.domain.brand.entity.Brand;
+import com.sluv.server.domain.brand.repository.BrandRepository;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.global.ranking.RankingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 브랜드 추가, 이름 변경, 삭제, 재추가를 무작위로 반영해도 인덱스 조회가 정렬된 목록을 prefix로 거른 결과와 같은지 확인
+ */
+class BrandSearchIndexTest {
+    private static final String[] SYLLABLES = {"N", "i", "ke", "나", "이", "키", "😀", " "};
+
+    private final Random random = new Random(3);
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final Map<Long, BrandSearchResDto> current = new HashMap<>();
+    private long nextId = 1;
+
+    @Test
+    @DisplayName("인기순 offset 조회, 이름순 cursor 조회가 정렬된 목록의 prefix 필터와 같다")
+    void matchesSortedList() {
+        List<Brand> initial = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Brand brand = randomBrand(nextId++);
+            initial.add(brand);
+            current.put(brand.getId(), toDto(brand));
+        }
+
+        BrandRepository brandRepository = mock(BrandRepository.class);
+        when(brandRepository.findAll()).thenReturn(initial);
+        BrandRankingService brandRankingService = mock(BrandRankingService.class);
+        // 같은 점수가 많도록 몇 가지 값만 쓴다
+        when(brandRankingService.getScore(any(RankingWindow.class), anyLong())).thenAnswer(invocation ->
+                scores.computeIfAbsent(invocation.getArgument(1), id -> (double) random.nextInt(4)));
+
+        BrandSearchIndex index = new BrandSearchIndex(brandRepository, brandRankingService);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.invokeMethod(index, "init");
+        assertMatches(index);
+
+        List<Long> removedIds = new ArrayList<>();
+        Map<Long, Brand> removedBrands = new HashMap<>();
+        for (int step = 0; step < 300; step++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || current.isEmpty()) {
+                upsert(index, randomBrand(nextId++));
+            } else if (operation == 1) {
+                // 이름 변경
+                Long id = pick(List.copyOf(current.keySet()));
+                upsert(index, randomBrand(id));
+            } else if (operation == 2) {
+                Long id = pick(List.copyOf(current.keySet()));
+                BrandSearchResDto removed = current.remove(id);
+                removedIds.add(id);
+                removedBrands.put(id, Brand.builder().id(id).brandKr(removed.getBrandKr()).brandEn(removed.getBrandEn()).build());
+                index.removeAfterCommit(id);
+            } else if (operation == 3 && !removedIds.isEmpty()) {
+                // 삭제했던 브랜드를 같은 id, 이름으로 다시 추가
+                Long id = removedIds.remove(random.nextInt(removedIds.size()));
+                upsert(index, removedBrands.remove(id));
+            } else {
+                index.rerank();
+            }
+
+            assertMatches(index);
+        }
+    }
+
+    private void upsert(BrandSearchIndex index, Brand brand) {
+        current.put(brand.getId(), toDto(brand));
+        index.upsertAfterCommit(brand);
+    }
+
+    private void assertMatches(BrandSearchIndex index) {
+        Comparator<BrandSearchResDto> popularOrder =
+                Comparator.<BrandSearchResDto>comparingDouble(brand -> scores.get(brand.getId())).reversed()
+                        .thenComparing(BrandSearchIndex.KEYSET_ORDER);
+
+        for (String brandName : brandNames()) {
+            String prefix = brandName.toLowerCase(Locale.ROOT);
+            List<BrandSearchResDto> matched = current.values().stream()
+                    .filter(brand -> brand.getBrandKr().toLowerCase(Locale.ROOT).startsWith(prefix)
+                            || brand.getBrandEn().toLowerCase(Locale.ROOT).startsWith(prefix))
+                    .toList();
+
+            List<BrandSearchResDto> popular = matched.stream().sorted(popularOrder).toList();
+            int limit = 1 + random.nextInt(5);
+            int offset = random.nextInt(popular.size() + 2);
+            assertThat(index.search(brandName, offset, limit)).as("%s, offset %d", brandName, offset)
+                    .containsExactlyElementsOf(popular.subList(Math.min(offset, popular.size()),
+                            Math.min(offset + limit, popular.size())));
+
+            List<BrandSearchResDto> named = matched.stream().sorted(BrandSearchIndex.KEYSET_ORDER).toList();
+            assertThat(readAll(index, brandName, limit)).as("%s, page %d", brandName, limit)
+                    .containsExactlyElementsOf(named);
+        }
+    }
+
+    private static List<BrandSearchResDto> readAll(BrandSearchIndex index, String brandName, int limit) {
+        List<BrandSearchResDto> all = new ArrayList<>();
+        Cursor cursor = null;
+        while (true) {
+            List<BrandSearchResDto> page = index.searchAfter(brandName, cursor, limit);
+            all.addAll(page);
+            if (page.size() < limit) {
+                return all;
+            }
+
+            BrandSearchResDto last = page.get(page.size() - 1);
+            // 클라이언트가 되돌려 보내는 cursor와 같게 encode, decode를 거친다
+            cursor = Cursor.decode(Cursor.of(BrandSearchIndex.sortKey(last), last.getId()).encode());
+        }
+    }
+
+    private List<String> brandNames() {
+        List<String> names = new ArrayList<>(List.of("", "n", "NI", "나", "x"));
+        List<BrandSearchResDto> brands = List.copyOf(current.values());
+        for (int i = 0; i < 4 && !brands.isEmpty(); i++) {
+            BrandSearchResDto brand = pick(brands);
+            String name = random.nextBoolean() ? brand.getBrandKr() : brand.getBrandEn();
+            names.add(name.substring(0, random.nextInt(name.length() + 1)));
+        }
+
+        return names;
+    }
+
+    private Brand randomBrand(Long id) {
+        return Brand.builder()
+                .id(id)
+                .brandKr(randomName())
+                .brandEn(randomName())
+                .build();
+    }
+
+    private String randomName() {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+
+        return name.toString();
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static BrandSearchResDto toDto(Brand brand) {
+        return BrandSearchResDto.builder()
+                .id(brand.getId())
+                .brandKr(brand.getBrandKr())
+                .brandEn(brand.getBrandEn())
+                .brandImgUrl(brand.getBrandImgUrl())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.sluv.server.domain.celeb.repository;
+
+import com.sluv.server.domain.celeb.entity.Celeb;
+import com.sluv.server.global.config.QueryDslConfig;
+import com.sluv.server.global.id.SluvIdService;
+import com.sluv.server.support.MySqlTestDatabase;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관심 Celeb이 캐시에 없을 때처럼 여러 그룹을 조회하고 멤버를 탐색해도
+ * 그룹 수와 관계없이 SELECT 수가 같은지(그룹마다 멤버를 SELECT 하지 않는지) 확인
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, CelebRepositoryTest.TestDataSourceConfig.class})
+// context를 닫아야 create-drop이 스키마를 지워 같은 DB를 쓰는 다른 테스트의 테이블과 겹치지 않는다
+@DirtiesContext
+class CelebRepositoryTest {
+    private static final long CATEGORY_ID = 1L;
+    private static final int MEMBERS_PER_GROUP = 3;
+
+    private static DataSource dataSource;
+
+    @MockBean
+    private SluvIdService sluvIdService;
+
+    @Autowired
+    private CelebRepository celebRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private long nextId = 100;
+
+    @TestConfiguration
+    static class TestDataSourceConfig {
+        @Bean
+        DataSource dataSource() {
+            return dataSource;
+        }
+    }
+
+    @BeforeAll
+    static void setUpDataSource() {
+        // Spring context를 만들기 전에 DB가 없다면 테스트를 건너뛴다
+        dataSource = MySqlTestDatabase.dataSource();
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        jdbcTemplate.update("""
+                INSERT INTO celeb_category (celeb_category_id, name, created_at, updated_at)
+                VALUES (?, 'singer', NOW(), NOW())
+                """, CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("그룹 수와 관계없이 그룹 조회 한 번, 멤버 조회 한 번으로 멤버를 탐색한다")
+    void subCelebListIsBatchFetched() {
+        List<Long> fewGroups = insertGroups(3);
+        List<Long> manyGroups = insertGroups(30);
+
+        long fewGroupQueries = countQueriesWalkingMembers(fewGroups);
+        long manyGroupQueries = countQueriesWalkingMembers(manyGroups);
+
+        assertThat(fewGroupQueries).isEqualTo(2);
+        assertThat(manyGroupQueries).isEqualTo(fewGroupQueries);
+    }
+
+    private long countQueriesWalkingMembers(List<Long> groupIds) {
+        // 앞서 로드한 엔티티가 1차 캐시에서 재사용되지 않도록
+        entityManager.clear();
+        statistics.clear();
+
+        List<Celeb> groups = celebRepository.findAllById(groupIds);
+        int members = 0;
+        for (Celeb group : groups) {
+            for (Celeb member : group.getSubCelebList()) {
+                assertThat(member.getCelebNameKr()).isNotNull();
+                members++;
+            }
+        }
+
+        assertThat(groups).hasSize(groupIds.size());
+        assertThat(members).isEqualTo(groupIds.size() * MEMBERS_PER_GROUP);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> insertGroups(int count) {
+        List<Long> groupIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long groupId = insertCeleb(null, "group" + i);
+            for (int j = 0; j < MEMBERS_PER_GROUP; j++) {
+                insertCeleb(groupId, "member" + i + "-" + j);
+            }
+            groupIds.add(groupId);
+        }
+
+        return groupIds;
+    }
+
+    private long insertCeleb(Long parentId, String name) {
+        long celebId = nextId++;
+        // 엔티티 listener(캐시, 검색 projection 갱신)를 거치지 않도록 JDBC로 저장
+        jdbcTemplate.update("""
+                INSERT INTO celeb (celeb_id, parent_id, celeb_category_id, celeb_name_kr, celeb_name_en, celeb_status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 'ACTIVE', NOW(), NOW())
+                """, celebId, parentId, CATEGORY_ID, name, name);
+
+        return celebId;
+    }
+}
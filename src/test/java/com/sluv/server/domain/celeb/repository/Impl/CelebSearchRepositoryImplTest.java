@@ -0,0 +1,223 @@
+package com.sluv.server.domain.celeb.repository.Impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sluv.server.domain.celeb.dto.CelebSearchResDto;
+import com.sluv.server.global.common.cursor.Cursor;
+import com.sluv.server.support.MySqlTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * celeb_search_key의 prefix range 검색과 Celeb 변경 시 갱신 확인
+ */
+class CelebSearchRepositoryImplTest {
+    private static final long BTS = 1L;
+    private static final long JIMIN = 2L;
+    private static final long V = 3L;
+    private static final long IU = 4L;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static CelebSearchRepositoryImpl celebSearchRepository;
+
+    @BeforeAll
+    static void createTables() {
+        jdbcTemplate = new JdbcTemplate(MySqlTestDatabase.dataSource());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS celeb_search_key");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS celeb_search");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS celeb");
+        // refresh가 읽는 Celeb 컬럼
+        jdbcTemplate.execute("""
+                CREATE TABLE celeb (
+                    celeb_id      BIGINT       NOT NULL,
+                    parent_id     BIGINT,
+                    celeb_name_kr VARCHAR(255) NOT NULL,
+                    celeb_name_en VARCHAR(255) NOT NULL,
+                    PRIMARY KEY (celeb_id)
+                ) DEFAULT CHARSET = utf8mb4
+                """);
+        // V6, V11
+        jdbcTemplate.execute("""
+                CREATE TABLE celeb_search (
+                    celeb_id        BIGINT       NOT NULL,
+                    parent_id       BIGINT,
+                    display_name_kr VARCHAR(511) NOT NULL,
+                    display_name_en VARCHAR(511) NOT NULL,
+                    group_name_kr   VARCHAR(255),
+                    group_name_en   VARCHAR(255),
+                    member_name_kr  VARCHAR(255) NOT NULL,
+                    member_name_en  VARCHAR(255) NOT NULL,
+                    PRIMARY KEY (celeb_id),
+                    INDEX idx_celeb_search_display_name_kr_id (display_name_kr, celeb_id),
+                    INDEX idx_celeb_search_parent_id (parent_id)
+                ) DEFAULT CHARSET = utf8mb4
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE celeb_search_key (
+                    search_key VARCHAR(511) CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_bin NOT NULL,
+                    celeb_id   BIGINT       NOT NULL,
+                    PRIMARY KEY (search_key, celeb_id),
+                    INDEX idx_celeb_search_key_celeb_id (celeb_id)
+                )
+                """);
+
+        celebSearchRepository = new CelebSearchRepositoryImpl(mock(JPAQueryFactory.class),
+                new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM celeb_search_key");
+        jdbcTemplate.update("DELETE FROM celeb_search");
+        jdbcTemplate.update("DELETE FROM celeb");
+
+        insertCeleb(BTS, null, "방탄소년단", "BTS");
+        insertCeleb(JIMIN, BTS, "지민", "Jimin");
+        insertCeleb(V, BTS, "뷔", "V");
+        insertCeleb(IU, null, "아이유", "IU");
+        celebSearchRepository.refresh(List.of(BTS, IU));
+    }
+
+    @Test
+    @DisplayName("멤버, 그룹, \"그룹 멤버\" 이름의 prefix로 대소문자 없이 찾는다")
+    void searchByNameVariants() {
+        assertThat(search("지")).containsExactly(JIMIN);
+        assertThat(search("jIM")).containsExactly(JIMIN);
+        assertThat(search("방탄")).containsExactly(V, JIMIN);
+        assertThat(search("bts")).containsExactly(V, JIMIN);
+        assertThat(search("방탄소년단 지")).containsExactly(JIMIN);
+        assertThat(search("BTS v")).containsExactly(V);
+        assertThat(search("iu")).containsExactly(IU);
+        assertThat(search("엑소")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("\"그룹 멤버\"는 그룹 이름과 멤버 이름 각각의 prefix로도 찾는다")
+    void searchByGroupAndMemberPrefix() {
+        assertThat(search("방탄 지")).containsExactly(JIMIN);
+        assertThat(search("bt JI")).containsExactly(JIMIN);
+        assertThat(search("방탄 v")).isEmpty();
+        assertThat(search("방 뷔")).containsExactly(V);
+        assertThat(search("방탄 아")).isEmpty();
+        assertThat(search("아이 유")).isEmpty();
+        assertThat(search("b%s v")).isEmpty();
+        assertThat(celebSearchRepository.searchAfter("방탄 지", null, 10))
+                .extracting(CelebSearchResDto::getId)
+                .containsExactly(JIMIN);
+    }
+
+    @Test
+    @DisplayName("여러 키가 일치해도 셀럽은 한 번만 나오고, 빈 검색어는 전체 셀럽")
+    void distinctResults() {
+        // "v"는 뷔의 멤버 이름, 영문 표시 이름 "BTS V"가 아니라 멤버 이름 "V"로 일치
+        assertThat(search("v")).containsExactly(V);
+        assertThat(search("")).containsExactly(V, JIMIN, IU);
+    }
+
+    @Test
+    @DisplayName("cursor로 나누어 읽어도 offset 조회와 같은 순서")
+    void cursorPages() {
+        List<Long> ids = new ArrayList<>();
+        Cursor cursor = null;
+        while (true) {
+            List<CelebSearchResDto> page = celebSearchRepository.searchAfter("", cursor, 1);
+            if (page.isEmpty()) {
+                break;
+            }
+            CelebSearchResDto last = page.get(0);
+            ids.add(last.getId());
+            cursor = Cursor.of(last.getCelebNameKr(), last.getId());
+        }
+
+        assertThat(ids).containsExactlyElementsOf(search(""));
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌거나 그룹을 떠나면 이전 검색 키로는 찾을 수 없다")
+    void refreshReplacesKeys() {
+        jdbcTemplate.update("UPDATE celeb SET celeb_name_en = 'Park Jimin', parent_id = NULL WHERE celeb_id = ?", JIMIN);
+        jdbcTemplate.update("DELETE FROM celeb WHERE celeb_id = ?", V);
+        celebSearchRepository.refresh(List.of(JIMIN, BTS, V));
+
+        assertThat(search("jimin")).isEmpty();
+        assertThat(search("park")).containsExactly(JIMIN);
+        assertThat(search("v")).isEmpty();
+        // 멤버가 없는 그룹은 솔로 row가 된다
+        assertThat(search("bts")).containsExactly(BTS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM celeb_search_key WHERE celeb_id NOT IN (SELECT celeb_id FROM celeb_search)",
+                Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 셀럽을 동시에 갱신해도 중복 키로 실패하지 않는다")
+    void concurrentRefresh() throws Exception {
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 20; round++) {
+                CyclicBarrier barrier = new CyclicBarrier(threads);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        return celebSearchRepository.refresh(List.of(BTS, JIMIN));
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(search("방탄")).containsExactly(V, JIMIN);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM celeb_search", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("refresh를 거치지 않은 추가, 변경, 삭제를 찾고 다시 만들면 남지 않는다")
+    void staleIds() {
+        assertThat(celebSearchRepository.findStaleIds()).isEmpty();
+
+        long suga = 5L;
+        insertCeleb(suga, BTS, "슈가", "Suga");
+        jdbcTemplate.update("UPDATE celeb SET celeb_name_en = 'iu' WHERE celeb_id = ?", IU);
+        jdbcTemplate.update("DELETE FROM celeb WHERE celeb_id = ?", V);
+
+        assertThat(celebSearchRepository.findStaleIds()).containsExactlyInAnyOrder(suga, IU, V);
+
+        celebSearchRepository.refresh(celebSearchRepository.findStaleIds());
+
+        assertThat(celebSearchRepository.findStaleIds()).isEmpty();
+        assertThat(search("슈")).containsExactly(suga);
+        assertThat(search("v")).isEmpty();
+    }
+
+    private static List<Long> search(String celebName) {
+        return celebSearchRepository.search(celebName, PageRequest.of(0, 20)).stream()
+                .map(CelebSearchResDto::getId)
+                .toList();
+    }
+
+    private static void insertCeleb(Long id, Long parentId, String nameKr, String nameEn) {
+        jdbcTemplate.update("INSERT INTO celeb (celeb_id, parent_id, celeb_name_kr, celeb_name_en) VALUES (?, ?, ?, ?)",
+                id, parentId, nameKr, nameEn);
+    }
+}
@@ -0,0 +1,169 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.service.CelebFuzzySegment.Entry;
+import com.sluv.server.domain.celeb.service.CelebFuzzySegment.Hit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CelebFuzzySegmentTest {
+    private static final Entry BTS = new Entry(1L, null, "방탄소년단", "BTS", null, null);
+    private static final Entry JUNGKOOK = new Entry(2L, 1L, "방탄소년단 정국", "BTS Jungkook", "정국", "Jungkook");
+    private static final Entry IU = new Entry(3L, null, "아이유", "IU", "아이유", "IU");
+    private static final Entry G_DRAGON = new Entry(4L, null, "지드래곤", "G-Dragon", "지드래곤", "G-Dragon");
+    private static final Entry JIMIN = new Entry(5L, 1L, "방탄소년단 지민", "BTS Jimin", "지민", "Jimin");
+
+    private final CelebFuzzySegment segment = CelebFuzzySegment.build(List.of(BTS, JUNGKOOK, IU, G_DRAGON, JIMIN));
+
+    @Test
+    @DisplayName("초성만 입력하면 멤버 이름과 표시 이름의 초성 prefix로 찾는다")
+    void chosungPrefix() {
+        assertThat(ids(segment.search("ㅈㄱ", 10, id -> false))).containsExactly(2L);
+        assertThat(ids(segment.search("ㅂㅌ", 10, id -> false))).containsExactlyInAnyOrder(1L, 2L, 5L);
+        assertThat(ids(segment.search("ㅈ", 10, id -> false))).containsExactlyInAnyOrder(2L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("한글이 섞이면 입력 중인 글자까지 자모 prefix로 찾는다")
+    void jamoPrefix() {
+        assertThat(ids(segment.search("앙", 10, id -> false))).containsExactly(3L);
+        assertThat(ids(segment.search("방탄소년단 정", 10, id -> false))).containsExactly(2L);
+        assertThat(ids(segment.search("지ㄷ", 10, id -> false))).containsExactly(4L);
+        assertThat(segment.search("앙", 10, id -> false)).allSatisfy(hit -> assertThat(hit.score()).isZero());
+    }
+
+    @Test
+    @DisplayName("영문은 공백, 기호를 무시한 prefix로 찾는다")
+    void latinPrefix() {
+        assertThat(ids(segment.search("jung", 10, id -> false))).containsExactly(2L);
+        assertThat(ids(segment.search("G Drag", 10, id -> false))).containsExactly(4L);
+        assertThat(ids(segment.search("bts", 10, id -> false))).containsExactlyInAnyOrder(1L, 2L, 5L);
+        assertThat(segment.search("!!", 10, id -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("긴 영문 검색어는 오타, 인접 글자 바꿈을 허용하고 prefix 일치보다 뒤에 온다")
+    void latinTypo() {
+        List<Hit> substituted = segment.search("jungkok", 10, id -> false);
+        assertThat(ids(substituted)).containsExactly(2L);
+        assertThat(substituted.get(0).score()).isEqualTo(1);
+
+        assertThat(ids(segment.search("jugnkook", 10, id -> false))).containsExactly(2L);
+        assertThat(ids(segment.search("gdragn", 10, id -> false))).containsExactly(4L);
+
+        // 5글자 이하는 오타를 허용하지 않는다
+        assertThat(segment.search("jnug", 10, id -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제외한 셀럽은 결과에 없고, limit 이상은 담지 않는다")
+    void excludedAndLimit() {
+        assertThat(ids(segment.search("ㅂㅌ", 10, id -> id == 1L))).containsExactlyInAnyOrder(2L, 5L);
+        assertThat(segment.search("ㅂㅌ", 2, id -> false)).hasSize(2);
+        assertThat(segment.search("jungkok", 10, id -> id == 2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 segment는 어떤 검색어에도 빈 결과")
+    void emptySegment() {
+        assertThat(CelebFuzzySegment.EMPTY.size()).isZero();
+        assertThat(CelebFuzzySegment.EMPTY.search("ㅂㅌ", 10, id -> false)).isEmpty();
+        assertThat(CelebFuzzySegment.EMPTY.search("jungkok", 10, id -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과는 score, 일치한 이름, id 순")
+    void hitOrder() {
+        List<Hit> hits = new ArrayList<>(List.of(
+                new Hit(1, "a", IU),
+                new Hit(0, "b", JIMIN),
+                new Hit(0, "b", JUNGKOOK),
+                new Hit(0, "a", G_DRAGON)
+        ));
+
+        hits.sort(Hit.ORDER);
+
+        assertThat(ids(hits)).containsExactly(4L, 2L, 5L, 3L);
+    }
+
+    @Test
+    @DisplayName("허용 편집 거리는 5글자 이하 0, 9글자까지 1, 그 이상 2")
+    void maxDistance() {
+        assertThat(CelebFuzzySegment.maxDistance(5)).isZero();
+        assertThat(CelebFuzzySegment.maxDistance(6)).isEqualTo(1);
+        assertThat(CelebFuzzySegment.maxDistance(9)).isEqualTo(1);
+        assertThat(CelebFuzzySegment.maxDistance(10)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("prefix 편집 거리는 key의 앞부분과 비교하고 maxDistance를 넘으면 maxDistance + 1")
+    void prefixDistance() {
+        assertThat(CelebFuzzySegment.prefixDistance("abc", "abc", 1)).isZero();
+        assertThat(CelebFuzzySegment.prefixDistance("abc", "abcdef", 1)).isZero();
+        assertThat(CelebFuzzySegment.prefixDistance("abd", "abcdef", 1)).isEqualTo(1);
+        assertThat(CelebFuzzySegment.prefixDistance("acb", "abc", 1)).isEqualTo(1);
+        assertThat(CelebFuzzySegment.prefixDistance("abcd", "abc", 1)).isEqualTo(1);
+        assertThat(CelebFuzzySegment.prefixDistance("xyz", "abc", 1)).isEqualTo(2);
+        assertThat(CelebFuzzySegment.prefixDistance("xyz", "abc", 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("band 안에서만 계산한 prefix 편집 거리가 전체 계산과 같다")
+    void prefixDistanceMatchesFullTable() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            String query = randomText(random, 1 + random.nextInt(8));
+            String key = randomText(random, random.nextInt(10));
+            int maxDistance = 1 + random.nextInt(2);
+
+            int expected = Math.min(fullPrefixDistance(query, key), maxDistance + 1);
+
+            assertThat(CelebFuzzySegment.prefixDistance(query, key, maxDistance))
+                    .as("query=%s, key=%s, maxDistance=%d", query, key, maxDistance)
+                    .isEqualTo(expected);
+        }
+    }
+
+    // 인접 글자 바꿈을 포함한 편집 거리를 key의 모든 앞부분에 대해 계산한 최솟값
+    private static int fullPrefixDistance(String query, String key) {
+        int[][] table = new int[query.length() + 1][key.length() + 1];
+        for (int i = 0; i <= query.length(); i++) {
+            table[i][0] = i;
+        }
+        for (int j = 0; j <= key.length(); j++) {
+            table[0][j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            for (int j = 1; j <= key.length(); j++) {
+                int cost = query.charAt(i - 1) == key.charAt(j - 1) ? 0 : 1;
+                table[i][j] = Math.min(Math.min(table[i - 1][j] + 1, table[i][j - 1] + 1), table[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && query.charAt(i - 1) == key.charAt(j - 2) && query.charAt(i - 2) == key.charAt(j - 1)) {
+                    table[i][j] = Math.min(table[i][j], table[i - 2][j - 2] + 1);
+                }
+            }
+        }
+
+        int distance = Integer.MAX_VALUE;
+        for (int j = 0; j <= key.length(); j++) {
+            distance = Math.min(distance, table[query.length()][j]);
+        }
+        return distance;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(hit -> hit.entry().id()).distinct().toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.sluv.server.domain.celeb.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절은 초성, 중성, 종성으로 분해하고 공백은 지운다")
+    void decomposeSyllables() {
+        assertThat(HangulJamo.decompose("방탄 정국")).isEqualTo("ㅂㅏㅇㅌㅏㄴㅈㅓㅇㄱㅜㄱ");
+        assertThat(HangulJamo.decompose("아이유")).isEqualTo("ㅇㅏㅇㅣㅇㅠ");
+        assertThat(HangulJamo.decompose("가")).isEqualTo("ㄱㅏ");
+        assertThat(HangulJamo.decompose("힣")).isEqualTo("ㅎㅣㅎ");
+    }
+
+    @Test
+    @DisplayName("겹모음, 겹받침은 기본 자모로 분해한다")
+    void decomposeCompounds() {
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+
+        // 호환 자모도 음절과 같은 기본 자모로
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자도 완성된 이름의 prefix가 된다")
+    void typingPrefix() {
+        String name = HangulJamo.decompose("아이유");
+
+        assertThat(name).startsWith(HangulJamo.decompose("앙"));
+        assertThat(name).startsWith(HangulJamo.decompose("아ㅇ"));
+        assertThat(HangulJamo.decompose("방탄소년단")).startsWith(HangulJamo.decompose("방ㅌ"));
+        assertThat(HangulJamo.decompose("왔다")).startsWith(HangulJamo.decompose("오ㅏ"));
+    }
+
+    @Test
+    @DisplayName("한글 외 글자는 소문자로 남긴다")
+    void decomposeMixed() {
+        assertThat(HangulJamo.decompose("BTS 뷔")).isEqualTo("btsㅂㅜㅣ");
+        assertThat(HangulJamo.decompose("Jung Kook")).isEqualTo("jungkook");
+    }
+
+    @Test
+    @DisplayName("초성은 음절의 첫 자음만 남기고 공백은 지운다")
+    void chosung() {
+        assertThat(HangulJamo.chosung("방탄 정국")).isEqualTo("ㅂㅌㅈㄱ");
+        assertThat(HangulJamo.chosung("까치")).isEqualTo("ㄲㅊ");
+        assertThat(HangulJamo.chosung("ㅂㅌ")).isEqualTo("ㅂㅌ");
+        assertThat(HangulJamo.chosung("IU 아이유")).isEqualTo("iuㅇㅇㅇ");
+    }
+
+    @Test
+    @DisplayName("영문 비교는 소문자 글자와 숫자만 남긴다")
+    void normalizeLatin() {
+        assertThat(HangulJamo.normalizeLatin("Jung Kook")).isEqualTo("jungkook");
+        assertThat(HangulJamo.normalizeLatin("G-Dragon")).isEqualTo("gdragon");
+        assertThat(HangulJamo.normalizeLatin("2NE1!")).isEqualTo("2ne1");
+        assertThat(HangulJamo.normalizeLatin(" - ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("음절이나 호환 자모가 있으면 한글이 섞인 검색어")
+    void containsHangul() {
+        assertThat(HangulJamo.containsHangul("BTS 뷔")).isTrue();
+        assertThat(HangulJamo.containsHangul("ㅂ")).isTrue();
+        assertThat(HangulJamo.containsHangul("BTS")).isFalse();
+        assertThat(HangulJamo.containsHangul("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("공백 외에 자음만 있을 때 초성 검색어")
+    void isChosungOnly() {
+        assertThat(HangulJamo.isChosungOnly("ㅂㅌ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("ㅂㅌ ㅈㄱ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("ㄲ")).isTrue();
+
+        assertThat(HangulJamo.isChosungOnly("ㅂㅏ")).isFalse();
+        assertThat(HangulJamo.isChosungOnly("ㅂ탄")).isFalse();
+        assertThat(HangulJamo.isChosungOnly("ㅂa")).isFalse();
+        assertThat(HangulJamo.isChosungOnly(" ")).isFalse();
+        assertThat(HangulJamo.isChosungOnly("")).isFalse();
+    }
+}
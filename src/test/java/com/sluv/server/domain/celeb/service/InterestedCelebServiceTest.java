@@ -0,0 +1,207 @@
+package com.sluv.server.domain.celeb.service;
+
+import com.sluv.server.domain.celeb.dto.CelebCategoryNodeDto;
+import com.sluv.server.domain.celeb.dto.CelebNodeDto;
+import com.sluv.server.domain.celeb.entity.Celeb;
+import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
+import com.sluv.server.domain.celeb.repository.CelebRepository;
+import com.sluv.server.domain.celeb.repository.InterestedCelebRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InterestedCelebServiceTest {
+    private static final Long USER_ID = 1L;
+    // 계층 캐시에 있는 셀럽
+    private static final long[] CACHED_CELEB_IDS = LongStream.rangeClosed(1, 5).toArray();
+
+    private InterestedCelebRepository interestedCelebRepository;
+    private CelebRepository celebRepository;
+    private InterestedCelebService interestedCelebService;
+
+    @BeforeEach
+    void setUp() {
+        interestedCelebRepository = mock(InterestedCelebRepository.class);
+        celebRepository = mock(CelebRepository.class);
+
+        List<CelebNodeDto> celebs = Arrays.stream(CACHED_CELEB_IDS)
+                .mapToObj(id -> new CelebNodeDto(id, null, 1L, "셀럽" + id, "celeb" + id))
+                .toList();
+        CelebHierarchyCache celebHierarchyCache = mock(CelebHierarchyCache.class);
+        when(celebHierarchyCache.get()).thenReturn(
+                CelebHierarchy.build(celebs, List.of(new CelebCategoryNodeDto(1L, null, "가수"))));
+
+        interestedCelebService = new InterestedCelebService(
+                interestedCelebRepository, celebRepository, celebHierarchyCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(interestedCelebService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(interestedCelebService, "expireSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(interestedCelebService, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("유지되는 셀럽은 건드리지 않고 빠진 셀럽만 삭제, 새 셀럽만 요청 순서대로 추가한다")
+    void keepsAddsAndRemoves() {
+        currentIds(3L, 2L, 1L);
+
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(2L, 5L, 4L));
+
+        assertReplaced(List.of(3L, 1L), List.of(5L, 4L));
+    }
+
+    @Test
+    @DisplayName("중복된 id는 한 번만 추가한다")
+    void duplicatesAreAddedOnce() {
+        currentIds(2L);
+
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(4L, 4L, 2L, 4L));
+
+        assertReplaced(List.of(), List.of(4L));
+    }
+
+    @Test
+    @DisplayName("null, 빈 목록은 모두 삭제한다")
+    void nullOrEmptyDeletesAll() {
+        currentIds(1L, 2L);
+        interestedCelebService.replaceInterestedCelebs(USER_ID, null);
+        assertReplaced(List.of(1L, 2L), List.of());
+
+        clearInvocations(interestedCelebRepository);
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of());
+        assertReplaced(List.of(1L, 2L), List.of());
+    }
+
+    @Test
+    @DisplayName("바뀐 셀럽이 없다면 쓰지 않는다")
+    void unchangedListWritesNothing() {
+        currentIds(1L, 2L);
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(2L, 1L));
+
+        currentIds();
+        interestedCelebService.replaceInterestedCelebs(USER_ID, null);
+
+        verify(interestedCelebRepository, never()).replaceInterestedCelebs(anyLong(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("없는 셀럽, null id가 있다면 CelebNotFoundException이고 아무것도 쓰지 않는다")
+    void unknownCelebThrows() {
+        currentIds(1L);
+        when(celebRepository.findAllById(List.of(99L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(1L, 99L)))
+                .isInstanceOf(CelebNotFoundException.class);
+        assertThatThrownBy(() -> interestedCelebService.replaceInterestedCelebs(USER_ID, Arrays.asList(1L, null)))
+                .isInstanceOf(CelebNotFoundException.class);
+
+        verify(interestedCelebRepository, never()).replaceInterestedCelebs(anyLong(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("계층 캐시에 아직 없는 셀럽은 DB에서 확인한다")
+    void uncachedCelebIsCheckedInDb() {
+        currentIds();
+        when(celebRepository.findAllById(List.of(100L))).thenReturn(List.of(Celeb.builder().id(100L).build()));
+
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(1L, 100L));
+
+        assertReplaced(List.of(), List.of(1L, 100L));
+    }
+
+    @Test
+    @DisplayName("캐시는 커밋 후에만 무효화하고, rollback 되면 그대로 둔다")
+    void evictsOnlyAfterCommit() {
+        currentIds(1L);
+        assertThat(interestedCelebService.isInterested(USER_ID, 1L)).isTrue();
+
+        // rollback
+        TransactionSynchronizationManager.initSynchronization();
+        currentIds(2L);
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(2L));
+        complete(false);
+        assertThat(interestedCelebService.isInterested(USER_ID, 1L)).isTrue();
+
+        // commit 전에는 이전 목록, 커밋 후 새 목록
+        TransactionSynchronizationManager.initSynchronization();
+        interestedCelebService.replaceInterestedCelebs(USER_ID, List.of(2L));
+        assertThat(interestedCelebService.isInterested(USER_ID, 1L)).isTrue();
+
+        complete(true);
+        assertThat(interestedCelebService.isInterested(USER_ID, 1L)).isFalse();
+        assertThat(interestedCelebService.isInterested(USER_ID, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("InterestedCelebSet은 등록순을 유지하고 포함 여부는 정렬 배열로 확인한다")
+    void interestedCelebSet() {
+        long[] ids = {30L, 10L, 20L};
+        InterestedCelebSet set = InterestedCelebSet.of(ids);
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.get(0)).isEqualTo(30L);
+        assertThat(set.toArray()).containsExactly(30L, 10L, 20L);
+        assertThat(set.contains(10L)).isTrue();
+        assertThat(set.contains(15L)).isFalse();
+
+        // 복사본이므로 바꿔도 집합은 그대로
+        set.toArray()[0] = 99L;
+        assertThat(set.get(0)).isEqualTo(30L);
+
+        assertThat(InterestedCelebSet.of(new long[0])).isSameAs(InterestedCelebSet.EMPTY);
+        assertThat(InterestedCelebSet.EMPTY.contains(1L)).isFalse();
+    }
+
+    private void currentIds(long... ids) {
+        when(interestedCelebRepository.findInterestedCelebIds(USER_ID)).thenReturn(ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertReplaced(List<Long> deleteIds, List<Long> insertIds) {
+        ArgumentCaptor<Collection<Long>> deleteCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<List<Long>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(interestedCelebRepository).replaceInterestedCelebs(eq(USER_ID), deleteCaptor.capture(), insertCaptor.capture());
+
+        assertThat(deleteCaptor.getValue()).containsExactlyElementsOf(deleteIds);
+        assertThat(insertCaptor.getValue()).containsExactlyElementsOf(insertIds);
+    }
+
+    private static void complete(boolean committed) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
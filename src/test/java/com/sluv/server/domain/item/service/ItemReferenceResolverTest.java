@@ -0,0 +1,234 @@
+package com.sluv.server.domain.item.service;
+
+import com.sluv.server.domain.brand.entity.Brand;
+import com.sluv.server.domain.brand.entity.NewBrand;
+import com.sluv.server.domain.brand.exception.BrandNotFoundException;
+import com.sluv.server.domain.brand.exception.NewBrandNotFoundException;
+import com.sluv.server.domain.brand.repository.BrandRepository;
+import com.sluv.server.domain.brand.repository.NewBrandRepository;
+import com.sluv.server.domain.brand.service.BrandSearchIndex;
+import com.sluv.server.domain.celeb.dto.CelebCategoryNodeDto;
+import com.sluv.server.domain.celeb.dto.CelebNodeDto;
+import com.sluv.server.domain.celeb.entity.Celeb;
+import com.sluv.server.domain.celeb.entity.NewCeleb;
+import com.sluv.server.domain.celeb.exception.CelebNotFoundException;
+import com.sluv.server.domain.celeb.exception.NewCelebNotFoundException;
+import com.sluv.server.domain.celeb.repository.CelebRepository;
+import com.sluv.server.domain.celeb.repository.NewCelebRepository;
+import com.sluv.server.domain.celeb.service.CelebHierarchy;
+import com.sluv.server.domain.celeb.service.CelebHierarchyCache;
+import com.sluv.server.domain.item.entity.ItemCategory;
+import com.sluv.server.domain.item.entity.hashtag.Hashtag;
+import com.sluv.server.domain.item.enums.ItemReferenceType;
+import com.sluv.server.domain.item.exception.ItemCategoryNotFoundException;
+import com.sluv.server.domain.item.exception.hashtag.HashtagNotFoundException;
+import com.sluv.server.domain.item.repository.ItemCategoryRepository;
+import com.sluv.server.domain.item.repository.ItemRepository;
+import com.sluv.server.domain.item.repository.hashtag.HashtagRepository;
+import com.sluv.server.domain.item.service.ItemReferenceResolver.ItemReferences;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.sluv.server.domain.item.enums.ItemReferenceType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemReferenceResolverTest {
+    // snapshot에 있는 Celeb, Brand
+    private static final Long CACHED_CELEB_ID = 1L;
+    private static final Long CACHED_BRAND_ID = 10L;
+    private static final Long UNCACHED_CELEB_ID = 2L;
+    private static final Long UNCACHED_BRAND_ID = 20L;
+    private static final Long NEW_CELEB_ID = 100L;
+    private static final Long NEW_BRAND_ID = 200L;
+    private static final Long CATEGORY_ID = 300L;
+
+    private ItemRepository itemRepository;
+    private HashtagRepository hashtagRepository;
+    private ItemReferenceResolver itemReferenceResolver;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        CelebRepository celebRepository = mock(CelebRepository.class);
+        NewCelebRepository newCelebRepository = mock(NewCelebRepository.class);
+        BrandRepository brandRepository = mock(BrandRepository.class);
+        NewBrandRepository newBrandRepository = mock(NewBrandRepository.class);
+        ItemCategoryRepository itemCategoryRepository = mock(ItemCategoryRepository.class);
+        hashtagRepository = mock(HashtagRepository.class);
+
+        when(celebRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> Celeb.builder().id(invocation.getArgument(0)).build());
+        when(newCelebRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> NewCeleb.builder().id(invocation.getArgument(0)).build());
+        when(brandRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> Brand.builder().id(invocation.getArgument(0)).build());
+        when(newBrandRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> NewBrand.builder().id(invocation.getArgument(0)).build());
+        when(itemCategoryRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> ItemCategory.builder().id(invocation.getArgument(0)).build());
+        when(hashtagRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> Hashtag.builder().id(invocation.getArgument(0)).build());
+
+        // CelebHierarchy.build는 celeb.service 패키지 전용이므로 reflection으로 만든다
+        CelebHierarchy hierarchy = ReflectionTestUtils.invokeMethod(CelebHierarchy.class, "build",
+                List.of(new CelebNodeDto(CACHED_CELEB_ID, null, 1L, "아이유", "IU")),
+                List.of(new CelebCategoryNodeDto(1L, null, "가수")));
+        CelebHierarchyCache celebHierarchyCache = mock(CelebHierarchyCache.class);
+        when(celebHierarchyCache.get()).thenReturn(hierarchy);
+
+        BrandSearchIndex brandSearchIndex = mock(BrandSearchIndex.class);
+        when(brandSearchIndex.contains(any())).thenAnswer(invocation -> CACHED_BRAND_ID.equals(invocation.getArgument(0)));
+
+        itemReferenceResolver = new ItemReferenceResolver(itemRepository, celebRepository, newCelebRepository,
+                brandRepository, newBrandRepository, itemCategoryRepository, hashtagRepository,
+                celebHierarchyCache, brandSearchIndex);
+    }
+
+    @Test
+    @DisplayName("snapshot에 있는 Celeb, Brand만 참조하면 DB를 조회하지 않는다")
+    void snapshotHitSkipsDb() {
+        ItemReferences references = itemReferenceResolver.resolve(
+                CACHED_CELEB_ID, null, CACHED_BRAND_ID, null, null, null);
+
+        verify(itemRepository, never()).findExistingReferenceIds(any());
+        assertThat(references.celeb().getId()).isEqualTo(CACHED_CELEB_ID);
+        assertThat(references.brand().getId()).isEqualTo(CACHED_BRAND_ID);
+        assertThat(references.newCeleb()).isNull();
+        assertThat(references.newBrand()).isNull();
+        assertThat(references.category()).isNull();
+        assertThat(references.hashtags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("snapshot에 없는 id는 종류와 관계없이 한 번의 조회로 확인한다")
+    void remainingIdsInOneQuery() {
+        existing(Map.of(
+                CELEB, Set.of(UNCACHED_CELEB_ID),
+                BRAND, Set.of(UNCACHED_BRAND_ID),
+                NEW_CELEB, Set.of(NEW_CELEB_ID),
+                NEW_BRAND, Set.of(NEW_BRAND_ID),
+                ITEM_CATEGORY, Set.of(CATEGORY_ID),
+                HASHTAG, Set.of(1L, 2L, 3L)));
+
+        ItemReferences references = itemReferenceResolver.resolve(
+                UNCACHED_CELEB_ID, NEW_CELEB_ID, UNCACHED_BRAND_ID, NEW_BRAND_ID, CATEGORY_ID, List.of(3L, 1L, 2L));
+
+        assertThat(checkedIds()).isEqualTo(Map.of(
+                CELEB, Set.of(UNCACHED_CELEB_ID),
+                BRAND, Set.of(UNCACHED_BRAND_ID),
+                NEW_CELEB, Set.of(NEW_CELEB_ID),
+                NEW_BRAND, Set.of(NEW_BRAND_ID),
+                ITEM_CATEGORY, Set.of(CATEGORY_ID),
+                HASHTAG, Set.of(1L, 2L, 3L)));
+        assertThat(references.celeb().getId()).isEqualTo(UNCACHED_CELEB_ID);
+        assertThat(references.newCeleb().getId()).isEqualTo(NEW_CELEB_ID);
+        assertThat(references.brand().getId()).isEqualTo(UNCACHED_BRAND_ID);
+        assertThat(references.newBrand().getId()).isEqualTo(NEW_BRAND_ID);
+        assertThat(references.category().getId()).isEqualTo(CATEGORY_ID);
+        assertThat(hashtagIds(references)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("snapshot에 있는 Celeb, Brand는 조회 대상에서 빠진다")
+    void snapshotHitExcludedFromQuery() {
+        existing(Map.of(ITEM_CATEGORY, Set.of(CATEGORY_ID)));
+
+        itemReferenceResolver.resolve(CACHED_CELEB_ID, null, CACHED_BRAND_ID, null, CATEGORY_ID, List.of());
+
+        assertThat(checkedIds()).isEqualTo(Map.of(ITEM_CATEGORY, Set.of(CATEGORY_ID)));
+    }
+
+    @Test
+    @DisplayName("없는 id는 종류마다 해당 NotFound 예외")
+    void notFoundPerType() {
+        existing(Map.of());
+
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(UNCACHED_CELEB_ID, null, null, null, null, null))
+                .isInstanceOf(CelebNotFoundException.class);
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, UNCACHED_BRAND_ID, null, null, null))
+                .isInstanceOf(BrandNotFoundException.class);
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, NEW_CELEB_ID, null, null, null, null))
+                .isInstanceOf(NewCelebNotFoundException.class);
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, null, NEW_BRAND_ID, null, null))
+                .isInstanceOf(NewBrandNotFoundException.class);
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, null, null, CATEGORY_ID, null))
+                .isInstanceOf(ItemCategoryNotFoundException.class);
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, null, null, null, List.of(1L)))
+                .isInstanceOf(HashtagNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("해시태그 중 하나라도 없으면 HashtagNotFoundException")
+    void partiallyMissingHashtags() {
+        existing(Map.of(HASHTAG, Set.of(1L, 2L)));
+
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, null, null, null, List.of(1L, 2L, 3L)))
+                .isInstanceOf(HashtagNotFoundException.class);
+        verify(hashtagRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    @DisplayName("해시태그 id에 null이 있으면 조회, 참조 없이 HashtagNotFoundException")
+    void nullHashtagId() {
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, null, null, null, Arrays.asList(1L, null)))
+                .isInstanceOf(HashtagNotFoundException.class);
+        assertThatThrownBy(() -> itemReferenceResolver.resolve(null, null, null, null, null, Arrays.asList((Long) null)))
+                .isInstanceOf(HashtagNotFoundException.class);
+
+        verify(itemRepository, never()).findExistingReferenceIds(any());
+        verify(hashtagRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    @DisplayName("해시태그 목록이 null이거나 비어 있으면 조회하지 않고 빈 목록")
+    void nullOrEmptyHashtagList() {
+        assertThat(itemReferenceResolver.resolve(null, null, null, null, null, null).hashtags()).isEmpty();
+        assertThat(itemReferenceResolver.resolve(null, null, null, null, null, List.of()).hashtags()).isEmpty();
+
+        verify(itemRepository, never()).findExistingReferenceIds(any());
+    }
+
+    @Test
+    @DisplayName("중복된 해시태그 id는 한 번만 조회하고, 참조는 요청 순서대로 중복 그대로 반환한다")
+    void duplicateHashtagIds() {
+        existing(Map.of(HASHTAG, Set.of(1L, 2L)));
+
+        ItemReferences references = itemReferenceResolver.resolve(null, null, null, null, null, List.of(2L, 1L, 2L));
+
+        assertThat(checkedIds()).isEqualTo(Map.of(HASHTAG, Set.of(1L, 2L)));
+        assertThat(hashtagIds(references)).containsExactly(2L, 1L, 2L);
+    }
+
+    private void existing(Map<ItemReferenceType, Set<Long>> existingIds) {
+        when(itemRepository.findExistingReferenceIds(any())).thenReturn(new HashMap<>(existingIds));
+    }
+
+    // findExistingReferenceIds가 한 번만 호출되었는지 확인하고 넘긴 id를 반환
+    @SuppressWarnings("unchecked")
+    private Map<ItemReferenceType, Set<Long>> checkedIds() {
+        ArgumentCaptor<Map<ItemReferenceType, Set<Long>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(itemRepository, times(1)).findExistingReferenceIds(captor.capture());
+        return captor.getValue();
+    }
+
+    private static List<Long> hashtagIds(ItemReferences references) {
+        return references.hashtags().stream().map(Hashtag::getId).toList();
+    }
+}
@@ -0,0 +1,139 @@
+package com.sluv.server.domain.user.repository.impl;
+
+import com.sluv.server.domain.auth.dto.SocialUserInfoDto;
+import com.sluv.server.domain.user.dto.UserDto;
+import com.sluv.server.global.id.SluvIdService;
+import com.sluv.server.global.id.TimeSortedIdGenerator;
+import com.sluv.server.support.MySqlTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.sluv.server.domain.auth.enums.SnsType.GOOGLE;
+import static com.sluv.server.domain.auth.enums.SnsType.KAKAO;
+import static com.sluv.server.domain.user.enums.UserStatus.ACTIVE;
+import static com.sluv.server.domain.user.enums.UserStatus.PENDING_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 email로 동시에 처음 로그인해도 (email, sns_type) unique 키로 유저가 한 명만 등록되는지 확인
+ */
+class UserRepositoryImplTest {
+    private static final int CONCURRENT_LOGINS = 16;
+    private static final String EMAIL = "sluv@kakao.com";
+
+    private static JdbcTemplate jdbcTemplate;
+    private UserRepositoryImpl userRepository;
+
+    @BeforeAll
+    static void createTable() {
+        jdbcTemplate = new JdbcTemplate(MySqlTestDatabase.dataSource());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `user`");
+        // User 엔티티의 컬럼과 V1의 unique 키
+        jdbcTemplate.execute("""
+                CREATE TABLE `user` (
+                    user_id         BIGINT       NOT NULL,
+                    email           VARCHAR(320) NOT NULL,
+                    nickname        VARCHAR(45),
+                    sns_type        VARCHAR(255) NOT NULL,
+                    profile_img_url TEXT,
+                    age_range       VARCHAR(45),
+                    gender          VARCHAR(45),
+                    user_status     VARCHAR(45) DEFAULT 'PENDING_PROFILE',
+                    created_at      DATETIME(6),
+                    updated_at      DATETIME(6),
+                    PRIMARY KEY (user_id),
+                    CONSTRAINT uk_user_email_sns_type UNIQUE (email, sns_type)
+                )
+                """);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM `user`");
+
+        TimeSortedIdGenerator generator = new TimeSortedIdGenerator(1, Long.MAX_VALUE);
+        SluvIdService sluvIdService = mock(SluvIdService.class);
+        when(sluvIdService.nextId()).thenAnswer(invocation -> generator.nextId());
+
+        userRepository = new UserRepositoryImpl(jdbcTemplate, sluvIdService);
+    }
+
+    @Test
+    @DisplayName("같은 email, sns_type의 동시 첫 로그인은 한 row만 만들고 모두 같은 id를 받는다")
+    void concurrentFirstLoginCreatesOneUser() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<UserDto>> futures = new ArrayList<>(CONCURRENT_LOGINS);
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return userRepository.upsertSocialUser(userInfo(EMAIL), KAKAO);
+                }));
+            }
+            start.countDown();
+
+            List<UserDto> users = new ArrayList<>(CONCURRENT_LOGINS);
+            for (Future<UserDto> future : futures) {
+                users.add(future.get(30, TimeUnit.SECONDS));
+            }
+
+            Long userId = jdbcTemplate.queryForObject(
+                    "SELECT user_id FROM `user` WHERE email = ? AND sns_type = ?", Long.class, EMAIL, KAKAO.name());
+            assertThat(countUsers(EMAIL)).isEqualTo(1);
+            assertThat(users).allSatisfy(user -> {
+                assertThat(user.getId()).isEqualTo(userId);
+                assertThat(user.getUserStatus()).isEqualTo(PENDING_PROFILE);
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 있는 유저는 기존 id와 현재 상태를 돌려준다")
+    void existingUserReturnsIdAndStatus() {
+        UserDto registered = userRepository.upsertSocialUser(userInfo(EMAIL), KAKAO);
+        jdbcTemplate.update("UPDATE `user` SET user_status = ? WHERE user_id = ?", ACTIVE.name(), registered.getId());
+
+        UserDto loggedIn = userRepository.upsertSocialUser(userInfo(EMAIL), KAKAO);
+
+        assertThat(loggedIn.getId()).isEqualTo(registered.getId());
+        assertThat(loggedIn.getUserStatus()).isEqualTo(ACTIVE);
+        assertThat(countUsers(EMAIL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("sns_type이 다르면 같은 email이라도 다른 유저")
+    void sameEmailOnOtherSnsTypeIsAnotherUser() {
+        UserDto kakaoUser = userRepository.upsertSocialUser(userInfo(EMAIL), KAKAO);
+        UserDto googleUser = userRepository.upsertSocialUser(userInfo(EMAIL), GOOGLE);
+
+        assertThat(googleUser.getId()).isNotEqualTo(kakaoUser.getId());
+        assertThat(countUsers(EMAIL)).isEqualTo(2);
+    }
+
+    private static int countUsers(String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `user` WHERE email = ?", Integer.class, email);
+    }
+
+    private static SocialUserInfoDto userInfo(String email) {
+        return SocialUserInfoDto.builder()
+                .email(email)
+                .profileImgUrl("https://img")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sluv.server.domain.user.service;
+
+import com.sluv.server.domain.user.dto.UserSnapshot;
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.enums.UserStatus;
+import com.sluv.server.domain.user.exception.NotFoundUserException;
+import com.sluv.server.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheServiceTest {
+    private static final Long USER_ID = 1L;
+
+    private UserRepository userRepository;
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(
+                User.builder().id(USER_ID).nickname("sluv").userStatus(UserStatus.ACTIVE).build()
+        ));
+        // 호출마다 새 reference
+        when(userRepository.getReferenceById(USER_ID)).thenAnswer(invocation -> User.builder().id(USER_ID).build());
+
+        userCacheService = new UserCacheService(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userCacheService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(userCacheService, "expireSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(userCacheService, "init");
+    }
+
+    @Test
+    @DisplayName("캐시에는 엔티티가 아닌 snapshot을 담고 두 번째 조회부터 DB를 조회하지 않는다")
+    void cachesSnapshot() {
+        UserSnapshot first = userCacheService.getSnapshot(USER_ID);
+        UserSnapshot second = userCacheService.getSnapshot(USER_ID);
+
+        assertThat(first).isEqualTo(new UserSnapshot(USER_ID, UserStatus.ACTIVE));
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("엔티티는 요청마다 새 reference로 주어 요청 간에 공유하지 않는다")
+    void referencePerRequest() {
+        User first = userCacheService.getUserReference(USER_ID);
+        User second = userCacheService.getUserReference(USER_ID);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getId()).isEqualTo(USER_ID);
+        verify(userRepository, times(1)).findById(USER_ID);
+        verify(userRepository, times(2)).getReferenceById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("없는 User라면 reference를 만들지 않고 NotFoundUserException")
+    void unknownUser() {
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userCacheService.getUserReference(2L)).isInstanceOf(NotFoundUserException.class);
+        verify(userRepository, never()).getReferenceById(anyLong());
+    }
+
+    @Test
+    @DisplayName("evict 후에는 DB에서 다시 읽는다")
+    void evictReloads() {
+        userCacheService.getSnapshot(USER_ID);
+        userCacheService.evict(USER_ID);
+        userCacheService.getSnapshot(USER_ID);
+
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+}
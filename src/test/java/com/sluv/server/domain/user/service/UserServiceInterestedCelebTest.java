@@ -0,0 +1,240 @@
+package com.sluv.server.domain.user.service;
+
+import com.sluv.server.domain.celeb.dto.CelebCategoryNodeDto;
+import com.sluv.server.domain.celeb.dto.CelebNodeDto;
+import com.sluv.server.domain.celeb.dto.InterestedCelebParentResDto;
+import com.sluv.server.domain.celeb.repository.CelebRepository;
+import com.sluv.server.domain.celeb.repository.InterestedCelebRepository;
+import com.sluv.server.domain.celeb.service.CelebHierarchy;
+import com.sluv.server.domain.celeb.service.CelebHierarchyCache;
+import com.sluv.server.domain.celeb.service.InterestedCelebService;
+import com.sluv.server.domain.user.entity.User;
+import com.sluv.server.domain.user.repository.UserRepository;
+import com.sluv.server.global.config.QueryDslConfig;
+import com.sluv.server.global.id.SluvIdService;
+import com.sluv.server.global.jwt.JwtProvider;
+import com.sluv.server.support.MySqlTestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserService.getInterestedCeleb가 관심 Celeb 수와 관계없이 같은 수의 SQL을 실행하는지 확인
+ * JdbcTemplate으로 조회하는 관심 Celeb id까지 세도록 DataSource의 Connection에서 statement 생성 수를 센다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, UserServiceInterestedCelebTest.TestDataSourceConfig.class})
+// context를 닫아야 create-drop이 스키마를 지워 같은 DB를 쓰는 다른 테스트의 테이블과 겹치지 않는다
+@DirtiesContext
+class UserServiceInterestedCelebTest {
+    private static final long CATEGORY_ID = 1L;
+    private static final int MEMBERS_PER_GROUP = 3;
+
+    private static final AtomicLong statementCount = new AtomicLong();
+    private static DataSource dataSource;
+
+    @MockBean
+    private SluvIdService sluvIdService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CelebRepository celebRepository;
+
+    @Autowired
+    private InterestedCelebRepository interestedCelebRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CelebHierarchyCache celebHierarchyCache;
+    private UserService userService;
+    private long nextId = 100;
+
+    @TestConfiguration
+    static class TestDataSourceConfig {
+        @Bean
+        DataSource dataSource() {
+            return countingDataSource(dataSource);
+        }
+    }
+
+    @BeforeAll
+    static void setUpDataSource() {
+        // Spring context를 만들기 전에 DB가 없다면 테스트를 건너뛴다
+        dataSource = MySqlTestDatabase.dataSource();
+    }
+
+    @BeforeEach
+    void setUp() {
+        celebHierarchyCache = mock(CelebHierarchyCache.class);
+        InterestedCelebService interestedCelebService = new InterestedCelebService(
+                interestedCelebRepository, celebRepository, celebHierarchyCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(interestedCelebService, "maximumSize", 100L);
+        ReflectionTestUtils.setField(interestedCelebService, "expireSeconds", 300L);
+        ReflectionTestUtils.invokeMethod(interestedCelebService, "init");
+
+        userService = new UserService(userRepository, celebRepository, celebHierarchyCache,
+                interestedCelebService, mock(JwtProvider.class));
+
+        jdbcTemplate.update("""
+                INSERT INTO celeb_category (celeb_category_id, name, created_at, updated_at)
+                VALUES (?, 'singer', NOW(), NOW())
+                """, CATEGORY_ID);
+    }
+
+    @Test
+    @DisplayName("계층 캐시에 있는 관심 Celeb은 관심 Celeb id 조회 한 번으로 응답한다")
+    void cachedCelebs() {
+        List<CelebNodeDto> nodes = new ArrayList<>();
+        User fewUser = insertUserInterestedIn(insertGroups(3, nodes));
+        User manyUser = insertUserInterestedIn(insertGroups(30, nodes));
+        when(celebHierarchyCache.get()).thenReturn(hierarchy(nodes));
+
+        long fewQueries = countQueries(fewUser, 3);
+        long manyQueries = countQueries(manyUser, 30);
+
+        assertThat(fewQueries).isEqualTo(1);
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    @Test
+    @DisplayName("계층 캐시에 없는 관심 Celeb도 관심 Celeb 수와 관계없이 id, 그룹, 멤버 조회 세 번으로 응답한다")
+    void uncachedCelebs() {
+        User fewUser = insertUserInterestedIn(insertGroups(3, new ArrayList<>()));
+        User manyUser = insertUserInterestedIn(insertGroups(30, new ArrayList<>()));
+        when(celebHierarchyCache.get()).thenReturn(hierarchy(List.of()));
+
+        long fewQueries = countQueries(fewUser, 3);
+        long manyQueries = countQueries(manyUser, 30);
+
+        assertThat(fewQueries).isEqualTo(3);
+        assertThat(manyQueries).isEqualTo(fewQueries);
+    }
+
+    private long countQueries(User user, int expectedGroups) {
+        // 앞서 로드한 엔티티가 1차 캐시에서 재사용되지 않도록
+        entityManager.clear();
+        statementCount.set(0);
+
+        List<InterestedCelebParentResDto> result = userService.getInterestedCeleb(user);
+
+        assertThat(result).hasSize(expectedGroups);
+        assertThat(result).allSatisfy(group -> {
+            assertThat(group.getCelebNameKr()).isNotNull();
+            assertThat(group.getSubCelebList()).hasSize(MEMBERS_PER_GROUP)
+                    .allSatisfy(member -> assertThat(member.getCelebNameKr()).isNotNull());
+        });
+
+        return statementCount.get();
+    }
+
+    // CelebHierarchy.build는 celeb.service 패키지 전용이므로 reflection으로 만든다
+    private static CelebHierarchy hierarchy(List<CelebNodeDto> nodes) {
+        return ReflectionTestUtils.invokeMethod(CelebHierarchy.class, "build",
+                nodes, List.of(new CelebCategoryNodeDto(CATEGORY_ID, null, "singer")));
+    }
+
+    private User insertUserInterestedIn(List<Long> celebIds) {
+        long userId = nextId++;
+        jdbcTemplate.update("""
+                INSERT INTO `user` (user_id, email, sns_type, user_status, created_at, updated_at)
+                VALUES (?, ?, 'KAKAO', 'ACTIVE', NOW(), NOW())
+                """, userId, "user" + userId + "@sluv.com");
+        for (Long celebId : celebIds) {
+            jdbcTemplate.update("""
+                    INSERT INTO interested_celeb (interested_celeb_id, user_id, celeb_id, created_at, updated_at)
+                    VALUES (?, ?, ?, NOW(), NOW())
+                    """, nextId++, userId, celebId);
+        }
+
+        return User.builder().id(userId).build();
+    }
+
+    private List<Long> insertGroups(int count, List<CelebNodeDto> nodes) {
+        List<Long> groupIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long groupId = insertCeleb(null, "group" + i, nodes);
+            for (int j = 0; j < MEMBERS_PER_GROUP; j++) {
+                insertCeleb(groupId, "member" + i + "-" + j, nodes);
+            }
+            groupIds.add(groupId);
+        }
+
+        return groupIds;
+    }
+
+    private long insertCeleb(Long parentId, String name, List<CelebNodeDto> nodes) {
+        long celebId = nextId++;
+        // 엔티티 listener(캐시, 검색 projection 갱신)를 거치지 않도록 JDBC로 저장
+        jdbcTemplate.update("""
+                INSERT INTO celeb (celeb_id, parent_id, celeb_category_id, celeb_name_kr, celeb_name_en, celeb_status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, 'ACTIVE', NOW(), NOW())
+                """, celebId, parentId, CATEGORY_ID, name, name);
+        nodes.add(new CelebNodeDto(celebId, parentId, CATEGORY_ID, name, name));
+
+        return celebId;
+    }
+
+    // Connection에서 만든 Statement, PreparedStatement 수를 statementCount에 더하는 DataSource
+    private static DataSource countingDataSource(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof Connection connection ? countingConnection(connection) : result;
+                });
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")
+                            || method.getName().equals("prepareCall")) {
+                        statementCount.incrementAndGet();
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sluv.server.global.common.cursor;
+
+import com.sluv.server.global.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("encode한 cursor를 decode하면 같은 정렬 키와 id")
+    void roundTrip() {
+        Cursor decoded = Cursor.decode(Cursor.of("샤넬", 123L).encode());
+
+        assertThat(decoded.getSortKey()).isEqualTo("샤넬");
+        assertThat(decoded.getId()).isEqualTo(123L);
+    }
+
+    @Test
+    @DisplayName("정렬 키에 구분자, 보조 문자, 빈 문자열이 있어도 그대로 돌아온다")
+    void sortKeyWithSeparator() {
+        for (String sortKey : new String[]{"a:b:c", ":", "😀 brand", ""}) {
+            Cursor decoded = Cursor.decode(Cursor.of(sortKey, -1L).encode());
+
+            assertThat(decoded.getSortKey()).isEqualTo(sortKey);
+            assertThat(decoded.getId()).isEqualTo(-1L);
+        }
+    }
+
+    @Test
+    @DisplayName("URL에 그대로 넣을 수 있는 문자만 사용한다")
+    void urlSafe() {
+        assertThat(Cursor.of("???>>>", Long.MAX_VALUE).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("cursor가 없다면 첫 페이지")
+    void emptyIsFirstPage() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor는 InvalidCursorException")
+    void invalidCursor() {
+        assertThatThrownBy(() -> Cursor.decode("not base64!")).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> Cursor.decode(encode("no-separator"))).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> Cursor.decode(encode("abc:brand"))).isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
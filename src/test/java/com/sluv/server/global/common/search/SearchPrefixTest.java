@@ -0,0 +1,49 @@
+package com.sluv.server.global.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchPrefixTest {
+
+    @Test
+    @DisplayName("prefix 범위의 끝은 마지막 code point를 하나 올린 문자열")
+    void nextPrefix() {
+        assertThat(SearchPrefix.nextPrefix("nike")).isEqualTo("nikf");
+        assertThat(SearchPrefix.nextPrefix("나")).isEqualTo("낙");
+        assertThat(SearchPrefix.nextPrefix("bts ")).isEqualTo("bts!");
+    }
+
+    @Test
+    @DisplayName("surrogate 영역을 건너뛰고 보조 문자까지 올린다")
+    void nextPrefixAroundSurrogates() {
+        assertThat(SearchPrefix.nextPrefix("n" + Character.toString(0xD7FF))).isEqualTo("n" + Character.toString(0xE000));
+        assertThat(SearchPrefix.nextPrefix("n" + Character.toString(0xFFFF))).isEqualTo("n" + Character.toString(0x10000));
+        assertThat(SearchPrefix.nextPrefix("n" + Character.toString(0x1F600))).isEqualTo("n" + Character.toString(0x1F601));
+    }
+
+    @Test
+    @DisplayName("가장 큰 code point는 버리고 앞 글자를 올리며, 올릴 글자가 없다면 null")
+    void nextPrefixOfMaxCodePoint() {
+        String max = Character.toString(Character.MAX_CODE_POINT);
+
+        assertThat(SearchPrefix.nextPrefix("n" + max)).isEqualTo("o");
+        assertThat(SearchPrefix.nextPrefix(max)).isNull();
+        assertThat(SearchPrefix.nextPrefix("")).isNull();
+    }
+
+    @Test
+    @DisplayName("정규화는 locale과 관계없는 소문자")
+    void normalize() {
+        assertThat(SearchPrefix.normalize("NewJeans 하니")).isEqualTo("newjeans 하니");
+        assertThat(SearchPrefix.normalize("TITLE")).isEqualTo("title");
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴은 %, _, \\를 escape하고 %를 붙인다")
+    void likePattern() {
+        assertThat(SearchPrefix.likePattern("방탄")).isEqualTo("방탄%");
+        assertThat(SearchPrefix.likePattern("50%_a\\")).isEqualTo("50\\%\\_a\\\\%");
+    }
+}
@@ -0,0 +1,75 @@
+package com.sluv.server.global.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SluvIdServiceTest {
+    private static final int LEASE_SECONDS = 1;
+    private static final long HEARTBEAT_MILLIS = 200;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ThreadPoolTaskScheduler sharedScheduler = new ThreadPoolTaskScheduler();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SluvIdService sluvIdService;
+
+    @BeforeEach
+    void setUp() {
+        // claim, renew 모두 성공
+        when(jdbcTemplate.update(anyString(), any(), any(), any())).thenReturn(1);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any())).thenReturn(7);
+
+        // 기본 설정처럼 스레드 하나를 모든 @Scheduled 작업이 공유
+        sharedScheduler.setPoolSize(1);
+        sharedScheduler.initialize();
+
+        sluvIdService = new SluvIdService(jdbcTemplate);
+        ReflectionTestUtils.setField(sluvIdService, "leaseSeconds", LEASE_SECONDS);
+        ReflectionTestUtils.setField(sluvIdService, "heartbeatMillis", HEARTBEAT_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        sharedScheduler.shutdown();
+        ReflectionTestUtils.invokeMethod(sluvIdService, "destroy");
+    }
+
+    @Test
+    @DisplayName("공용 scheduler 스레드가 lease보다 오래 막혀 있어도 heartbeat가 lease를 연장한다")
+    void blockedSchedulerDoesNotExpireLease() throws Exception {
+        sharedScheduler.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ReflectionTestUtils.invokeMethod(sluvIdService, "init");
+
+        long deadline = System.currentTimeMillis() + LEASE_SECONDS * 3000L;
+        while (System.currentTimeMillis() < deadline) {
+            assertThat(sluvIdService.nextId()).isPositive();
+            Thread.sleep(50);
+        }
+
+        assertThat(sharedScheduler.getActiveCount()).isEqualTo(1);
+        verify(jdbcTemplate, atLeast(5)).update(anyString(), eq(LEASE_SECONDS), eq(7), any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.sluv.server.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeSortedIdGeneratorTest {
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    @DisplayName("같은 ms에 sequence를 다 써도 id는 계속 증가한다")
+    void idsIncrease() {
+        TimeSortedIdGenerator generator = new TimeSortedIdGenerator(5, Long.MAX_VALUE);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("id는 2^53 미만이고 발급 시각과 node id를 담는다")
+    void layout() {
+        TimeSortedIdGenerator generator = new TimeSortedIdGenerator(TimeSortedIdGenerator.MAX_NODE_ID, Long.MAX_VALUE);
+
+        long before = System.currentTimeMillis() - TimeSortedIdGenerator.EPOCH_MILLIS;
+        long id = generator.nextId();
+        long after = System.currentTimeMillis() - TimeSortedIdGenerator.EPOCH_MILLIS;
+
+        assertThat(id).isPositive().isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+        assertThat(id >>> 12).isBetween(before, after);
+        assertThat((id >>> 6) & 63).isEqualTo(TimeSortedIdGenerator.MAX_NODE_ID);
+        assertThat(id & 63).isZero();
+    }
+
+    @Test
+    @DisplayName("41bit 시각을 다 쓰는 2092년까지 2^53 미만")
+    void maxIdIsSafeInteger() {
+        assertThat(TimeSortedIdGenerator.MAX_NODE_ID).isEqualTo(63);
+        long maxElapsed = (1L << 41) - 1;
+
+        assertThat(maxElapsed << 12 | 63 << 6 | 63).isEqualTo(MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 id가 겹치지 않고 스레드마다 증가한다")
+    void concurrentIdsAreUnique() throws Exception {
+        TimeSortedIdGenerator generator = new TimeSortedIdGenerator(1, Long.MAX_VALUE);
+        int threads = 8;
+        int idsPerThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long[] ids = new long[idsPerThread];
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> unique = new HashSet<>(threads * idsPerThread * 2);
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get(30, TimeUnit.SECONDS);
+                for (int i = 0; i < ids.length; i++) {
+                    assertThat(unique.add(ids[i])).isTrue();
+                    if (i > 0) {
+                        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    }
+                }
+            }
+            assertThat(unique).hasSize(threads * idsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("node id가 다르면 같은 시각에 발급해도 겹치지 않는다")
+    void nodesDoNotCollide() {
+        TimeSortedIdGenerator first = new TimeSortedIdGenerator(1, Long.MAX_VALUE);
+        TimeSortedIdGenerator second = new TimeSortedIdGenerator(2, Long.MAX_VALUE);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    @DisplayName("node id는 0 ~ MAX_NODE_ID")
+    void nodeIdRange() {
+        assertThatThrownBy(() -> new TimeSortedIdGenerator(-1, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeSortedIdGenerator(TimeSortedIdGenerator.MAX_NODE_ID + 1, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("lease가 만료되면 발급하지 않고, 연장하면 다시 발급한다")
+    void expiredLease() {
+        TimeSortedIdGenerator generator = new TimeSortedIdGenerator(1, System.currentTimeMillis() - 1);
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+
+        generator.extendUntil(System.currentTimeMillis() + 60_000);
+        assertThat(generator.nextId()).isPositive();
+    }
+}
@@ -0,0 +1,66 @@
+package com.sluv.server.global.jwt.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthRouteTableTest {
+    private final AuthRouteTable authRouteTable = new AuthRouteTable(
+            "/app/auth/logout",
+            "/app/item",
+            "/app/item/temp",
+            "/app/item/temp/{tempItemId}",
+            "/app/item/{itemId}/like/{userId}",
+            "/app/item/{itemId}/scrap"
+    );
+
+    @Test
+    @DisplayName("고정 경로는 정확히 같은 경로만 인증이 필요하다")
+    void exactPath() {
+        assertThat(authRouteTable.requiresAuthentication("/app/auth/logout")).isTrue();
+        assertThat(authRouteTable.requiresAuthentication("/app/item")).isTrue();
+
+        assertThat(authRouteTable.requiresAuthentication("/app/auth")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app/auth/logout/all")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app/items")).isFalse();
+    }
+
+    @Test
+    @DisplayName("변수 segment는 어떤 값이든 매칭하고 segment 수가 다르면 매칭하지 않는다")
+    void templatePath() {
+        assertThat(authRouteTable.requiresAuthentication("/app/item/temp/1")).isTrue();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/temp/abc")).isTrue();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/3/like/7")).isTrue();
+
+        assertThat(authRouteTable.requiresAuthentication("/app/item/3/scrap/7")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/temp/1/img")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("끝의 '/' 하나는 무시한다")
+    void trailingSlash() {
+        assertThat(authRouteTable.requiresAuthentication("/app/item/")).isTrue();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/temp/1/")).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 segment가 있는 경로도 예외 없이 판단한다")
+    void emptySegments() {
+        assertThat(authRouteTable.requiresAuthentication("/app/item/temp//")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/3/like//")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app/item/3//")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/app//item")).isFalse();
+        assertThat(authRouteTable.requiresAuthentication("/")).isFalse();
+    }
+
+    @Test
+    @DisplayName("변수 경로가 없는 테이블은 고정 경로만 확인한다")
+    void exactPathsOnly() {
+        AuthRouteTable exactOnly = new AuthRouteTable("/app/user/celeb");
+
+        assertThat(exactOnly.requiresAuthentication("/app/user/celeb")).isTrue();
+        assertThat(exactOnly.requiresAuthentication("/app/user/1")).isFalse();
+    }
+}
@@ -0,0 +1,129 @@
+package com.sluv.server.global.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.sluv.server.global.ranking.RankingWindow.DAY;
+import static com.sluv.server.global.ranking.RankingWindow.HOUR;
+import static com.sluv.server.global.ranking.RankingWindow.WEEK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PopularityRankingTest {
+    private static final long START = 1_700_000_000_000L;
+    private static final long HOUR_MILLIS = HOUR.getDuration().toMillis();
+
+    @Test
+    @DisplayName("선택 횟수가 같다면 최근에 선택된 id가 앞선다")
+    void recentSelectionRanksHigher() {
+        PopularityRanking ranking = new PopularityRanking(START);
+
+        ranking.record(1L, START);
+        ranking.record(2L, START + HOUR_MILLIS);
+
+        assertThat(ranking.top(HOUR, 2, START + HOUR_MILLIS)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("구간 길이만큼 지난 선택은 지금 선택의 1/e 만큼 반영된다")
+    void decaysByWindowLength() {
+        PopularityRanking ranking = new PopularityRanking(START);
+
+        ranking.record(1L, START);
+        ranking.record(2L, START + HOUR_MILLIS);
+
+        assertThat(ranking.score(HOUR, 1L) / ranking.score(HOUR, 2L)).isCloseTo(Math.exp(-1), within(1e-9));
+        // 같은 선택이라도 긴 구간에서는 덜 감쇠한다
+        assertThat(ranking.score(DAY, 1L) / ranking.score(DAY, 2L)).isCloseTo(Math.exp(-1.0 / 24), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("오래된 선택이 많으면 최근의 적은 선택보다 앞설 수 있다")
+    void frequencyStillCounts() {
+        PopularityRanking ranking = new PopularityRanking(START);
+
+        for (int i = 0; i < 5; i++) {
+            ranking.record(1L, START);
+        }
+        ranking.record(2L, START + HOUR_MILLIS);
+
+        // 5 / e > 1
+        assertThat(ranking.top(HOUR, 2, START + HOUR_MILLIS)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("top은 점수 내림차순으로 n개만 돌려준다")
+    void topReturnsAtMostN() {
+        PopularityRanking ranking = new PopularityRanking(START);
+        for (long id = 1; id <= 10; id++) {
+            for (int i = 0; i < id; i++) {
+                ranking.record(id, START);
+            }
+        }
+
+        assertThat(ranking.top(WEEK, 3, START)).containsExactly(10L, 9L, 8L);
+        assertThat(ranking.top(WEEK, 20, START)).hasSize(10);
+        assertThat(new PopularityRanking(START).top(WEEK, 3, START)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reset은 해당 구간의 점수만 DB 집계로 교체한다")
+    void resetReplacesOneWindow() {
+        PopularityRanking ranking = new PopularityRanking(START);
+        ranking.record(1L, START);
+
+        ranking.reset(DAY, Map.of(2L, 3.0, 3L, 1.0), START);
+
+        assertThat(ranking.top(DAY, 3, START)).containsExactly(2L, 3L);
+        assertThat(ranking.score(DAY, 1L)).isZero();
+        assertThat(ranking.top(HOUR, 3, START)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("reset 시각 기준으로 감쇠한 점수로 초기화하면 같은 선택을 record한 것과 점수가 같다")
+    void resetWithDecayedScoresMatchesRecord() {
+        PopularityRanking recorded = new PopularityRanking(START);
+        recorded.record(1L, START);
+        recorded.record(1L, START + HOUR_MILLIS);
+        recorded.record(2L, START + HOUR_MILLIS);
+
+        PopularityRanking reset = new PopularityRanking(START);
+        reset.reset(HOUR, Map.of(1L, Math.exp(-1) + 1, 2L, 1.0), START + HOUR_MILLIS);
+
+        assertThat(reset.score(HOUR, 1L) / reset.score(HOUR, 2L))
+                .isCloseTo(recorded.score(HOUR, 1L) / recorded.score(HOUR, 2L), within(1e-9));
+
+        // reset 이후의 선택도 같은 비율로 더해진다
+        recorded.record(2L, START + 2 * HOUR_MILLIS);
+        reset.record(2L, START + 2 * HOUR_MILLIS);
+        assertThat(reset.score(HOUR, 1L) / reset.score(HOUR, 2L))
+                .isCloseTo(recorded.score(HOUR, 1L) / recorded.score(HOUR, 2L), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("landmark를 옮겨도 점수가 overflow 되지 않고 순위가 유지된다")
+    void rebaseKeepsOrder() {
+        PopularityRanking ranking = new PopularityRanking(START);
+        ranking.record(1L, START);
+        ranking.record(1L, START);
+        ranking.record(2L, START);
+
+        // exp(200)은 double로 표현되지만 landmark를 옮기지 않으면 곧 Infinity가 된다
+        long later = START + 200 * HOUR_MILLIS;
+        ranking.record(3L, later);
+
+        assertThat(ranking.top(HOUR, 3, later)).containsExactly(3L);
+        assertThat(ranking.score(HOUR, 3L)).isCloseTo(1.0, within(1e-9));
+
+        // 옛 선택은 사실상 0이므로 새 선택 횟수(1: 3회, 2: 2회, 3: 1회)로 정렬
+        ranking.record(2L, later);
+        ranking.record(2L, later);
+        for (int i = 0; i < 3; i++) {
+            ranking.record(1L, later + 1);
+        }
+        assertThat(ranking.top(HOUR, 3, later + 1)).containsExactly(1L, 2L, 3L);
+        assertThat(ranking.score(HOUR, 1L)).isFinite();
+    }
+}
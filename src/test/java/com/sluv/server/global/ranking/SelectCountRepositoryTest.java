@@ -0,0 +1,138 @@
+package com.sluv.server.global.ranking;
+
+import com.sluv.server.support.MySqlTestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.sluv.server.global.ranking.RankingTarget.BRAND;
+import static com.sluv.server.global.ranking.RankingTarget.CELEB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 재집계가 recent_select처럼 유저마다 한 번이 아니라 선택마다 한 번씩 세는지 확인
+ */
+class SelectCountRepositoryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 5, 1, 12, 7, 30);
+    private static final Duration BUCKET = Duration.ofMinutes(5);
+    // 감쇠를 무시할 만큼 긴 구간, 합계가 선택 횟수와 같다
+    private static final Duration NO_DECAY = Duration.ofDays(365_000);
+
+    private static JdbcTemplate jdbcTemplate;
+    private static SelectCountRepository selectCountRepository;
+
+    private SelectCountWriteBuffer buffer;
+
+    @BeforeAll
+    static void createTable() {
+        jdbcTemplate = new JdbcTemplate(MySqlTestDatabase.dataSource());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS popularity_select_count");
+        // V12
+        jdbcTemplate.execute("""
+                CREATE TABLE popularity_select_count (
+                    target_type  VARCHAR(20) NOT NULL,
+                    target_id    BIGINT      NOT NULL,
+                    bucket_start DATETIME    NOT NULL,
+                    select_count BIGINT      NOT NULL,
+                    PRIMARY KEY (target_type, bucket_start, target_id)
+                )
+                """);
+
+        selectCountRepository = new SelectCountRepository(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM popularity_select_count");
+
+        buffer = new SelectCountWriteBuffer(selectCountRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(buffer, "bucketMinutes", 5);
+        ReflectionTestUtils.setField(buffer, "capacity", 10000);
+        ReflectionTestUtils.setField(buffer, "flushSize", 500);
+    }
+
+    @Test
+    @DisplayName("같은 대상을 여러 번 고르면 고른 횟수만큼 센다")
+    void countsEverySelection() {
+        for (int i = 0; i < 3; i++) {
+            buffer.count(BRAND, 1L, NOW);
+        }
+        buffer.count(BRAND, 2L, NOW);
+        buffer.flushQuietly();
+
+        Map<Long, Double> counts = sum(BRAND, NOW.minusHours(1));
+        assertThat(counts).containsOnlyKeys(1L, 2L);
+        assertThat(counts.get(1L)).isCloseTo(3.0, within(1e-3));
+        assertThat(counts.get(2L)).isCloseTo(1.0, within(1e-3));
+    }
+
+    @Test
+    @DisplayName("여러 번 flush해도, 다른 인스턴스가 같은 bucket을 써도 횟수를 더한다")
+    void flushesAccumulate() {
+        buffer.count(CELEB, 1L, NOW);
+        buffer.flushQuietly();
+        buffer.count(CELEB, 1L, NOW.plusSeconds(10));
+        buffer.flushQuietly();
+
+        selectCountRepository.addSelectCounts(Map.of(new SelectCountKey(CELEB, 1L, buffer.bucketStart(NOW)), 5L));
+
+        assertThat(sum(CELEB, NOW.minusHours(1)).get(1L)).isCloseTo(7.0, within(1e-3));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM popularity_select_count", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("선택 시각은 bucket 시작 시각으로 내림한다")
+    void bucketStart() {
+        assertThat(buffer.bucketStart(NOW)).isEqualTo(LocalDateTime.of(2023, 5, 1, 12, 5));
+        assertThat(buffer.bucketStart(LocalDateTime.of(2023, 5, 1, 12, 0))).isEqualTo(LocalDateTime.of(2023, 5, 1, 12, 0));
+        assertThat(buffer.bucketStart(LocalDateTime.of(2023, 5, 1, 12, 59, 59))).isEqualTo(LocalDateTime.of(2023, 5, 1, 12, 55));
+    }
+
+    @Test
+    @DisplayName("합계는 대상 종류와 since 이후 bucket만, 삭제는 before 이전 bucket만")
+    void sumAndDeleteByBucket() {
+        buffer.count(CELEB, 1L, NOW);
+        buffer.count(CELEB, 1L, NOW.minusDays(2));
+        buffer.count(BRAND, 1L, NOW);
+        buffer.flushQuietly();
+
+        assertThat(sum(CELEB, NOW.minusDays(1)).get(1L)).isCloseTo(1.0, within(1e-3));
+        assertThat(sum(CELEB, NOW.minusDays(7)).get(1L)).isCloseTo(2.0, within(1e-3));
+
+        assertThat(selectCountRepository.deleteSelectCountsBefore(NOW.minusDays(1))).isEqualTo(1);
+        assertThat(sum(CELEB, NOW.minusDays(7)).get(1L)).isCloseTo(1.0, within(1e-3));
+        assertThat(sum(BRAND, NOW.minusDays(7))).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("bucket마다 중간 시각부터 now까지의 경과 시간으로 감쇠하고, 진행 중인 bucket은 감쇠하지 않는다")
+    void decaysByBucketAge() {
+        LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 10);
+        Duration hour = Duration.ofHours(1);
+        // 중간 시각이 정확히 1시간 전, 2시간 전인 bucket
+        selectCountRepository.addSelectCounts(Map.of(
+                new SelectCountKey(CELEB, 1L, LocalDateTime.of(2023, 5, 1, 11, 7, 30)), 2L,
+                new SelectCountKey(CELEB, 2L, LocalDateTime.of(2023, 5, 1, 10, 7, 30)), 3L,
+                new SelectCountKey(CELEB, 3L, LocalDateTime.of(2023, 5, 1, 12, 10)), 4L
+        ));
+
+        Map<Long, Double> scores = selectCountRepository.sumDecayedSelectCountsSince(CELEB, now.minusDays(1), now, hour, BUCKET);
+
+        assertThat(scores.get(1L)).isCloseTo(2 * Math.exp(-1), within(1e-9));
+        assertThat(scores.get(2L)).isCloseTo(3 * Math.exp(-2), within(1e-9));
+        assertThat(scores.get(3L)).isCloseTo(4.0, within(1e-9));
+    }
+
+    private static Map<Long, Double> sum(RankingTarget target, LocalDateTime since) {
+        return selectCountRepository.sumDecayedSelectCountsSince(target, since, NOW, NO_DECAY, BUCKET);
+    }
+}
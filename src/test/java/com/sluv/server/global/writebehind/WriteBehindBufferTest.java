@@ -0,0 +1,187 @@
+package com.sluv.server.global.writebehind;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class WriteBehindBufferTest {
+    private MeterRegistry meterRegistry;
+    private TestBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new TestBuffer(meterRegistry, 100, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.writer = batch -> {
+        };
+        buffer.drain();
+    }
+
+    @Test
+    @DisplayName("같은 key는 마지막 값 하나로 합쳐 쓴다")
+    void coalescesSameKey() {
+        buffer.offer("a", 1);
+        buffer.offer("a", 2);
+        buffer.offer("b", 1);
+
+        buffer.flushQuietly();
+
+        assertThat(buffer.batches).containsExactly(Map.of("a", 2, "b", 1));
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush-size만큼 쌓이면 flush 스레드가 쓴다")
+    void flushSizeTriggersBackgroundFlush() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        buffer.writer = batch -> written.countDown();
+
+        for (int i = 0; i < 50; i++) {
+            buffer.offer("key" + i, i);
+        }
+
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("flush가 실패하면 요청을 되돌려 다음 flush에서 다시 쓰고 실패를 센다")
+    void failedFlushKeepsBatch() {
+        AtomicInteger attempts = new AtomicInteger();
+        buffer.writer = batch -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("DB 장애");
+            }
+        };
+        buffer.offer("a", 1);
+
+        assertThatCode(buffer::flushQuietly).doesNotThrowAnyException();
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(failureCount()).isEqualTo(1.0);
+
+        buffer.flushQuietly();
+        assertThat(buffer.batches).containsExactly(Map.of("a", 1));
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 flush 중에 들어온 더 최신 값은 되돌린 값으로 덮이지 않는다")
+    void newerValueWinsOverRestoredBatch() {
+        buffer.writer = batch -> {
+            buffer.offer("a", 2);
+            throw new IllegalStateException("DB 장애");
+        };
+        buffer.offer("a", 1);
+
+        buffer.flushQuietly();
+
+        buffer.writer = batch -> {
+        };
+        buffer.flushQuietly();
+        assertThat(buffer.batches).containsExactly(Map.of("a", 2));
+    }
+
+    @Test
+    @DisplayName("merge를 재정의하면 같은 key의 값을 합치고, 실패한 flush의 값도 그 사이 값과 합쳐 되돌린다")
+    void customMergeAccumulates() {
+        SummingBuffer summing = new SummingBuffer(meterRegistry);
+        summing.offer("a", 1);
+        summing.offer("a", 2);
+        summing.writer = batch -> {
+            summing.offer("a", 4);
+            throw new IllegalStateException("DB 장애");
+        };
+
+        summing.flushQuietly();
+
+        summing.writer = batch -> {
+        };
+        summing.drain();
+        assertThat(summing.batches).containsExactly(Map.of("a", 7));
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 flush가 실패해도 offer는 예외 없이 요청을 쌓는다")
+    void backpressureNeverPropagatesFailure() {
+        TestBuffer full = new TestBuffer(meterRegistry, 2, 1000);
+        full.writer = batch -> {
+            throw new IllegalStateException("DB 장애");
+        };
+
+        full.offer("a", 1);
+        full.offer("b", 1);
+        assertThatCode(() -> full.offer("c", 1)).doesNotThrowAnyException();
+
+        assertThat(full.size()).isEqualTo(3);
+        assertThat(meterRegistry.get("app.writebehind.backpressure").counter().count()).isEqualTo(1.0);
+        assertThat(failureCount()).isEqualTo(1.0);
+
+        full.writer = batch -> {
+        };
+        full.drain();
+        assertThat(full.batches).containsExactly(Map.of("a", 1, "b", 1, "c", 1));
+    }
+
+    @Test
+    @DisplayName("discard한 요청은 쓰지 않는다")
+    void discardDropsPending() {
+        buffer.offer("user1:a", 1);
+        buffer.offer("user2:a", 1);
+
+        buffer.discard(key -> key.startsWith("user1:"));
+        buffer.flushQuietly();
+
+        assertThat(buffer.batches).containsExactly(Map.of("user2:a", 1));
+    }
+
+    private double failureCount() {
+        return meterRegistry.get("app.writebehind.flush.failure").counter().count();
+    }
+
+    private static final class SummingBuffer extends TestBuffer {
+        private SummingBuffer(MeterRegistry meterRegistry) {
+            super(meterRegistry, 100, 50);
+        }
+
+        @Override
+        protected Integer merge(Integer previous, Integer value) {
+            return previous + value;
+        }
+    }
+
+    private static class TestBuffer extends WriteBehindBuffer<String, Integer> {
+        final List<Map<String, Integer>> batches = new CopyOnWriteArrayList<>();
+        volatile Consumer<Map<String, Integer>> writer = batch -> {
+        };
+
+        private TestBuffer(MeterRegistry meterRegistry, int capacity, int flushSize) {
+            super(meterRegistry);
+            ReflectionTestUtils.setField(this, "capacity", capacity);
+            ReflectionTestUtils.setField(this, "flushSize", flushSize);
+        }
+
+        @Override
+        protected void write(Map<String, Integer> batch) {
+            writer.accept(batch);
+            batches.add(Map.copyOf(batch));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sluv.server.support;
+
+import org.junit.jupiter.api.Assumptions;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import javax.sql.DataSource;
+
+/**
+ * MySQL에 의존하는 쿼리(upsert, multi-row INSERT 등)를 확인하는 테스트용 DB
+ * -Dtest.jdbc-url(-username, -password)이 있다면 그 DB를, 없다면 Testcontainers MySQL을 사용하고,
+ * 둘 다 사용할 수 없다면(Docker 없음) 테스트를 건너뛴다.
+ */
+public final class MySqlTestDatabase {
+    private static final String JDBC_URL = System.getProperty("test.jdbc-url");
+
+    private static MySQLContainer<?> container;
+
+    private MySqlTestDatabase() {
+    }
+
+    public static synchronized DataSource dataSource() {
+        if (JDBC_URL != null) {
+            return newDataSource(JDBC_URL,
+                    System.getProperty("test.jdbc-username", "root"),
+                    System.getProperty("test.jdbc-password", ""));
+        }
+
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+                "Docker가 없고 -Dtest.jdbc-url도 지정되지 않음");
+        if (container == null) {
+            // 테스트 JVM 종료 시 Testcontainers가 정리
+            container = new MySQLContainer<>("mysql:8.0");
+            container.start();
+        }
+
+        return newDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    private static DataSource newDataSource(String url, String username, String password) {
+        // application.yml의 hikari data-source-properties와 같은 설정
+        String separator = url.contains("?") ? "&" : "?";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url + separator + "rewriteBatchedStatements=true", username, password);
+        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+
+        return dataSource;
+    }
+}